@@ -11,6 +11,7 @@ plugins {
   id("com.diffplug.spotless") version "8.1.0"
   id("checkstyle")
   id("io.freefair.lombok") version "9.1.0"
+  id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "de.bund.digitalservice"
@@ -48,6 +49,8 @@ val commonsLang3 = "3.20.0"
 
 dependencies {
   implementation("org.springframework.boot:spring-boot-starter-actuator")
+  implementation("org.springframework.boot:spring-boot-starter-cache")
+  implementation("com.github.ben-manes.caffeine:caffeine")
   implementation("org.springframework.boot:spring-boot-starter-data-jpa")
   implementation("org.springframework.boot:spring-boot-starter-security")
   implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -113,6 +116,16 @@ tasks.withType<Test> {
   useJUnitPlatform()
 }
 
+jmh {
+  // Benchmarks use the LDML fixtures of the test resources
+  includeTests.set(true)
+  fork.set(1)
+  warmupIterations.set(3)
+  iterations.set(5)
+  // Report the allocation rate (gc.alloc.rate.norm) next to the scores
+  profilers.set(listOf("gc"))
+}
+
 jacoco {
   toolVersion = "0.8.14"
 }
@@ -240,6 +253,11 @@ tasks.named<Checkstyle>("checkstyleTest") {
   configFile = rootProject.file("checkstyle/config-test.xml")
 }
 
+tasks.named<Checkstyle>("checkstyleJmh") {
+  source = sourceSets["jmh"].allJava
+  configFile = rootProject.file("checkstyle/config-test.xml")
+}
+
 lombok {
   version = "1.18.40"
 }
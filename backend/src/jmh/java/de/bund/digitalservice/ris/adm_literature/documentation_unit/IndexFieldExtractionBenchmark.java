@@ -0,0 +1,68 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares extracting the index fields of a draft json by binding the whole json to
+ * {@link AdmDocumentationUnitContent} against the streaming {@link JsonIndexFieldExtractor}.
+ * <p>
+ * Run with {@code ./gradlew jmh}, the allocation per operation is reported as
+ * {@code gc.alloc.rate.norm}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IndexFieldExtractionBenchmark {
+
+  private ObjectMapper objectMapper;
+  private JsonIndexFieldExtractor jsonIndexFieldExtractor;
+  private String json;
+
+  /**
+   * Creates the object mapper and reads the fixture.
+   *
+   * @throws IOException if the fixture cannot be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = JsonMapper.builder()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .build();
+    jsonIndexFieldExtractor = new JsonIndexFieldExtractor(objectMapper);
+    try (
+      InputStream inputStream = getClass().getClassLoader().getResourceAsStream("json-example.json")
+    ) {
+      if (inputStream == null) {
+        throw new IOException("Fixture not found: json-example.json");
+      }
+      json = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Benchmark
+  public DocumentationUnitIndexFields bindWholeJson() {
+    return DocumentationUnitIndexFields.of(
+      objectMapper.readValue(json, AdmDocumentationUnitContent.class)
+    );
+  }
+
+  @Benchmark
+  public DocumentationUnitIndexFields extractStreaming() {
+    return jsonIndexFieldExtractor.extract(json);
+  }
+}
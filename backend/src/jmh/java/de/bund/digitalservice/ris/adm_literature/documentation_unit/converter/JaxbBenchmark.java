@@ -0,0 +1,97 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.AkomaNtoso;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.JaxbHtml;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares reading and writing LDML with a new JAXB (un)marshaller per document against the
+ * pooled (un)marshallers of {@link XmlReader} and {@link XmlWriter}.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class JaxbBenchmark {
+
+  @Param(
+    {
+      "ldml-example.akn.xml",
+      "ldml-example-normgeber.akn.xml",
+      "ldml-example-historic-data.akn.xml",
+    }
+  )
+  public String fixture;
+
+  private JAXBContext jaxbContext;
+  private XmlReader xmlReader;
+  private XmlWriter xmlWriter;
+  private String xml;
+  private AkomaNtoso akomaNtoso;
+
+  /**
+   * Creates the shared JAXB context and reads the fixture.
+   *
+   * @throws JAXBException if the JAXB context cannot be created
+   * @throws IOException if the fixture cannot be read
+   */
+  @Setup
+  public void setUp() throws JAXBException, IOException {
+    jaxbContext = JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class);
+    xmlReader = new XmlReader(jaxbContext, new SimpleMeterRegistry());
+    xmlWriter = new XmlWriter(jaxbContext, new SimpleMeterRegistry());
+    try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream(fixture)) {
+      if (inputStream == null) {
+        throw new IOException("Fixture not found: " + fixture);
+      }
+      xml = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+    akomaNtoso = xmlReader.readXml(xml);
+  }
+
+  @Benchmark
+  public AkomaNtoso readWithNewUnmarshaller() throws JAXBException {
+    return (AkomaNtoso) jaxbContext.createUnmarshaller().unmarshal(new StringReader(xml));
+  }
+
+  @Benchmark
+  public AkomaNtoso readWithPooledUnmarshaller() {
+    return xmlReader.readXml(xml);
+  }
+
+  @Benchmark
+  public String writeWithNewMarshaller() throws JAXBException {
+    Marshaller marshaller = jaxbContext.createMarshaller();
+    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+    marshaller.setProperty(Marshaller.JAXB_FRAGMENT, false);
+    StringWriter stringWriter = new StringWriter();
+    marshaller.marshal(akomaNtoso, stringWriter);
+    return stringWriter.toString();
+  }
+
+  @Benchmark
+  public String writeWithPooledMarshaller() {
+    return xmlWriter.writeXml(akomaNtoso);
+  }
+}
@@ -0,0 +1,100 @@
+package de.bund.digitalservice.ris.adm_literature.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.ConvertedJson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.cache.autoconfigure.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration.
+ * <p>
+ * The caches are Caffeine caches configured by {@code spring.cache.*}, size and TTL are set with
+ * {@code spring.cache.caffeine.spec}. Hit/miss statistics are published as {@code cache.*}
+ * metrics.
+ * </p>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+  /**
+   * Cache for legal periodicals by abbreviation.
+   */
+  public static final String LEGAL_PERIODICALS_CACHE = "legalPeriodicals";
+
+  /**
+   * Cache for institutions by name and type.
+   */
+  public static final String INSTITUTIONS_CACHE = "institutions";
+
+  /**
+   * Cache for regions by code.
+   */
+  public static final String REGIONS_CACHE = "regions";
+
+  /**
+   * Cache for citation types by abbreviation and document category.
+   */
+  public static final String ZITIER_ARTEN_CACHE = "zitierArten";
+
+  /**
+   * Cache for document types by abbreviation and document category.
+   */
+  public static final String DOCUMENT_TYPES_CACHE = "documentTypes";
+
+  /**
+   * Cache for the business model (json) converted from the xml of published documentation units.
+   * It is bounded by the total size of the cached json, not by the number of entries, see
+   * {@link #convertedJsonCacheCustomizer(long)}.
+   */
+  public static final String CONVERTED_JSON_CACHE = "convertedJson";
+
+  /**
+   * Name of the {@link SchemaAwareKeyGenerator} bean.
+   */
+  public static final String SCHEMA_AWARE_KEY_GENERATOR = "schemaAwareKeyGenerator";
+
+  /**
+   * Key generator for lookup tables. The lookup tables are read through views in each schema,
+   * therefore the schema is part of the key.
+   *
+   * @return The schema aware key generator
+   */
+  @Bean(SCHEMA_AWARE_KEY_GENERATOR)
+  public KeyGenerator schemaAwareKeyGenerator() {
+    return new SchemaAwareKeyGenerator();
+  }
+
+  /**
+   * Registers the {@link #CONVERTED_JSON_CACHE}. The converted json differs a lot in size, so the
+   * cache is bounded by the total number of characters ({@code conversion-cache.max-weight})
+   * instead of the number of entries.
+   *
+   * @param maxWeight Maximum number of cached characters
+   * @return The cache manager customizer
+   */
+  @Bean
+  public CacheManagerCustomizer<CaffeineCacheManager> convertedJsonCacheCustomizer(
+    @Value("${conversion-cache.max-weight:50000000}") long maxWeight
+  ) {
+    return cacheManager ->
+      cacheManager.registerCustomCache(
+        CONVERTED_JSON_CACHE,
+        Caffeine.newBuilder()
+          .maximumWeight(maxWeight)
+          .<Object, Object>weigher((_, value) ->
+            value instanceof ConvertedJson convertedJson
+              ? convertedJson.json().length()
+              : 1
+          )
+          .recordStats()
+          .build()
+      );
+  }
+}
@@ -102,14 +102,30 @@ public class PublisherConfig {
 
       @Override
       public void publish(@Nonnull PublicationDetails publicationDetails) {
-        String target = publicationDetails.category().getPublisherName();
+        selectPublisher(publicationDetails).publish(publicationDetails);
+      }
+
+      @Override
+      public void validate(@Nonnull PublicationDetails publicationDetails) {
+        selectPublisher(publicationDetails).validate(publicationDetails);
+      }
+
+      @Override
+      public void publishChangelog(@Nonnull ChangelogDetails changelogDetails) {
+        selectPublisher(changelogDetails.publisherName()).publishChangelog(changelogDetails);
+      }
+
+      private Publisher selectPublisher(PublicationDetails publicationDetails) {
+        return selectPublisher(publicationDetails.category().getPublisherName());
+      }
+
+      private Publisher selectPublisher(String target) {
         Publisher selectedPublisher = publisherMap.get(target);
-        if (selectedPublisher != null) {
-          selectedPublisher.publish(publicationDetails);
-        } else {
+        if (selectedPublisher == null) {
           log.error("No publisher found for target '{}'.", target);
           throw new IllegalArgumentException("No publisher found for target: " + target);
         }
+        return selectedPublisher;
       }
     };
   }
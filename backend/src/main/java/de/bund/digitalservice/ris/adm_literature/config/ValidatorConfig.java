@@ -1,12 +1,15 @@
 package de.bund.digitalservice.ris.adm_literature.config;
 
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.XmlValidator;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * Configuration for the XML Validators.
+ * Configuration for the XML Validators. There is one validator per document category, each with
+ * its own pool of validator instances and its own validation timer.
  */
 @Configuration
 public class ValidatorConfig {
@@ -15,42 +18,51 @@ public class ValidatorConfig {
 
   /**
    * Bean for bsg vwv validation
+   * @param meterRegistry Registry for the validation metrics
    * @return Configured bsg validator
    */
   @Bean("bsgVwvValidator")
-  public XmlValidator bsgVwvValidator() {
+  public XmlValidator bsgVwvValidator(MeterRegistry meterRegistry) {
     return new XmlValidator(
-      List.of(AKOMA_NTOSO_SCHEMA_LOCATION, "/schemas/proprietary/bsg-vwv/ldml-ris-meta.xsd")
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN.name(),
+      List.of(AKOMA_NTOSO_SCHEMA_LOCATION, "/schemas/proprietary/bsg-vwv/ldml-ris-meta.xsd"),
+      meterRegistry
     );
   }
 
   /**
    * Bean for uli lit validation
+   * @param meterRegistry Registry for the validation metrics
    * @return Configured uli validator
    */
   @Bean("uliLiteratureValidator")
-  public XmlValidator uliLiteratureValidator() {
+  public XmlValidator uliLiteratureValidator(MeterRegistry meterRegistry) {
     return new XmlValidator(
+      DocumentCategory.LITERATUR_UNSELBSTAENDIG.name(),
       List.of(
         AKOMA_NTOSO_SCHEMA_LOCATION,
         "/schemas/proprietary/uli/ldml-ris-literature.xsd",
         "/schemas/proprietary/uli/ldml-ris-literature-unselbstaendig-meta.xsd"
-      )
+      ),
+      meterRegistry
     );
   }
 
   /**
    * Bean for sli lit validation
+   * @param meterRegistry Registry for the validation metrics
    * @return Configured sli validator
    */
   @Bean("sliLiteratureValidator")
-  public XmlValidator sliLiteratureValidator() {
+  public XmlValidator sliLiteratureValidator(MeterRegistry meterRegistry) {
     return new XmlValidator(
+      DocumentCategory.LITERATUR_SELBSTAENDIG.name(),
       List.of(
         AKOMA_NTOSO_SCHEMA_LOCATION,
         "/schemas/proprietary/sli/ldml-ris-literature.xsd",
         "/schemas/proprietary/sli/ldml-ris-literature-selbstaendig-meta.xsd"
-      )
+      ),
+      meterRegistry
     );
   }
 }
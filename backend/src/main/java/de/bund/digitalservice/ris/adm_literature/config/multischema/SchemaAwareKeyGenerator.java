@@ -0,0 +1,36 @@
+package de.bund.digitalservice.ris.adm_literature.config.multischema;
+
+import jakarta.annotation.Nonnull;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * {@link KeyGenerator} which adds the current {@link SchemaType} to the cache key, so that
+ * cached results of one schema are never returned for the other schema. If no schema is set,
+ * the default schema 'adm' of the {@link SchemaRoutingDataSource} is used.
+ */
+public class SchemaAwareKeyGenerator implements KeyGenerator {
+
+  @Override
+  @Nonnull
+  public Object generate(@Nonnull Object target, @Nonnull Method method, Object... params) {
+    return key(params);
+  }
+
+  /**
+   * Creates the key of the given method parameters in the current schema, for reading and
+   * writing entries of a cache without {@code @Cacheable}.
+   *
+   * @param params The method parameters
+   * @return The cache key
+   */
+  @Nonnull
+  public static Object key(Object... params) {
+    Object[] keyElements = new Object[params.length + 1];
+    keyElements[0] = Objects.requireNonNullElse(SchemaContextHolder.getSchema(), SchemaType.ADM);
+    System.arraycopy(params, 0, keyElements, 1, params.length);
+    return new SimpleKey(keyElements);
+  }
+}
@@ -2,6 +2,7 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publication;
 import de.bund.digitalservice.ris.adm_literature.page.PageResponse;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,12 +12,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import tools.jackson.databind.JsonNode;
 
 /**
@@ -33,6 +37,7 @@ public class AdmDocumentationUnitController {
   );
 
   private final DocumentationUnitService documentationUnitService;
+  private final BulkPublishService bulkPublishService;
 
   /**
    * Returns information on all documentation units as required by the
@@ -41,7 +46,10 @@ public class AdmDocumentationUnitController {
    * @param documentNumber   Filter by documentNumber.
    * @param langueberschrift Filter by langueberschrift.
    * @param fundstellen      Filter by fundstellen.
-   * @param zitierdaten      Filter by zitierdaten.
+   * @param fundstellenMatch Whether a fundstelle must contain (default), start with or equal the
+   *                         fundstellen filter.
+   * @param zitierdaten      Filter by zitierdatum, month ({@code yyyy-MM}) or year
+   *                         ({@code yyyy}).
    * @param pageNumber       Which page of pagination to return?
    * @param pageSize         How many elements per page in pagination?
    * @param sortByProperty   Sort by what property?
@@ -54,6 +62,7 @@ public class AdmDocumentationUnitController {
     @RequestParam(value = "documentNumber", required = false) String documentNumber,
     @RequestParam(value = "langueberschrift", required = false) String langueberschrift,
     @RequestParam(value = "fundstellen", required = false) String fundstellen,
+    @RequestParam(defaultValue = "CONTAINS") EntryMatch fundstellenMatch,
     @RequestParam(value = "zitierdaten", required = false) String zitierdaten,
     @RequestParam(defaultValue = "0") int pageNumber,
     @RequestParam(defaultValue = "10") int pageSize,
@@ -80,6 +89,7 @@ public class AdmDocumentationUnitController {
           StringUtils.trimToNull(langueberschrift),
           StringUtils.trimToNull(fundstellen),
           StringUtils.trimToNull(zitierdaten),
+          fundstellenMatch,
           queryOptions
         )
       );
@@ -95,13 +105,25 @@ public class AdmDocumentationUnitController {
    * Returns a single documentation unit by its document number
    *
    * @param documentNumber The document number of the document unit to be returned
-   * @return The document unit or HTTP 404 if not found
+   * @param webRequest     The request, for checking the {@code If-None-Match} header
+   * @return The document unit with its version as ETag, HTTP 304 if the ETag matches the
+   *         {@code If-None-Match} header or HTTP 404 if not found
    */
   @GetMapping("api/adm/documentation-units/{documentNumber}")
-  public ResponseEntity<DocumentationUnit> find(@PathVariable String documentNumber) {
+  public ResponseEntity<DocumentationUnit> find(
+    @PathVariable String documentNumber,
+    WebRequest webRequest
+  ) {
+    if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+      Optional<String> eTag = documentationUnitService.findETag(documentNumber);
+      if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+        // HTTP 304 is already set, the content is neither loaded nor converted
+        return null;
+      }
+    }
     return documentationUnitService
       .findByDocumentNumber(documentNumber)
-      .map(ResponseEntity::ok)
+      .map(DocumentationUnitETags::ok)
       .orElse(ResponseEntity.notFound().build());
   }
 
@@ -122,16 +144,80 @@ public class AdmDocumentationUnitController {
    *
    * @param documentNumber    The document number of the document to update
    * @param documentationUnit The JSON of the documentation unit to update
-   * @return The updated documentation unit or HTTP 404 if not found
+   * @param ifMatch           Optional ETag of the version the update is based on
+   * @return The updated documentation unit with its new version as ETag, HTTP 404 if not found
+   *         or HTTP 412 if the documentation unit has been changed in the meantime
    */
   @PutMapping("api/adm/documentation-units/{documentNumber}")
   public ResponseEntity<DocumentationUnit> update(
     @PathVariable String documentNumber,
-    @RequestBody JsonNode documentationUnit
+    @RequestBody JsonNode documentationUnit,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
   ) {
     return documentationUnitService
-      .update(documentNumber, documentationUnit.toString())
-      .map(ResponseEntity::ok)
+      .update(
+        documentNumber,
+        documentationUnit.toString(),
+        DocumentationUnitETags.parseIfMatch(ifMatch)
+      )
+      .map(DocumentationUnitETags::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Applies a JSON Patch (RFC 6902) to a documentation unit
+   *
+   * @param documentNumber The document number of the document to patch
+   * @param patch          The JSON Patch, an array of operations
+   * @param ifMatch        Optional ETag of the version the patch is based on
+   * @return The patched documentation unit with its new version as ETag, HTTP 404 if not found,
+   *         HTTP 412 if the documentation unit has been changed in the meantime or HTTP 422 if the
+   *         patch cannot be applied
+   */
+  @PatchMapping(
+    value = "api/adm/documentation-units/{documentNumber}",
+    consumes = JsonPatches.JSON_PATCH_MEDIA_TYPE
+  )
+  public ResponseEntity<DocumentationUnit> patch(
+    @PathVariable String documentNumber,
+    @RequestBody JsonNode patch,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return documentationUnitService
+      .patch(
+        documentNumber,
+        json -> JsonPatches.applyJsonPatch(json, patch),
+        DocumentationUnitETags.parseIfMatch(ifMatch)
+      )
+      .map(DocumentationUnitETags::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Applies a JSON Merge Patch (RFC 7396) to a documentation unit
+   *
+   * @param documentNumber The document number of the document to patch
+   * @param patch          The JSON Merge Patch
+   * @param ifMatch        Optional ETag of the version the patch is based on
+   * @return The patched documentation unit with its new version as ETag, HTTP 404 if not found or
+   *         HTTP 412 if the documentation unit has been changed in the meantime
+   */
+  @PatchMapping(
+    value = "api/adm/documentation-units/{documentNumber}",
+    consumes = JsonPatches.MERGE_PATCH_MEDIA_TYPE
+  )
+  public ResponseEntity<DocumentationUnit> mergePatch(
+    @PathVariable String documentNumber,
+    @RequestBody JsonNode patch,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return documentationUnitService
+      .patch(
+        documentNumber,
+        json -> JsonPatches.applyMergePatch(json, patch),
+        DocumentationUnitETags.parseIfMatch(ifMatch)
+      )
+      .map(DocumentationUnitETags::ok)
       .orElse(ResponseEntity.notFound().build());
   }
 
@@ -184,6 +270,54 @@ public class AdmDocumentationUnitController {
       admDocumentationUnitContent
     );
     return optionalDocumentationUnit
+      .map(DocumentationUnitETags::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Returns the status of the latest publication of a documentation unit. Publishing is done
+   * asynchronously, so the status tells whether the documentation unit has been published yet.
+   *
+   * @param documentNumber The document number of the documentation unit
+   * @return The latest publication or HTTP 404 if the documentation unit has never been published
+   */
+  @GetMapping("api/adm/documentation-units/{documentNumber}/publication")
+  public ResponseEntity<Publication> findPublication(@PathVariable String documentNumber) {
+    return documentationUnitService
+      .findPublication(documentNumber)
+      .map(ResponseEntity::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Starts a bulk publish job, which publishes the given documentation units or, if no document
+   * numbers are given, all published documentation units of the documentation office of the
+   * user. The job is executed in the background, its status can be requested with the returned
+   * id from the same instance. Jobs are only kept in memory, a job is lost if the instance is
+   * restarted and has to be started again.
+   *
+   * @param bulkPublishRequest The document numbers of the documentation units to publish
+   * @return HTTP 202 with the status of the created job or HTTP 429 if too many jobs wait for
+   * their execution
+   */
+  @PostMapping("api/adm/bulk-publish-jobs")
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public BulkPublishJob startBulkPublish(@RequestBody BulkPublishRequest bulkPublishRequest) {
+    return bulkPublishService.start(bulkPublishRequest);
+  }
+
+  /**
+   * Returns the status of a bulk publish job, including the progress and the documentation
+   * units which could not be published.
+   *
+   * @param id The id of the job
+   * @return The status of the job or HTTP 404 if not found, expired or started on another
+   * instance
+   */
+  @GetMapping("api/adm/bulk-publish-jobs/{id}")
+  public ResponseEntity<BulkPublishJob> findBulkPublish(@PathVariable UUID id) {
+    return bulkPublishService
+      .find(id)
       .map(ResponseEntity::ok)
       .orElse(ResponseEntity.notFound().build());
   }
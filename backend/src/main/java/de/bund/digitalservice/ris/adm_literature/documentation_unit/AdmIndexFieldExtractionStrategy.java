@@ -0,0 +1,33 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index field extraction for administrative regulations (VwV), which indexes the
+ * langueberschrift, the fundstellen and the zitierdaten.
+ */
+@Component
+@RequiredArgsConstructor
+class AdmIndexFieldExtractionStrategy implements IndexFieldExtractionStrategy {
+
+  private final JsonIndexFieldExtractor jsonIndexFieldExtractor;
+  private final LdmlIndexFieldExtractor ldmlIndexFieldExtractor;
+
+  @Override
+  public boolean supports(DocumentCategory documentCategory) {
+    return documentCategory == DocumentCategory.VERWALTUNGSVORSCHRIFTEN;
+  }
+
+  @Override
+  public DocumentationUnitIndexFields extractFromJson(@Nonnull String json) {
+    return jsonIndexFieldExtractor.extract(json);
+  }
+
+  @Override
+  public DocumentationUnitIndexFields extractFromLdml(@Nonnull String xml) {
+    return ldmlIndexFieldExtractor.extract(xml);
+  }
+}
@@ -0,0 +1,116 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Refreshes the documentation unit index after an update (autosave) of a documentation unit.
+ * <p>
+ * In mode {@link Mode#SYNC} the index is refreshed within the update transaction. In mode
+ * {@link Mode#DEBOUNCED} the documentation unit is only added to the index queue. Each autosave
+ * moves the enqueue time, and the queue only returns entries which have not been touched within
+ * the debounce window ({@code indexing.debounce}), so the index of a documentation unit which is
+ * being edited is refreshed once after the editor paused, instead of on every autosave.
+ * </p>
+ * <p>
+ * Metrics: {@code documentation_unit.index.refresh} (time spent in the update transaction, tagged
+ * by mode) and {@code documentation_unit.index.writes} (index writes, tagged by source), the
+ * latter is also incremented by the {@link DocumentationUnitIndexQueueService}.
+ * </p>
+ */
+@Component
+@Slf4j
+class AutosaveIndexer {
+
+  /**
+   * Mode of refreshing the index after an autosave.
+   */
+  enum Mode {
+    /**
+     * Refresh the index within the update transaction.
+     */
+    SYNC,
+    /**
+     * Enqueue the documentation unit, the index queue refreshes the index after the debounce
+     * window.
+     */
+    DEBOUNCED,
+  }
+
+  static final String INDEX_WRITES_METRIC = "documentation_unit.index.writes";
+
+  private final DocumentationUnitIndexer documentationUnitIndexer;
+  private final DocumentationUnitIndexRepository documentationUnitIndexRepository;
+  private final DocumentationUnitIndexQueueRepository documentationUnitIndexQueueRepository;
+  private final Mode mode;
+  private final Duration debounce;
+  private final Timer refreshTimer;
+  private final Counter indexWritesCounter;
+
+  AutosaveIndexer(
+    DocumentationUnitIndexer documentationUnitIndexer,
+    DocumentationUnitIndexRepository documentationUnitIndexRepository,
+    DocumentationUnitIndexQueueRepository documentationUnitIndexQueueRepository,
+    MeterRegistry meterRegistry,
+    @Value("${indexing.autosave-mode:SYNC}") Mode mode,
+    @Value("${indexing.debounce:30s}") Duration debounce
+  ) {
+    this.documentationUnitIndexer = documentationUnitIndexer;
+    this.documentationUnitIndexRepository = documentationUnitIndexRepository;
+    this.documentationUnitIndexQueueRepository = documentationUnitIndexQueueRepository;
+    this.mode = mode;
+    this.debounce = debounce;
+    this.refreshTimer = Timer.builder("documentation_unit.index.refresh")
+      .description("Time spent refreshing the index within an update of a documentation unit")
+      .tag("mode", mode.name().toLowerCase())
+      .register(meterRegistry);
+    this.indexWritesCounter = Counter.builder(INDEX_WRITES_METRIC)
+      .description("Number of written documentation unit index entries")
+      .tag("source", "autosave")
+      .register(meterRegistry);
+    log.info("Index refresh on autosave: {}, debounce: {}.", mode, debounce);
+  }
+
+  /**
+   * Refreshes the index of the given updated documentation unit according to the mode. Must be
+   * called within the update transaction.
+   *
+   * @param documentationUnitEntity The updated documentation unit
+   * @param indexAffected           {@code false} if the indexed properties did not change, see
+   *                                {@link DocumentationUnitIndexer#isIndexAffected}
+   */
+  void refresh(@Nonnull DocumentationUnitEntity documentationUnitEntity, boolean indexAffected) {
+    refreshTimer.record(() -> {
+      if (mode == Mode.DEBOUNCED) {
+        documentationUnitIndexQueueRepository.enqueue(documentationUnitEntity.getId());
+        return;
+      }
+      DocumentationUnitIndexEntity documentationUnitIndexEntity = indexAffected
+        ? documentationUnitIndexer.indexSafely(documentationUnitEntity)
+        : documentationUnitIndexer.refreshContentHash(documentationUnitEntity);
+      documentationUnitIndexRepository.save(documentationUnitIndexEntity);
+      indexWritesCounter.increment();
+      if (documentationUnitIndexEntity.getContentHash() == null) {
+        // Indexing failed, try again later
+        documentationUnitIndexQueueRepository.enqueue(documentationUnitEntity.getId());
+      }
+    });
+  }
+
+  /**
+   * Returns the latest enqueue time of index queue entries, which are due for processing. Entries
+   * enqueued later are still within the debounce window.
+   *
+   * @return The latest enqueue time of due entries
+   */
+  Instant dueBefore() {
+    return mode == Mode.DEBOUNCED ? Instant.now().minus(debounce) : Instant.now();
+  }
+}
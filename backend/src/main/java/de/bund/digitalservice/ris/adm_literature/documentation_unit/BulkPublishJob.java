@@ -0,0 +1,67 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Status of a bulk publish job.
+ *
+ * @param id                 The id of the job
+ * @param state              The state of the job
+ * @param total              The number of documentation units to publish
+ * @param succeeded          The number of successfully published documentation units
+ * @param failed             The number of documentation units which could not be published
+ * @param failures           The failures of the documentation units which could not be
+ *                           published, limited to the first failures of a large job
+ * @param createdAt          The time the job was created
+ * @param startedAt          The time the job was started, if started
+ * @param finishedAt         The time the job was finished, if finished
+ * @param documentsPerSecond The throughput of the job in documentation units per second
+ */
+public record BulkPublishJob(
+  UUID id,
+  State state,
+  int total,
+  int succeeded,
+  int failed,
+  List<Failure> failures,
+  Instant createdAt,
+  Instant startedAt,
+  Instant finishedAt,
+  double documentsPerSecond
+) {
+  /**
+   * State of a bulk publish job.
+   */
+  public enum State {
+    /**
+     * The job waits for the jobs started before.
+     */
+    QUEUED,
+
+    /**
+     * The documentation units of the job are being published.
+     */
+    RUNNING,
+
+    /**
+     * All documentation units of the job have been processed.
+     */
+    COMPLETED,
+
+    /**
+     * The job has been interrupted, e.g. because the instance has been shut down, not all
+     * documentation units have been processed.
+     */
+    CANCELLED,
+  }
+
+  /**
+   * A documentation unit which could not be published.
+   *
+   * @param documentNumber The document number of the documentation unit
+   * @param message        The reason why publishing failed
+   */
+  public record Failure(String documentNumber, String message) {}
+}
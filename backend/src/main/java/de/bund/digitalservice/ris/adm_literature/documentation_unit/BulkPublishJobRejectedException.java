@@ -0,0 +1,27 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+
+/**
+ * Exception for a bulk publish job, which cannot be started, because too many jobs are already
+ * waiting for their execution.
+ * <p>
+ * Results in an HTTP 429 (Too Many Requests) response.
+ */
+public class BulkPublishJobRejectedException extends ErrorResponseException {
+
+  public BulkPublishJobRejectedException(int maxQueuedJobs) {
+    super(
+      HttpStatus.TOO_MANY_REQUESTS,
+      ProblemDetail.forStatusAndDetail(
+        HttpStatus.TOO_MANY_REQUESTS,
+        "At most " +
+        maxQueuedJobs +
+        " bulk publish jobs can wait for their execution, try again later."
+      ),
+      null
+    );
+  }
+}
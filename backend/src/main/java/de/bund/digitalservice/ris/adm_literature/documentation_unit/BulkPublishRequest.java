@@ -0,0 +1,12 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import java.util.List;
+
+/**
+ * Request for publishing several documentation units at once.
+ *
+ * @param documentNumbers The document numbers of the documentation units to publish. If empty,
+ *                        all published documentation units of the documentation office of the
+ *                        user are published again.
+ */
+public record BulkPublishRequest(List<String> documentNumbers) {}
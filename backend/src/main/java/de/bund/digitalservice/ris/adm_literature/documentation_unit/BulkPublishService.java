@@ -0,0 +1,293 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import de.bund.digitalservice.ris.adm_literature.config.security.UserDocumentDetails;
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service for publishing many documentation units at once, e.g. after a change of the LDML
+ * mapping.
+ * <p>
+ * A bulk publish job is executed in the background. Jobs are executed one after another, the
+ * documentation units of a job are converted, validated and handed over to the publication
+ * outbox in parallel by {@code publishing.bulk.workers} workers. At most as many documentation
+ * units as there are workers are in progress at the same time, so a large job does not occupy
+ * more memory than a small one.
+ * </p>
+ * <p>
+ * Jobs are local to the instance which started them. Their status is only kept in memory, so it
+ * cannot be requested from another instance and a running job is lost if the instance is
+ * restarted; the job then has to be started again. The status of a finished job is kept for
+ * {@link #RETENTION_PERIOD}, at most {@link #MAX_RETAINED_JOBS} finished jobs are kept. Only the
+ * first {@link #MAX_FAILURES} failures of a job are kept, the number of failures is always
+ * complete. At most {@link #MAX_QUEUED_JOBS} jobs can wait for their execution, further jobs are
+ * rejected.
+ * </p>
+ */
+@Service
+@Slf4j
+public class BulkPublishService {
+
+  static final Duration RETENTION_PERIOD = Duration.ofDays(1);
+  static final int MAX_RETAINED_JOBS = 100;
+  static final int MAX_FAILURES = 100;
+  static final int MAX_QUEUED_JOBS = 10;
+
+  private final DocumentationUnitService documentationUnitService;
+  private final DocumentationUnitPersistenceService documentationUnitPersistenceService;
+  private final ObjectMapper objectMapper;
+  private final Timer successTimer;
+  private final Timer failureTimer;
+  private final ExecutorService jobExecutorService;
+  private final ExecutorService workerExecutorService;
+  private final int workers;
+  private final Map<UUID, RunningJob> jobs = new ConcurrentHashMap<>();
+
+  BulkPublishService(
+    DocumentationUnitService documentationUnitService,
+    DocumentationUnitPersistenceService documentationUnitPersistenceService,
+    ObjectMapper objectMapper,
+    MeterRegistry meterRegistry,
+    @Value("${publishing.bulk.workers:4}") int workers
+  ) {
+    this.documentationUnitService = documentationUnitService;
+    this.documentationUnitPersistenceService = documentationUnitPersistenceService;
+    this.objectMapper = objectMapper;
+    this.successTimer = Timer.builder("bulk.publish.document")
+      .tag("result", "success")
+      .register(meterRegistry);
+    this.failureTimer = Timer.builder("bulk.publish.document")
+      .tag("result", "failure")
+      .register(meterRegistry);
+    this.jobExecutorService = new ThreadPoolExecutor(
+      1,
+      1,
+      0,
+      TimeUnit.MILLISECONDS,
+      new LinkedBlockingQueue<>(MAX_QUEUED_JOBS),
+      Thread.ofPlatform().name("bulk-publish-job-", 1).daemon().factory()
+    );
+    this.workerExecutorService = Executors.newFixedThreadPool(
+      workers,
+      Thread.ofPlatform().name("bulk-publish-", 1).daemon().factory()
+    );
+    this.workers = workers;
+  }
+
+  /**
+   * Starts a bulk publish job for the administrative regulations. If no document numbers are
+   * given, all published documentation units of the documentation office of the current user
+   * are published again.
+   *
+   * @param bulkPublishRequest The request with the document numbers to publish
+   * @return The status of the created job
+   * @throws BulkPublishJobRejectedException if too many jobs wait for their execution
+   */
+  public BulkPublishJob start(@Nonnull BulkPublishRequest bulkPublishRequest) {
+    removeExpiredJobs();
+    List<String> documentNumbers = bulkPublishRequest.documentNumbers() == null ||
+      bulkPublishRequest.documentNumbers().isEmpty()
+      ? documentationUnitPersistenceService.findPublishedDocumentNumbers(
+          currentDocumentationOffice(),
+          DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+        )
+      : bulkPublishRequest.documentNumbers().stream().distinct().toList();
+    // The background threads need the schema of the caller
+    SchemaType schemaType = Optional.ofNullable(SchemaContextHolder.getSchema()).orElse(
+      SchemaType.ADM
+    );
+    RunningJob runningJob = new RunningJob(UUID.randomUUID(), documentNumbers, Instant.now());
+    jobs.put(runningJob.id, runningJob);
+    try {
+      jobExecutorService.execute(() -> run(runningJob, schemaType));
+    } catch (RejectedExecutionException _) {
+      jobs.remove(runningJob.id);
+      throw new BulkPublishJobRejectedException(MAX_QUEUED_JOBS);
+    }
+    log.info(
+      "Bulk publish job {} created for {} documents.",
+      runningJob.id,
+      documentNumbers.size()
+    );
+    return runningJob.toBulkPublishJob();
+  }
+
+  /**
+   * Returns the status of a bulk publish job.
+   *
+   * @param id The id of the job
+   * @return The status of the job, or empty if there is no job with the given id
+   */
+  public Optional<BulkPublishJob> find(@Nonnull UUID id) {
+    removeExpiredJobs();
+    return Optional.ofNullable(jobs.get(id)).map(RunningJob::toBulkPublishJob);
+  }
+
+  private void run(RunningJob runningJob, SchemaType schemaType) {
+    runningJob.startedAt = Instant.now();
+    runningJob.state = BulkPublishJob.State.RUNNING;
+    Semaphore inProgress = new Semaphore(workers);
+    BulkPublishJob.State finalState = BulkPublishJob.State.CANCELLED;
+    try {
+      for (String documentNumber : runningJob.documentNumbers) {
+        inProgress.acquire();
+        workerExecutorService.execute(() -> {
+          SchemaContextHolder.setSchema(schemaType);
+          try {
+            publish(runningJob, documentNumber);
+          } finally {
+            SchemaContextHolder.clear();
+            inProgress.release();
+          }
+        });
+      }
+      // Wait for the last documentation units
+      inProgress.acquire(workers);
+      finalState = BulkPublishJob.State.COMPLETED;
+    } catch (InterruptedException _) {
+      Thread.currentThread().interrupt();
+      log.warn("Bulk publish job {} has been interrupted.", runningJob.id);
+    } finally {
+      runningJob.finishedAt = Instant.now();
+      runningJob.state = finalState;
+    }
+    log.info(
+      "Bulk publish job {} {}. Succeeded: {}, failed: {}.",
+      runningJob.id,
+      finalState == BulkPublishJob.State.COMPLETED ? "finished" : "cancelled",
+      runningJob.succeeded.get(),
+      runningJob.failed.get()
+    );
+  }
+
+  private void publish(RunningJob runningJob, String documentNumber) {
+    long start = System.nanoTime();
+    try {
+      String json = documentationUnitService
+        .findByDocumentNumber(documentNumber)
+        .map(DocumentationUnit::json)
+        .orElseThrow(() -> new IllegalArgumentException("Documentation unit not found"));
+      AdmDocumentationUnitContent admDocumentationUnitContent = objectMapper.readValue(
+        json,
+        AdmDocumentationUnitContent.class
+      );
+      documentationUnitService.publish(documentNumber, admDocumentationUnitContent);
+      runningJob.succeeded.incrementAndGet();
+      successTimer.record(Duration.ofNanos(System.nanoTime() - start));
+    } catch (Exception e) {
+      if (runningJob.failed.incrementAndGet() <= MAX_FAILURES) {
+        runningJob.failures.add(new BulkPublishJob.Failure(documentNumber, e.getMessage()));
+      }
+      failureTimer.record(Duration.ofNanos(System.nanoTime() - start));
+      log.warn(
+        "Bulk publish job {} could not publish documentation unit {}. Reason: {}.",
+        runningJob.id,
+        documentNumber,
+        e.getMessage()
+      );
+    }
+  }
+
+  private void removeExpiredJobs() {
+    Instant expiry = Instant.now().minus(RETENTION_PERIOD);
+    jobs
+      .values()
+      .removeIf(runningJob ->
+        runningJob.finishedAt != null && runningJob.finishedAt.isBefore(expiry)
+      );
+    List<RunningJob> finishedJobs = jobs
+      .values()
+      .stream()
+      .filter(runningJob -> runningJob.finishedAt != null)
+      .sorted(Comparator.comparing(runningJob -> runningJob.finishedAt))
+      .toList();
+    finishedJobs
+      .subList(0, Math.max(0, finishedJobs.size() - MAX_RETAINED_JOBS))
+      .forEach(runningJob -> jobs.remove(runningJob.id));
+  }
+
+  private static DocumentationOffice currentDocumentationOffice() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    UserDocumentDetails details = (UserDocumentDetails) authentication.getPrincipal();
+    return details.office();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    jobExecutorService.shutdownNow();
+    workerExecutorService.shutdownNow();
+  }
+
+  private static class RunningJob {
+
+    private final UUID id;
+    private final List<String> documentNumbers;
+    private final Instant createdAt;
+    private final AtomicInteger succeeded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final Queue<BulkPublishJob.Failure> failures = new ConcurrentLinkedQueue<>();
+    private volatile BulkPublishJob.State state = BulkPublishJob.State.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    private RunningJob(UUID id, List<String> documentNumbers, Instant createdAt) {
+      this.id = id;
+      this.documentNumbers = documentNumbers;
+      this.createdAt = createdAt;
+    }
+
+    private BulkPublishJob toBulkPublishJob() {
+      int processed = succeeded.get() + failed.get();
+      double documentsPerSecond = 0;
+      if (startedAt != null) {
+        long millis = Duration.between(
+          startedAt,
+          finishedAt != null ? finishedAt : Instant.now()
+        ).toMillis();
+        documentsPerSecond = millis > 0 ? processed * 1000.0 / millis : 0;
+      }
+      return new BulkPublishJob(
+        id,
+        state,
+        documentNumbers.size(),
+        succeeded.get(),
+        failed.get(),
+        List.copyOf(failures),
+        createdAt,
+        startedAt,
+        finishedAt,
+        documentsPerSecond
+      );
+    }
+  }
+}
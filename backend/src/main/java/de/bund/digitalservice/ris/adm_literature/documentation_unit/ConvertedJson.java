@@ -0,0 +1,32 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+/**
+ * The business model (json) converted from the xml of a documentation unit.
+ *
+ * @param xmlHash           The SHA-256 hash (hex encoded) of the xml the json has been converted
+ *                          from
+ * @param conversionVersion The version of the conversion the json has been created with
+ * @param lookupGeneration  The fingerprint of the lookup tables the json has been created with
+ * @param json              The converted json
+ */
+public record ConvertedJson(
+  String xmlHash,
+  int conversionVersion,
+  String lookupGeneration,
+  String json
+) {
+  /**
+   * Checks whether this json is still valid for the given xml and lookup tables.
+   *
+   * @param currentXmlHash          The hash of the current xml
+   * @param currentLookupGeneration The fingerprint of the current lookup tables
+   * @return {@code true} if the xml hash, the conversion version and the lookup generation match
+   */
+  boolean isValidFor(String currentXmlHash, String currentLookupGeneration) {
+    return (
+      xmlHash.equals(currentXmlHash) &&
+      conversionVersion == ConvertedJsonCache.CONVERSION_VERSION &&
+      lookupGeneration.equals(currentLookupGeneration)
+    );
+  }
+}
@@ -0,0 +1,159 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.config.CacheConfig;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import jakarta.annotation.Nonnull;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Two tier cache for the business model (json) of documentation units, which only have xml.
+ * <p>
+ * Converting the xml requires unmarshalling the LDML, running all transformers including their
+ * lookup queries and serializing the result. The result is cached in a bounded in-memory cache
+ * ({@link CacheConfig#CONVERTED_JSON_CACHE}) and, if {@code conversion-cache.persistent} is
+ * enabled, in the table {@code documentation_unit_converted_json}. Each entry holds the hash of
+ * the xml it has been converted from and is only used if the hash matches the current xml, so
+ * entries do not need to be evicted when a documentation unit is published again. Entries of
+ * deleted documentation units are removed by the foreign key cascade, or by the size bound.
+ * </p>
+ * <p>
+ * Each entry also holds the {@link #CONVERSION_VERSION} it has been created with and is only used
+ * if it matches. If the output of the conversion is changed, the version must be incremented, the
+ * outdated entries are then converted again on their next request.
+ * </p>
+ * <p>
+ * The converted json also contains values of the lookup tables. Each entry therefore holds the
+ * fingerprint of the lookup tables it has been converted with (the lookup generation) and is only
+ * used if it matches the current fingerprint. The fingerprint is calculated again after the
+ * lookup table caches have been evicted ({@code cronjob.LookupTableCacheEvictionJob}), so the
+ * entries stay valid as long as the lookup tables do not change.
+ * </p>
+ */
+@Component
+@Slf4j
+class ConvertedJsonCache {
+
+  /**
+   * Version of the conversion.
+   */
+  static final int CONVERSION_VERSION = 1;
+
+  private final Cache cache;
+  private final ConvertedJsonRepository convertedJsonRepository;
+  private final boolean persistent;
+  private volatile String lookupGeneration;
+
+  ConvertedJsonCache(
+    CacheManager cacheManager,
+    ConvertedJsonRepository convertedJsonRepository,
+    @Value("${conversion-cache.persistent:true}") boolean persistent
+  ) {
+    this.cache = Objects.requireNonNull(cacheManager.getCache(CacheConfig.CONVERTED_JSON_CACHE));
+    this.convertedJsonRepository = convertedJsonRepository;
+    this.persistent = persistent;
+  }
+
+  /**
+   * Returns the json converted from the xml of the given documentation unit. If there is no
+   * cached json for the current xml, it is converted with the given converter and cached.
+   *
+   * @param documentationUnit The documentation unit with xml
+   * @param converter         Converter of the xml to json
+   * @return The converted json
+   */
+  String get(@Nonnull DocumentationUnit documentationUnit, @Nonnull Supplier<String> converter) {
+    String xmlHash = DocumentationUnitIndexer.sha256(documentationUnit.xml());
+    String currentLookupGeneration = lookupGeneration();
+    Object key = key(documentationUnit.documentNumber());
+    ConvertedJson convertedJson = cache.get(key, ConvertedJson.class);
+    if (convertedJson != null && convertedJson.isValidFor(xmlHash, currentLookupGeneration)) {
+      return convertedJson.json();
+    }
+    if (persistent) {
+      convertedJson = convertedJsonRepository
+        .findById(documentationUnit.id())
+        .map(entity ->
+          new ConvertedJson(
+            entity.getXmlHash(),
+            entity.getConversionVersion(),
+            entity.getLookupGeneration(),
+            entity.getJson()
+          )
+        )
+        .filter(persisted -> persisted.isValidFor(xmlHash, currentLookupGeneration))
+        .orElse(null);
+    }
+    if (convertedJson == null || !convertedJson.isValidFor(xmlHash, currentLookupGeneration)) {
+      convertedJson = new ConvertedJson(
+        xmlHash,
+        CONVERSION_VERSION,
+        currentLookupGeneration,
+        converter.get()
+      );
+      if (persistent) {
+        convertedJsonRepository.upsert(
+          documentationUnit.id(),
+          xmlHash,
+          CONVERSION_VERSION,
+          currentLookupGeneration,
+          convertedJson.json()
+        );
+      }
+    }
+    cache.put(key, convertedJson);
+    return convertedJson.json();
+  }
+
+  /**
+   * Returns the current conversion, the {@link #CONVERSION_VERSION} and the lookup generation. The
+   * json converted from an unchanged xml only changes if the conversion changes.
+   *
+   * @return The current conversion
+   */
+  String conversion() {
+    return CONVERSION_VERSION + "-" + lookupGeneration();
+  }
+
+  /**
+   * Returns the fingerprint of the current lookup tables, which is calculated once after each
+   * eviction.
+   *
+   * @return The lookup generation
+   */
+  String lookupGeneration() {
+    String current = lookupGeneration;
+    if (current == null) {
+      current = Objects.requireNonNullElse(convertedJsonRepository.calculateLookupGeneration(), "");
+      lookupGeneration = current;
+    }
+    return current;
+  }
+
+  /**
+   * Evicts all entries of the in-memory cache, together with the lookup table caches. The
+   * persisted entries are kept, the fingerprint of the lookup tables is calculated again on the
+   * next request and only entries converted with other lookup table values are converted again.
+   */
+  @Scheduled(cron = "${cronjob.LookupTableCacheEvictionJob:-}", zone = "Europe/Berlin")
+  void evictAll() {
+    cache.clear();
+    lookupGeneration = null;
+    log.info("Evicted converted json cache, the lookup generation is calculated again.");
+  }
+
+  private static Object key(String documentNumber) {
+    return new SimpleKey(
+      Objects.requireNonNullElse(SchemaContextHolder.getSchema(), SchemaType.ADM),
+      documentNumber
+    );
+  }
+}
@@ -0,0 +1,35 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Converted json JPA entity, the persisted tier of the {@link ConvertedJsonCache}.
+ */
+@Entity
+@Data
+@ToString(exclude = "json")
+@Table(name = "documentation_unit_converted_json")
+public class ConvertedJsonEntity {
+
+  @Id
+  private UUID documentationUnitId;
+
+  @Basic(optional = false)
+  private String xmlHash;
+
+  @Basic(optional = false)
+  private int conversionVersion;
+
+  @Basic(optional = false)
+  private String lookupGeneration;
+
+  @Basic(optional = false)
+  private String json;
+
+  @Basic(optional = false)
+  private Instant createdAt;
+}
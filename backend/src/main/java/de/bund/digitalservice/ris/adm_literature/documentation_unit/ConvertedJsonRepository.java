@@ -0,0 +1,77 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+interface ConvertedJsonRepository extends JpaRepository<ConvertedJsonEntity, UUID> {
+  @Transactional
+  @Modifying
+  @Query(
+    value = """
+    INSERT INTO documentation_unit_converted_json
+      (documentation_unit_id, xml_hash, conversion_version, lookup_generation, json, created_at)
+    VALUES (:documentationUnitId, :xmlHash, :conversionVersion, :lookupGeneration, :json, now())
+    ON CONFLICT (documentation_unit_id)
+    DO UPDATE SET xml_hash = EXCLUDED.xml_hash, conversion_version = EXCLUDED.conversion_version,
+      lookup_generation = EXCLUDED.lookup_generation, json = EXCLUDED.json,
+      created_at = EXCLUDED.created_at
+    """,
+    nativeQuery = true
+  )
+  void upsert(
+    @Param("documentationUnitId") UUID documentationUnitId,
+    @Param("xmlHash") String xmlHash,
+    @Param("conversionVersion") int conversionVersion,
+    @Param("lookupGeneration") String lookupGeneration,
+    @Param("json") String json
+  );
+
+  /**
+   * Calculates the fingerprint (MD5, hex encoded) of the values of all lookup tables. It only
+   * changes if a lookup table value is added, changed or removed.
+   *
+   * @return The fingerprint of the lookup tables
+   */
+  @Query(
+    value = """
+    SELECT md5(string_agg(concat(lookup_table, ':', fingerprint), ',' ORDER BY lookup_table))
+    FROM (
+      SELECT 'citation_type' AS lookup_table, string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        AS fingerprint FROM citation_type_view t
+      UNION ALL
+      SELECT 'document_type', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM document_type_view t
+      UNION ALL
+      SELECT 'field_of_law', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM field_of_law_view t
+      UNION ALL
+      SELECT 'field_of_law_norm', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM field_of_law_norm_view t
+      UNION ALL
+      SELECT 'field_of_law_text_reference', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM field_of_law_field_of_law_text_reference_view t
+      UNION ALL
+      SELECT 'institution', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM institution_view t
+      UNION ALL
+      SELECT 'institution_region', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM institution_region_view t
+      UNION ALL
+      SELECT 'legal_periodical', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM legal_periodical_view t
+      UNION ALL
+      SELECT 'region', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM region_view t
+      UNION ALL
+      SELECT 'verweis_typ', string_agg(md5(t::text), ',' ORDER BY md5(t::text))
+        FROM verweis_typ_view t
+    ) lookup_tables
+    """,
+    nativeQuery = true
+  )
+  String calculateLookupGeneration();
+}
@@ -13,12 +13,14 @@ import java.time.Year;
 public record DocumentNumber(String prefix, Year year, String latestNumber) {
   private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("000000");
   private static final String VALID_DOCUMENT_NUMBER_PATTERN = "[A-Z]{4}\\d{10}";
+  private static final int MAX_NUMBER = 999_999;
 
   /**
    * Creates the next document number in the series.
    *
    * @return The newly generated document number string.
    * @throws IllegalArgumentException if the latestNumber does not match the expected prefix and year.
+   * @throws IllegalStateException if the latestNumber is the last number of the series.
    */
   public String create() {
     String fullPrefix = prefix() + year().getValue();
@@ -35,6 +37,9 @@ public record DocumentNumber(String prefix, Year year, String latestNumber) {
       }
       number = Integer.parseInt(latestNumber().substring(fullPrefix.length()));
     }
+    if (number >= MAX_NUMBER) {
+      throw new IllegalStateException("No document numbers left after " + latestNumber());
+    }
 
     return fullPrefix + DECIMAL_FORMAT.format(++number);
   }
@@ -8,8 +8,9 @@ import lombok.Data;
 /**
  * Document number entity.
  * <p>
- *   This entity is used to handle concurrent threads on creating a {@link DocumentationUnitEntity} with
- *   an entity lock.
+ *   Stores the latest document number per prefix and year. The next document number is allocated
+ *   atomically in the database, so concurrent threads creating a {@link DocumentationUnitEntity}
+ *   never get the same document number.
  * </p>
  * @see DocumentNumberRepository
  */
@@ -1,20 +1,40 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import jakarta.annotation.Nonnull;
-import jakarta.persistence.LockModeType;
-import java.time.Year;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface DocumentNumberRepository extends JpaRepository<DocumentNumberEntity, UUID> {
   /**
-   * Finds the current document number by the given year. The operation creates a pessimistic lock for the found
-   * entity, so that concurrent threads have to wait until the transaction completes.
+   * Allocates the next document number of the given prefix and year in a single atomic
+   * statement. If there is no document number for the prefix and year yet, the given first
+   * document number is stored. Otherwise, the six digit sequence number of the latest document
+   * number is incremented. Concurrent threads only wait for the row lock of the upsert, which is
+   * released on commit, there is no unique constraint violation to retry. The sequence number
+   * is not incremented beyond 999999, as the document number would not fit its format.
+   *
+   * @param prefix The document series prefix, e.g. "KSNR"
    * @param year The year the document number belongs to
-   * @return Document number with the given year or an empty optional if not found
+   * @param first The first document number of the series, used if there is none yet
+   * @return The allocated document number, or {@code null} if the sequence is exhausted
    */
-  @Lock(LockModeType.PESSIMISTIC_WRITE)
-  Optional<DocumentNumberEntity> findByPrefixAndYear(@Nonnull String prefix, @Nonnull Year year);
+  @Query(
+    value = """
+    INSERT INTO document_number (id, prefix, year, latest)
+    VALUES (gen_random_uuid(), :prefix, :year, :first)
+    ON CONFLICT (prefix, year) DO UPDATE
+    SET latest = document_number.prefix || document_number.year ||
+      lpad((right(document_number.latest, 6)::integer + 1)::text, 6, '0')
+    WHERE right(document_number.latest, 6) <> '999999'
+    RETURNING latest
+    """,
+    nativeQuery = true
+  )
+  String allocateNext(
+    @Nonnull @Param("prefix") String prefix,
+    @Param("year") int year,
+    @Nonnull @Param("first") String first
+  );
 }
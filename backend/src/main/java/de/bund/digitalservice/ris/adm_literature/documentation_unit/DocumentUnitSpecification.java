@@ -2,21 +2,89 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import jakarta.annotation.Nonnull;
 import jakarta.persistence.criteria.*;
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
 /**
- * JPA specification for querying documentation units by documentNumber, langueberschrift and fundstellen.
+ * JPA specification for querying documentation units by documentNumber, langueberschrift,
+ * fundstellen and zitierdaten.
+ * <p>
+ *   The predicates on documentNumber and langueberschrift have the form
+ *   {@code lower(column) LIKE '%term%'}, which is served by the trigram (pg_trgm) GIN indexes on
+ *   the very same expressions (see migration {@code V1.6}). The fundstellen are matched per entry
+ *   with {@code index_search_text(fundstellen) LIKE pattern} and the zitierdaten by overlap
+ *   ({@code &&}) with the days of the searched date, month or year, both served by the indexes of
+ *   migration {@code V1.14}. Therefore, the expressions must not be changed without adapting the
+ *   indexes.
+ * </p>
  */
-@RequiredArgsConstructor
 public class DocumentUnitSpecification implements Specification<DocumentationUnitEntity> {
 
+  static final char ESCAPE_CHARACTER = '\\';
+
+  /**
+   * Function of migration {@code V1.14}, which returns the lower-case entries of an array, each
+   * enclosed by line breaks.
+   */
+  static final String INDEX_SEARCH_TEXT_FUNCTION = "index_search_text";
+
+  private static final String ENTRY_DELIMITER = "\n";
+
   private final String documentNumber;
   private final String langueberschrift;
   private final String fundstellen;
   private final String zitierdaten;
+  private final EntryMatch fundstellenMatch;
+
+  /**
+   * Creates a specification, which matches fundstellen containing the given term.
+   *
+   * @param documentNumber   DocumentNumber to search for
+   * @param langueberschrift Langueberschrift to search for
+   * @param fundstellen      Fundstelle to search for
+   * @param zitierdaten      Zitierdatum, month ({@code yyyy-MM}) or year ({@code yyyy}) to search
+   *                         for
+   */
+  public DocumentUnitSpecification(
+    String documentNumber,
+    String langueberschrift,
+    String fundstellen,
+    String zitierdaten
+  ) {
+    this(documentNumber, langueberschrift, fundstellen, zitierdaten, EntryMatch.CONTAINS);
+  }
+
+  /**
+   * Creates a specification.
+   *
+   * @param documentNumber   DocumentNumber to search for
+   * @param langueberschrift Langueberschrift to search for
+   * @param fundstellen      Fundstelle to search for
+   * @param zitierdaten      Zitierdatum, month ({@code yyyy-MM}) or year ({@code yyyy}) to search
+   *                         for
+   * @param fundstellenMatch How the fundstelle is matched
+   */
+  public DocumentUnitSpecification(
+    String documentNumber,
+    String langueberschrift,
+    String fundstellen,
+    String zitierdaten,
+    @Nonnull EntryMatch fundstellenMatch
+  ) {
+    this.documentNumber = documentNumber;
+    this.langueberschrift = langueberschrift;
+    this.fundstellen = fundstellen;
+    this.zitierdaten = zitierdaten;
+    this.fundstellenMatch = fundstellenMatch;
+  }
 
   @Override
   public Predicate toPredicate(
@@ -29,7 +97,8 @@ public class DocumentUnitSpecification implements Specification<DocumentationUni
       predicates.add(
         criteriaBuilder.like(
           criteriaBuilder.lower(root.get("documentNumber")),
-          sqlContains(documentNumber)
+          sqlContains(documentNumber),
+          ESCAPE_CHARACTER
         )
       );
     }
@@ -45,26 +114,29 @@ public class DocumentUnitSpecification implements Specification<DocumentationUni
 
       if (StringUtils.hasText(fundstellen)) {
         predicates.add(
-          criteriaBuilder.like(
-            criteriaBuilder.lower(indexJoin.get("fundstellen")),
-            sqlContains(fundstellen)
-          )
+          entryMatches(criteriaBuilder, indexJoin.get("fundstellen"), fundstellen, fundstellenMatch)
         );
       }
       if (StringUtils.hasText(langueberschrift)) {
         predicates.add(
           criteriaBuilder.like(
             criteriaBuilder.lower(indexJoin.get("langueberschrift")),
-            sqlContains(langueberschrift)
+            sqlContains(langueberschrift),
+            ESCAPE_CHARACTER
           )
         );
       }
       if (StringUtils.hasText(zitierdaten)) {
         predicates.add(
-          criteriaBuilder.like(
-            criteriaBuilder.lower(indexJoin.get("zitierdaten")),
-            sqlContains(zitierdaten)
-          )
+          days(zitierdaten.trim())
+            .map(days ->
+              ((HibernateCriteriaBuilder) criteriaBuilder).collectionIntersects(
+                indexJoin.<List<LocalDate>>get("zitierdaten"),
+                days
+              )
+            )
+            // Not a date, so no zitierdatum can match
+            .orElseGet(criteriaBuilder::disjunction)
         );
       }
     }
@@ -72,7 +144,73 @@ public class DocumentUnitSpecification implements Specification<DocumentationUni
     return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
   }
 
-  private String sqlContains(String term) {
-    return "%" + term.toLowerCase() + "%";
+  /**
+   * Returns a predicate, which matches if any entry of the given indexed list matches the term.
+   *
+   * @param criteriaBuilder The criteria builder
+   * @param entries         The indexed list, a {@code text[]} column
+   * @param term            The term to search for
+   * @param entryMatch      How the term is matched
+   * @return The predicate
+   */
+  static Predicate entryMatches(
+    CriteriaBuilder criteriaBuilder,
+    Expression<?> entries,
+    String term,
+    EntryMatch entryMatch
+  ) {
+    String escapedTerm = escape(term.replace(ENTRY_DELIMITER, " "));
+    String pattern = switch (entryMatch) {
+      case CONTAINS -> "%" + escapedTerm + "%";
+      case PREFIX -> "%" + ENTRY_DELIMITER + escapedTerm + "%";
+      case EXACT -> "%" + ENTRY_DELIMITER + escapedTerm + ENTRY_DELIMITER + "%";
+    };
+    return criteriaBuilder.like(
+      criteriaBuilder.function(INDEX_SEARCH_TEXT_FUNCTION, String.class, entries),
+      pattern,
+      ESCAPE_CHARACTER
+    );
+  }
+
+  /**
+   * Returns the pattern for {@code LIKE} matching values which contain the given term, ignoring
+   * case. Wildcards in the term are escaped with {@link #ESCAPE_CHARACTER}.
+   *
+   * @param term The term to search for
+   * @return The pattern
+   */
+  static String sqlContains(String term) {
+    return "%" + escape(term) + "%";
+  }
+
+  private static String escape(String term) {
+    // Wildcards entered by the user are searched literally
+    return term.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  /**
+   * Returns all days of the given date ({@code yyyy-MM-dd}), month ({@code yyyy-MM}) or year
+   * ({@code yyyy}).
+   */
+  private static Optional<List<LocalDate>> days(String term) {
+    try {
+      return switch (term.length()) {
+        case 4 -> {
+          Year year = Year.parse(term);
+          yield Optional.of(days(year.atDay(1), year.plusYears(1).atDay(1)));
+        }
+        case 7 -> {
+          YearMonth yearMonth = YearMonth.parse(term);
+          yield Optional.of(days(yearMonth.atDay(1), yearMonth.plusMonths(1).atDay(1)));
+        }
+        default -> Optional.of(List.of(LocalDate.parse(term)));
+      };
+    } catch (DateTimeParseException _) {
+      return Optional.empty();
+    }
+  }
+
+  private static List<LocalDate> days(LocalDate startInclusive, LocalDate endExclusive) {
+    return startInclusive.datesUntil(endExclusive).toList();
   }
 }
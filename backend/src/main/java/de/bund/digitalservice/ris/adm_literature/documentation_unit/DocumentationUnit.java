@@ -13,17 +13,51 @@ import java.util.UUID;
  * @param json The JSON containing the documentation unit (persisting the frontend's pinia store state),
  *             can be {@code null} for migrated documentation units
  * @param xml The xml, can be {@code null} for new documentation units
+ * @param version The version of the documentation unit, exposed as ETag, can be {@code null} if
+ *                unknown
+ * @param conversion The conversion the json has been converted from the xml with, part of the ETag,
+ *                   {@code null} if the json is not converted
  */
 public record DocumentationUnit(
   @Nonnull String documentNumber,
   @Nonnull UUID id,
   @JsonRawValue String json,
-  @JsonIgnore String xml
+  @JsonIgnore String xml,
+  @JsonIgnore Long version,
+  @JsonIgnore String conversion
 ) {
   public DocumentationUnit(@Nonnull String documentNumber, @Nonnull UUID id, String json) {
     this(documentNumber, id, json, null);
   }
-  public DocumentationUnit(@Nonnull DocumentationUnit documentationUnit, @Nonnull String json) {
-    this(documentationUnit.documentNumber, documentationUnit.id, json, null);
+  public DocumentationUnit(
+    @Nonnull String documentNumber,
+    @Nonnull UUID id,
+    String json,
+    String xml
+  ) {
+    this(documentNumber, id, json, xml, null);
+  }
+  public DocumentationUnit(
+    @Nonnull String documentNumber,
+    @Nonnull UUID id,
+    String json,
+    String xml,
+    Long version
+  ) {
+    this(documentNumber, id, json, xml, version, null);
+  }
+  public DocumentationUnit(
+    @Nonnull DocumentationUnit documentationUnit,
+    @Nonnull String json,
+    @Nonnull String conversion
+  ) {
+    this(
+      documentationUnit.documentNumber,
+      documentationUnit.id,
+      json,
+      null,
+      documentationUnit.version,
+      conversion
+    );
   }
 }
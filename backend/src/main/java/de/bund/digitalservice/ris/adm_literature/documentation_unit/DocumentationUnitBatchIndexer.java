@@ -0,0 +1,172 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Batch indexer for all documentation units without documentation unit index.
+ * <p>
+ * The documentation units are selected in chunks by keyset pagination on the document number
+ * (descending). The index of a chunk is calculated in parallel on a dedicated executor with a
+ * configurable number of workers ({@code indexing.workers}), so indexing does not compete with
+ * the common fork join pool. Each chunk is saved in its own transaction together with a
+ * checkpoint, the persistence context is flushed and cleared afterward. If the run is
+ * interrupted, e.g. because the pod is killed, the next run resumes after the checkpoint.
+ * </p>
+ */
+@Component
+@Slf4j
+class DocumentationUnitBatchIndexer {
+
+  static final String CHECKPOINT_NAME = "indexAll";
+
+  private final DocumentationUnitRepository documentationUnitRepository;
+  private final DocumentationUnitIndexRepository documentationUnitIndexRepository;
+  private final DocumentationUnitIndexCheckpointRepository documentationUnitIndexCheckpointRepository;
+  private final DocumentationUnitIndexer documentationUnitIndexer;
+  private final EntityManager entityManager;
+  private final TransactionTemplate transactionTemplate;
+  private final ExecutorService executorService;
+  private final int chunkSize;
+
+  DocumentationUnitBatchIndexer(
+    DocumentationUnitRepository documentationUnitRepository,
+    DocumentationUnitIndexRepository documentationUnitIndexRepository,
+    DocumentationUnitIndexCheckpointRepository documentationUnitIndexCheckpointRepository,
+    DocumentationUnitIndexer documentationUnitIndexer,
+    EntityManager entityManager,
+    PlatformTransactionManager transactionManager,
+    @Value("${indexing.workers:4}") int workers,
+    @Value("${indexing.chunk-size:500}") int chunkSize
+  ) {
+    this.documentationUnitRepository = documentationUnitRepository;
+    this.documentationUnitIndexRepository = documentationUnitIndexRepository;
+    this.documentationUnitIndexCheckpointRepository = documentationUnitIndexCheckpointRepository;
+    this.documentationUnitIndexer = documentationUnitIndexer;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.executorService = Executors.newFixedThreadPool(
+      workers,
+      Thread.ofPlatform().name("indexing-", 1).daemon().factory()
+    );
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Indexes all documentation units without documentation unit index, beginning after the
+   * checkpoint of a previous interrupted run, if any. The checkpoint is removed after the run
+   * has finished.
+   *
+   * @return Number of indexed documentation units
+   */
+  long indexAll() {
+    String lastDocumentNumber = transactionTemplate.execute(_ ->
+      documentationUnitIndexCheckpointRepository
+        .findById(CHECKPOINT_NAME)
+        .map(DocumentationUnitIndexCheckpointEntity::getLastDocumentNumber)
+        .orElse(null)
+    );
+    if (lastDocumentNumber != null) {
+      log.info("Resume indexing after document number {}.", lastDocumentNumber);
+    }
+    long totalNumberOfElements = 0;
+    int chunkNumber = 0;
+    List<DocumentationUnitEntity> documentationUnitEntities;
+    do {
+      String after = lastDocumentNumber;
+      documentationUnitEntities = transactionTemplate.execute(_ -> findChunk(after));
+      if (documentationUnitEntities.isEmpty()) {
+        break;
+      }
+      List<DocumentationUnitIndexEntity> documentationUnitIndexEntities = indexInParallel(
+        documentationUnitEntities
+      );
+      lastDocumentNumber = documentationUnitEntities.getLast().getDocumentNumber();
+      saveChunk(documentationUnitIndexEntities, lastDocumentNumber);
+      totalNumberOfElements += documentationUnitEntities.size();
+      log.info(
+        "Indexing {} documentation units, chunk {}. Sum: {}.",
+        documentationUnitEntities.size(),
+        chunkNumber++,
+        totalNumberOfElements
+      );
+    } while (documentationUnitEntities.size() == chunkSize);
+    transactionTemplate.executeWithoutResult(_ ->
+      documentationUnitIndexCheckpointRepository.deleteById(CHECKPOINT_NAME)
+    );
+    return totalNumberOfElements;
+  }
+
+  private List<DocumentationUnitEntity> findChunk(String lastDocumentNumber) {
+    return lastDocumentNumber == null
+      ? documentationUnitRepository.findByDocumentationUnitIndexIsNullOrderByDocumentNumberDesc(
+          Limit.of(chunkSize)
+        )
+      : documentationUnitRepository.findByDocumentationUnitIndexIsNullAndDocumentNumberLessThanOrderByDocumentNumberDesc(
+          lastDocumentNumber,
+          Limit.of(chunkSize)
+        );
+  }
+
+  private List<DocumentationUnitIndexEntity> indexInParallel(
+    List<DocumentationUnitEntity> documentationUnitEntities
+  ) {
+    // The workers need the schema of the caller for loading lookup data
+    SchemaType schemaType = SchemaContextHolder.getSchema();
+    List<CompletableFuture<DocumentationUnitIndexEntity>> futures = new ArrayList<>();
+    for (DocumentationUnitEntity documentationUnitEntity : documentationUnitEntities) {
+      futures.add(
+        CompletableFuture.supplyAsync(
+          () -> {
+            if (schemaType != null) {
+              SchemaContextHolder.setSchema(schemaType);
+            }
+            try {
+              return documentationUnitIndexer.indexSafely(documentationUnitEntity);
+            } finally {
+              SchemaContextHolder.clear();
+            }
+          },
+          executorService
+        )
+      );
+    }
+    return futures.stream().map(CompletableFuture::join).toList();
+  }
+
+  private void saveChunk(
+    List<DocumentationUnitIndexEntity> documentationUnitIndexEntities,
+    String lastDocumentNumber
+  ) {
+    transactionTemplate.executeWithoutResult(_ -> {
+      documentationUnitIndexRepository.saveAll(documentationUnitIndexEntities);
+      DocumentationUnitIndexCheckpointEntity checkpoint =
+        new DocumentationUnitIndexCheckpointEntity();
+      checkpoint.setName(CHECKPOINT_NAME);
+      checkpoint.setLastDocumentNumber(lastDocumentNumber);
+      checkpoint.setUpdatedAt(Instant.now());
+      documentationUnitIndexCheckpointRepository.save(checkpoint);
+      entityManager.flush();
+      entityManager.clear();
+    });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executorService.shutdownNow();
+  }
+}
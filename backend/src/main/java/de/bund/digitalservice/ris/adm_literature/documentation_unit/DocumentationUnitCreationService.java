@@ -18,23 +18,17 @@ class DocumentationUnitCreationService {
   public DocumentationUnit create(DocumentationOffice office, DocumentCategory documentCategory) {
     Year thisYear = Year.now();
     String prefix = office.prefix + documentCategory.getPrefix();
-    // 1. Create or update the document number for this year
-    DocumentNumberEntity documentNumberEntity = documentNumberRepository
-      .findByPrefixAndYear(prefix, thisYear)
-      .orElseGet(() -> {
-        DocumentNumberEntity newDocumentNumberEntity = new DocumentNumberEntity();
-        newDocumentNumberEntity.setYear(thisYear);
-        newDocumentNumberEntity.setPrefix(prefix);
-        return newDocumentNumberEntity;
-      });
-    DocumentNumber documentNumber = new DocumentNumber(
+    // 1. Allocate the next document number for this year
+    String newDocumentNumber = documentNumberRepository.allocateNext(
       prefix,
-      thisYear,
-      documentNumberEntity.getLatest()
+      thisYear.getValue(),
+      new DocumentNumber(prefix, thisYear, null).create()
     );
-    String newDocumentNumber = documentNumber.create();
-    documentNumberEntity.setLatest(newDocumentNumber);
-    documentNumberRepository.save(documentNumberEntity);
+    if (newDocumentNumber == null) {
+      throw new IllegalStateException(
+        "No document numbers left for prefix %s in %s.".formatted(prefix, thisYear)
+      );
+    }
     // 2. Create the documentation unit with the created document number
     DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
     documentationUnitEntity.setDocumentNumber(newDocumentNumber);
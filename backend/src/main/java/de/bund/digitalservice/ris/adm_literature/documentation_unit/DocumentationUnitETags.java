@@ -0,0 +1,82 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import org.springframework.http.ETag;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * ETags of documentation units for conditional requests.
+ * <p>
+ * The ETag of a documentation unit is its version, which is incremented on each update. A
+ * {@code GET} with a matching {@code If-None-Match} header is answered with HTTP 304 without
+ * loading and converting the content, a {@code PUT} with a non-matching {@code If-Match} header is
+ * rejected with HTTP 412.
+ * </p>
+ * <p>
+ * The json of a documentation unit which only has xml is converted from the xml, it also changes
+ * if the conversion or the lookup table values change. The ETag of such a documentation unit
+ * therefore is its version followed by the conversion ({@code <version>-<conversion>}). Only the
+ * version is compared for {@code If-Match}, as an update replaces the converted json anyway.
+ * </p>
+ */
+final class DocumentationUnitETags {
+
+  private DocumentationUnitETags() {}
+
+  /**
+   * Returns the (strong) ETag of the given version and conversion.
+   *
+   * @param version    The version of the documentation unit
+   * @param conversion The conversion the json has been converted with, {@code null} if the json
+   *                   is not converted
+   * @return The quoted ETag
+   */
+  static String of(long version, String conversion) {
+    String tag = conversion == null ? Long.toString(version) : version + "-" + conversion;
+    return ETag.create(tag).formattedTag();
+  }
+
+  /**
+   * Returns HTTP 200 with the given documentation unit and, if its version is known, its ETag.
+   *
+   * @param documentationUnit The documentation unit
+   * @return The response entity
+   */
+  static ResponseEntity<DocumentationUnit> ok(@Nonnull DocumentationUnit documentationUnit) {
+    ResponseEntity.BodyBuilder bodyBuilder = ResponseEntity.ok();
+    if (documentationUnit.version() != null) {
+      bodyBuilder.eTag(of(documentationUnit.version(), documentationUnit.conversion()));
+    }
+    return bodyBuilder.body(documentationUnit);
+  }
+
+  /**
+   * Returns the version expected by the given {@code If-Match} header.
+   *
+   * @param ifMatch The value of the {@code If-Match} header, can be {@code null}
+   * @return The expected version, {@code null} if there is no precondition (no header or
+   *         {@code *}), or {@code -1} if the header does not contain exactly one version, so the
+   *         precondition fails
+   */
+  static Long parseIfMatch(String ifMatch) {
+    if (ifMatch == null) {
+      return null;
+    }
+    List<ETag> eTags = ETag.parse(ifMatch);
+    if (eTags.size() == 1 && eTags.getFirst().isWildcard()) {
+      return null;
+    }
+    // If-Match requires the strong comparison, weak ETags never match
+    if (eTags.size() != 1 || eTags.getFirst().weak()) {
+      return -1L;
+    }
+    String tag = eTags.getFirst().tag();
+    int conversionStart = tag.indexOf('-');
+    try {
+      return Long.parseLong(conversionStart < 0 ? tag : tag.substring(0, conversionStart));
+    } catch (NumberFormatException _) {
+      return -1L;
+    }
+  }
+}
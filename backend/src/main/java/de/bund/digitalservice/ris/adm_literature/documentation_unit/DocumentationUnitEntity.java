@@ -20,6 +20,13 @@ public class DocumentationUnitEntity {
   @Basic(optional = false)
   private String documentNumber;
 
+  /**
+   * Version for optimistic locking, incremented by Hibernate on each update. It is exposed as ETag
+   * of the documentation unit.
+   */
+  @Version
+  private Long version;
+
   @Basic
   private String json;
 
@@ -0,0 +1,24 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import lombok.Data;
+
+/**
+ * Documentation unit index checkpoint JPA entity. Stores the last processed document number of
+ * a batch indexing run.
+ */
+@Entity
+@Data
+@Table(name = "documentation_unit_index_checkpoint")
+public class DocumentationUnitIndexCheckpointEntity {
+
+  @Id
+  private String name;
+
+  @Basic(optional = false)
+  private String lastDocumentNumber;
+
+  @Basic(optional = false)
+  private Instant updatedAt;
+}
@@ -0,0 +1,6 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface DocumentationUnitIndexCheckpointRepository
+  extends JpaRepository<DocumentationUnitIndexCheckpointEntity, String> {}
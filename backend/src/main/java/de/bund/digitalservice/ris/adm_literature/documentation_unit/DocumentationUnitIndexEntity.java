@@ -2,13 +2,17 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
- * Documentation unit index JPA entity.
+ * Documentation unit index JPA entity. Fields with multiple entries are stored as arrays.
  */
 @Entity
 @Data
@@ -28,10 +32,25 @@ public class DocumentationUnitIndexEntity {
   private String langueberschrift;
 
   @Basic
-  private String fundstellen;
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  private List<String> fundstellen;
 
   @Basic
-  private String zitierdaten;
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  private List<LocalDate> zitierdaten;
+
+  @Basic
+  private String hauptsachtitel;
+
+  @Basic
+  private String dokumentarischerTitel;
+
+  @Basic
+  private String veroeffentlichungsjahr;
+
+  @Basic
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  private List<String> dokumenttypen;
 
   @Enumerated(EnumType.STRING)
   @Basic(optional = false)
@@ -41,4 +60,10 @@ public class DocumentationUnitIndexEntity {
   @Basic(optional = false)
   @Column(name = "documentation_office")
   private DocumentationOffice documentationOffice;
+
+  @Basic(optional = false)
+  private int indexVersion;
+
+  @Basic
+  private String contentHash;
 }
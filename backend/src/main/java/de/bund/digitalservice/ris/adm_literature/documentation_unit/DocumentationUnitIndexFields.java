@@ -0,0 +1,148 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.LiteratureDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.document_type.DocumentType;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * The content of a documentation unit, which is stored in the documentation unit index. Which
+ * fields are set depends on the document category: administrative regulations have a
+ * langueberschrift, fundstellen and zitierdaten, literature has titles, a veroeffentlichungsjahr
+ * and dokumenttypen.
+ *
+ * @param langueberschrift       The long title
+ * @param fundstellen            The fundstellen, each as periodikum abbreviation and zitatstelle
+ * @param zitierdaten            The zitierdaten, as entered (iso dates)
+ * @param hauptsachtitel         The main title of literature
+ * @param dokumentarischerTitel  The documentary title of literature
+ * @param veroeffentlichungsjahr The publication year of literature
+ * @param dokumenttypen          The abbreviations of the document types of literature
+ */
+record DocumentationUnitIndexFields(
+  String langueberschrift,
+  List<String> fundstellen,
+  List<String> zitierdaten,
+  String hauptsachtitel,
+  String dokumentarischerTitel,
+  String veroeffentlichungsjahr,
+  List<String> dokumenttypen
+) {
+  /**
+   * Index fields without any content, e.g. of a new documentation unit.
+   */
+  static final DocumentationUnitIndexFields EMPTY = new DocumentationUnitIndexFields(
+    null,
+    null,
+    null
+  );
+
+  /**
+   * Creates the index fields of an administrative regulation.
+   *
+   * @param langueberschrift The long title
+   * @param fundstellen      The fundstellen
+   * @param zitierdaten      The zitierdaten
+   */
+  DocumentationUnitIndexFields(
+    String langueberschrift,
+    List<String> fundstellen,
+    List<String> zitierdaten
+  ) {
+    this(langueberschrift, fundstellen, zitierdaten, null, null, null, null);
+  }
+
+  /**
+   * Creates the index fields of literature.
+   *
+   * @param hauptsachtitel         The main title
+   * @param dokumentarischerTitel  The documentary title
+   * @param veroeffentlichungsjahr The publication year
+   * @param dokumenttypen          The abbreviations of the document types
+   * @return The index fields
+   */
+  static DocumentationUnitIndexFields literature(
+    String hauptsachtitel,
+    String dokumentarischerTitel,
+    String veroeffentlichungsjahr,
+    List<String> dokumenttypen
+  ) {
+    return new DocumentationUnitIndexFields(
+      null,
+      null,
+      null,
+      hauptsachtitel,
+      dokumentarischerTitel,
+      veroeffentlichungsjahr,
+      dokumenttypen
+    );
+  }
+
+  /**
+   * Returns the index fields of the given literature business model.
+   *
+   * @param literatureDocumentationUnitContent The business model
+   * @return The index fields
+   */
+  static DocumentationUnitIndexFields of(
+    @Nonnull LiteratureDocumentationUnitContent literatureDocumentationUnitContent
+  ) {
+    List<String> dokumenttypen = null;
+    if (literatureDocumentationUnitContent.dokumenttypen() != null) {
+      dokumenttypen = literatureDocumentationUnitContent
+        .dokumenttypen()
+        .stream()
+        .map(DocumentType::abbreviation)
+        .toList();
+    }
+    return literature(
+      literatureDocumentationUnitContent.hauptsachtitel(),
+      literatureDocumentationUnitContent.dokumentarischerTitel(),
+      literatureDocumentationUnitContent.veroeffentlichungsjahr(),
+      dokumenttypen
+    );
+  }
+
+  /**
+   * Returns the index fields of the given administrative regulation business model.
+   *
+   * @param admDocumentationUnitContent The business model
+   * @return The index fields
+   */
+  static DocumentationUnitIndexFields of(
+    @Nonnull AdmDocumentationUnitContent admDocumentationUnitContent
+  ) {
+    List<String> fundstellen = null;
+    if (admDocumentationUnitContent.fundstellen() != null) {
+      fundstellen = admDocumentationUnitContent
+        .fundstellen()
+        .stream()
+        .map(f ->
+          fundstelle(
+            f.ambiguousPeriodikum() != null
+              ? f.ambiguousPeriodikum()
+              : f.periodikum().abbreviation(),
+            f.zitatstelle()
+          )
+        )
+        .toList();
+    }
+    return new DocumentationUnitIndexFields(
+      admDocumentationUnitContent.langueberschrift(),
+      fundstellen,
+      admDocumentationUnitContent.zitierdaten()
+    );
+  }
+
+  /**
+   * Returns the index entry of a fundstelle.
+   *
+   * @param periodikum  The (ambiguous) periodikum abbreviation
+   * @param zitatstelle The zitatstelle
+   * @return The index entry
+   */
+  static String fundstelle(String periodikum, String zitatstelle) {
+    return periodikum + " " + zitatstelle;
+  }
+}
@@ -1,5 +1,7 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +11,11 @@ import org.springframework.util.StopWatch;
 
 /**
  * Cron job for executing indexing of documentation units.
+ * <p>
+ * The scheduler thread has no schema context, so the job indexes every schema in turn with its
+ * own schema context. Each schema is routed to its own data source and connection pool. A
+ * failure in one schema does not prevent indexing of the other schemas.
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
@@ -18,18 +25,41 @@ public class DocumentationUnitIndexJob {
   private final DocumentationUnitPersistenceService documentationUnitPersistenceService;
 
   /**
-   * Execute indexing of all documentation units without documentation unit index.
+   * Execute indexing of all documentation units without documentation unit index and re-indexing
+   * of all documentation units with an outdated documentation unit index, for all schemas.
    */
   @Scheduled(cron = "${cronjob.DocumentationUnitIndexJob:-}", zone = "Europe/Berlin")
   public void indexAll() {
     StopWatch stopWatch = new StopWatch("Index documentation units");
-    stopWatch.start();
-    long totalNumberOfElements = documentationUnitPersistenceService.indexAll();
-    stopWatch.stop();
+    long totalNumberOfElements = 0;
+    for (SchemaType schemaType : SchemaType.values()) {
+      stopWatch.start(schemaType.name());
+      SchemaContextHolder.setSchema(schemaType);
+      try {
+        long numberOfElements = indexAllOfCurrentSchema();
+        log.info(
+          "Indexing {} documentation units of schema {} finished.",
+          numberOfElements,
+          schemaType
+        );
+        totalNumberOfElements += numberOfElements;
+      } catch (RuntimeException e) {
+        log.error("Indexing documentation units of schema {} failed.", schemaType, e);
+      } finally {
+        SchemaContextHolder.clear();
+        stopWatch.stop();
+      }
+    }
     log.info(
       "Indexing {} documentation units finished. \n{}",
       totalNumberOfElements,
       stopWatch.prettyPrint(TimeUnit.SECONDS)
     );
   }
+
+  private long indexAllOfCurrentSchema() {
+    long numberOfElements = documentationUnitPersistenceService.indexAll();
+    documentationUnitPersistenceService.enqueueOutdatedIndexes();
+    return numberOfElements + documentationUnitPersistenceService.processIndexQueue();
+  }
 }
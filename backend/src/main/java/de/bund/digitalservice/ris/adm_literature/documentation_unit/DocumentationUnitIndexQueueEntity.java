@@ -0,0 +1,25 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * Documentation unit index queue JPA entity. An entry marks a documentation unit whose index
+ * needs to be (re-)calculated.
+ */
+@Entity
+@Data
+@Table(name = "documentation_unit_index_queue")
+public class DocumentationUnitIndexQueueEntity {
+
+  @Id
+  private UUID documentationUnitId;
+
+  @Basic(optional = false)
+  private Instant enqueuedAt;
+
+  @Basic(optional = false)
+  private int attempts;
+}
@@ -0,0 +1,43 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cron job for draining the documentation unit index queue of all schemas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentationUnitIndexQueueJob {
+
+  private final DocumentationUnitPersistenceService documentationUnitPersistenceService;
+
+  /**
+   * Execute re-indexing of all queued documentation units, for all schemas.
+   */
+  @Scheduled(cron = "${cronjob.DocumentationUnitIndexQueueJob:-}", zone = "Europe/Berlin")
+  public void processIndexQueue() {
+    for (SchemaType schemaType : SchemaType.values()) {
+      SchemaContextHolder.setSchema(schemaType);
+      try {
+        long totalNumberOfElements = documentationUnitPersistenceService.processIndexQueue();
+        if (totalNumberOfElements > 0) {
+          log.info(
+            "Processing {} queued documentation units of schema {} finished.",
+            totalNumberOfElements,
+            schemaType
+          );
+        }
+      } catch (RuntimeException e) {
+        log.error("Processing index queue of schema {} failed.", schemaType, e);
+      } finally {
+        SchemaContextHolder.clear();
+      }
+    }
+  }
+}
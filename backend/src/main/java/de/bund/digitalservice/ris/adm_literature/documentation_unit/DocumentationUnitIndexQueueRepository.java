@@ -0,0 +1,51 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface DocumentationUnitIndexQueueRepository
+  extends JpaRepository<DocumentationUnitIndexQueueEntity, UUID> {
+  @Modifying
+  @Query(
+    value = """
+    INSERT INTO documentation_unit_index_queue (documentation_unit_id, enqueued_at)
+    VALUES (:documentationUnitId, now())
+    ON CONFLICT (documentation_unit_id)
+    DO UPDATE SET enqueued_at = excluded.enqueued_at, attempts = 0
+    """,
+    nativeQuery = true
+  )
+  void enqueue(@Param("documentationUnitId") UUID documentationUnitId);
+
+  @Modifying
+  @Query(
+    value = """
+    INSERT INTO documentation_unit_index_queue (documentation_unit_id, enqueued_at)
+    SELECT du.id, now()
+    FROM documentation_unit du
+    LEFT JOIN documentation_unit_index dui ON dui.documentation_unit_id = du.id
+    WHERE dui.id IS NULL OR dui.index_version <> :indexVersion OR dui.content_hash IS NULL
+    ON CONFLICT (documentation_unit_id) DO NOTHING
+    """,
+    nativeQuery = true
+  )
+  int enqueueOutdated(@Param("indexVersion") int indexVersion);
+
+  @Query(
+    value = """
+    SELECT documentation_unit_id
+    FROM documentation_unit_index_queue
+    WHERE enqueued_at <= :dueBefore
+    ORDER BY enqueued_at
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED
+    """,
+    nativeQuery = true
+  )
+  List<UUID> lockNextBatch(@Param("dueBefore") Instant dueBefore, @Param("limit") int limit);
+}
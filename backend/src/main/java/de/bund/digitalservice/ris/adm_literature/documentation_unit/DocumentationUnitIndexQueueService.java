@@ -0,0 +1,142 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the documentation unit index queue.
+ * <p>
+ * Documentation units which need to be (re-)indexed are added to the queue, the queue is
+ * drained in batches. Each batch is executed in its own transaction, the queue entries of a
+ * batch are locked with {@code SKIP LOCKED}, so multiple instances can drain the queue
+ * concurrently.
+ * </p>
+ * <p>
+ * Entries whose indexing failed stay queued and are retried with an exponential backoff, starting
+ * at {@link #RETRY_DELAY}. After {@link #MAX_ATTEMPTS} failed attempts they are removed, the
+ * daily re-indexing adds them again.
+ * </p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+class DocumentationUnitIndexQueueService {
+
+  /**
+   * Maximum number of failed indexing attempts before an entry is removed from the queue.
+   */
+  static final int MAX_ATTEMPTS = 5;
+
+  /**
+   * Delay of the first retry of a failed entry, doubled with each further failed attempt.
+   */
+  static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+  private final DocumentationUnitIndexQueueRepository documentationUnitIndexQueueRepository;
+  private final DocumentationUnitRepository documentationUnitRepository;
+  private final DocumentationUnitIndexRepository documentationUnitIndexRepository;
+  private final DocumentationUnitIndexer documentationUnitIndexer;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Adds the given documentation unit to the index queue. If it is already queued, the
+   * enqueue time is updated.
+   *
+   * @param documentationUnitId The id of the documentation unit
+   */
+  @Transactional
+  public void enqueue(UUID documentationUnitId) {
+    documentationUnitIndexQueueRepository.enqueue(documentationUnitId);
+  }
+
+  /**
+   * Adds all documentation units to the index queue, which are not indexed yet, indexed with an
+   * outdated version of the indexing rules, or whose indexing failed.
+   *
+   * @return Number of added documentation units
+   */
+  @Transactional
+  public int enqueueOutdated() {
+    return documentationUnitIndexQueueRepository.enqueueOutdated(
+      DocumentationUnitIndexer.INDEX_VERSION
+    );
+  }
+
+  /**
+   * Processes the next batch of the index queue. Documentation units with an up-to-date index
+   * are skipped. The processed entries are removed from the queue, entries whose indexing failed
+   * are rescheduled for a retry.
+   *
+   * @param batchSize The maximum number of queue entries to process
+   * @param dueBefore Only entries enqueued before are processed, later entries are within the
+   *                  debounce window
+   * @return Number of processed queue entries, {@code 0} if there are no due entries
+   */
+  @Transactional
+  public int processBatch(int batchSize, Instant dueBefore) {
+    List<UUID> documentationUnitIds = documentationUnitIndexQueueRepository.lockNextBatch(
+      dueBefore,
+      batchSize
+    );
+    if (documentationUnitIds.isEmpty()) {
+      return 0;
+    }
+    List<DocumentationUnitIndexEntity> documentationUnitIndexEntities = documentationUnitRepository
+      .findByIdIn(documentationUnitIds)
+      .stream()
+      .filter(
+        documentationUnitEntity -> !documentationUnitIndexer.isUpToDate(documentationUnitEntity)
+      )
+      .map(documentationUnitIndexer::indexSafely)
+      .toList();
+    documentationUnitIndexRepository.saveAll(documentationUnitIndexEntities);
+    meterRegistry
+      .counter(AutosaveIndexer.INDEX_WRITES_METRIC, "source", "queue")
+      .increment(documentationUnitIndexEntities.size());
+    // A failed index is saved without content hash
+    Set<UUID> failedIds = documentationUnitIndexEntities
+      .stream()
+      .filter(documentationUnitIndexEntity -> documentationUnitIndexEntity.getContentHash() == null)
+      .map(
+        documentationUnitIndexEntity -> documentationUnitIndexEntity.getDocumentationUnit().getId()
+      )
+      .collect(Collectors.toSet());
+    documentationUnitIndexQueueRepository.deleteAllByIdInBatch(
+      documentationUnitIds.stream().filter(id -> !failedIds.contains(id)).toList()
+    );
+    documentationUnitIndexQueueRepository.findAllById(failedIds).forEach(this::retryLater);
+    log.info(
+      "Processed {} queued documentation units, re-indexed {}, failed {}.",
+      documentationUnitIds.size(),
+      documentationUnitIndexEntities.size(),
+      failedIds.size()
+    );
+    return documentationUnitIds.size();
+  }
+
+  private void retryLater(DocumentationUnitIndexQueueEntity documentationUnitIndexQueueEntity) {
+    int attempts = documentationUnitIndexQueueEntity.getAttempts() + 1;
+    if (attempts >= MAX_ATTEMPTS) {
+      log.warn(
+        "Indexing documentation unit {} failed {} times, removing it from the index queue.",
+        documentationUnitIndexQueueEntity.getDocumentationUnitId(),
+        attempts
+      );
+      documentationUnitIndexQueueRepository.delete(documentationUnitIndexQueueEntity);
+      return;
+    }
+    documentationUnitIndexQueueEntity.setAttempts(attempts);
+    documentationUnitIndexQueueEntity.setEnqueuedAt(
+      Instant.now().plus(RETRY_DELAY.multipliedBy(1L << (attempts - 1)))
+    );
+  }
+}
@@ -0,0 +1,307 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import jakarta.annotation.Nonnull;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Calculates the documentation unit index of a documentation unit.
+ * <p>
+ * Each index entry stores the version of the indexing rules and a hash of the indexed content.
+ * An entry is up-to-date if both match, so it is not necessary to re-calculate it. If the
+ * indexing rules are changed, {@link #INDEX_VERSION} must be incremented, the outdated entries
+ * are then re-calculated by the index queue.
+ * </p>
+ * <p>
+ * The index fields are extracted by the {@link IndexFieldExtractionStrategy} supporting the
+ * document category of the documentation unit.
+ * </p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+class DocumentationUnitIndexer {
+
+  /**
+   * Version of the indexing rules.
+   */
+  static final int INDEX_VERSION = 2;
+
+  /**
+   * Properties of the json, which the index is calculated from.
+   */
+  static final Set<String> INDEXED_PROPERTIES = Set.of(
+    "langueberschrift",
+    "fundstellen",
+    "zitierdaten",
+    "hauptsachtitel",
+    "dokumentarischerTitel",
+    "veroeffentlichungsjahr",
+    "dokumenttypen"
+  );
+
+  private final List<IndexFieldExtractionStrategy> strategies;
+
+  /**
+   * Returns {@code true} if the index of the given documentation unit has been calculated with
+   * the current indexing rules from its current content.
+   *
+   * @param documentationUnitEntity The documentation unit
+   * @return {@code true} if the index does not need to be re-calculated
+   */
+  boolean isUpToDate(@Nonnull DocumentationUnitEntity documentationUnitEntity) {
+    DocumentationUnitIndexEntity documentationUnitIndexEntity =
+      documentationUnitEntity.getDocumentationUnitIndex();
+    return (
+      documentationUnitIndexEntity != null &&
+      documentationUnitIndexEntity.getIndexVersion() == INDEX_VERSION &&
+      Objects.equals(
+        documentationUnitIndexEntity.getContentHash(),
+        contentHash(documentationUnitEntity)
+      )
+    );
+  }
+
+  /**
+   * Calculates the index of the given documentation unit. The existing index entity is updated,
+   * or a new one is created, if the documentation unit is not indexed yet.
+   *
+   * @param documentationUnitEntity The documentation unit to index
+   * @return The (not yet saved) index entity
+   * @throws IllegalStateException if the content of the documentation unit cannot be read
+   * @throws IllegalArgumentException if no extraction strategy supports the document category
+   */
+  DocumentationUnitIndexEntity index(@Nonnull DocumentationUnitEntity documentationUnitEntity) {
+    return mapDocumentationUnitIndex(
+      createIndex(documentationUnitEntity),
+      contentHash(documentationUnitEntity)
+    );
+  }
+
+  /**
+   * Calculates the index of the given documentation unit like {@link #index(DocumentationUnitEntity)},
+   * but ignores exceptions. In case of an exception an index entry without content and without
+   * content hash is returned, so the documentation unit still appears on the overview page and is
+   * picked up again by the index queue.
+   *
+   * @param documentationUnitEntity The documentation unit to index
+   * @return The (not yet saved) index entity
+   */
+  DocumentationUnitIndexEntity indexSafely(
+    @Nonnull DocumentationUnitEntity documentationUnitEntity
+  ) {
+    try {
+      return index(documentationUnitEntity);
+    } catch (Exception e) {
+      log.warn(
+        "Could not index documentation unit {}. Reason: {}.",
+        documentationUnitEntity.getDocumentNumber(),
+        e.getMessage()
+      );
+      log.debug("Stacktrace:", e);
+    }
+    // We save an empty entry so the document still appears on overview page
+    DocumentationUnitIndex fallbackIndex = new DocumentationUnitIndex(documentationUnitEntity);
+    fallbackIndex.setDocumentationUnitType(documentationUnitEntity.getDocumentationUnitType());
+    fallbackIndex.setDocumentationOffice(documentationUnitEntity.getDocumentationOffice());
+    // Content fields (langueberschrift, hauptsachtitel, etc.) remain null as intended on error
+    return mapDocumentationUnitIndex(fallbackIndex, null);
+  }
+
+  /**
+   * Returns {@code true} if the index of a documentation unit with the given json before and after
+   * a change needs to be re-calculated, i.e. if any of the {@link #INDEXED_PROPERTIES} changed.
+   *
+   * @param before The json before the change
+   * @param after  The json after the change
+   * @return {@code true} if an indexed property changed
+   */
+  static boolean isIndexAffected(@Nonnull JsonNode before, @Nonnull JsonNode after) {
+    return INDEXED_PROPERTIES.stream()
+      .anyMatch(property -> !Objects.equals(before.get(property), after.get(property)));
+  }
+
+  /**
+   * Updates the content hash of the existing, up-to-date index of the given documentation unit
+   * after a change, which did not affect the indexed properties (see
+   * {@link #isIndexAffected(JsonNode, JsonNode)}). If there is no such index, it is calculated.
+   *
+   * @param documentationUnitEntity The changed documentation unit
+   * @return The (not yet saved) index entity
+   */
+  DocumentationUnitIndexEntity refreshContentHash(
+    @Nonnull DocumentationUnitEntity documentationUnitEntity
+  ) {
+    DocumentationUnitIndexEntity documentationUnitIndexEntity =
+      documentationUnitEntity.getDocumentationUnitIndex();
+    if (
+      documentationUnitIndexEntity == null ||
+      documentationUnitIndexEntity.getIndexVersion() != INDEX_VERSION ||
+      documentationUnitIndexEntity.getContentHash() == null
+    ) {
+      return indexSafely(documentationUnitEntity);
+    }
+    documentationUnitIndexEntity.setContentHash(contentHash(documentationUnitEntity));
+    return documentationUnitIndexEntity;
+  }
+
+  /**
+   * Returns the SHA-256 hash (hex encoded) of the indexed content of the given documentation
+   * unit, which is the json or, if there is no json, the xml.
+   *
+   * @param documentationUnitEntity The documentation unit
+   * @return The content hash
+   */
+  static String contentHash(@Nonnull DocumentationUnitEntity documentationUnitEntity) {
+    String content = documentationUnitEntity.getJson() != null
+      ? documentationUnitEntity.getJson()
+      : Objects.requireNonNullElse(documentationUnitEntity.getXml(), "");
+    return sha256(content);
+  }
+
+  /**
+   * Returns the SHA-256 hash (hex encoded) of the given content.
+   *
+   * @param content The content to hash
+   * @return The hash
+   */
+  static String sha256(@Nonnull String content) {
+    try {
+      MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(
+        messageDigest.digest(content.getBytes(StandardCharsets.UTF_8))
+      );
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported", e);
+    }
+  }
+
+  private DocumentationUnitIndexEntity mapDocumentationUnitIndex(
+    DocumentationUnitIndex documentationUnitIndex,
+    String contentHash
+  ) {
+    DocumentationUnitIndexEntity documentationUnitIndexEntity =
+      documentationUnitIndex.documentationUnitEntity.getDocumentationUnitIndex();
+    if (documentationUnitIndexEntity == null) {
+      // New entry for created or imported documents
+      documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
+      documentationUnitIndexEntity.setDocumentationUnit(
+        documentationUnitIndex.documentationUnitEntity
+      );
+    }
+    documentationUnitIndexEntity.setDocumentationUnitType(
+      documentationUnitIndex.getDocumentationUnitType()
+    );
+    documentationUnitIndexEntity.setDocumentationOffice(
+      documentationUnitIndex.getDocumentationOffice()
+    );
+    DocumentationUnitIndexFields indexFields = documentationUnitIndex.getIndexFields();
+    documentationUnitIndexEntity.setLangueberschrift(indexFields.langueberschrift());
+    documentationUnitIndexEntity.setFundstellen(indexFields.fundstellen());
+    documentationUnitIndexEntity.setZitierdaten(
+      toDates(
+        indexFields.zitierdaten(),
+        documentationUnitIndex.documentationUnitEntity.getDocumentNumber()
+      )
+    );
+    documentationUnitIndexEntity.setHauptsachtitel(indexFields.hauptsachtitel());
+    documentationUnitIndexEntity.setDokumentarischerTitel(indexFields.dokumentarischerTitel());
+    documentationUnitIndexEntity.setVeroeffentlichungsjahr(indexFields.veroeffentlichungsjahr());
+    documentationUnitIndexEntity.setDokumenttypen(indexFields.dokumenttypen());
+    documentationUnitIndexEntity.setIndexVersion(INDEX_VERSION);
+    documentationUnitIndexEntity.setContentHash(contentHash);
+    return documentationUnitIndexEntity;
+  }
+
+  /**
+   * Converts the zitierdaten to dates. Entries which are not an iso date are not indexed, so they
+   * neither break the index of the other fields nor the sort order of the zitierdaten.
+   */
+  private static List<LocalDate> toDates(List<String> zitierdaten, String documentNumber) {
+    if (zitierdaten == null) {
+      return null;
+    }
+    List<LocalDate> dates = new ArrayList<>(zitierdaten.size());
+    for (String zitierdatum : zitierdaten) {
+      try {
+        dates.add(LocalDate.parse(Objects.requireNonNullElse(zitierdatum, "")));
+      } catch (DateTimeParseException _) {
+        log.warn(
+          "Zitierdatum '{}' of documentation unit {} is not indexed, it is not an iso date.",
+          zitierdatum,
+          documentNumber
+        );
+      }
+    }
+    return dates;
+  }
+
+  private DocumentationUnitIndex createIndex(
+    @Nonnull DocumentationUnitEntity documentationUnitEntity
+  ) {
+    DocumentationUnitIndex documentationUnitIndex = new DocumentationUnitIndex(
+      documentationUnitEntity
+    );
+    documentationUnitIndex.setDocumentationUnitType(
+      documentationUnitEntity.getDocumentationUnitType()
+    );
+    documentationUnitIndex.setDocumentationOffice(documentationUnitEntity.getDocumentationOffice());
+    if (documentationUnitEntity.isEmpty()) {
+      // We save an empty entry so the document still appears on overview page
+      return documentationUnitIndex;
+    }
+    IndexFieldExtractionStrategy strategy = findStrategy(
+      documentationUnitEntity.getDocumentationUnitType()
+    );
+    if (documentationUnitEntity.getJson() != null) {
+      // Draft documentation unit, there is json
+      documentationUnitIndex.setIndexFields(
+        strategy.extractFromJson(documentationUnitEntity.getJson())
+      );
+    } else {
+      // Published documentation unit, there is only xml
+      documentationUnitIndex.setIndexFields(
+        strategy.extractFromLdml(documentationUnitEntity.getXml())
+      );
+    }
+    return documentationUnitIndex;
+  }
+
+  private IndexFieldExtractionStrategy findStrategy(DocumentCategory documentCategory) {
+    return strategies
+      .stream()
+      .filter(s -> s.supports(documentCategory))
+      .findFirst()
+      .orElseThrow(() ->
+        new IllegalArgumentException(
+          "No IndexFieldExtractionStrategy found for document category: " + documentCategory
+        )
+      );
+  }
+
+  @Data
+  @AllArgsConstructor
+  @RequiredArgsConstructor
+  private static class DocumentationUnitIndex {
+
+    private final DocumentationUnitEntity documentationUnitEntity;
+    private DocumentCategory documentationUnitType;
+    private DocumentationOffice documentationOffice;
+    private DocumentationUnitIndexFields indexFields = DocumentationUnitIndexFields.EMPTY;
+  }
+}
@@ -0,0 +1,38 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.annotation.Nonnull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for the documentation unit overview.
+ */
+interface DocumentationUnitOverviewRepository {
+  /**
+   * Returns a page of overview rows of the documentation units matching the given specification.
+   * Filtering, sorting and pagination are the same as with
+   * {@code findAll(Specification, Pageable)}, but only the columns of the overview are selected.
+   *
+   * @param specification The specification to filter the documentation units
+   * @param pageable      The pagination and sorting
+   * @return Page of overview rows
+   */
+  Page<DocumentationUnitOverviewRow> findOverview(
+    @Nonnull Specification<DocumentationUnitEntity> specification,
+    @Nonnull Pageable pageable
+  );
+
+  /**
+   * Returns a page of literature overview rows of the documentation units matching the given
+   * specification, like {@link #findOverview(Specification, Pageable)}.
+   *
+   * @param specification The specification to filter the documentation units
+   * @param pageable      The pagination and sorting
+   * @return Page of literature overview rows
+   */
+  Page<LiteratureDocumentationUnitOverviewRow> findLiteratureOverview(
+    @Nonnull Specification<DocumentationUnitEntity> specification,
+    @Nonnull Pageable pageable
+  );
+}
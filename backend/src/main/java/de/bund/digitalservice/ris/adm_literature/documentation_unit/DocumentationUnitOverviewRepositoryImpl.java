@@ -0,0 +1,120 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.List;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+/**
+ * Criteria implementation of {@link DocumentationUnitOverviewRepository}. The rows are selected
+ * with a constructor expression, so Hibernate does not materialize the entities and the json and
+ * xml columns (which may be hundreds of KB per documentation unit) are never transferred.
+ */
+@RequiredArgsConstructor
+class DocumentationUnitOverviewRepositoryImpl implements DocumentationUnitOverviewRepository {
+
+  private static final String INDEX_ATTRIBUTE = "documentationUnitIndex";
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Page<DocumentationUnitOverviewRow> findOverview(
+    @Nonnull Specification<DocumentationUnitEntity> specification,
+    @Nonnull Pageable pageable
+  ) {
+    return findRows(
+      specification,
+      pageable,
+      DocumentationUnitOverviewRow.class,
+      (root, indexJoin) ->
+        new Selection<?>[] {
+          root.get("id"),
+          root.get("documentNumber"),
+          indexJoin.get("zitierdaten"),
+          indexJoin.get("langueberschrift"),
+          indexJoin.get("fundstellen"),
+        }
+    );
+  }
+
+  @Override
+  public Page<LiteratureDocumentationUnitOverviewRow> findLiteratureOverview(
+    @Nonnull Specification<DocumentationUnitEntity> specification,
+    @Nonnull Pageable pageable
+  ) {
+    return findRows(
+      specification,
+      pageable,
+      LiteratureDocumentationUnitOverviewRow.class,
+      (root, indexJoin) ->
+        new Selection<?>[] {
+          root.get("id"),
+          root.get("documentNumber"),
+          indexJoin.get("veroeffentlichungsjahr"),
+          indexJoin.get("dokumenttypen"),
+          indexJoin.get("hauptsachtitel"),
+          indexJoin.get("dokumentarischerTitel"),
+        }
+    );
+  }
+
+  private <T> Page<T> findRows(
+    Specification<DocumentationUnitEntity> specification,
+    Pageable pageable,
+    Class<T> rowClass,
+    BiFunction<Root<DocumentationUnitEntity>, Join<?, ?>, Selection<?>[]> columns
+  ) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<T> query = criteriaBuilder.createQuery(rowClass);
+    Root<DocumentationUnitEntity> root = query.from(DocumentationUnitEntity.class);
+    Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    if (pageable.getSort().isSorted()) {
+      query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+    }
+    // Reuse the join of the specification or the sort order, if any
+    Join<?, ?> indexJoin = root
+      .getJoins()
+      .stream()
+      .filter(join -> join.getAttribute().getName().equals(INDEX_ATTRIBUTE))
+      .findFirst()
+      .orElseGet(() -> root.join(INDEX_ATTRIBUTE, JoinType.LEFT));
+    query.select(criteriaBuilder.construct(rowClass, columns.apply(root, indexJoin)));
+
+    TypedQuery<T> typedQuery = entityManager.createQuery(query);
+    if (pageable.isPaged()) {
+      typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+      typedQuery.setMaxResults(pageable.getPageSize());
+    }
+    List<T> content = typedQuery.getResultList();
+    return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+  }
+
+  private long count(Specification<DocumentationUnitEntity> specification) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+    Root<DocumentationUnitEntity> root = query.from(DocumentationUnitEntity.class);
+    Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.select(criteriaBuilder.count(root));
+    return entityManager.createQuery(query).getSingleResult();
+  }
+}
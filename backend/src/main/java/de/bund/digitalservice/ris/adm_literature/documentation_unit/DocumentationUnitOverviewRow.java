@@ -0,0 +1,23 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projection of a documentation unit and its index for the overview. Contains only the columns
+ * shown on the overview page, the large json and xml columns are not loaded.
+ *
+ * @param id               The uuid of the documentation unit
+ * @param documentNumber   The public id of the documentation unit
+ * @param zitierdaten      The indexed zitierdaten
+ * @param langueberschrift The indexed langueberschrift
+ * @param fundstellen      The indexed fundstellen
+ */
+public record DocumentationUnitOverviewRow(
+  UUID id,
+  String documentNumber,
+  List<LocalDate> zitierdaten,
+  String langueberschrift,
+  List<String> fundstellen
+) {}
@@ -2,33 +2,24 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import de.bund.digitalservice.ris.adm_literature.config.security.UserDocumentDetails;
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
-import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.LdmlConverterService;
-import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import jakarta.annotation.Nonnull;
-import java.util.Collections;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
-import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.resilience.annotation.Retryable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import tools.jackson.core.JacksonException;
-import tools.jackson.databind.ObjectMapper;
 
 /**
  * Persistence service for CRUD operations on documentation units
@@ -38,15 +29,16 @@ import tools.jackson.databind.ObjectMapper;
 @RequiredArgsConstructor
 public class DocumentationUnitPersistenceService {
 
-  static final String ENTRY_SEPARATOR = "$µµµµµ$";
-
   private static final int INDEX_BATCH_SIZE = 500;
 
   private final DocumentationUnitCreationService documentationUnitCreationService;
   private final DocumentationUnitRepository documentationUnitRepository;
   private final DocumentationUnitIndexRepository documentationUnitIndexRepository;
-  private final ObjectMapper objectMapper;
-  private final LdmlConverterService ldmlConverterService;
+  private final DocumentationUnitIndexQueueRepository documentationUnitIndexQueueRepository;
+  private final DocumentationUnitIndexQueueService documentationUnitIndexQueueService;
+  private final DocumentationUnitIndexer documentationUnitIndexer;
+  private final DocumentationUnitBatchIndexer documentationUnitBatchIndexer;
+  private final AutosaveIndexer autosaveIndexer;
 
   /**
    * Finds a document by its number.
@@ -63,32 +55,31 @@ public class DocumentationUnitPersistenceService {
           documentNumber,
           documentationUnitEntity.getId(),
           documentationUnitEntity.getJson(),
-          documentationUnitEntity.getXml()
+          documentationUnitEntity.getXml(),
+          documentationUnitEntity.getVersion()
         )
       );
   }
 
+  /**
+   * Finds the version of a documentation unit without loading its content.
+   *
+   * @param documentNumber The document number
+   * @return an {@link Optional} containing the version and whether the documentation unit is
+   *         converted, or empty if not found.
+   */
+  @Transactional(readOnly = true)
+  public Optional<DocumentationUnitVersion> findVersionByDocumentNumber(@Nonnull String documentNumber) {
+    return documentationUnitRepository.findVersionByDocumentNumber(documentNumber);
+  }
+
   /**
    * Creates a new documentation unit based on the authenticated user's details.
    *
    * @param documentCategory The document category of the documentation unit
    * @return The newly created and persisted {@link DocumentationUnit}.
    */
-  @Retryable(DataIntegrityViolationException.class)
   public DocumentationUnit create(DocumentCategory documentCategory) {
-    // Issue for the very first documentation unit of a new year: If for this year
-    // there is no
-    // document number stored, then concurrent threads can lead to an
-    // DataIntegrityViolationException due to
-    // unique constraint violation (try to persist same document number twice).
-    // In that case the creation process is retried. Note, that even though the
-    // exception is handled, there will
-    // be a warning and an error message logged by Hibernate, which cannot be avoided.
-    // The used retry template can only handle a database exception if the
-    // underlying transaction completes
-    // with a commit; therefore a secondary bean (DocumentationUnitCreationService)
-    // is used to encapsulate
-    // the transaction. This method must not have a @Transactional annotation.
     Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
     UserDocumentDetails details = (UserDocumentDetails) authentication.getPrincipal();
     DocumentationUnit documentationUnit = documentationUnitCreationService.create(
@@ -112,16 +103,69 @@ public class DocumentationUnitPersistenceService {
    */
   @Transactional
   public DocumentationUnit update(@Nonnull String documentNumber, @Nonnull String json) {
+    return update(documentNumber, json, null);
+  }
+
+  /**
+   * Updates a documentation unit by document number, if it has the expected version, and returns
+   * the updated documentation unit with its new version.
+   *
+   * @param documentNumber  The document number to identify the documentation unit
+   * @param json            The json string to update
+   * @param expectedVersion The expected current version, {@code null} to update unconditionally
+   * @return The updated documentation unit or an empty optional, if there is no documentation unit
+   *         with the given document number
+   * @throws VersionConflictException if the documentation unit does not have the expected version
+   */
+  @Transactional
+  public DocumentationUnit update(
+    @Nonnull String documentNumber,
+    @Nonnull String json,
+    Long expectedVersion
+  ) {
+    return update(documentNumber, json, expectedVersion, true);
+  }
+
+  /**
+   * Updates a documentation unit like {@link #update(String, String, Long)}. The index is refreshed
+   * by the {@link AutosaveIndexer}. If the change does not affect the indexed properties, only the
+   * content hash of the index is updated instead of re-calculating the index.
+   *
+   * @param documentNumber  The document number to identify the documentation unit
+   * @param json            The json string to update
+   * @param expectedVersion The expected current version, {@code null} to update unconditionally
+   * @param indexAffected   {@code false} if the indexed properties did not change
+   * @return The updated documentation unit or an empty optional, if there is no documentation unit
+   *         with the given document number
+   * @throws VersionConflictException if the documentation unit does not have the expected version
+   */
+  @Transactional
+  public DocumentationUnit update(
+    @Nonnull String documentNumber,
+    @Nonnull String json,
+    Long expectedVersion,
+    boolean indexAffected
+  ) {
     return documentationUnitRepository
       .findByDocumentNumber(documentNumber)
       .map(documentationUnitEntity -> {
+        if (
+          expectedVersion != null && !expectedVersion.equals(documentationUnitEntity.getVersion())
+        ) {
+          throw new VersionConflictException(documentNumber, documentationUnitEntity.getVersion());
+        }
         documentationUnitEntity.setJson(json);
         log.info("Updated documentation unit with document number: {}.", documentNumber);
-        documentationUnitIndexRepository.save(
-          mapDocumentationUnitIndex(createIndex(documentationUnitEntity))
+        autosaveIndexer.refresh(documentationUnitEntity, indexAffected);
+        // Flush to increment the version, a concurrent update fails with an optimistic lock exception
+        documentationUnitRepository.flush();
+        return new DocumentationUnit(
+          documentNumber,
+          documentationUnitEntity.getId(),
+          json,
+          null,
+          documentationUnitEntity.getVersion()
         );
-        log.info("Re-indexed documentation unit with document number: {}.", documentNumber);
-        return new DocumentationUnit(documentNumber, documentationUnitEntity.getId(), json);
       })
       .orElse(null);
   }
@@ -149,15 +193,38 @@ public class DocumentationUnitPersistenceService {
         documentationUnitEntity.setJson(json);
         documentationUnitEntity.setXml(xml);
         log.info("Published documentation unit with document number: {}.", documentNumber);
-        documentationUnitIndexRepository.save(
-          mapDocumentationUnitIndex(createIndex(documentationUnitEntity))
+        reindex(documentationUnitEntity);
+        documentationUnitRepository.flush();
+        return new DocumentationUnit(
+          documentNumber,
+          documentationUnitEntity.getId(),
+          null,
+          xml,
+          documentationUnitEntity.getVersion()
         );
-        log.info("Re-indexed documentation unit with document number: {}.", documentNumber);
-        return new DocumentationUnit(documentNumber, documentationUnitEntity.getId(), null, xml);
       })
       .orElse(null);
   }
 
+  /**
+   * Returns the document numbers of all published documentation units of the given
+   * documentation office and category, ordered by document number.
+   *
+   * @param documentationOffice The documentation office
+   * @param documentCategory    The document category
+   * @return The document numbers
+   */
+  @Transactional(readOnly = true)
+  public List<String> findPublishedDocumentNumbers(
+    @Nonnull DocumentationOffice documentationOffice,
+    @Nonnull DocumentCategory documentCategory
+  ) {
+    return documentationUnitRepository.findPublishedDocumentNumbers(
+      documentationOffice,
+      documentCategory
+    );
+  }
+
   /**
    * Returns paginated documentation units overview elements.
    *
@@ -168,56 +235,78 @@ public class DocumentationUnitPersistenceService {
   public Page<DocumentationUnitOverviewElement> findDocumentationUnitOverviewElements(
     @Nonnull DocumentationUnitQuery query
   ) {
-    QueryOptions queryOptions = query.queryOptions();
-    Sort sort = Sort.by(queryOptions.sortDirection(), queryOptions.sortByProperty());
-    Pageable pageable = queryOptions.usePagination()
-      ? PageRequest.of(queryOptions.pageNumber(), queryOptions.pageSize(), sort)
-      : Pageable.unpaged(sort);
+    Pageable pageable = toPageable(query.queryOptions());
     DocumentUnitSpecification documentUnitSpecification = new DocumentUnitSpecification(
       query.documentNumber(),
       query.langueberschrift(),
       query.fundstellen(),
-      query.zitierdaten()
+      query.zitierdaten(),
+      query.fundstellenMatch()
     );
-    var documentationUnitsPage = documentationUnitRepository.findAll(
+    var documentationUnitsPage = documentationUnitRepository.findOverview(
       documentUnitSpecification,
       pageable
     );
-    return PageTransformer.transform(documentationUnitsPage, documentationUnit -> {
-      DocumentationUnitIndexEntity index = documentationUnit.getDocumentationUnitIndex();
-
-      if (index == null) {
-        return new DocumentationUnitOverviewElement(
-          documentationUnit.getId(),
-          documentationUnit.getDocumentNumber(),
-          Collections.emptyList(),
-          null,
-          Collections.emptyList()
-        );
-      }
+    return PageTransformer.transform(documentationUnitsPage, row ->
+      new DocumentationUnitOverviewElement(
+        row.id(),
+        row.documentNumber(),
+        row.zitierdaten() != null
+          ? row.zitierdaten().stream().map(LocalDate::toString).toList()
+          : List.of(),
+        row.langueberschrift(),
+        Objects.requireNonNullElse(row.fundstellen(), List.of())
+      )
+    );
+  }
 
-      return new DocumentationUnitOverviewElement(
-        documentationUnit.getId(),
-        documentationUnit.getDocumentNumber(),
-        splitBySeparator(index.getZitierdaten()),
-        index.getLangueberschrift(),
-        splitBySeparator(index.getFundstellen())
-      );
-    });
+  /**
+   * Returns paginated literature documentation units overview elements. Filtering and sorting are
+   * served by the documentation unit index.
+   *
+   * @param query The query
+   * @return Page object with literature documentation unit overview elements and pagination data
+   */
+  @Transactional(readOnly = true)
+  public Page<LiteratureDocumentationUnitOverviewElement> findLiteratureDocumentationUnitOverviewElements(
+    @Nonnull LiteratureDocumentationUnitQuery query
+  ) {
+    Pageable pageable = toPageable(query.queryOptions());
+    LiteratureDocumentUnitSpecification specification = new LiteratureDocumentUnitSpecification(
+      query.documentNumber(),
+      query.titel(),
+      query.veroeffentlichungsjahr(),
+      query.dokumenttypen()
+    );
+    var documentationUnitsPage = documentationUnitRepository.findLiteratureOverview(
+      specification,
+      pageable
+    );
+    return PageTransformer.transform(documentationUnitsPage, row ->
+      new LiteratureDocumentationUnitOverviewElement(
+        row.id(),
+        row.documentNumber(),
+        row.veroeffentlichungsjahr(),
+        Objects.requireNonNullElse(row.dokumenttypen(), List.of()),
+        row.hauptsachtitel(),
+        row.dokumentarischerTitel()
+      )
+    );
   }
 
-  private List<String> splitBySeparator(String value) {
-    String[] separatedValues = StringUtils.splitByWholeSeparator(value, ENTRY_SEPARATOR);
-    return separatedValues != null ? List.of(separatedValues) : List.of();
+  private static Pageable toPageable(QueryOptions queryOptions) {
+    Sort sort = Sort.by(queryOptions.sortDirection(), queryOptions.sortByProperty());
+    return queryOptions.usePagination()
+      ? PageRequest.of(queryOptions.pageNumber(), queryOptions.pageSize(), sort)
+      : Pageable.unpaged(sort);
   }
 
   /**
    * Execute indexing of all documentation units without documentation unit index.
    * <p>
-   * The method selects all documentation units which are unindexed in batches and extracts
-   * the needed data for the index in parallel. Exceptions during the extraction
-   * are ignored. After extraction a new instance of {@link DocumentationUnitIndexEntity} is
-   * created and saved.
+   * The documentation units are indexed in chunks by {@link DocumentationUnitBatchIndexer}.
+   * Exceptions during the extraction are ignored. After extraction a new instance of
+   * {@link DocumentationUnitIndexEntity} is created and saved.
    * </p>
    * <p>
    * <b>NOTE:</b>This method guarantees that an index is created for each documentation unit
@@ -227,179 +316,55 @@ public class DocumentationUnitPersistenceService {
    * @return Number of indexed documents
    */
   public long indexAll() {
-    PageRequest pageable = PageRequest.of(0, INDEX_BATCH_SIZE);
-    long totalNumberOfElements = 0;
-    int pageNumber = 0;
-    Slice<DocumentationUnitEntity> documentationUnitEntities;
     log.info(
       "Found {} documentation units without index.",
       documentationUnitRepository.countByDocumentationUnitIndexIsNull()
     );
-    do {
-      // Note that we always select the first page (0) because the algorithm is changing the selection result
-      // and breaks linear paging.
-      documentationUnitEntities =
-        documentationUnitRepository.findByDocumentationUnitIndexIsNullOrderByDocumentNumberDesc(
-          pageable
-        );
-      List<DocumentationUnitIndexEntity> documentationUnitIndexEntities = documentationUnitEntities
-        .stream()
-        .parallel()
-        .map(this::createIndexSafely)
-        .map(this::mapDocumentationUnitIndex)
-        .toList();
-      documentationUnitIndexRepository.saveAll(documentationUnitIndexEntities);
-      totalNumberOfElements += documentationUnitEntities.getNumberOfElements();
-      log.info(
-        "Indexing {} documentation units, page {}. Sum: {}.",
-        documentationUnitEntities.getNumberOfElements(),
-        pageNumber++,
-        totalNumberOfElements
-      );
-    } while (documentationUnitEntities.hasNext());
-    return totalNumberOfElements;
+    return documentationUnitBatchIndexer.indexAll();
   }
 
-  private DocumentationUnitIndexEntity mapDocumentationUnitIndex(
-    DocumentationUnitIndex documentationUnitIndex
-  ) {
-    DocumentationUnitIndexEntity documentationUnitIndexEntity =
-      documentationUnitIndex.documentationUnitEntity.getDocumentationUnitIndex();
-    if (documentationUnitIndexEntity == null) {
-      // New entry for created or imported documents
-      documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
-      documentationUnitIndexEntity.setDocumentationUnit(
-        documentationUnitIndex.documentationUnitEntity
+  /**
+   * Drains the index queue in batches, see {@link DocumentationUnitIndexQueueService}. Entries
+   * within the debounce window of {@link AutosaveIndexer} are left for a later run.
+   *
+   * @return Number of processed queue entries
+   */
+  public long processIndexQueue() {
+    Instant dueBefore = autosaveIndexer.dueBefore();
+    long totalNumberOfElements = 0;
+    int numberOfElements;
+    do {
+      numberOfElements = documentationUnitIndexQueueService.processBatch(
+        INDEX_BATCH_SIZE,
+        dueBefore
       );
-    }
-    documentationUnitIndexEntity.setDocumentationUnitType(
-      documentationUnitIndex.getDocumentationUnitType()
-    );
-    documentationUnitIndexEntity.setDocumentationOffice(
-      documentationUnitIndex.getDocumentationOffice()
-    );
-    documentationUnitIndexEntity.setLangueberschrift(documentationUnitIndex.getLangueberschrift());
-    documentationUnitIndexEntity.setFundstellen(documentationUnitIndex.getFundstellen());
-    documentationUnitIndexEntity.setZitierdaten(documentationUnitIndex.getZitierdaten());
-    return documentationUnitIndexEntity;
+      totalNumberOfElements += numberOfElements;
+    } while (numberOfElements > 0);
+    return totalNumberOfElements;
   }
 
-  private DocumentationUnitIndex createIndexSafely(
-    DocumentationUnitEntity documentationUnitEntity
-  ) {
-    try {
-      return createIndex(documentationUnitEntity);
-    } catch (Exception e) {
-      log.warn(
-        "Could not index documentation unit {}. Reason: {}.",
-        documentationUnitEntity.getDocumentNumber(),
-        e.getMessage()
-      );
-      log.debug("Stacktrace:", e);
-    }
-    // We save an empty entry so the document still appears on overview page
-    DocumentationUnitIndex fallbackIndex = new DocumentationUnitIndex(documentationUnitEntity);
-    fallbackIndex.setDocumentationUnitType(documentationUnitEntity.getDocumentationUnitType());
-    fallbackIndex.setDocumentationOffice(documentationUnitEntity.getDocumentationOffice());
-    // Content fields (langueberschrift, etc.) remain null as intended on error
-    return fallbackIndex;
+  /**
+   * Adds all documentation units with an outdated or failed index to the index queue.
+   *
+   * @return Number of added documentation units
+   */
+  public int enqueueOutdatedIndexes() {
+    int numberOfElements = documentationUnitIndexQueueService.enqueueOutdated();
+    log.info("Added {} documentation units with outdated index to index queue.", numberOfElements);
+    return numberOfElements;
   }
 
-  private DocumentationUnitIndex createIndex(
-    @Nonnull DocumentationUnitEntity documentationUnitEntity
-  ) {
-    DocumentationUnitIndex documentationUnitIndex = new DocumentationUnitIndex(
-      documentationUnitEntity
-    );
-    documentationUnitIndex.setDocumentationUnitType(
-      documentationUnitEntity.getDocumentationUnitType()
-    );
-    documentationUnitIndex.setDocumentationOffice(documentationUnitEntity.getDocumentationOffice());
-    if (documentationUnitEntity.isEmpty()) {
-      // We save an empty entry so the document still appears on overview page
-      return documentationUnitIndex;
-    }
-    if (documentationUnitEntity.getJson() == null && documentationUnitEntity.getXml() != null) {
-      // Published documentation unit, there is only xml
-      var documentationUnitContent = ldmlConverterService.convertToBusinessModel(
-        new DocumentationUnit(
-          documentationUnitEntity.getDocumentNumber(),
-          documentationUnitEntity.getId(),
-          null,
-          documentationUnitEntity.getXml()
-        )
-      );
-      documentationUnitIndex = createDocumentationUnitIndex(
-        documentationUnitEntity,
-        documentationUnitContent
-      );
-    } else if (documentationUnitEntity.getJson() != null) {
-      // Draft documentation unit, there is json
-      AdmDocumentationUnitContent admDocumentationUnitContent = transformJson(
-        documentationUnitEntity.getJson()
-      );
-      documentationUnitIndex = createDocumentationUnitIndex(
-        documentationUnitEntity,
-        admDocumentationUnitContent
-      );
+  private void reindex(DocumentationUnitEntity documentationUnitEntity) {
+    DocumentationUnitIndexEntity documentationUnitIndexEntity =
+      documentationUnitIndexer.indexSafely(documentationUnitEntity);
+    documentationUnitIndexRepository.save(documentationUnitIndexEntity);
+    if (documentationUnitIndexEntity.getContentHash() == null) {
+      // Indexing failed, try again later
+      documentationUnitIndexQueueRepository.enqueue(documentationUnitEntity.getId());
     }
-    return documentationUnitIndex;
-  }
-
-  private DocumentationUnitIndex createDocumentationUnitIndex(
-    DocumentationUnitEntity documentationUnitEntity,
-    AdmDocumentationUnitContent admDocumentationUnitContent
-  ) {
-    DocumentationUnitIndex documentationUnitIndex = new DocumentationUnitIndex(
-      documentationUnitEntity
-    );
-    documentationUnitIndex.setDocumentationUnitType(
-      documentationUnitEntity.getDocumentationUnitType()
+    log.info(
+      "Re-indexed documentation unit with document number: {}.",
+      documentationUnitEntity.getDocumentNumber()
     );
-    documentationUnitIndex.setDocumentationOffice(documentationUnitEntity.getDocumentationOffice());
-    documentationUnitIndex.setLangueberschrift(admDocumentationUnitContent.langueberschrift());
-    if (admDocumentationUnitContent.fundstellen() != null) {
-      documentationUnitIndex.setFundstellen(
-        admDocumentationUnitContent
-          .fundstellen()
-          .stream()
-          .map(
-            f ->
-              (f.ambiguousPeriodikum() != null
-                  ? f.ambiguousPeriodikum()
-                  : f.periodikum().abbreviation()) +
-              " " +
-              f.zitatstelle()
-          )
-          .collect(Collectors.joining(ENTRY_SEPARATOR))
-      );
-    }
-    if (admDocumentationUnitContent.zitierdaten() != null) {
-      documentationUnitIndex.setZitierdaten(
-        String.join(ENTRY_SEPARATOR, admDocumentationUnitContent.zitierdaten())
-      );
-    }
-    return documentationUnitIndex;
-  }
-
-  private AdmDocumentationUnitContent transformJson(@Nonnull String json) {
-    try {
-      return objectMapper.readValue(json, AdmDocumentationUnitContent.class);
-    } catch (JacksonException e) {
-      throw new IllegalStateException("Exception during transforming json: " + json, e);
-    }
-  }
-
-  @Data
-  @AllArgsConstructor
-  @RequiredArgsConstructor
-  private static class DocumentationUnitIndex {
-
-    private final DocumentationUnitEntity documentationUnitEntity;
-    private DocumentCategory documentationUnitType;
-    private DocumentationOffice documentationOffice;
-    private String langueberschrift;
-    private String fundstellen;
-    private String zitierdaten;
   }
 }
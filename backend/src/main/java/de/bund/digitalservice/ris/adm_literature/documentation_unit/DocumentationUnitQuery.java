@@ -6,16 +6,44 @@ import jakarta.annotation.Nonnull;
 /**
  * Field of law query.
  *
- * @param documentNumber DocumentNumber to search for
+ * @param documentNumber   DocumentNumber to search for
  * @param langueberschrift Langueberschrift to search for
- * @param fundstellen Fundstellen to search for
- * @param zitierdaten Zitierdaten to search for
- * @param queryOptions Page query options
+ * @param fundstellen      Fundstellen to search for
+ * @param zitierdaten      Zitierdatum, month ({@code yyyy-MM}) or year ({@code yyyy}) to search for
+ * @param fundstellenMatch How the fundstellen are matched
+ * @param queryOptions     Page query options
  */
 public record DocumentationUnitQuery(
   String documentNumber,
   String langueberschrift,
   String fundstellen,
   String zitierdaten,
+  @Nonnull EntryMatch fundstellenMatch,
   @Nonnull QueryOptions queryOptions
-) {}
+) {
+  /**
+   * Creates a query, which matches fundstellen containing the given term.
+   *
+   * @param documentNumber   DocumentNumber to search for
+   * @param langueberschrift Langueberschrift to search for
+   * @param fundstellen      Fundstellen to search for
+   * @param zitierdaten      Zitierdatum, month or year to search for
+   * @param queryOptions     Page query options
+   */
+  public DocumentationUnitQuery(
+    String documentNumber,
+    String langueberschrift,
+    String fundstellen,
+    String zitierdaten,
+    @Nonnull QueryOptions queryOptions
+  ) {
+    this(
+      documentNumber,
+      langueberschrift,
+      fundstellen,
+      zitierdaten,
+      EntryMatch.CONTAINS,
+      queryOptions
+    );
+  }
+}
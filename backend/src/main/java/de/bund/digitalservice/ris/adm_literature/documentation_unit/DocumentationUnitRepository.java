@@ -1,25 +1,69 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface DocumentationUnitRepository
   extends
     JpaRepository<DocumentationUnitEntity, UUID>,
-    JpaSpecificationExecutor<DocumentationUnitEntity> {
+    JpaSpecificationExecutor<DocumentationUnitEntity>,
+    DocumentationUnitOverviewRepository {
   @EntityGraph(attributePaths = "documentationUnitIndex")
   Optional<DocumentationUnitEntity> findByDocumentNumber(@Nonnull String documentNumber);
 
+  @Query(
+    """
+    SELECT new de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentationUnitVersion(
+      d.version, CASE WHEN d.json IS NULL AND d.xml IS NOT NULL THEN true ELSE false END
+    )
+    FROM DocumentationUnitEntity d
+    WHERE d.documentNumber = :documentNumber
+    """
+  )
+  Optional<DocumentationUnitVersion> findVersionByDocumentNumber(
+    @Param("documentNumber") String documentNumber
+  );
+
+  @EntityGraph(attributePaths = "documentationUnitIndex")
+  List<DocumentationUnitEntity> findByDocumentationUnitIndexIsNullOrderByDocumentNumberDesc(
+    Limit limit
+  );
+
   @EntityGraph(attributePaths = "documentationUnitIndex")
-  Slice<DocumentationUnitEntity> findByDocumentationUnitIndexIsNullOrderByDocumentNumberDesc(
-    Pageable pageable
+  List<
+    DocumentationUnitEntity
+  > findByDocumentationUnitIndexIsNullAndDocumentNumberLessThanOrderByDocumentNumberDesc(
+    String documentNumber,
+    Limit limit
   );
 
   long countByDocumentationUnitIndexIsNull();
+
+  @EntityGraph(attributePaths = "documentationUnitIndex")
+  List<DocumentationUnitEntity> findByIdIn(Collection<UUID> ids);
+
+  @Query(
+    """
+    SELECT d.documentNumber
+    FROM DocumentationUnitEntity d
+    WHERE d.documentationOffice = :documentationOffice
+      AND d.documentationUnitType = :documentationUnitType
+      AND d.xml IS NOT NULL
+    ORDER BY d.documentNumber
+    """
+  )
+  List<String> findPublishedDocumentNumbers(
+    @Param("documentationOffice") DocumentationOffice documentationOffice,
+    @Param("documentationUnitType") DocumentCategory documentationUnitType
+  );
 }
@@ -8,16 +8,20 @@ import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.bu
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.IDocumentationContent;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.SliDocumentationUnitContent;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.UliDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publication;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublicationOutboxService;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publisher;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import jakarta.annotation.Nonnull;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 
 /**
@@ -33,10 +37,13 @@ public class DocumentationUnitService {
   private final LdmlPublishConverterService ldmlPublishConverterService;
   private final ObjectMapper objectMapper;
   private final Publisher publisher;
+  private final PublicationOutboxService publicationOutboxService;
+  private final ConvertedJsonCache convertedJsonCache;
 
   /**
    * Finds a DocumentationUnit by its document number.
-   * If the found unit exists with XML but no JSON, it is converted before being returned.
+   * If the found unit exists with XML but no JSON, it is converted before being returned. The
+   * converted JSON is cached as long as the XML does not change.
    *
    * @param documentNumber The document number to search for.
    * @return An {@link Optional} containing the DocumentationUnit, or an empty Optional if not found.
@@ -57,9 +64,11 @@ public class DocumentationUnitService {
   }
 
   private Optional<DocumentationUnit> convertLdml(DocumentationUnit documentationUnit) {
-    var documentationUnitContent = ldmlConverterService.convertToBusinessModel(documentationUnit);
-    String json = convertToJson(documentationUnitContent);
-    return Optional.of(new DocumentationUnit(documentationUnit, json));
+    String conversion = convertedJsonCache.conversion();
+    String json = convertedJsonCache.get(documentationUnit, () ->
+      convertToJson(ldmlConverterService.convertToBusinessModel(documentationUnit))
+    );
+    return Optional.of(new DocumentationUnit(documentationUnit, json, conversion));
   }
 
   private String convertToJson(IDocumentationContent iDocumentationContent) {
@@ -74,14 +83,102 @@ public class DocumentationUnitService {
     return documentationUnitPersistenceService.create(documentCategory);
   }
 
+  /**
+   * Finds the ETag of a DocumentationUnit without loading and converting its content, e.g. to
+   * answer a conditional request. The ETag of a converted DocumentationUnit also contains the
+   * conversion, as the json changes with the conversion even if the DocumentationUnit does not.
+   *
+   * @param documentNumber The document number to search for.
+   * @return An {@link Optional} containing the quoted ETag, or an empty Optional if not found.
+   */
+  public Optional<String> findETag(@Nonnull String documentNumber) {
+    return documentationUnitPersistenceService
+      .findVersionByDocumentNumber(documentNumber)
+      .map(version ->
+        DocumentationUnitETags.of(
+          version.version(),
+          version.converted() ? convertedJsonCache.conversion() : null
+        )
+      );
+  }
+
   public Optional<DocumentationUnit> update(@Nonnull String documentNumber, @Nonnull String json) {
-    return Optional.ofNullable(documentationUnitPersistenceService.update(documentNumber, json));
+    return update(documentNumber, json, null);
+  }
+
+  /**
+   * Updates a DocumentationUnit, if it has the expected version.
+   *
+   * @param documentNumber  The document number of the unit to update.
+   * @param json            The new content for the unit.
+   * @param expectedVersion The expected current version, {@code null} to update unconditionally.
+   * @return An {@link Optional} with the updated unit, or empty if the document number was not found.
+   * @throws VersionConflictException if the unit does not have the expected version.
+   */
+  public Optional<DocumentationUnit> update(
+    @Nonnull String documentNumber,
+    @Nonnull String json,
+    Long expectedVersion
+  ) {
+    return Optional.ofNullable(
+      documentationUnitPersistenceService.update(documentNumber, json, expectedVersion)
+    );
+  }
+
+  /**
+   * Applies a patch to the JSON of a DocumentationUnit. For a published unit without JSON, the
+   * patch is applied to the JSON converted from its XML.
+   * <p>
+   * If the patch does not change the JSON, nothing is written. If it does not change any indexed
+   * property, the index is not re-calculated. The update is based on the version the patch has
+   * been applied to, so a concurrent update is not overwritten.
+   * </p>
+   *
+   * @param documentNumber  The document number of the unit to patch.
+   * @param patch           Applies the patch to the current JSON and returns the patched copy.
+   * @param expectedVersion The expected current version, {@code null} to patch unconditionally.
+   * @return An {@link Optional} with the patched unit, or empty if the document number was not found.
+   * @throws VersionConflictException if the unit does not have the expected version.
+   * @throws InvalidPatchException    if the patch cannot be applied.
+   */
+  public Optional<DocumentationUnit> patch(
+    @Nonnull String documentNumber,
+    @Nonnull UnaryOperator<JsonNode> patch,
+    Long expectedVersion
+  ) {
+    Optional<DocumentationUnit> optionalDocumentationUnit = findByDocumentNumber(documentNumber);
+    if (optionalDocumentationUnit.isEmpty()) {
+      return Optional.empty();
+    }
+    DocumentationUnit documentationUnit = optionalDocumentationUnit.get();
+    if (expectedVersion != null && !expectedVersion.equals(documentationUnit.version())) {
+      throw new VersionConflictException(documentNumber, documentationUnit.version());
+    }
+    JsonNode json = documentationUnit.json() != null
+      ? objectMapper.readTree(documentationUnit.json())
+      : objectMapper.createObjectNode();
+    JsonNode patchedJson = patch.apply(json);
+    if (patchedJson.equals(json)) {
+      log.debug("Patch does not change documentation unit {}.", documentNumber);
+      return optionalDocumentationUnit;
+    }
+    return Optional.ofNullable(
+      documentationUnitPersistenceService.update(
+        documentNumber,
+        patchedJson.toString(),
+        documentationUnit.version(),
+        DocumentationUnitIndexer.isIndexAffected(json, patchedJson)
+      )
+    );
   }
 
   /**
    * Updates and publishes a DocumentationUnit with new content.
    * <p>
-   * The update is persisted to the database and then published to an external bucket.
+   * The content is validated against the schema of the target bucket, the update is persisted to
+   * the database and the publication is added to the publication outbox. The publication to the
+   * external bucket is done asynchronously by the {@code PublicationOutboxJob}, so the
+   * transaction does not depend on the availability of the bucket.
    * The {@link UserDocumentDetails} decide to which bucket to publish (to be implemented):
    * {@code UserDocumentDetails details = (UserDocumentDetails) authentication.getPrincipal()}
    * This entire operation is transactional and will be rolled back if any step fails.
@@ -121,13 +218,20 @@ public class DocumentationUnitService {
         yield optionalDocumentationUnit;
       }
       case AdmDocumentationUnitContent adm -> {
+        var publicationDetails = new Publisher.PublicationDetails(
+          documentNumber,
+          xml,
+          DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+        );
+        // Validate before persisting, so an invalid document is rejected immediately
+        publisher.validate(publicationDetails);
         String json = convertToJson(adm);
         DocumentationUnit publishedDocumentationUnit = documentationUnitPersistenceService.publish(
           documentNumber,
           json,
           xml
         );
-        publishToPortal(documentNumber, xml, DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+        publicationOutboxService.enqueue(publicationDetails);
         yield convertLdml(publishedDocumentationUnit);
       }
       default -> throw new IllegalStateException(
@@ -141,8 +245,23 @@ public class DocumentationUnitService {
     String xml,
     DocumentCategory documentCategory
   ) {
-    var publishOptions = new Publisher.PublicationDetails(documentNumber, xml, documentCategory);
-    publisher.publish(publishOptions);
+    var publicationDetails = new Publisher.PublicationDetails(
+      documentNumber,
+      xml,
+      documentCategory
+    );
+    publisher.validate(publicationDetails);
+    publicationOutboxService.enqueue(publicationDetails);
+  }
+
+  /**
+   * Returns the status of the latest publication of a documentation unit.
+   *
+   * @param documentNumber The document number of the documentation unit
+   * @return The latest publication, or empty if the documentation unit has never been published
+   */
+  public Optional<Publication> findPublication(@Nonnull String documentNumber) {
+    return publicationOutboxService.findLatest(documentNumber);
   }
 
   public Page<DocumentationUnitOverviewElement> findDocumentationUnitOverviewElements(
@@ -150,4 +269,18 @@ public class DocumentationUnitService {
   ) {
     return documentationUnitPersistenceService.findDocumentationUnitOverviewElements(queryOptions);
   }
+
+  /**
+   * Returns paginated literature documentation units overview elements.
+   *
+   * @param query The query
+   * @return Page object with literature documentation unit overview elements and pagination data
+   */
+  public Page<LiteratureDocumentationUnitOverviewElement> findLiteratureDocumentationUnitOverviewElements(
+    @Nonnull LiteratureDocumentationUnitQuery query
+  ) {
+    return documentationUnitPersistenceService.findLiteratureDocumentationUnitOverviewElements(
+      query
+    );
+  }
 }
@@ -0,0 +1,11 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+/**
+ * Projection of the version of a documentation unit, for answering a conditional request without
+ * loading its content.
+ *
+ * @param version   The version of the documentation unit
+ * @param converted {@code true} if the documentation unit only has xml, which is converted to json
+ *                  when it is loaded
+ */
+public record DocumentationUnitVersion(long version, boolean converted) {}
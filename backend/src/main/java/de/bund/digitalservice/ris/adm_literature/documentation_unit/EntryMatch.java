@@ -0,0 +1,22 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+/**
+ * How a search term is matched against the individual entries of an indexed list, e.g. the
+ * fundstellen. All matching ignores case.
+ */
+public enum EntryMatch {
+  /**
+   * An entry contains the term.
+   */
+  CONTAINS,
+
+  /**
+   * An entry starts with the term.
+   */
+  PREFIX,
+
+  /**
+   * An entry equals the term.
+   */
+  EXACT,
+}
@@ -0,0 +1,36 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import jakarta.annotation.Nonnull;
+
+/**
+ * A strategy for extracting the {@link DocumentationUnitIndexFields} of the documentation units
+ * of certain document categories.
+ */
+interface IndexFieldExtractionStrategy {
+  /**
+   * Checks if this strategy can handle documentation units of the given document category.
+   *
+   * @param documentCategory The document category to check
+   * @return {@code true} if this strategy supports the document category, {@code false} otherwise
+   */
+  boolean supports(DocumentCategory documentCategory);
+
+  /**
+   * Extracts the index fields of the json of a draft documentation unit.
+   *
+   * @param json The json of a documentation unit
+   * @return The index fields
+   * @throws IllegalStateException if the json cannot be read
+   */
+  DocumentationUnitIndexFields extractFromJson(@Nonnull String json);
+
+  /**
+   * Extracts the index fields of the LDML of a published documentation unit.
+   *
+   * @param xml The LDML of a documentation unit
+   * @return The index fields
+   * @throws IllegalStateException if the xml cannot be read
+   */
+  DocumentationUnitIndexFields extractFromLdml(@Nonnull String xml);
+}
@@ -0,0 +1,89 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.annotation.Nonnull;
+import java.io.StringReader;
+import java.util.List;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+
+/**
+ * Reading helpers shared by the json and LDML index field extractors of all document categories.
+ * <p>
+ * All LDML is read with the same {@link XMLInputFactory}, which does not support DTDs and external
+ * entities, so reading the xml of a documentation unit never resolves anything outside of it.
+ * </p>
+ */
+final class IndexFieldReaders {
+
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+  private IndexFieldReaders() {}
+
+  /**
+   * Creates a StAX reader of the given xml. The reader must be closed with
+   * {@link #close(XMLStreamReader)}.
+   *
+   * @param xml The xml to read
+   * @return The reader
+   * @throws XMLStreamException if the reader cannot be created
+   */
+  static XMLStreamReader createXmlStreamReader(@Nonnull String xml) throws XMLStreamException {
+    return XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(xml));
+  }
+
+  /**
+   * Closes the given StAX reader, if any.
+   *
+   * @param reader The reader, can be {@code null}
+   */
+  static void close(XMLStreamReader reader) {
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (XMLStreamException _) {
+      // Nothing to release for a string reader
+    }
+  }
+
+  /**
+   * Reads a value, which should have been a list, e.g. {@code null}. Binding would fail for any
+   * other value.
+   *
+   * @param parser The parser positioned at the value
+   * @return {@code null}
+   * @throws IllegalStateException if the value is not {@code null}
+   */
+  static List<String> readNoList(JsonParser parser) {
+    if (parser.currentToken() != JsonToken.VALUE_NULL) {
+      throw new IllegalStateException("Value is not a list: " + parser.currentToken());
+    }
+    return null;
+  }
+
+  /**
+   * Reads a scalar value as string. An object or array is skipped, binding would ignore it.
+   *
+   * @param parser The parser positioned at the value
+   * @return The value as string, {@code null} for an object or array
+   */
+  static String readScalar(JsonParser parser) {
+    if (parser.currentToken().isStructStart()) {
+      parser.skipChildren();
+      return null;
+    }
+    return parser.getValueAsString();
+  }
+
+  private static XMLInputFactory createXmlInputFactory() {
+    XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+    xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+    return xmlInputFactory;
+  }
+}
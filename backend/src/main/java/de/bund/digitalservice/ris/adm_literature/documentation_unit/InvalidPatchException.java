@@ -0,0 +1,22 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+
+/**
+ * Exception for a patch, which cannot be applied to a documentation unit, e.g. because a path does
+ * not exist or a {@code test} operation failed.
+ * <p>
+ * Results in an HTTP 422 (Unprocessable Content) response.
+ */
+public class InvalidPatchException extends ErrorResponseException {
+
+  public InvalidPatchException(String message) {
+    super(
+      HttpStatus.UNPROCESSABLE_CONTENT,
+      ProblemDetail.forStatusAndDetail(HttpStatus.UNPROCESSABLE_CONTENT, message),
+      null
+    );
+  }
+}
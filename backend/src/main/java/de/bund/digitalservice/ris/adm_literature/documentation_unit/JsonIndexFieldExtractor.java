@@ -0,0 +1,123 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.IndexFieldReaders.readNoList;
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.IndexFieldReaders.readScalar;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Extracts the {@link DocumentationUnitIndexFields} from the json of a draft documentation unit.
+ * <p>
+ * The json is read with a streaming parser, only the indexed properties are read and all other
+ * subtrees (fields of law, normgeber, citations, ...) are skipped without binding them. The
+ * result is the same as binding the json to {@code AdmDocumentationUnitContent} and calling
+ * {@link DocumentationUnitIndexFields#of}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+class JsonIndexFieldExtractor {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Extracts the index fields of the given json.
+   *
+   * @param json The json of a documentation unit
+   * @return The index fields
+   * @throws IllegalStateException if the json cannot be read
+   */
+  DocumentationUnitIndexFields extract(@Nonnull String json) {
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Json is not an object: " + json);
+      }
+      String langueberschrift = null;
+      List<String> fundstellen = null;
+      List<String> zitierdaten = null;
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        JsonToken token = parser.nextToken();
+        switch (name) {
+          case "langueberschrift" -> langueberschrift = readScalar(parser);
+          case "fundstellen" -> fundstellen = token == JsonToken.START_ARRAY
+            ? readFundstellen(parser)
+            : readNoList(parser);
+          case "zitierdaten" -> zitierdaten = token == JsonToken.START_ARRAY
+            ? readStrings(parser)
+            : readNoList(parser);
+          default -> parser.skipChildren();
+        }
+      }
+      return new DocumentationUnitIndexFields(langueberschrift, fundstellen, zitierdaten);
+    } catch (JacksonException e) {
+      throw new IllegalStateException("Exception during extracting index fields from json", e);
+    }
+  }
+
+  private static List<String> readStrings(JsonParser parser) {
+    List<String> strings = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      strings.add(readScalar(parser));
+    }
+    return strings;
+  }
+
+  private static List<String> readFundstellen(JsonParser parser) {
+    List<String> fundstellen = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Fundstelle is not an object.");
+      }
+      String zitatstelle = null;
+      String periodikum = null;
+      String ambiguousPeriodikum = null;
+      boolean hasPeriodikum = false;
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        JsonToken token = parser.nextToken();
+        switch (name) {
+          case "zitatstelle" -> zitatstelle = readScalar(parser);
+          case "ambiguousPeriodikum" -> ambiguousPeriodikum = readScalar(parser);
+          case "periodikum" -> {
+            hasPeriodikum = token == JsonToken.START_OBJECT;
+            periodikum = hasPeriodikum ? readAbbreviation(parser) : readScalar(parser);
+          }
+          default -> parser.skipChildren();
+        }
+      }
+      if (ambiguousPeriodikum == null && !hasPeriodikum) {
+        throw new IllegalStateException("Fundstelle has no periodikum.");
+      }
+      fundstellen.add(
+        DocumentationUnitIndexFields.fundstelle(
+          ambiguousPeriodikum != null ? ambiguousPeriodikum : periodikum,
+          zitatstelle
+        )
+      );
+    }
+    return fundstellen;
+  }
+
+  private static String readAbbreviation(JsonParser parser) {
+    String abbreviation = null;
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      String name = parser.currentName();
+      parser.nextToken();
+      if ("abbreviation".equals(name)) {
+        abbreviation = readScalar(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return abbreviation;
+  }
+}
@@ -0,0 +1,92 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.IndexFieldReaders.readNoList;
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.IndexFieldReaders.readScalar;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Extracts the {@link DocumentationUnitIndexFields} from the json of a draft literature
+ * documentation unit (ULI or SLI).
+ * <p>
+ * The json is read with a streaming parser, only the indexed properties are read and all other
+ * subtrees are skipped without binding them. The result is the same as binding the json to
+ * {@code UliDocumentationUnitContent} or {@code SliDocumentationUnitContent} and calling
+ * {@link DocumentationUnitIndexFields#of}.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+class JsonLiteratureIndexFieldExtractor {
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * Extracts the index fields of the given json.
+   *
+   * @param json The json of a literature documentation unit
+   * @return The index fields
+   * @throws IllegalStateException if the json cannot be read
+   */
+  DocumentationUnitIndexFields extract(@Nonnull String json) {
+    try (JsonParser parser = objectMapper.createParser(json)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Json is not an object: " + json);
+      }
+      String hauptsachtitel = null;
+      String dokumentarischerTitel = null;
+      String veroeffentlichungsjahr = null;
+      List<String> dokumenttypen = null;
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        JsonToken token = parser.nextToken();
+        switch (name) {
+          case "hauptsachtitel" -> hauptsachtitel = readScalar(parser);
+          case "dokumentarischerTitel" -> dokumentarischerTitel = readScalar(parser);
+          case "veroeffentlichungsjahr" -> veroeffentlichungsjahr = readScalar(parser);
+          case "dokumenttypen" -> dokumenttypen = token == JsonToken.START_ARRAY
+            ? readAbbreviations(parser)
+            : readNoList(parser);
+          default -> parser.skipChildren();
+        }
+      }
+      return DocumentationUnitIndexFields.literature(
+        hauptsachtitel,
+        dokumentarischerTitel,
+        veroeffentlichungsjahr,
+        dokumenttypen
+      );
+    } catch (JacksonException e) {
+      throw new IllegalStateException("Exception during extracting index fields from json", e);
+    }
+  }
+
+  private static List<String> readAbbreviations(JsonParser parser) {
+    List<String> abbreviations = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (parser.currentToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Dokumenttyp is not an object.");
+      }
+      String abbreviation = null;
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        String name = parser.currentName();
+        parser.nextToken();
+        if ("abbreviation".equals(name)) {
+          abbreviation = readScalar(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      abbreviations.add(abbreviation);
+    }
+    return abbreviations;
+  }
+}
@@ -0,0 +1,181 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.annotation.Nonnull;
+import java.util.Map;
+import tools.jackson.core.JsonPointer;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies JSON Patch (RFC 6902) and JSON Merge Patch (RFC 7396) documents to the json of
+ * documentation units.
+ * <p>
+ * The target is never modified, the patch is applied to a copy. If an operation cannot be applied,
+ * an {@link InvalidPatchException} is thrown and no operation of the patch takes effect.
+ * </p>
+ */
+final class JsonPatches {
+
+  /**
+   * Media type of a JSON Patch (RFC 6902).
+   */
+  static final String JSON_PATCH_MEDIA_TYPE = "application/json-patch+json";
+
+  /**
+   * Media type of a JSON Merge Patch (RFC 7396).
+   */
+  static final String MERGE_PATCH_MEDIA_TYPE = "application/merge-patch+json";
+
+  private JsonPatches() {}
+
+  /**
+   * Applies the given JSON Merge Patch to the given target.
+   *
+   * @param target The json to patch
+   * @param patch  The merge patch
+   * @return The patched copy of the target
+   * @throws InvalidPatchException if the patch is not an object, as the json of a documentation
+   *                               unit must stay an object
+   */
+  static JsonNode applyMergePatch(JsonNode target, @Nonnull JsonNode patch) {
+    if (!patch.isObject()) {
+      throw new InvalidPatchException("A JSON merge patch must be an object.");
+    }
+    return merge(target, patch);
+  }
+
+  private static JsonNode merge(JsonNode target, JsonNode patch) {
+    if (!patch.isObject()) {
+      return patch.deepCopy();
+    }
+    ObjectNode result = target != null && target.isObject()
+      ? (ObjectNode) target.deepCopy()
+      : JsonNodeFactory.instance.objectNode();
+    for (Map.Entry<String, JsonNode> property : patch.properties()) {
+      if (property.getValue().isNull()) {
+        result.remove(property.getKey());
+      } else {
+        result.set(
+          property.getKey(),
+          merge(result.get(property.getKey()), property.getValue())
+        );
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Applies the given JSON Patch to the given target.
+   *
+   * @param target The json to patch
+   * @param patch  The patch, an array of operations
+   * @return The patched copy of the target
+   * @throws InvalidPatchException if the patch is malformed or an operation cannot be applied
+   */
+  static JsonNode applyJsonPatch(@Nonnull JsonNode target, @Nonnull JsonNode patch) {
+    if (!patch.isArray()) {
+      throw new InvalidPatchException("A JSON patch must be an array of operations.");
+    }
+    JsonNode result = target.deepCopy();
+    for (JsonNode operation : patch) {
+      JsonPointer path = pointer(operation, "path");
+      result = switch (member(operation, "op").stringValue()) {
+        case "add" -> add(result, path, member(operation, "value"));
+        case "remove" -> remove(result, path);
+        case "replace" -> path.matches()
+          ? member(operation, "value").deepCopy()
+          : add(remove(result, path), path, member(operation, "value"));
+        case "move" -> {
+          JsonPointer from = pointer(operation, "from");
+          if (path.toString().startsWith(from + "/")) {
+            throw new InvalidPatchException("A value cannot be moved into itself: " + path + ".");
+          }
+          JsonNode value = get(result, from);
+          yield add(remove(result, from), path, value);
+        }
+        case "copy" -> add(result, path, get(result, pointer(operation, "from")).deepCopy());
+        case "test" -> {
+          if (!get(result, path).equals(member(operation, "value"))) {
+            throw new InvalidPatchException("Test failed for path " + path + ".");
+          }
+          yield result;
+        }
+        default -> throw new InvalidPatchException("Unknown operation: " + operation + ".");
+      };
+    }
+    return result;
+  }
+
+  private static JsonNode add(JsonNode root, JsonPointer path, JsonNode value) {
+    if (path.matches()) {
+      return value.deepCopy();
+    }
+    JsonNode parent = root.at(path.head());
+    String property = path.last().getMatchingProperty();
+    if (parent instanceof ObjectNode objectNode) {
+      objectNode.set(property, value.deepCopy());
+    } else if (parent instanceof ArrayNode arrayNode) {
+      if ("-".equals(property)) {
+        arrayNode.add(value.deepCopy());
+      } else {
+        arrayNode.insert(index(path, property, arrayNode.size()), value.deepCopy());
+      }
+    } else {
+      throw new InvalidPatchException("Path does not exist: " + path + ".");
+    }
+    return root;
+  }
+
+  private static JsonNode remove(JsonNode root, JsonPointer path) {
+    if (path.matches()) {
+      throw new InvalidPatchException("The root cannot be removed.");
+    }
+    JsonNode parent = root.at(path.head());
+    String property = path.last().getMatchingProperty();
+    if (parent instanceof ObjectNode objectNode && objectNode.has(property)) {
+      objectNode.remove(property);
+    } else if (parent instanceof ArrayNode arrayNode) {
+      arrayNode.remove(index(path, property, arrayNode.size() - 1));
+    } else {
+      throw new InvalidPatchException("Path does not exist: " + path + ".");
+    }
+    return root;
+  }
+
+  private static JsonNode get(JsonNode root, JsonPointer path) {
+    JsonNode node = root.at(path);
+    if (node.isMissingNode()) {
+      throw new InvalidPatchException("Path does not exist: " + path + ".");
+    }
+    return node;
+  }
+
+  private static int index(JsonPointer path, String property, int maxIndex) {
+    // Array indexes are decimal numbers without leading zeros
+    if (property.matches("0|[1-9]\\d{0,8}")) {
+      int index = Integer.parseInt(property);
+      if (index <= maxIndex) {
+        return index;
+      }
+    }
+    throw new InvalidPatchException("Invalid array index in path: " + path + ".");
+  }
+
+  private static JsonPointer pointer(JsonNode operation, String name) {
+    try {
+      return JsonPointer.compile(member(operation, name).stringValue());
+    } catch (IllegalArgumentException _) {
+      throw new InvalidPatchException("Invalid JSON pointer in " + operation + ".");
+    }
+  }
+
+  private static JsonNode member(JsonNode operation, String name) {
+    JsonNode member = operation.get(name);
+    if (member == null || (!"value".equals(name) && !member.isString())) {
+      throw new InvalidPatchException("Missing or invalid '" + name + "' in " + operation + ".");
+    }
+    return member;
+  }
+}
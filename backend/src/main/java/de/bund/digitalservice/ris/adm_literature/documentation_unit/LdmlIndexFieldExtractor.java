@@ -0,0 +1,157 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.XmlNamespace;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Extracts the {@link DocumentationUnitIndexFields} from the LDML (Akoma Ntoso) of a published
+ * documentation unit.
+ * <p>
+ * The xml is read with a StAX reader, without JAXB unmarshalling and without the transformers of
+ * the {@code LdmlConverterService} and their lookup queries. The result is the same as converting
+ * the xml to the business model and calling {@link DocumentationUnitIndexFields#of}:
+ * </p>
+ * <ul>
+ *   <li>langueberschrift: the text of {@code preface/longTitle/block}</li>
+ *   <li>fundstellen: {@code shortForm} and the rest of {@code showAs} of each
+ *   {@code analysis/otherReferences/implicitReference}, which is neither a norm nor a caselaw
+ *   reference. The periodikum is not looked up, because a found periodikum has the
+ *   {@code shortForm} as abbreviation.</li>
+ *   <li>zitierdaten: the {@code ris:dateToQuoteEntry} elements</li>
+ * </ul>
+ */
+@Component
+class LdmlIndexFieldExtractor {
+
+  /**
+   * Extracts the index fields of the given LDML.
+   *
+   * @param xml The LDML of a documentation unit
+   * @return The index fields
+   * @throws IllegalStateException if the xml cannot be read
+   */
+  DocumentationUnitIndexFields extract(@Nonnull String xml) {
+    XMLStreamReader reader = null;
+    try {
+      reader = IndexFieldReaders.createXmlStreamReader(xml);
+      return extract(reader);
+    } catch (XMLStreamException e) {
+      throw new IllegalStateException("Exception during extracting index fields from xml", e);
+    } finally {
+      IndexFieldReaders.close(reader);
+    }
+  }
+
+  private static DocumentationUnitIndexFields extract(XMLStreamReader reader)
+    throws XMLStreamException {
+    String langueberschrift = null;
+    List<String> fundstellen = new ArrayList<>();
+    List<String> zitierdaten = new ArrayList<>();
+    boolean inPreface = false;
+    boolean inLongTitle = false;
+    boolean inOtherReferences = false;
+    ImplicitReference implicitReference = null;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String localName = reader.getLocalName();
+        if (XmlNamespace.AKN_NS.equals(reader.getNamespaceURI())) {
+          switch (localName) {
+            case "preface" -> inPreface = true;
+            case "longTitle" -> inLongTitle = inPreface;
+            case "block" -> {
+              if (inLongTitle && langueberschrift == null) {
+                langueberschrift = readLeadingText(reader);
+              }
+            }
+            case "otherReferences" -> inOtherReferences = true;
+            case "implicitReference" -> {
+              if (inOtherReferences) {
+                implicitReference = new ImplicitReference(
+                  reader.getAttributeValue(null, "shortForm"),
+                  reader.getAttributeValue(null, "showAs")
+                );
+              }
+            }
+            default -> {
+              // Not indexed
+            }
+          }
+        } else if (XmlNamespace.RIS_NS.equals(reader.getNamespaceURI())) {
+          switch (localName) {
+            case "normReference", "caselawReference" -> {
+              if (implicitReference != null) {
+                implicitReference.fundstelle = false;
+              }
+            }
+            case "dateToQuoteEntry" -> zitierdaten.add(reader.getElementText());
+            default -> {
+              // Not indexed
+            }
+          }
+        }
+      } else if (
+        event == XMLStreamConstants.END_ELEMENT &&
+        XmlNamespace.AKN_NS.equals(reader.getNamespaceURI())
+      ) {
+        switch (reader.getLocalName()) {
+          case "preface" -> inPreface = false;
+          case "longTitle" -> inLongTitle = false;
+          case "otherReferences" -> inOtherReferences = false;
+          case "implicitReference" -> {
+            if (implicitReference != null && implicitReference.fundstelle) {
+              fundstellen.add(implicitReference.toIndexEntry());
+            }
+            implicitReference = null;
+          }
+          default -> {
+            // Not indexed
+          }
+        }
+      }
+    }
+    return new DocumentationUnitIndexFields(langueberschrift, fundstellen, zitierdaten);
+  }
+
+  /**
+   * Reads the text at the beginning of the current element, up to its first child element or its
+   * end.
+   */
+  private static String readLeadingText(XMLStreamReader reader) throws XMLStreamException {
+    StringBuilder text = new StringBuilder();
+    int event = reader.next();
+    while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+      if (reader.hasText()) {
+        text.append(reader.getText());
+      }
+      event = reader.next();
+    }
+    return text.isEmpty() ? null : text.toString();
+  }
+
+  private static final class ImplicitReference {
+
+    private final String shortForm;
+    private final String showAs;
+    private boolean fundstelle = true;
+
+    private ImplicitReference(String shortForm, String showAs) {
+      this.shortForm = shortForm;
+      this.showAs = showAs;
+    }
+
+    private String toIndexEntry() {
+      return DocumentationUnitIndexFields.fundstelle(
+        shortForm,
+        StringUtils.substringAfter(showAs, shortForm).trim()
+      );
+    }
+  }
+}
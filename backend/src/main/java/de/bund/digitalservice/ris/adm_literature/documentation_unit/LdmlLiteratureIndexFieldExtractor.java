@@ -0,0 +1,128 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.XmlNamespace;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.util.LiteratureDocumentCategory;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Extracts the {@link DocumentationUnitIndexFields} from the LDML (Akoma Ntoso) of a published
+ * literature documentation unit (ULI or SLI).
+ * <p>
+ * The xml is read with a StAX reader, as written by the {@code LiteratureLdmlConverterStrategy}:
+ * </p>
+ * <ul>
+ *   <li>hauptsachtitel and dokumentarischer Titel: the {@code FRBRWork/FRBRalias} elements named
+ *   {@code haupttitel} and {@code dokumentarischerTitel}</li>
+ *   <li>veroeffentlichungsjahr: the {@code ris:veroeffentlichungsJahr} element, in the ris
+ *   namespace of ULI or SLI</li>
+ *   <li>dokumenttypen: the keywords of the {@code doktyp} classification</li>
+ * </ul>
+ */
+@Component
+class LdmlLiteratureIndexFieldExtractor {
+
+  /**
+   * The ris namespaces of literature, which differ between ULI and SLI.
+   */
+  private static final Set<String> RIS_NAMESPACES = Arrays.stream(
+    LiteratureDocumentCategory.values()
+  )
+    .map(LiteratureDocumentCategory::getNamespace)
+    .collect(Collectors.toUnmodifiableSet());
+
+  /**
+   * Extracts the index fields of the given LDML.
+   *
+   * @param xml The LDML of a literature documentation unit
+   * @return The index fields
+   * @throws IllegalStateException if the xml cannot be read
+   */
+  DocumentationUnitIndexFields extract(@Nonnull String xml) {
+    XMLStreamReader reader = null;
+    try {
+      reader = IndexFieldReaders.createXmlStreamReader(xml);
+      return extract(reader);
+    } catch (XMLStreamException e) {
+      throw new IllegalStateException("Exception during extracting index fields from xml", e);
+    } finally {
+      IndexFieldReaders.close(reader);
+    }
+  }
+
+  private static DocumentationUnitIndexFields extract(XMLStreamReader reader)
+    throws XMLStreamException {
+    String hauptsachtitel = null;
+    String dokumentarischerTitel = null;
+    String veroeffentlichungsjahr = null;
+    List<String> dokumenttypen = new ArrayList<>();
+    boolean inFrbrWork = false;
+    boolean inDoktypClassification = false;
+    while (reader.hasNext()) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        String localName = reader.getLocalName();
+        if (XmlNamespace.AKN_NS.equals(reader.getNamespaceURI())) {
+          switch (localName) {
+            case "FRBRWork" -> inFrbrWork = true;
+            case "FRBRalias" -> {
+              if (inFrbrWork) {
+                String value = reader.getAttributeValue(null, "value");
+                switch (StringUtils.defaultString(reader.getAttributeValue(null, "name"))) {
+                  case "haupttitel" -> hauptsachtitel = value;
+                  case "dokumentarischerTitel" -> dokumentarischerTitel = value;
+                  default -> {
+                    // Not indexed
+                  }
+                }
+              }
+            }
+            case "classification" -> inDoktypClassification = "doktyp".equals(
+              reader.getAttributeValue(null, "source")
+            );
+            case "keyword" -> {
+              if (inDoktypClassification) {
+                dokumenttypen.add(reader.getAttributeValue(null, "value"));
+              }
+            }
+            default -> {
+              // Not indexed
+            }
+          }
+        } else if (
+          RIS_NAMESPACES.contains(reader.getNamespaceURI()) &&
+          "veroeffentlichungsJahr".equals(localName) &&
+          veroeffentlichungsjahr == null
+        ) {
+          veroeffentlichungsjahr = StringUtils.trimToNull(reader.getElementText());
+        }
+      } else if (
+        event == XMLStreamConstants.END_ELEMENT &&
+        XmlNamespace.AKN_NS.equals(reader.getNamespaceURI())
+      ) {
+        switch (reader.getLocalName()) {
+          case "FRBRWork" -> inFrbrWork = false;
+          case "classification" -> inDoktypClassification = false;
+          default -> {
+            // Not indexed
+          }
+        }
+      }
+    }
+    return DocumentationUnitIndexFields.literature(
+      hauptsachtitel,
+      dokumentarischerTitel,
+      veroeffentlichungsjahr,
+      dokumenttypen
+    );
+  }
+}
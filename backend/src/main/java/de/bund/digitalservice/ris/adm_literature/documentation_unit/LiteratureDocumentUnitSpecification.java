@@ -0,0 +1,93 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentUnitSpecification.ESCAPE_CHARACTER;
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentUnitSpecification.entryMatches;
+import static de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentUnitSpecification.sqlContains;
+
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.criteria.*;
+import java.util.ArrayList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+/**
+ * JPA specification for querying literature documentation units by documentNumber, titel,
+ * veroeffentlichungsjahr and dokumenttypen.
+ * <p>
+ *   Like {@link DocumentUnitSpecification}, all predicates have the form
+ *   {@code lower(column) LIKE '%term%'} on the columns of the documentation unit index, which are
+ *   served by the trigram (pg_trgm) GIN indexes (see migrations {@code V1.13} and {@code V1.14}).
+ *   The titel matches the hauptsachtitel or the dokumentarischer Titel, the dokumenttypen match if
+ *   any dokumenttyp contains the term.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class LiteratureDocumentUnitSpecification
+  implements Specification<DocumentationUnitEntity> {
+
+  private final String documentNumber;
+  private final String titel;
+  private final String veroeffentlichungsjahr;
+  private final String dokumenttypen;
+
+  @Override
+  public Predicate toPredicate(
+    @Nonnull Root<DocumentationUnitEntity> root,
+    CriteriaQuery<?> query,
+    @Nonnull CriteriaBuilder criteriaBuilder
+  ) {
+    ArrayList<Predicate> predicates = new ArrayList<>();
+    if (StringUtils.hasText(documentNumber)) {
+      predicates.add(contains(criteriaBuilder, root.get("documentNumber"), documentNumber));
+    }
+    if (
+      StringUtils.hasText(titel) ||
+      StringUtils.hasText(veroeffentlichungsjahr) ||
+      StringUtils.hasText(dokumenttypen)
+    ) {
+      Join<DocumentationUnitEntity, DocumentationUnitIndexEntity> indexJoin = root.join(
+        "documentationUnitIndex",
+        JoinType.LEFT
+      );
+
+      if (StringUtils.hasText(titel)) {
+        predicates.add(
+          criteriaBuilder.or(
+            contains(criteriaBuilder, indexJoin.get("hauptsachtitel"), titel),
+            contains(criteriaBuilder, indexJoin.get("dokumentarischerTitel"), titel)
+          )
+        );
+      }
+      if (StringUtils.hasText(veroeffentlichungsjahr)) {
+        predicates.add(
+          contains(criteriaBuilder, indexJoin.get("veroeffentlichungsjahr"), veroeffentlichungsjahr)
+        );
+      }
+      if (StringUtils.hasText(dokumenttypen)) {
+        predicates.add(
+          entryMatches(
+            criteriaBuilder,
+            indexJoin.get("dokumenttypen"),
+            dokumenttypen,
+            EntryMatch.CONTAINS
+          )
+        );
+      }
+    }
+
+    return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+  }
+
+  private static Predicate contains(
+    CriteriaBuilder criteriaBuilder,
+    Expression<String> expression,
+    String term
+  ) {
+    return criteriaBuilder.like(
+      criteriaBuilder.lower(expression),
+      sqlContains(term),
+      ESCAPE_CHARACTER
+    );
+  }
+}
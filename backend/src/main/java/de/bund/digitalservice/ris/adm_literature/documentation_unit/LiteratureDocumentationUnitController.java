@@ -3,16 +3,24 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.SliDocumentationUnitContent;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.UliDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publication;
+import de.bund.digitalservice.ris.adm_literature.page.PageResponse;
+import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import tools.jackson.databind.JsonNode;
 
 /**
@@ -22,19 +30,95 @@ import tools.jackson.databind.JsonNode;
 @RequiredArgsConstructor
 public class LiteratureDocumentationUnitController {
 
+  private static final Set<String> INDEX_ALIASES = Set.of(
+    "hauptsachtitel",
+    "dokumentarischerTitel",
+    "veroeffentlichungsjahr",
+    "dokumenttypen"
+  );
+
   private final DocumentationUnitService documentationUnitService;
 
+  /**
+   * Returns information on all literature documentation units as required by the
+   * literature documentation units overview.
+   *
+   * @param documentNumber         Filter by documentNumber.
+   * @param titel                  Filter by hauptsachtitel or dokumentarischer Titel.
+   * @param veroeffentlichungsjahr Filter by veroeffentlichungsjahr.
+   * @param dokumenttypen          Filter by dokumenttyp abbreviation.
+   * @param pageNumber             Which page of pagination to return?
+   * @param pageSize               How many elements per page in pagination?
+   * @param sortByProperty         Sort by what property?
+   * @param sortDirection          Sort ascending or descending?
+   * @param usePagination          Search with pagination?
+   * @return Paginated list of literature documentation units
+   */
+  @GetMapping("api/literature/documentation-units")
+  public ResponseEntity<LiteratureDocumentationUnitsOverviewResponse> find(
+    @RequestParam(value = "documentNumber", required = false) String documentNumber,
+    @RequestParam(value = "titel", required = false) String titel,
+    @RequestParam(value = "veroeffentlichungsjahr", required = false) String veroeffentlichungsjahr,
+    @RequestParam(value = "dokumenttypen", required = false) String dokumenttypen,
+    @RequestParam(defaultValue = "0") int pageNumber,
+    @RequestParam(defaultValue = "10") int pageSize,
+    @RequestParam(defaultValue = "documentNumber") String sortByProperty,
+    @RequestParam(defaultValue = "DESC") Sort.Direction sortDirection,
+    @RequestParam(defaultValue = "true") boolean usePagination
+  ) {
+    String resolvedSortByProperty = INDEX_ALIASES.contains(sortByProperty)
+      ? "documentationUnitIndex." + sortByProperty
+      : sortByProperty;
+
+    QueryOptions queryOptions = new QueryOptions(
+      pageNumber,
+      pageSize,
+      resolvedSortByProperty,
+      sortDirection,
+      usePagination
+    );
+
+    var paginatedDocumentationUnits =
+      documentationUnitService.findLiteratureDocumentationUnitOverviewElements(
+        new LiteratureDocumentationUnitQuery(
+          StringUtils.trimToNull(documentNumber),
+          StringUtils.trimToNull(titel),
+          StringUtils.trimToNull(veroeffentlichungsjahr),
+          StringUtils.trimToNull(dokumenttypen),
+          queryOptions
+        )
+      );
+    return ResponseEntity.ok(
+      new LiteratureDocumentationUnitsOverviewResponse(
+        paginatedDocumentationUnits.content(),
+        new PageResponse(paginatedDocumentationUnits)
+      )
+    );
+  }
+
   /**
    * Returns a single documentation unit by its document number
    *
    * @param documentNumber The document number of the document unit to be returned
-   * @return The document unit or HTTP 404 if not found
+   * @param webRequest     The request, for checking the {@code If-None-Match} header
+   * @return The document unit with its version as ETag, HTTP 304 if the ETag matches the
+   *         {@code If-None-Match} header or HTTP 404 if not found
    */
   @GetMapping("api/literature/documentation-units/{documentNumber}")
-  public ResponseEntity<DocumentationUnit> find(@PathVariable String documentNumber) {
+  public ResponseEntity<DocumentationUnit> find(
+    @PathVariable String documentNumber,
+    WebRequest webRequest
+  ) {
+    if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+      Optional<String> eTag = documentationUnitService.findETag(documentNumber);
+      if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+        // HTTP 304 is already set, the content is neither loaded nor converted
+        return null;
+      }
+    }
     return documentationUnitService
       .findByDocumentNumber(documentNumber)
-      .map(ResponseEntity::ok)
+      .map(DocumentationUnitETags::ok)
       .orElse(ResponseEntity.notFound().build());
   }
 
@@ -67,16 +151,80 @@ public class LiteratureDocumentationUnitController {
    *
    * @param documentNumber    The document number of the document to update
    * @param documentationUnit The JSON of the documentation unit to update
-   * @return The updated documentation unit or HTTP 404 if not found
+   * @param ifMatch           Optional ETag of the version the update is based on
+   * @return The updated documentation unit with its new version as ETag, HTTP 404 if not found
+   *         or HTTP 412 if the documentation unit has been changed in the meantime
    */
   @PutMapping("api/literature/documentation-units/{documentNumber}")
   public ResponseEntity<DocumentationUnit> update(
     @PathVariable String documentNumber,
-    @RequestBody JsonNode documentationUnit
+    @RequestBody JsonNode documentationUnit,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
   ) {
     return documentationUnitService
-      .update(documentNumber, documentationUnit.toString())
-      .map(ResponseEntity::ok)
+      .update(
+        documentNumber,
+        documentationUnit.toString(),
+        DocumentationUnitETags.parseIfMatch(ifMatch)
+      )
+      .map(DocumentationUnitETags::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Applies a JSON Patch (RFC 6902) to a documentation unit
+   *
+   * @param documentNumber The document number of the document to patch
+   * @param patch          The JSON Patch, an array of operations
+   * @param ifMatch        Optional ETag of the version the patch is based on
+   * @return The patched documentation unit with its new version as ETag, HTTP 404 if not found,
+   *         HTTP 412 if the documentation unit has been changed in the meantime or HTTP 422 if the
+   *         patch cannot be applied
+   */
+  @PatchMapping(
+    value = "api/literature/documentation-units/{documentNumber}",
+    consumes = JsonPatches.JSON_PATCH_MEDIA_TYPE
+  )
+  public ResponseEntity<DocumentationUnit> patch(
+    @PathVariable String documentNumber,
+    @RequestBody JsonNode patch,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return documentationUnitService
+      .patch(
+        documentNumber,
+        json -> JsonPatches.applyJsonPatch(json, patch),
+        DocumentationUnitETags.parseIfMatch(ifMatch)
+      )
+      .map(DocumentationUnitETags::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Applies a JSON Merge Patch (RFC 7396) to a documentation unit
+   *
+   * @param documentNumber The document number of the document to patch
+   * @param patch          The JSON Merge Patch
+   * @param ifMatch        Optional ETag of the version the patch is based on
+   * @return The patched documentation unit with its new version as ETag, HTTP 404 if not found or
+   *         HTTP 412 if the documentation unit has been changed in the meantime
+   */
+  @PatchMapping(
+    value = "api/literature/documentation-units/{documentNumber}",
+    consumes = JsonPatches.MERGE_PATCH_MEDIA_TYPE
+  )
+  public ResponseEntity<DocumentationUnit> mergePatch(
+    @PathVariable String documentNumber,
+    @RequestBody JsonNode patch,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+  ) {
+    return documentationUnitService
+      .patch(
+        documentNumber,
+        json -> JsonPatches.applyMergePatch(json, patch),
+        DocumentationUnitETags.parseIfMatch(ifMatch)
+      )
+      .map(DocumentationUnitETags::ok)
       .orElse(ResponseEntity.notFound().build());
   }
 
@@ -134,7 +282,7 @@ public class LiteratureDocumentationUnitController {
       documentationUnitContent
     );
     return optionalDocumentationUnit
-      .map(ResponseEntity::ok)
+      .map(DocumentationUnitETags::ok)
       .orElse(ResponseEntity.notFound().build());
   }
 
@@ -187,6 +335,21 @@ public class LiteratureDocumentationUnitController {
       documentationUnitContent
     );
     return optionalDocumentationUnit
+      .map(DocumentationUnitETags::ok)
+      .orElse(ResponseEntity.notFound().build());
+  }
+
+  /**
+   * Returns the status of the latest publication of a documentation unit. Publishing is done
+   * asynchronously, so the status tells whether the documentation unit has been published yet.
+   *
+   * @param documentNumber The document number of the documentation unit
+   * @return The latest publication or HTTP 404 if the documentation unit has never been published
+   */
+  @GetMapping("api/literature/documentation-units/{documentNumber}/publication")
+  public ResponseEntity<Publication> findPublication(@PathVariable String documentNumber) {
+    return documentationUnitService
+      .findPublication(documentNumber)
       .map(ResponseEntity::ok)
       .orElse(ResponseEntity.notFound().build());
   }
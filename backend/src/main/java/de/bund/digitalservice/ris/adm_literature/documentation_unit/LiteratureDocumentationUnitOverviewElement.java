@@ -0,0 +1,24 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Element in the literature documentation unit overview
+ *
+ * @param id                     The uuid of the documentation unit
+ * @param documentNumber         The public id of the documentation unit
+ * @param veroeffentlichungsjahr The publication year
+ * @param dokumenttypen          The abbreviations of the document types
+ * @param hauptsachtitel         The main title
+ * @param dokumentarischerTitel  The documentary title
+ */
+public record LiteratureDocumentationUnitOverviewElement(
+  @Nonnull UUID id,
+  @Nonnull String documentNumber,
+  String veroeffentlichungsjahr,
+  List<String> dokumenttypen,
+  String hauptsachtitel,
+  String dokumentarischerTitel
+) {}
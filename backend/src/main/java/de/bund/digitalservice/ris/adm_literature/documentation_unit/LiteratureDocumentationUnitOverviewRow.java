@@ -0,0 +1,24 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Projection of a literature documentation unit and its index for the overview. Contains only the
+ * columns shown on the overview page, the large json and xml columns are not loaded.
+ *
+ * @param id                     The uuid of the documentation unit
+ * @param documentNumber         The public id of the documentation unit
+ * @param veroeffentlichungsjahr The indexed veroeffentlichungsjahr
+ * @param dokumenttypen          The indexed dokumenttypen
+ * @param hauptsachtitel         The indexed hauptsachtitel
+ * @param dokumentarischerTitel  The indexed dokumentarischer Titel
+ */
+public record LiteratureDocumentationUnitOverviewRow(
+  UUID id,
+  String documentNumber,
+  String veroeffentlichungsjahr,
+  List<String> dokumenttypen,
+  String hauptsachtitel,
+  String dokumentarischerTitel
+) {}
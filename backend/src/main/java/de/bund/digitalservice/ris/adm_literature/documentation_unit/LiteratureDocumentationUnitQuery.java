@@ -0,0 +1,21 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
+import jakarta.annotation.Nonnull;
+
+/**
+ * Literature documentation unit query.
+ *
+ * @param documentNumber         DocumentNumber to search for
+ * @param titel                  Hauptsachtitel or dokumentarischer Titel to search for
+ * @param veroeffentlichungsjahr Veroeffentlichungsjahr to search for
+ * @param dokumenttypen          Dokumenttyp abbreviation to search for
+ * @param queryOptions           Page query options
+ */
+public record LiteratureDocumentationUnitQuery(
+  String documentNumber,
+  String titel,
+  String veroeffentlichungsjahr,
+  String dokumenttypen,
+  @Nonnull QueryOptions queryOptions
+) {}
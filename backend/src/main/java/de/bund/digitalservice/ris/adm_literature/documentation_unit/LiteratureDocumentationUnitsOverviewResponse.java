@@ -0,0 +1,15 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.page.PageResponse;
+import java.util.List;
+
+/**
+ * Response with literature documentation unit list elements and pagination information
+ *
+ * @param documentationUnitsOverview List of literature documentation units' data
+ * @param page                       Pagination data
+ */
+public record LiteratureDocumentationUnitsOverviewResponse(
+  List<LiteratureDocumentationUnitOverviewElement> documentationUnitsOverview,
+  PageResponse page
+) {}
@@ -0,0 +1,36 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import jakarta.annotation.Nonnull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index field extraction for independent (SLI) and dependent (ULI) literature, which indexes the
+ * hauptsachtitel, the dokumentarischer Titel, the veroeffentlichungsjahr and the dokumenttypen.
+ */
+@Component
+@RequiredArgsConstructor
+class LiteratureIndexFieldExtractionStrategy implements IndexFieldExtractionStrategy {
+
+  private final JsonLiteratureIndexFieldExtractor jsonLiteratureIndexFieldExtractor;
+  private final LdmlLiteratureIndexFieldExtractor ldmlLiteratureIndexFieldExtractor;
+
+  @Override
+  public boolean supports(DocumentCategory documentCategory) {
+    return (
+      documentCategory == DocumentCategory.LITERATUR_SELBSTAENDIG ||
+      documentCategory == DocumentCategory.LITERATUR_UNSELBSTAENDIG
+    );
+  }
+
+  @Override
+  public DocumentationUnitIndexFields extractFromJson(@Nonnull String json) {
+    return jsonLiteratureIndexFieldExtractor.extract(json);
+  }
+
+  @Override
+  public DocumentationUnitIndexFields extractFromLdml(@Nonnull String xml) {
+    return ldmlLiteratureIndexFieldExtractor.extract(xml);
+  }
+}
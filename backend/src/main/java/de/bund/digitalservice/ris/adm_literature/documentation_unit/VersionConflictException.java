@@ -0,0 +1,29 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.ErrorResponseException;
+
+/**
+ * Exception for a conditional update of a documentation unit, which has been changed in the
+ * meantime, i.e. its version does not match the {@code If-Match} header.
+ * <p>
+ * Results in an HTTP 412 (Precondition Failed) response.
+ */
+public class VersionConflictException extends ErrorResponseException {
+
+  public VersionConflictException(String documentNumber, Long currentVersion) {
+    super(
+      HttpStatus.PRECONDITION_FAILED,
+      ProblemDetail.forStatusAndDetail(
+        HttpStatus.PRECONDITION_FAILED,
+        "Documentation unit " +
+        documentNumber +
+        " has been changed in the meantime, current version is " +
+        currentVersion +
+        "."
+      ),
+      null
+    );
+  }
+}
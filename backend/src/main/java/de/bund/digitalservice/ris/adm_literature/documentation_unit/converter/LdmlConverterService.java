@@ -1,23 +1,65 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentationUnit;
-import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.*;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.AkomaNtoso;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform.*;
 import jakarta.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /**
  * LDML converter service for transforming XML/LDML into Business Models.
+ * <p>
+ * A conversion has two phases: first the keys of all referenced lookup table values are collected
+ * from the document and resolved with one query per lookup table, then the transformers read the
+ * resolved values instead of querying each reference.
+ * </p>
+ * <p>
+ * In {@link Mode#PARALLEL} ({@code conversion.mode}) the transformers which write xml run on a
+ * pool of {@code conversion.workers} threads, while all other transformers run on the calling
+ * thread. Everything querying the database stays on the calling thread, so a conversion uses the
+ * connection of the caller's transaction and never waits for a second connection. The
+ * transformers only read the Akoma Ntoso document, so they do not need to be synchronized. A
+ * conversion which does not finish within {@code conversion.timeout} fails, its transformers
+ * still running are interrupted.
+ * </p>
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class LdmlConverterService {
 
+  /**
+   * Execution mode of the transformers of a conversion.
+   */
+  public enum Mode {
+    /**
+     * Runs all transformers one after another on the calling thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Runs the transformers which write xml on a thread pool while the other transformers run on
+     * the calling thread.
+     */
+    PARALLEL,
+  }
+
   private final XmlReader xmlReader;
+  private final LookupResolver lookupResolver;
   private final FundstellenTransformer fundstellenTransformer;
   private final DocumentTypeTransformer documentTypeTransformer;
   private final NormgeberTransformer normgeberTransformer;
@@ -25,23 +67,72 @@ public class LdmlConverterService {
   private final KurzreferatTransformer kurzreferatTransformer;
   private final ActiveCitationsTransformer activeCitationsTransformer;
   private final ActiveReferencesTransformer activeReferencesTransformer;
+  private final Mode mode;
+  private final Duration timeout;
+  private final ExecutorService executorService;
+
+  LdmlConverterService(
+    XmlReader xmlReader,
+    LookupResolver lookupResolver,
+    FundstellenTransformer fundstellenTransformer,
+    DocumentTypeTransformer documentTypeTransformer,
+    NormgeberTransformer normgeberTransformer,
+    FieldsOfLawTransformer fieldsOfLawTransformer,
+    KurzreferatTransformer kurzreferatTransformer,
+    ActiveCitationsTransformer activeCitationsTransformer,
+    ActiveReferencesTransformer activeReferencesTransformer,
+    @Value("${conversion.mode:SEQUENTIAL}") Mode mode,
+    @Value("${conversion.timeout:10s}") Duration timeout,
+    @Value("${conversion.workers:4}") int workers
+  ) {
+    this.xmlReader = xmlReader;
+    this.lookupResolver = lookupResolver;
+    this.fundstellenTransformer = fundstellenTransformer;
+    this.documentTypeTransformer = documentTypeTransformer;
+    this.normgeberTransformer = normgeberTransformer;
+    this.fieldsOfLawTransformer = fieldsOfLawTransformer;
+    this.kurzreferatTransformer = kurzreferatTransformer;
+    this.activeCitationsTransformer = activeCitationsTransformer;
+    this.activeReferencesTransformer = activeReferencesTransformer;
+    this.mode = mode;
+    this.timeout = timeout;
+    this.executorService = Executors.newFixedThreadPool(
+      workers,
+      Thread.ofPlatform().name("conversion-", 1).daemon().factory()
+    );
+    log.info("Conversion mode is {} with timeout {}.", mode, timeout);
+  }
 
   /**
    * Converts the xml of the given documentation unit to business models.
    *
    * @param documentationUnit The documentation unit to convert
    * @return Business model representation of given documentation unit's xml
+   * @throws IllegalStateException if a parallel conversion does not finish within the timeout
    */
   public AdmDocumentationUnitContent convertToBusinessModel(
     @Nonnull DocumentationUnit documentationUnit
   ) {
     AkomaNtoso akomaNtoso = xmlReader.readXml(documentationUnit.xml());
     log.debug("Read Akoma Ntoso from XML: {}.", akomaNtoso);
+    LookupKeys lookupKeys = LookupKeys.collect(akomaNtoso);
+    return switch (mode) {
+      case SEQUENTIAL -> convertSequentially(documentationUnit, akomaNtoso, lookupKeys);
+      case PARALLEL -> convertInParallel(documentationUnit, akomaNtoso, lookupKeys);
+    };
+  }
+
+  private AdmDocumentationUnitContent convertSequentially(
+    DocumentationUnit documentationUnit,
+    AkomaNtoso akomaNtoso,
+    LookupKeys lookupKeys
+  ) {
+    ResolvedLookups lookups = lookupResolver.resolve(lookupKeys);
     return new AdmDocumentationUnitContent(
       documentationUnit.id(),
       documentationUnit.documentNumber(),
-      fundstellenTransformer.transform(akomaNtoso),
-      fieldsOfLawTransformer.transform(akomaNtoso),
+      fundstellenTransformer.transform(akomaNtoso, lookups),
+      fieldsOfLawTransformer.transform(akomaNtoso, lookups),
       new LongTitleTransformer(akomaNtoso).transform(),
       new KeywordsTransformer(akomaNtoso).transform(),
       new DateToQuoteTransformer(akomaNtoso).transform(),
@@ -52,14 +143,99 @@ public class LdmlConverterService {
       new ReferenceNumbersTransformer(akomaNtoso).transform(),
       documentTypeTransformer.transform(akomaNtoso),
       new DocumentTypeZusatzTransformer(akomaNtoso).transform(),
-      activeCitationsTransformer.transform(akomaNtoso),
+      activeCitationsTransformer.transform(akomaNtoso, lookups),
       activeReferencesTransformer.transform(akomaNtoso),
       new NormReferencesTransformer(akomaNtoso).transform(),
       null,
-      normgeberTransformer.transform(akomaNtoso),
+      normgeberTransformer.transform(akomaNtoso, lookups),
       new BerufsbilderTransformer().transform(akomaNtoso),
       new TitelAspekteTransformer().transform(akomaNtoso),
       new DefinitionenTransformer().transform(akomaNtoso)
     );
   }
+
+  private AdmDocumentationUnitContent convertInParallel(
+    DocumentationUnit documentationUnit,
+    AkomaNtoso akomaNtoso,
+    LookupKeys lookupKeys
+  ) {
+    Instant deadline = Instant.now().plus(timeout);
+    String documentNumber = documentationUnit.documentNumber();
+    List<Future<?>> forks = new ArrayList<>();
+    try {
+      // Only the transformers writing xml are forked, they do not query the database
+      Future<String> kurzreferat = fork(() -> kurzreferatTransformer.transform(akomaNtoso), forks);
+      Future<String> gliederung = fork(
+        () -> new TableOfContentsTransformer().transform(akomaNtoso),
+        forks
+      );
+      ResolvedLookups lookups = lookupResolver.resolve(lookupKeys);
+      return new AdmDocumentationUnitContent(
+        documentationUnit.id(),
+        documentNumber,
+        fundstellenTransformer.transform(akomaNtoso, lookups),
+        fieldsOfLawTransformer.transform(akomaNtoso, lookups),
+        new LongTitleTransformer(akomaNtoso).transform(),
+        new KeywordsTransformer(akomaNtoso).transform(),
+        new DateToQuoteTransformer(akomaNtoso).transform(),
+        new EntryIntoEffectDateTransformer(akomaNtoso).transform(),
+        new ExpiryDateTransformer(akomaNtoso).transform(),
+        join(gliederung, deadline, documentNumber),
+        join(kurzreferat, deadline, documentNumber),
+        new ReferenceNumbersTransformer(akomaNtoso).transform(),
+        documentTypeTransformer.transform(akomaNtoso),
+        new DocumentTypeZusatzTransformer(akomaNtoso).transform(),
+        activeCitationsTransformer.transform(akomaNtoso, lookups),
+        activeReferencesTransformer.transform(akomaNtoso),
+        new NormReferencesTransformer(akomaNtoso).transform(),
+        null,
+        normgeberTransformer.transform(akomaNtoso, lookups),
+        new BerufsbilderTransformer().transform(akomaNtoso),
+        new TitelAspekteTransformer().transform(akomaNtoso),
+        new DefinitionenTransformer().transform(akomaNtoso)
+      );
+    } catch (RuntimeException e) {
+      // Interrupts the forks still running
+      forks.forEach(fork -> fork.cancel(true));
+      throw e;
+    }
+  }
+
+  private <T> Future<T> fork(Supplier<T> supplier, List<Future<?>> forks) {
+    Future<T> future = executorService.submit(supplier::get);
+    forks.add(future);
+    return future;
+  }
+
+  private <T> T join(Future<T> future, Instant deadline, String documentNumber) {
+    long remainingNanos = Math.max(0, Duration.between(Instant.now(), deadline).toNanos());
+    try {
+      return future.get(remainingNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new IllegalStateException(
+        "Conversion of documentation unit %s did not finish within %s.".formatted(
+          documentNumber,
+          timeout
+        ),
+        e
+      );
+    } catch (ExecutionException e) {
+      // Rethrow failures of a transformer as if it had run on the calling thread
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(
+        "Conversion of documentation unit %s was interrupted.".formatted(documentNumber),
+        e
+      );
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executorService.shutdownNow();
+  }
 }
@@ -1,24 +1,50 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.AkomaNtoso;
+import de.bund.digitalservice.ris.adm_literature.pool.ObjectPool;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
 import java.io.StringReader;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
  * Xml reader.
+ * <p>
+ * Creating an {@link Unmarshaller} is expensive compared to reading a document, unmarshallers
+ * are therefore pooled.
+ * </p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class XmlReader {
 
-  private final JAXBContext jaxbContext;
+  private static final int MAX_IDLE_UNMARSHALLERS = 32;
+
+  private final ObjectPool<Unmarshaller> unmarshallerPool;
+
+  /**
+   * Creates a new xml reader.
+   * @param jaxbContext The JAXB context for creating unmarshallers
+   * @param meterRegistry Registry for the unmarshaller pool metrics
+   */
+  public XmlReader(JAXBContext jaxbContext, MeterRegistry meterRegistry) {
+    this.unmarshallerPool = new ObjectPool<>(
+      "jaxb.unmarshaller",
+      MAX_IDLE_UNMARSHALLERS,
+      () -> {
+        try {
+          return jaxbContext.createUnmarshaller();
+        } catch (JAXBException e) {
+          throw new IllegalStateException(e);
+        }
+      },
+      meterRegistry
+    );
+  }
 
   /**
    * Transforms a plain string of XML into Java.
@@ -26,9 +52,11 @@ public class XmlReader {
    * @return An instance of {@link AkomaNtoso}, representing the read XML
    */
   public AkomaNtoso readXml(@Nonnull String xml) {
+    Unmarshaller unmarshaller = unmarshallerPool.borrow();
     try {
-      Unmarshaller unmarshaller = jaxbContext.createUnmarshaller();
-      return (AkomaNtoso) unmarshaller.unmarshal(new StringReader(xml));
+      AkomaNtoso akomaNtoso = (AkomaNtoso) unmarshaller.unmarshal(new StringReader(xml));
+      unmarshallerPool.release(unmarshaller);
+      return akomaNtoso;
     } catch (JAXBException e) {
       log.error("Could not read xml due to JAXBException.", e);
       throw new IllegalStateException(e);
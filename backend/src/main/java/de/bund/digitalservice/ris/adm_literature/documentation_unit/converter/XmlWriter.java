@@ -1,23 +1,51 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter;
 
+import de.bund.digitalservice.ris.adm_literature.pool.ObjectPool;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
 import java.io.StringWriter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
  * Xml writer.
+ * <p>
+ * Creating a {@link Marshaller} is expensive compared to writing a document, marshallers are
+ * therefore pooled.
+ * </p>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class XmlWriter {
 
-  private final JAXBContext jaxbContext;
+  private static final int MAX_IDLE_MARSHALLERS = 32;
+
+  private final ObjectPool<Marshaller> marshallerPool;
+
+  /**
+   * Creates a new xml writer.
+   * @param jaxbContext The JAXB context for creating marshallers
+   * @param meterRegistry Registry for the marshaller pool metrics
+   */
+  public XmlWriter(JAXBContext jaxbContext, MeterRegistry meterRegistry) {
+    this.marshallerPool = new ObjectPool<>(
+      "jaxb.marshaller",
+      MAX_IDLE_MARSHALLERS,
+      () -> {
+        try {
+          Marshaller marshaller = jaxbContext.createMarshaller();
+          marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+          return marshaller;
+        } catch (JAXBException e) {
+          throw new IllegalStateException(e);
+        }
+      },
+      meterRegistry
+    );
+  }
 
   /**
    * Transforms a JAXb element into a string. The output contains an XML header node.
@@ -36,12 +64,12 @@ public class XmlWriter {
    * @return String representation of the given JAXB element
    */
   public String writeXml(@Nonnull Object jaxbElement, boolean includeHeader) {
+    Marshaller marshaller = marshallerPool.borrow();
     try {
-      Marshaller marshaller = jaxbContext.createMarshaller();
-      marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
       marshaller.setProperty(Marshaller.JAXB_FRAGMENT, !includeHeader);
       StringWriter stringWriter = new StringWriter();
       marshaller.marshal(jaxbElement, stringWriter);
+      marshallerPool.release(marshaller);
       return stringWriter.toString();
     } catch (JAXBException e) {
       log.error("Could not write xml due to JAXBException.", e);
@@ -1,35 +1,33 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
 
-import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.ActiveCitation;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.court.Court;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArt;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArtService;
 import java.util.List;
 import java.util.UUID;
 import javax.annotation.Nonnull;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Transformer for active citations (in German 'Aktivzitierung
  * Rechtssprechung').
  */
-@RequiredArgsConstructor
 @Component
 public class ActiveCitationsTransformer {
 
-  private final ZitierArtService zitierArtService;
-
   /**
    * Transforms the {@code AkomaNtoso} object to a list of active citations.
    *
    * @param akomaNtoso The Akoma Ntoso XML object to transform
+   * @param lookups    The resolved citation types of the document
    * @return Active citations list, or an empty list if the surrounding
    *         {@code <analysis>} element is {@code null}
    */
-  public List<ActiveCitation> transform(@Nonnull AkomaNtoso akomaNtoso) {
+  public List<ActiveCitation> transform(
+    @Nonnull AkomaNtoso akomaNtoso,
+    @Nonnull ResolvedLookups lookups
+  ) {
     Analysis analysis = akomaNtoso.getDoc().getMeta().getAnalysis();
     if (analysis == null) {
       return List.of();
@@ -50,18 +48,15 @@ public class ActiveCitationsTransformer {
           cr.getDate(),
           cr.getReferenceNumber(),
           null,
-          findZitierArt(cr)
+          findZitierArt(cr, lookups)
         )
       )
       .toList();
   }
 
-  private ZitierArt findZitierArt(RisCaselawReference caselawReference) {
-    return zitierArtService
-      .findZitierArtenByAbbreviation(
-        caselawReference.getAbbreviation(),
-        DocumentCategory.VERWALTUNGSVORSCHRIFTEN
-      )
+  private ZitierArt findZitierArt(RisCaselawReference caselawReference, ResolvedLookups lookups) {
+    return lookups
+      .findZitierArten(caselawReference.getAbbreviation())
       .stream()
       .findFirst()
       .orElse(
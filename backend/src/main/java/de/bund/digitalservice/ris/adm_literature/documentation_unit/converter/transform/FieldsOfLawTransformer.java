@@ -4,30 +4,27 @@ import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ld
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.Proprietary;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.RisMeta;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLaw;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawService;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Fields of law transformer.
  */
 @Component
-@RequiredArgsConstructor
 public class FieldsOfLawTransformer {
 
-  private final FieldOfLawService fieldOfLawService;
-
   /**
-   * Transforms the {@code AkomaNtoso} object to a list of fields of law.
+   * Transforms the {@code AkomaNtoso} object to a list of fields of law. The fields of law are
+   * resolved without children and norms, as the documentation unit only references them.
    *
    * @param akomaNtoso The Akoma Ntoso XML object to transform
+   * @param lookups    The resolved fields of law of the document
    * @return The fields of law or an empty list if the surrounding {@code <proprietary>}
    *         or {@code ris:fieldsOfLaw} elements are {@code null}
    */
-  public List<FieldOfLaw> transform(AkomaNtoso akomaNtoso) {
+  public List<FieldOfLaw> transform(AkomaNtoso akomaNtoso, ResolvedLookups lookups) {
     var fieldsOfLaw = Optional.ofNullable(akomaNtoso.getDoc().getMeta().getProprietary())
       .map(Proprietary::getMeta)
       .map(RisMeta::getFieldsOfLaw)
@@ -35,7 +32,7 @@ public class FieldsOfLawTransformer {
     return fieldsOfLaw
       .stream()
       .map(risFieldOfLaw ->
-        fieldOfLawService
+        lookups
           .findFieldOfLaw(risFieldOfLaw.getValue())
           .orElseGet(() ->
             new FieldOfLaw(
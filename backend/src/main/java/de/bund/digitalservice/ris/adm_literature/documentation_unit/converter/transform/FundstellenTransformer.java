@@ -3,31 +3,30 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.t
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.Fundstelle;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodical;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodicalService;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 /**
  * Transformer for 'Fundstellen'.
  */
-@RequiredArgsConstructor
 @Component
 public class FundstellenTransformer {
 
-  private final LegalPeriodicalService legalPeriodicalService;
-
   /**
    * Transforms the {@code AkomaNtoso} object to a list of references.
    *
    * @param akomaNtoso The Akoma Ntoso XML object to transform
+   * @param lookups    The resolved legal periodicals of the document
    * @return Reference list, or an empty list if the surrounding {@code <analysis>} element is {@code null}
    */
-  public List<Fundstelle> transform(@Nonnull AkomaNtoso akomaNtoso) {
+  public List<Fundstelle> transform(
+    @Nonnull AkomaNtoso akomaNtoso,
+    @Nonnull ResolvedLookups lookups
+  ) {
     Analysis analysis = akomaNtoso.getDoc().getMeta().getAnalysis();
     if (analysis == null) {
       return List.of();
@@ -39,7 +38,7 @@ public class FundstellenTransformer {
       .filter(ir -> ir.getReferenceType() == ImplicitReferenceType.FUNDSTELLE)
       .map(ir -> {
         String abbreviation = ir.getShortForm();
-        LegalPeriodical periodikum = findPeriodikum(ir);
+        LegalPeriodical periodikum = findPeriodikum(ir, lookups);
         String zitatstelle = StringUtils.substringAfter(ir.getShowAs(), abbreviation).trim();
         // In case the periodikum is not unique or not existing, the abbreviation is set and displayed in the UI.
         String ambiguousPeriodikum = periodikum == null ? abbreviation : null;
@@ -49,10 +48,14 @@ public class FundstellenTransformer {
   }
 
   @Nullable
-  private LegalPeriodical findPeriodikum(ImplicitReference implicitReference) {
+  private LegalPeriodical findPeriodikum(
+    ImplicitReference implicitReference,
+    ResolvedLookups lookups
+  ) {
     LegalPeriodical periodikum = null;
-    List<LegalPeriodical> legalPeriodicals =
-      legalPeriodicalService.findLegalPeriodicalsByAbbreviation(implicitReference.getShortForm());
+    List<LegalPeriodical> legalPeriodicals = lookups.findLegalPeriodicals(
+      implicitReference.getShortForm()
+    );
     if (legalPeriodicals.size() == 1) {
       // The legal periodical is only set, if it is found and unambiguous in the database. In case there are multiple
       // legal periodicals with the same abbreviation it is not set which results to a user hint in
@@ -0,0 +1,90 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
+import jakarta.annotation.Nonnull;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The keys of all lookup table values referenced by an Akoma Ntoso document. They are collected
+ * in one walk over the document, so that the {@link LookupResolver} can resolve each lookup table
+ * with one query before the transformers run.
+ *
+ * @param legalPeriodicalAbbreviations The abbreviations of the legal periodicals of the
+ *                                     'Fundstellen'
+ * @param institutionNames             The names of the institutions and legal entities of the
+ *                                     'Normgeber'
+ * @param regionCodes                  The codes of the regions of the 'Normgeber'
+ * @param fieldOfLawIdentifiers        The identifiers of the fields of law
+ * @param zitierArtAbbreviations       The abbreviations of the citation types of the active
+ *                                     citations
+ */
+public record LookupKeys(
+  @Nonnull Set<String> legalPeriodicalAbbreviations,
+  @Nonnull Set<String> institutionNames,
+  @Nonnull Set<String> regionCodes,
+  @Nonnull Set<String> fieldOfLawIdentifiers,
+  @Nonnull Set<String> zitierArtAbbreviations
+) {
+  /**
+   * Collects the keys of all lookup table values referenced by the given document.
+   *
+   * @param akomaNtoso The Akoma Ntoso XML object
+   * @return The collected keys, without {@code null} values and duplicates
+   */
+  public static LookupKeys collect(@Nonnull AkomaNtoso akomaNtoso) {
+    LookupKeys keys = new LookupKeys(
+      new LinkedHashSet<>(),
+      new LinkedHashSet<>(),
+      new LinkedHashSet<>(),
+      new LinkedHashSet<>(),
+      new LinkedHashSet<>()
+    );
+    Meta meta = akomaNtoso.getDoc().getMeta();
+    Optional.ofNullable(meta.getAnalysis())
+      .map(Analysis::getOtherReferences)
+      .orElse(List.of())
+      .stream()
+      .flatMap(or -> or.getImplicitReferences().stream())
+      .forEach(keys::addImplicitReference);
+    Optional<RisMeta> risMeta = Optional.ofNullable(meta.getProprietary()).map(
+      Proprietary::getMeta
+    );
+    risMeta.map(RisMeta::getNormgeber).orElse(List.of()).forEach(keys::addNormgeber);
+    risMeta
+      .map(RisMeta::getFieldsOfLaw)
+      .orElse(List.of())
+      .forEach(risFieldOfLaw -> add(keys.fieldOfLawIdentifiers(), risFieldOfLaw.getValue()));
+    return keys;
+  }
+
+  private void addImplicitReference(ImplicitReference implicitReference) {
+    switch (implicitReference.getReferenceType()) {
+      case FUNDSTELLE -> add(legalPeriodicalAbbreviations, implicitReference.getShortForm());
+      case ACTIVE_CITATION -> add(
+        zitierArtAbbreviations,
+        implicitReference.getCaselawReference().getAbbreviation()
+      );
+      case ACTIVE_REFERENCE -> {
+        // Norms and administrative regulations are not looked up
+      }
+    }
+  }
+
+  private void addNormgeber(RisNormgeber risNormgeber) {
+    if (risNormgeber.getOrgan() != null) {
+      add(institutionNames, risNormgeber.getOrgan());
+      add(regionCodes, risNormgeber.getStaat());
+    } else {
+      add(institutionNames, risNormgeber.getStaat());
+    }
+  }
+
+  private static void add(Set<String> keys, String key) {
+    if (key != null) {
+      keys.add(key);
+    }
+  }
+}
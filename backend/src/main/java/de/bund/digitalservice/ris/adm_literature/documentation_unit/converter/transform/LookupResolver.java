@@ -0,0 +1,65 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawResolution;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.InstitutionService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodical;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodicalService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.Region;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.RegionService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArt;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArtService;
+import jakarta.annotation.Nonnull;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the collected {@link LookupKeys} of a document with at most one query per lookup table.
+ * The number of queries of a conversion therefore depends on the number of lookup tables, not on
+ * the number of references in the document. Keys found in the lookup table caches and lookup
+ * tables without keys are not queried.
+ */
+@Component
+@RequiredArgsConstructor
+public class LookupResolver {
+
+  private final LegalPeriodicalService legalPeriodicalService;
+  private final InstitutionService institutionService;
+  private final RegionService regionService;
+  private final FieldOfLawService fieldOfLawService;
+  private final ZitierArtService zitierArtService;
+
+  /**
+   * Resolves the lookup table values of the given keys.
+   *
+   * @param keys The keys collected from a document
+   * @return The resolved values, keys without value are missing
+   */
+  public ResolvedLookups resolve(@Nonnull LookupKeys keys) {
+    return new ResolvedLookups(
+      legalPeriodicalService
+        .findLegalPeriodicalsByAbbreviations(keys.legalPeriodicalAbbreviations())
+        .stream()
+        .collect(Collectors.groupingBy(LegalPeriodical::abbreviation)),
+      institutionService.findInstitutionsByNames(keys.institutionNames()),
+      regionService
+        .findRegionsByCodes(keys.regionCodes())
+        .stream()
+        .collect(Collectors.toMap(Region::code, Function.identity(), (first, _) -> first)),
+      fieldOfLawService.findFieldsOfLawByIdentifiers(
+        keys.fieldOfLawIdentifiers(),
+        FieldOfLawResolution.SHALLOW
+      ),
+      zitierArtService
+        .findZitierArtenByAbbreviations(
+          keys.zitierArtAbbreviations(),
+          DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+        )
+        .stream()
+        .collect(Collectors.groupingBy(ZitierArt::abbreviation))
+    );
+  }
+}
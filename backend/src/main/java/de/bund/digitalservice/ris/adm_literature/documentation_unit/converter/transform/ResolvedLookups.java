@@ -0,0 +1,100 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
+
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLaw;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.Institution;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.InstitutionType;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodical;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.Region;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArt;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The lookup table values referenced by an Akoma Ntoso document, resolved by the
+ * {@link LookupResolver}. The transformers read the values from here instead of querying the
+ * lookup tables for each reference.
+ *
+ * @param legalPeriodicals The legal periodicals by abbreviation, more than one if ambiguous
+ * @param institutions     The institutions and legal entities
+ * @param regions          The regions by code
+ * @param fieldsOfLaw      The fields of law by identifier, without children and norms
+ * @param zitierArten      The citation types of administrative regulations by abbreviation
+ */
+public record ResolvedLookups(
+  @Nonnull Map<String, List<LegalPeriodical>> legalPeriodicals,
+  @Nonnull List<Institution> institutions,
+  @Nonnull Map<String, Region> regions,
+  @Nonnull Map<String, FieldOfLaw> fieldsOfLaw,
+  @Nonnull Map<String, List<ZitierArt>> zitierArten
+) {
+  /**
+   * No resolved values, for documents without references to lookup tables.
+   */
+  public static final ResolvedLookups EMPTY = new ResolvedLookups(
+    Map.of(),
+    List.of(),
+    Map.of(),
+    Map.of(),
+    Map.of()
+  );
+
+  /**
+   * Returns the legal periodicals with the given abbreviation.
+   *
+   * @param abbreviation The abbreviation
+   * @return The legal periodicals, empty if not found or the abbreviation is {@code null}
+   */
+  public List<LegalPeriodical> findLegalPeriodicals(String abbreviation) {
+    return abbreviation != null
+      ? legalPeriodicals.getOrDefault(abbreviation, List.of())
+      : List.of();
+  }
+
+  /**
+   * Returns the institution with the given name and type.
+   *
+   * @param name            The name
+   * @param institutionType The type
+   * @return The institution, or empty if not found
+   */
+  public Optional<Institution> findInstitution(String name, InstitutionType institutionType) {
+    return institutions
+      .stream()
+      .filter(institution -> Objects.equals(institution.name(), name))
+      .filter(institution -> institution.type() == institutionType)
+      .findFirst();
+  }
+
+  /**
+   * Returns the region with the given code.
+   *
+   * @param code The code
+   * @return The region, or empty if not found or the code is {@code null}
+   */
+  public Optional<Region> findRegion(String code) {
+    return code != null ? Optional.ofNullable(regions.get(code)) : Optional.empty();
+  }
+
+  /**
+   * Returns the field of law with the given identifier.
+   *
+   * @param identifier The identifier
+   * @return The field of law, or empty if not found or the identifier is {@code null}
+   */
+  public Optional<FieldOfLaw> findFieldOfLaw(String identifier) {
+    return identifier != null ? Optional.ofNullable(fieldsOfLaw.get(identifier)) : Optional.empty();
+  }
+
+  /**
+   * Returns the citation types with the given abbreviation.
+   *
+   * @param abbreviation The abbreviation
+   * @return The citation types, empty if not found or the abbreviation is {@code null}
+   */
+  public List<ZitierArt> findZitierArten(String abbreviation) {
+    return abbreviation != null ? zitierArten.getOrDefault(abbreviation, List.of()) : List.of();
+  }
+}
@@ -0,0 +1,22 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import java.time.Instant;
+
+/**
+ * Status of the latest publication of a documentation unit.
+ *
+ * @param documentNumber The document number of the documentation unit
+ * @param status The publication status
+ * @param attempts The number of failed attempts to publish
+ * @param lastError The error message of the last failed attempt, if any
+ * @param createdAt The time the publication was requested
+ * @param publishedAt The time the documentation unit was published, if published
+ */
+public record Publication(
+  String documentNumber,
+  PublicationStatus status,
+  int attempts,
+  String lastError,
+  Instant createdAt,
+  Instant publishedAt
+) {}
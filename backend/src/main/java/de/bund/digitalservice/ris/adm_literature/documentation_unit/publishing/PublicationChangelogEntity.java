@@ -0,0 +1,35 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * Publication changelog JPA entity. An entry marks a document which has been published to the
+ * bucket of the given publisher, but is not yet listed in a changelog file.
+ */
+@Entity
+@Data
+@Table(name = "publication_changelog")
+public class PublicationChangelogEntity {
+
+  @Id
+  private UUID id;
+
+  @Basic(optional = false)
+  private String publisherName;
+
+  @Basic(optional = false)
+  private String documentNumber;
+
+  @Basic(optional = false)
+  private Instant createdAt;
+
+  /**
+   * The end of the lease while the entry is being written to a changelog file, {@code null} if
+   * the entry is not leased.
+   */
+  @Basic
+  private Instant leasedUntil;
+}
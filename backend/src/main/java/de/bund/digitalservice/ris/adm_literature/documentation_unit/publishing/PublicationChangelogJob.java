@@ -0,0 +1,48 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cron job for flushing the changelog buffers of all schemas.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PublicationChangelogJob {
+
+  private final PublicationChangelogService publicationChangelogService;
+
+  /**
+   * Writes the changelog files of all due changelog buffers.
+   */
+  @Scheduled(cron = "${cronjob.PublicationChangelogJob:-}", zone = "Europe/Berlin")
+  public void flushDue() {
+    for (SchemaType schemaType : SchemaType.values()) {
+      SchemaContextHolder.setSchema(schemaType);
+      try {
+        for (String publisherName : publicationChangelogService.findPublisherNames()) {
+          flush(publisherName);
+        }
+      } finally {
+        SchemaContextHolder.clear();
+      }
+    }
+  }
+
+  private void flush(String publisherName) {
+    try {
+      // A full buffer may contain more entries than fit into one changelog file
+      while (publicationChangelogService.flush(publisherName) > 0) {
+        log.debug("Flushed changelog of {}.", publisherName);
+      }
+    } catch (RuntimeException e) {
+      // The entries are kept in the buffer and flushed with the next run
+      log.warn("Flushing changelog of {} failed. Reason: {}.", publisherName, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface PublicationChangelogRepository extends JpaRepository<PublicationChangelogEntity, UUID> {
+  @Modifying
+  @Query(
+    value = """
+    INSERT INTO publication_changelog (id, publisher_name, document_number, created_at)
+    VALUES (gen_random_uuid(), :publisherName, :documentNumber, now())
+    ON CONFLICT (publisher_name, document_number) DO UPDATE SET leased_until = NULL
+    """,
+    nativeQuery = true
+  )
+  void add(
+    @Param("publisherName") String publisherName,
+    @Param("documentNumber") String documentNumber
+  );
+
+  @Query("SELECT DISTINCT c.publisherName FROM PublicationChangelogEntity c")
+  List<String> findPublisherNames();
+
+  long countByPublisherName(String publisherName);
+
+  @Query(
+    "SELECT min(c.createdAt) FROM PublicationChangelogEntity c WHERE c.publisherName = :publisherName"
+  )
+  Instant findOldestCreatedAt(@Param("publisherName") String publisherName);
+
+  @Query(
+    value = """
+    SELECT *
+    FROM publication_changelog
+    WHERE publisher_name = :publisherName
+      AND (leased_until IS NULL OR leased_until <= :now)
+    ORDER BY created_at
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED
+    """,
+    nativeQuery = true
+  )
+  List<PublicationChangelogEntity> lockNext(
+    @Param("publisherName") String publisherName,
+    @Param("now") Instant now,
+    @Param("limit") int limit
+  );
+
+  @Modifying
+  @Query(
+    "DELETE FROM PublicationChangelogEntity c WHERE c.id IN :ids AND c.leasedUntil = :leasedUntil"
+  )
+  int deleteLeased(@Param("ids") List<UUID> ids, @Param("leasedUntil") Instant leasedUntil);
+
+  @Modifying
+  @Query(
+    """
+    UPDATE PublicationChangelogEntity c
+    SET c.leasedUntil = null
+    WHERE c.id IN :ids AND c.leasedUntil = :leasedUntil
+    """
+  )
+  int releaseLease(@Param("ids") List<UUID> ids, @Param("leasedUntil") Instant leasedUntil);
+}
@@ -0,0 +1,142 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service for the changelog files of the portal buckets.
+ * <p>
+ * Instead of writing one changelog file per published document, the published documents are
+ * buffered in the database per publisher. The buffer of a publisher is flushed into a single
+ * changelog file if it contains at least {@code publishing.changelog.max-size} entries or if
+ * its oldest entry is older than {@code publishing.changelog.max-delay}. As the buffer is
+ * durable, no changelog entry is lost if the application is stopped before the flush.
+ * </p>
+ * <p>
+ * Like the publication outbox, the changelog file is written outside of any database
+ * transaction. The entries of the file are claimed and leased for {@link #LEASE_DURATION} in a
+ * first transaction and removed in a second one after the file has been written. If writing
+ * fails, the lease is released, if the instance dies, the entries are claimed again after the
+ * lease expired. A document published again while its entry is leased keeps its entry for the
+ * next changelog file.
+ * </p>
+ */
+@Service
+@Slf4j
+public class PublicationChangelogService {
+
+  static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+
+  private final PublicationChangelogRepository publicationChangelogRepository;
+  private final Publisher publisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxSize;
+  private final Duration maxDelay;
+
+  PublicationChangelogService(
+    PublicationChangelogRepository publicationChangelogRepository,
+    Publisher publisher,
+    PlatformTransactionManager transactionManager,
+    @Value("${publishing.changelog.max-size:1000}") int maxSize,
+    @Value("${publishing.changelog.max-delay:60s}") Duration maxDelay
+  ) {
+    this.publicationChangelogRepository = publicationChangelogRepository;
+    this.publisher = publisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxSize = maxSize;
+    this.maxDelay = maxDelay;
+  }
+
+  /**
+   * Adds a published document to the changelog buffer of the given publisher. A document which
+   * is already buffered is not added again.
+   *
+   * @param publisherName The name of the publisher the document has been published with
+   * @param documentNumber The document number of the published document
+   */
+  @Transactional
+  public void add(@Nonnull String publisherName, @Nonnull String documentNumber) {
+    publicationChangelogRepository.add(publisherName, documentNumber);
+  }
+
+  /**
+   * Returns the names of all publishers whose changelog buffer is not empty.
+   *
+   * @return The publisher names
+   */
+  @Transactional(readOnly = true)
+  public List<String> findPublisherNames() {
+    return publicationChangelogRepository.findPublisherNames();
+  }
+
+  /**
+   * Writes the next changelog file of the given publisher, if the buffer is due, i.e. it is full
+   * or its oldest entry exceeded the maximum delay. The entries are claimed before and removed
+   * after writing the changelog file, each in its own transaction, so no row lock is held while
+   * writing. They are kept if writing the changelog file fails.
+   *
+   * @param publisherName The name of the publisher
+   * @return Number of documents in the written changelog file, {@code 0} if nothing was written
+   */
+  public int flush(@Nonnull String publisherName) {
+    // Truncated to the precision of the database, the lease is compared to the stored value
+    Instant leasedUntil = Instant.now().plus(LEASE_DURATION).truncatedTo(ChronoUnit.MICROS);
+    List<PublicationChangelogEntity> entries = transactionTemplate.execute(_ ->
+      claimNext(publisherName, leasedUntil)
+    );
+    if (entries == null || entries.isEmpty()) {
+      return 0;
+    }
+    List<UUID> ids = entries.stream().map(PublicationChangelogEntity::getId).toList();
+    try {
+      publisher.publishChangelog(
+        new Publisher.ChangelogDetails(
+          publisherName,
+          entries.stream().map(PublicationChangelogEntity::getDocumentNumber).toList()
+        )
+      );
+    } catch (RuntimeException e) {
+      // The entries are claimed again with the next run
+      transactionTemplate.executeWithoutResult(_ ->
+        publicationChangelogRepository.releaseLease(ids, leasedUntil)
+      );
+      throw e;
+    }
+    transactionTemplate.executeWithoutResult(_ ->
+      publicationChangelogRepository.deleteLeased(ids, leasedUntil)
+    );
+    log.info("Flushed changelog of {} with {} documents.", publisherName, entries.size());
+    return entries.size();
+  }
+
+  private List<PublicationChangelogEntity> claimNext(String publisherName, Instant leasedUntil) {
+    if (!isDue(publisherName)) {
+      return List.of();
+    }
+    List<PublicationChangelogEntity> entries = publicationChangelogRepository.lockNext(
+      publisherName,
+      Instant.now(),
+      maxSize
+    );
+    entries.forEach(entry -> entry.setLeasedUntil(leasedUntil));
+    return entries;
+  }
+
+  private boolean isDue(String publisherName) {
+    if (publicationChangelogRepository.countByPublisherName(publisherName) >= maxSize) {
+      return true;
+    }
+    Instant oldestCreatedAt = publicationChangelogRepository.findOldestCreatedAt(publisherName);
+    return oldestCreatedAt != null && !oldestCreatedAt.isAfter(Instant.now().minus(maxDelay));
+  }
+}
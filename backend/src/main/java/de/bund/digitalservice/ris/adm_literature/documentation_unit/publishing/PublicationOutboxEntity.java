@@ -0,0 +1,61 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * Publication outbox JPA entity.
+ */
+@Entity
+@Data
+@ToString(exclude = "xml")
+@Table(name = "publication_outbox")
+public class PublicationOutboxEntity {
+
+  @Id
+  @GeneratedValue
+  private UUID id;
+
+  @Basic(optional = false)
+  private String documentNumber;
+
+  @Enumerated(EnumType.STRING)
+  @Basic(optional = false)
+  private DocumentCategory documentCategory;
+
+  /**
+   * The xml to publish, removed once the publication is published, superseded or failed.
+   */
+  @Basic
+  private String xml;
+
+  @Enumerated(EnumType.STRING)
+  @Basic(optional = false)
+  private PublicationStatus status;
+
+  @Basic(optional = false)
+  private int attempts;
+
+  @Basic(optional = false)
+  private Instant nextAttemptAt;
+
+  /**
+   * The end of the lease while the publication is being uploaded, {@code null} if it is not
+   * uploaded. It is kept if the publication is superseded during the upload.
+   */
+  @Basic
+  private Instant leasedUntil;
+
+  @Basic
+  private String lastError;
+
+  @Basic(optional = false)
+  private Instant createdAt;
+
+  @Basic
+  private Instant publishedAt;
+}
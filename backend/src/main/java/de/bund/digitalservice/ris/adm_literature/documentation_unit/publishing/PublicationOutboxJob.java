@@ -0,0 +1,132 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cron job for draining the publication outbox of all schemas.
+ * <p>
+ * The publications of a claimed batch are uploaded in parallel by {@code publishing.outbox.workers}
+ * workers. Batches are claimed until the outbox has no more due publications, so the throughput
+ * is limited by the number of workers and the duration of an upload, not by the interval of the
+ * job.
+ * </p>
+ */
+@Component
+@Slf4j
+public class PublicationOutboxJob {
+
+  private static final int BATCH_SIZE = 20;
+
+  private final PublicationOutboxService publicationOutboxService;
+  private final Publisher publisher;
+  private final ExecutorService executorService;
+
+  PublicationOutboxJob(
+    PublicationOutboxService publicationOutboxService,
+    Publisher publisher,
+    @Value("${publishing.outbox.workers:4}") int workers
+  ) {
+    this.publicationOutboxService = publicationOutboxService;
+    this.publisher = publisher;
+    this.executorService = Executors.newFixedThreadPool(
+      workers,
+      Thread.ofPlatform().name("publication-outbox-", 1).daemon().factory()
+    );
+  }
+
+  /**
+   * Publishes all due publications.
+   */
+  @Scheduled(cron = "${cronjob.PublicationOutboxJob:-}", zone = "Europe/Berlin")
+  public void publishDue() {
+    for (SchemaType schemaType : SchemaType.values()) {
+      SchemaContextHolder.setSchema(schemaType);
+      try {
+        int published = publishDueOfCurrentSchema();
+        if (published > 0) {
+          log.info("Processed {} publications in schema {}.", published, schemaType);
+        }
+      } finally {
+        SchemaContextHolder.clear();
+      }
+    }
+  }
+
+  /**
+   * Publishes all due publications of the current schema.
+   *
+   * @return Number of processed publications
+   */
+  int publishDueOfCurrentSchema() {
+    int processed = 0;
+    List<PublicationOutboxService.ClaimedPublication> claimedPublications;
+    do {
+      claimedPublications = publicationOutboxService.claimDue(BATCH_SIZE);
+      publishInParallel(claimedPublications);
+      processed += claimedPublications.size();
+    } while (claimedPublications.size() == BATCH_SIZE);
+    return processed;
+  }
+
+  private void publishInParallel(
+    List<PublicationOutboxService.ClaimedPublication> claimedPublications
+  ) {
+    // The workers need the schema of the caller for updating the outbox
+    SchemaType schemaType = SchemaContextHolder.getSchema();
+    claimedPublications
+      .stream()
+      .map(claimedPublication ->
+        CompletableFuture.runAsync(
+          () -> {
+            if (schemaType != null) {
+              SchemaContextHolder.setSchema(schemaType);
+            }
+            try {
+              publish(claimedPublication);
+            } finally {
+              SchemaContextHolder.clear();
+            }
+          },
+          executorService
+        )
+      )
+      .toList()
+      .forEach(CompletableFuture::join);
+  }
+
+  private void publish(PublicationOutboxService.ClaimedPublication claimedPublication) {
+    String documentNumber = claimedPublication.publicationDetails().documentNumber();
+    try {
+      // The publication may have been superseded or claimed by another instance in the meantime
+      if (!publicationOutboxService.isClaimed(claimedPublication)) {
+        log.info("Skipped publication of {}, it is no longer claimed.", documentNumber);
+        return;
+      }
+      publisher.publish(claimedPublication.publicationDetails());
+      if (!publicationOutboxService.markPublished(claimedPublication)) {
+        log.warn("Publication of {} was superseded while it was uploaded.", documentNumber);
+      }
+    } catch (ValidationFailedException e) {
+      publicationOutboxService.markFailed(claimedPublication, e, false);
+    } catch (RuntimeException e) {
+      publicationOutboxService.markFailed(claimedPublication, e, true);
+    } finally {
+      publicationOutboxService.release(claimedPublication);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executorService.shutdownNow();
+  }
+}
@@ -0,0 +1,83 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface PublicationOutboxRepository extends JpaRepository<PublicationOutboxEntity, UUID> {
+  @Query(
+    value = """
+    SELECT *
+    FROM publication_outbox publication
+    WHERE status = 'PENDING'
+      AND next_attempt_at <= :now
+      AND NOT EXISTS (
+        SELECT 1
+        FROM publication_outbox in_flight
+        WHERE in_flight.document_number = publication.document_number
+          AND in_flight.id <> publication.id
+          AND in_flight.leased_until > :now
+      )
+    ORDER BY created_at
+    LIMIT :limit
+    FOR UPDATE SKIP LOCKED
+    """,
+    nativeQuery = true
+  )
+  List<PublicationOutboxEntity> lockDue(@Param("now") Instant now, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+    """
+    UPDATE PublicationOutboxEntity
+    SET status = :newStatus, xml = null
+    WHERE documentNumber = :documentNumber AND status = :oldStatus
+    """
+  )
+  int updateStatusAndRemoveXml(
+    @Param("documentNumber") String documentNumber,
+    @Param("oldStatus") PublicationStatus oldStatus,
+    @Param("newStatus") PublicationStatus newStatus
+  );
+
+  @Modifying
+  @Query(
+    """
+    UPDATE PublicationOutboxEntity
+    SET status = :newStatus, publishedAt = :publishedAt, lastError = null, xml = null
+    WHERE id = :id AND status = :oldStatus AND nextAttemptAt = :leasedUntil
+    """
+  )
+  int updatePublished(
+    @Param("id") UUID id,
+    @Param("leasedUntil") Instant leasedUntil,
+    @Param("oldStatus") PublicationStatus oldStatus,
+    @Param("newStatus") PublicationStatus newStatus,
+    @Param("publishedAt") Instant publishedAt
+  );
+
+  @Modifying
+  @Query(
+    """
+    UPDATE PublicationOutboxEntity
+    SET leasedUntil = null
+    WHERE id = :id AND leasedUntil = :leasedUntil
+    """
+  )
+  int releaseLease(@Param("id") UUID id, @Param("leasedUntil") Instant leasedUntil);
+
+  boolean existsByIdAndStatusAndNextAttemptAt(
+    UUID id,
+    PublicationStatus status,
+    Instant nextAttemptAt
+  );
+
+  Optional<PublicationOutboxEntity> findFirstByDocumentNumberOrderByCreatedAtDesc(
+    String documentNumber
+  );
+}
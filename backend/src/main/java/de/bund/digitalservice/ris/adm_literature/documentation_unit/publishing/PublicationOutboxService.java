@@ -0,0 +1,248 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for the publication outbox.
+ * <p>
+ * A publication is written to the outbox in the same transaction as the published documentation
+ * unit. The outbox is drained by the {@link PublicationOutboxJob}, which publishes the entries
+ * outside of any database transaction. Due entries are claimed with {@code SKIP LOCKED} and
+ * leased for {@link #LEASE_DURATION}, so multiple instances can drain the outbox concurrently.
+ * If an instance dies while publishing, the entry is picked up again after the lease expired.
+ * </p>
+ * <p>
+ * A claimed publication is only pushed and marked as published as long as it is still pending and
+ * its lease has not been taken over by another instance. A pending publication is always the
+ * latest one of its documentation unit, because enqueuing supersedes all pending publications of
+ * the same documentation unit. A publication superseded during its upload keeps its lease until
+ * the upload is finished, and no publication of a documentation unit is claimed while another one
+ * of it is leased. So an older content never overwrites a newer one in the portal. The xml is
+ * removed as soon as a publication is published, superseded or failed.
+ * </p>
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PublicationOutboxService {
+
+  static final int MAX_ATTEMPTS = 10;
+  static final Duration LEASE_DURATION = Duration.ofMinutes(5);
+  private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+  private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final PublicationOutboxRepository publicationOutboxRepository;
+  private final PublicationChangelogService publicationChangelogService;
+
+  /**
+   * Adds a publication to the outbox. Pending publications of the same documentation unit are
+   * superseded, as only the latest content needs to be published.
+   *
+   * @param publicationDetails The details of the publication
+   */
+  @Transactional
+  public void enqueue(@Nonnull Publisher.PublicationDetails publicationDetails) {
+    publicationOutboxRepository.updateStatusAndRemoveXml(
+      publicationDetails.documentNumber(),
+      PublicationStatus.PENDING,
+      PublicationStatus.SUPERSEDED
+    );
+    Instant now = Instant.now();
+    PublicationOutboxEntity publicationOutboxEntity = new PublicationOutboxEntity();
+    publicationOutboxEntity.setDocumentNumber(publicationDetails.documentNumber());
+    publicationOutboxEntity.setDocumentCategory(publicationDetails.category());
+    publicationOutboxEntity.setXml(publicationDetails.xmlContent());
+    publicationOutboxEntity.setStatus(PublicationStatus.PENDING);
+    publicationOutboxEntity.setNextAttemptAt(now);
+    publicationOutboxEntity.setCreatedAt(now);
+    publicationOutboxRepository.save(publicationOutboxEntity);
+  }
+
+  /**
+   * Returns the status of the latest publication of the given documentation unit.
+   *
+   * @param documentNumber The document number of the documentation unit
+   * @return The latest publication, or empty if the documentation unit has never been published
+   */
+  @Transactional(readOnly = true)
+  public Optional<Publication> findLatest(@Nonnull String documentNumber) {
+    return publicationOutboxRepository
+      .findFirstByDocumentNumberOrderByCreatedAtDesc(documentNumber)
+      .map(entity ->
+        new Publication(
+          entity.getDocumentNumber(),
+          entity.getStatus(),
+          entity.getAttempts(),
+          entity.getLastError(),
+          entity.getCreatedAt(),
+          entity.getPublishedAt()
+        )
+      );
+  }
+
+  /**
+   * Claims the next due publications. The claimed entries are leased, i.e. they are not due
+   * again before the lease expires. Publications of documentation units with another publication
+   * being uploaded are not claimed.
+   *
+   * @param limit The maximum number of publications to claim
+   * @return The claimed publications, empty if there are no due publications
+   */
+  @Transactional
+  List<ClaimedPublication> claimDue(int limit) {
+    Instant now = Instant.now();
+    // Truncated to the precision of the database, the lease is compared to the stored value
+    Instant leasedUntil = now.plus(LEASE_DURATION).truncatedTo(ChronoUnit.MICROS);
+    return publicationOutboxRepository
+      .lockDue(now, limit)
+      .stream()
+      .map(entity -> {
+        entity.setNextAttemptAt(leasedUntil);
+        entity.setLeasedUntil(leasedUntil);
+        return new ClaimedPublication(
+          entity.getId(),
+          leasedUntil,
+          new Publisher.PublicationDetails(
+            entity.getDocumentNumber(),
+            entity.getXml(),
+            entity.getDocumentCategory()
+          )
+        );
+      })
+      .toList();
+  }
+
+  /**
+   * Checks whether the given claimed publication still needs to be published, i.e. it is still
+   * pending and has not been claimed again by another instance after its lease expired.
+   *
+   * @param claimedPublication The claimed publication
+   * @return {@code true} if the publication is still pending and leased by the caller
+   */
+  @Transactional(readOnly = true)
+  boolean isClaimed(@Nonnull ClaimedPublication claimedPublication) {
+    return publicationOutboxRepository.existsByIdAndStatusAndNextAttemptAt(
+      claimedPublication.id(),
+      PublicationStatus.PENDING,
+      claimedPublication.leasedUntil()
+    );
+  }
+
+  /**
+   * Marks the given publication as published and adds it to the changelog buffer of its
+   * publisher. Nothing is changed if the publication has been superseded or claimed again by
+   * another instance in the meantime.
+   *
+   * @param claimedPublication The claimed publication
+   * @return {@code true} if the publication has been marked as published
+   */
+  @Transactional
+  boolean markPublished(@Nonnull ClaimedPublication claimedPublication) {
+    int updated = publicationOutboxRepository.updatePublished(
+      claimedPublication.id(),
+      claimedPublication.leasedUntil(),
+      PublicationStatus.PENDING,
+      PublicationStatus.PUBLISHED,
+      Instant.now()
+    );
+    if (updated == 0) {
+      return false;
+    }
+    Publisher.PublicationDetails publicationDetails = claimedPublication.publicationDetails();
+    publicationChangelogService.add(
+      publicationDetails.category().getPublisherName(),
+      publicationDetails.documentNumber()
+    );
+    return true;
+  }
+
+  /**
+   * Records a failed attempt of the given publication. Retryable failures are retried with an
+   * exponential backoff until {@link #MAX_ATTEMPTS} is reached, then the publication is marked as
+   * failed. Nothing is changed if the publication has been superseded or claimed again by another
+   * instance in the meantime.
+   *
+   * @param claimedPublication The claimed publication
+   * @param error The cause of the failure
+   * @param retryable {@code false} if a retry cannot succeed, e.g. because the content is invalid
+   */
+  @Transactional
+  void markFailed(
+    @Nonnull ClaimedPublication claimedPublication,
+    @Nonnull Exception error,
+    boolean retryable
+  ) {
+    publicationOutboxRepository
+      .findById(claimedPublication.id())
+      .filter(entity -> entity.getStatus() == PublicationStatus.PENDING)
+      .filter(entity -> claimedPublication.leasedUntil().equals(entity.getNextAttemptAt()))
+      .ifPresent(entity -> {
+        int attempts = entity.getAttempts() + 1;
+        entity.setAttempts(attempts);
+        entity.setLastError(StringUtils.abbreviate(error.getMessage(), MAX_ERROR_LENGTH));
+        if (!retryable || attempts >= MAX_ATTEMPTS) {
+          entity.setStatus(PublicationStatus.FAILED);
+          entity.setXml(null);
+          log.error(
+            "Publishing documentation unit {} failed after {} attempts.",
+            entity.getDocumentNumber(),
+            attempts,
+            error
+          );
+        } else {
+          entity.setNextAttemptAt(Instant.now().plus(backoff(attempts)));
+          log.warn(
+            "Publishing documentation unit {} failed, attempt {}. Reason: {}.",
+            entity.getDocumentNumber(),
+            attempts,
+            error.getMessage()
+          );
+        }
+      });
+  }
+
+  /**
+   * Releases the lease of the given claimed publication once its upload is finished, so the next
+   * publication of the same documentation unit can be claimed. Nothing is changed if the
+   * publication has been claimed again by another instance in the meantime.
+   *
+   * @param claimedPublication The claimed publication
+   */
+  @Transactional
+  void release(@Nonnull ClaimedPublication claimedPublication) {
+    publicationOutboxRepository.releaseLease(
+      claimedPublication.id(),
+      claimedPublication.leasedUntil()
+    );
+  }
+
+  static Duration backoff(int attempts) {
+    Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, 20));
+    return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+  }
+
+  /**
+   * A publication claimed from the outbox.
+   *
+   * @param id The id of the outbox entry
+   * @param leasedUntil The end of the lease of the claim
+   * @param publicationDetails The details of the publication
+   */
+  record ClaimedPublication(
+    UUID id,
+    Instant leasedUntil,
+    Publisher.PublicationDetails publicationDetails
+  ) {}
+}
@@ -0,0 +1,25 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+/**
+ * Status of a publication in the publication outbox.
+ */
+public enum PublicationStatus {
+  /**
+   * The publication is waiting to be pushed to the portal, possibly after a failed attempt.
+   */
+  PENDING,
+  /**
+   * The publication has been pushed to the portal.
+   */
+  PUBLISHED,
+  /**
+   * The publication failed permanently, either because the maximum number of attempts has been
+   * reached or because the content is not valid.
+   */
+  FAILED,
+  /**
+   * The publication has been replaced by a newer publication of the same documentation unit
+   * before it was pushed to the portal.
+   */
+  SUPERSEDED,
+}
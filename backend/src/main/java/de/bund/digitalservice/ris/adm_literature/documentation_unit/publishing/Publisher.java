@@ -1,6 +1,7 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import java.util.List;
 import javax.annotation.Nonnull;
 
 /**
@@ -14,12 +15,34 @@ public interface Publisher {
   String getName();
 
   /**
-   * Publishes the provided content to the configured storage.
+   * Publishes the provided content to the configured storage. The published document is not
+   * listed in a changelog, see {@link #publishChangelog(ChangelogDetails)}.
    *
    * @param publicationDetails The options containing the content and identifier.
    */
   void publish(@Nonnull PublicationDetails publicationDetails);
 
+  /**
+   * Publishes a changelog listing the provided published documents to the configured storage.
+   * The default implementation does not publish anything.
+   *
+   * @param changelogDetails The publisher and the documents to list in the changelog.
+   */
+  default void publishChangelog(@Nonnull ChangelogDetails changelogDetails) {
+    // No changelog by default
+  }
+
+  /**
+   * Validates the provided content without publishing it. The default implementation does not
+   * validate anything.
+   *
+   * @param publicationDetails The options containing the content and identifier.
+   * @throws ValidationFailedException if the content is not valid
+   */
+  default void validate(@Nonnull PublicationDetails publicationDetails) {
+    // Nothing to validate by default
+  }
+
   /**
    * A data record holding the necessary information for publishing a document.
    *
@@ -28,4 +51,12 @@ public interface Publisher {
    * @param category The document category
    */
   record PublicationDetails(String documentNumber, String xmlContent, DocumentCategory category) {}
+
+  /**
+   * A data record holding the necessary information for publishing a changelog.
+   *
+   * @param publisherName The name of the publisher the documents have been published with.
+   * @param documentNumbers The document numbers of the changed documents.
+   */
+  record ChangelogDetails(String publisherName, List<String> documentNumbers) {}
 }
@@ -5,7 +5,9 @@ import jakarta.annotation.Nonnull;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.xml.sax.SAXException;
@@ -40,25 +42,54 @@ public class S3PublishAdapter implements Publisher {
   }
 
   @Override
-  public void publish(@Nonnull PublicationDetails publicationDetails) {
+  public void validate(@Nonnull PublicationDetails publicationDetails) {
     String documentNumber = publicationDetails.documentNumber();
     DocumentCategory category = publicationDetails.category();
-    String xmlKey = String.format("%s.akn.xml", documentNumber);
-
+    // Select Validator and validate based on category
+    XmlValidator validator = validators.get(category);
+    if (validator == null) {
+      String message = String.format("No XML Validator configured for category '%s'", category);
+      log.error(message);
+      throw new ValidationFailedException(message, new IllegalArgumentException(message));
+    }
     try {
-      // Select Validator and validate based on category
-      XmlValidator validator = validators.get(category);
-
-      if (validator != null) {
-        log.info("Validating XML for document {} (Category: {})", documentNumber, category);
-        validator.validate(publicationDetails.xmlContent());
-        log.info("XML validation successful for document {}", documentNumber);
-      } else {
-        String message = String.format("No XML Validator configured for category '%s'", category);
-        log.error(message);
-        throw new ValidationFailedException(message, new IllegalArgumentException(message));
-      }
+      log.info("Validating XML for document {} (Category: {})", documentNumber, category);
+      validator.validate(publicationDetails.xmlContent());
+      log.info("XML validation successful for document {}", documentNumber);
+    } catch (SAXParseException e) {
+      String detailedMessage = String.format(
+        "XML validation failed for document %s at line %d, column %d: %s",
+        documentNumber,
+        e.getLineNumber(),
+        e.getColumnNumber(),
+        e.getMessage()
+      );
+      log.error(detailedMessage);
+      throw new ValidationFailedException(detailedMessage, e);
+    } catch (IOException | SAXException e) {
+      log.error(
+        "Failed to publish document {}. An unexpected validation or IO error occurred.",
+        documentNumber,
+        e
+      );
+      throw new ValidationFailedException(
+        "Failed to publish document " + documentNumber + ". Validation error: " + e.getMessage(),
+        e
+      );
+    }
+  }
 
+  /**
+   * Uploads the xml of the given publication. It is not validated again, the content has already
+   * been validated with {@link #validate(PublicationDetails)} before it was enqueued.
+   *
+   * @param publicationDetails The options containing the content and identifier.
+   */
+  @Override
+  public void publish(@Nonnull PublicationDetails publicationDetails) {
+    String documentNumber = publicationDetails.documentNumber();
+    String xmlKey = String.format("%s.akn.xml", documentNumber);
+    try {
       // Publish the document
       log.info("Publishing document {} to S3 bucket '{}'", documentNumber, bucketName);
       PutObjectRequest xmlRequest = PutObjectRequest.builder()
@@ -68,13 +99,34 @@ public class S3PublishAdapter implements Publisher {
         .build();
       s3Client.putObject(xmlRequest, RequestBody.fromString(publicationDetails.xmlContent()));
       log.info("Successfully published document {} to S3.", documentNumber);
+    } catch (S3Exception e) {
+      log.error("Failed to publish document {} to S3 bucket '{}'", documentNumber, bucketName, e);
+      throw new PublishingFailedException(
+        "Failed to publish document " + documentNumber + " to S3. Call to external system failed.",
+        e
+      );
+    }
+  }
 
-      // Publish a new changelog file
-      log.info("Publishing changelog file to S3 bucket '{}'", bucketName);
-      String timestamp = CHANGELOG_TIMESTAMP_FORMATTER.format(Instant.now());
-      String changelogKey = String.format("changelogs/%s.json", timestamp);
-      String changelogContent = String.format("{\"changed\":[\"%s\"]}", xmlKey);
-
+  @Override
+  public void publishChangelog(@Nonnull ChangelogDetails changelogDetails) {
+    List<String> changedKeys = changelogDetails
+      .documentNumbers()
+      .stream()
+      .map(documentNumber -> String.format("%s.akn.xml", documentNumber))
+      .toList();
+    String timestamp = CHANGELOG_TIMESTAMP_FORMATTER.format(Instant.now());
+    String changelogKey = String.format("changelogs/%s.json", timestamp);
+    String changelogContent = changedKeys
+      .stream()
+      .map(changedKey -> "\"" + changedKey + "\"")
+      .collect(Collectors.joining(",", "{\"changed\":[", "]}"));
+    try {
+      log.info(
+        "Publishing changelog file with {} documents to S3 bucket '{}'",
+        changedKeys.size(),
+        bucketName
+      );
       PutObjectRequest changelogRequest = PutObjectRequest.builder()
         .bucket(bucketName)
         .key(changelogKey)
@@ -83,34 +135,9 @@ public class S3PublishAdapter implements Publisher {
       s3Client.putObject(changelogRequest, RequestBody.fromString(changelogContent));
       log.info("Successfully published changelog file '{}' to S3.", changelogKey);
     } catch (S3Exception e) {
-      log.error(
-        "Failed to publish document {} or its changelog to S3 bucket '{}'",
-        documentNumber,
-        bucketName,
-        e
-      );
+      log.error("Failed to publish changelog to S3 bucket '{}'", bucketName, e);
       throw new PublishingFailedException(
-        "Failed to publish document " + documentNumber + " to S3. Call to external system failed.",
-        e
-      );
-    } catch (SAXParseException e) {
-      String detailedMessage = String.format(
-        "XML validation failed for document %s at line %d, column %d: %s",
-        documentNumber,
-        e.getLineNumber(),
-        e.getColumnNumber(),
-        e.getMessage()
-      );
-      log.error(detailedMessage);
-      throw new ValidationFailedException(detailedMessage, e);
-    } catch (IOException | SAXException e) {
-      log.error(
-        "Failed to publish document {}. An unexpected validation or IO error occurred.",
-        documentNumber,
-        e
-      );
-      throw new ValidationFailedException(
-        "Failed to publish document " + documentNumber + ". Validation error: " + e.getMessage(),
+        "Failed to publish changelog to S3. Call to external system failed.",
         e
       );
     }
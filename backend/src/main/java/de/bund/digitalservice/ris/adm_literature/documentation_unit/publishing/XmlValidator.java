@@ -1,5 +1,11 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
 
+import de.bund.digitalservice.ris.adm_literature.pool.ObjectPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.net.URL;
@@ -14,17 +20,41 @@ import org.xml.sax.SAXException;
 
 /**
  * Validates xml against their respective schemas.
+ * <p>
+ * The schemas are compiled once. The {@link Validator} instances created from the compiled
+ * schema are not thread-safe and are therefore pooled. The duration of each validation is
+ * recorded as {@code xml.validation} metric tagged with the name of the validator.
+ * </p>
  */
 @Slf4j
 public class XmlValidator {
 
+  private static final int MAX_IDLE_VALIDATORS = 16;
+
   private final Schema schema;
+  private final ObjectPool<Validator> validatorPool;
+  private final Timer validationTimer;
 
   /**
-   * Creates a validator instance for a specific set of schemas.
+   * Creates a validator instance for a specific set of schemas. Metrics are registered at the
+   * global registry.
    * @param schemaClasspathPaths A list of classpath paths to the XSD files.
    */
   public XmlValidator(List<String> schemaClasspathPaths) {
+    this("default", schemaClasspathPaths, Metrics.globalRegistry);
+  }
+
+  /**
+   * Creates a validator instance for a specific set of schemas.
+   * @param name Name of the validator, e.g. the document category, used as metrics tag
+   * @param schemaClasspathPaths A list of classpath paths to the XSD files.
+   * @param meterRegistry Registry for the validation and pool metrics
+   */
+  public XmlValidator(
+    @Nonnull String name,
+    List<String> schemaClasspathPaths,
+    @Nonnull MeterRegistry meterRegistry
+  ) {
     if (schemaClasspathPaths == null || schemaClasspathPaths.isEmpty()) {
       throw new IllegalArgumentException("At least one schema path must be provided.");
     }
@@ -46,17 +76,50 @@ public class XmlValidator {
       log.error("Failed to initialize XML schema.", e);
       throw new IllegalStateException("Could not compile the XSD schemas", e);
     }
+    this.validatorPool = new ObjectPool<>(
+      "xml.validator." + name,
+      MAX_IDLE_VALIDATORS,
+      schema::newValidator,
+      meterRegistry
+    );
+    this.validationTimer = Timer.builder("xml.validation")
+      .description("Duration of XML schema validation")
+      .tag("name", name)
+      .register(meterRegistry);
   }
 
   /**
-   * Validates a xml file.
+   * Validates a xml file. The content is read from the string as is, without encoding it to
+   * bytes first.
    * @param xmlContent The content of the file
    * @throws IOException IOException
    * @throws SAXException SAXException
    */
   public void validate(String xmlContent) throws IOException, SAXException {
-    Validator validator = schema.newValidator();
-    validator.validate(new StreamSource(new StringReader(xmlContent)));
+    validate(new StreamSource(new StringReader(xmlContent)));
+  }
+
+  /**
+   * Validates a xml file. The parser detects the encoding from the XML declaration.
+   * @param xmlContent The content of the file
+   * @throws IOException IOException
+   * @throws SAXException SAXException
+   */
+  public void validate(byte[] xmlContent) throws IOException, SAXException {
+    validate(new StreamSource(new ByteArrayInputStream(xmlContent)));
+  }
+
+  private void validate(StreamSource source) throws IOException, SAXException {
+    Timer.Sample sample = Timer.start();
+    Validator validator = validatorPool.borrow();
+    try {
+      validator.validate(source);
+    } finally {
+      // A validator can be reused after a validation error, it must be reset before reuse
+      validator.reset();
+      validatorPool.release(validator);
+      sample.stop(validationTimer);
+    }
   }
 
   private StreamSource streamSourceFromClasspath(String path) {
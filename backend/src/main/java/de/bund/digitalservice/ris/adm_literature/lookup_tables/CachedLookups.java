@@ -0,0 +1,87 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Looks up the values of several keys of a lookup table through its cache. Only the keys missing
+ * in the cache are loaded, with one query, and put into the cache one by one. Keys without value
+ * are cached as well, so they are not queried again.
+ * <p>
+ * The cache entries are shared with the {@code @Cacheable} lookup of a single key, if the cache
+ * keys are created with {@link SchemaAwareKeyGenerator#key(Object...)} from the same parameters.
+ * </p>
+ */
+public final class CachedLookups {
+
+  private CachedLookups() {}
+
+  /**
+   * Returns the values of the given keys, from the cache or loaded with the given loader.
+   *
+   * @param cacheManager The cache manager
+   * @param cacheName    The name of the cache of the lookup table
+   * @param keys         The keys to look up
+   * @param cacheKey     Creates the cache key of a key
+   * @param loader       Loads the values of the keys missing in the cache, keys without value are
+   *                     missing in the result
+   * @param notFound     The value cached for keys without value, as the {@code @Cacheable} lookup
+   *                     would cache it, e.g. {@code null} or an empty list
+   * @param <K>          The type of the keys
+   * @param <V>          The type of the values
+   * @return The values by key, in the order of the given keys. Keys with value {@code null} are
+   *         missing.
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> Map<K, V> getAll(
+    @Nonnull CacheManager cacheManager,
+    @Nonnull String cacheName,
+    @Nonnull Collection<K> keys,
+    @Nonnull Function<K, Object> cacheKey,
+    @Nonnull Function<List<K>, Map<K, V>> loader,
+    V notFound
+  ) {
+    Cache cache = Objects.requireNonNull(
+      cacheManager.getCache(cacheName),
+      () -> "Unknown cache " + cacheName
+    );
+    Map<K, V> values = LinkedHashMap.newLinkedHashMap(keys.size());
+    List<K> misses = new ArrayList<>();
+    for (K key : keys) {
+      Cache.ValueWrapper cached = cache.get(cacheKey.apply(key));
+      if (cached == null) {
+        misses.add(key);
+      } else if (cached.get() != null) {
+        values.put(key, (V) cached.get());
+      }
+    }
+    if (!misses.isEmpty()) {
+      Map<K, V> loaded = loader.apply(misses);
+      for (K key : misses) {
+        V value = loaded.getOrDefault(key, notFound);
+        cache.put(cacheKey.apply(key), value);
+        if (value != null) {
+          values.put(key, value);
+        }
+      }
+    }
+    // Keep the order of the given keys, cached and loaded values are mixed
+    Map<K, V> ordered = LinkedHashMap.newLinkedHashMap(values.size());
+    for (K key : keys) {
+      V value = values.get(key);
+      if (value != null) {
+        ordered.put(key, value);
+      }
+    }
+    return ordered;
+  }
+}
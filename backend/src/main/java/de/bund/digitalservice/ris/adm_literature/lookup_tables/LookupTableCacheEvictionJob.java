@@ -0,0 +1,47 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables;
+
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.DOCUMENT_TYPES_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.INSTITUTIONS_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.LEGAL_PERIODICALS_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.REGIONS_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.ZITIER_ARTEN_CACHE;
+
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawTreeCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cron job for evicting the caches of the lookup tables. The caches expire by themselves, the job
+ * makes sure that changes of the lookup tables are visible at a defined time. The eviction can
+ * also be triggered explicitly by calling {@link #evictAll()}. The in-memory field of law trees do
+ * not expire by themselves, they are only reloaded after this eviction.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LookupTableCacheEvictionJob {
+
+  private final FieldOfLawTreeCache fieldOfLawTreeCache;
+
+  /**
+   * Evicts all entries of the lookup table caches.
+   */
+  @Scheduled(cron = "${cronjob.LookupTableCacheEvictionJob:-}", zone = "Europe/Berlin")
+  @CacheEvict(
+    cacheNames = {
+      LEGAL_PERIODICALS_CACHE,
+      INSTITUTIONS_CACHE,
+      REGIONS_CACHE,
+      ZITIER_ARTEN_CACHE,
+      DOCUMENT_TYPES_CACHE,
+    },
+    allEntries = true
+  )
+  public void evictAll() {
+    fieldOfLawTreeCache.evictAll();
+    log.info("Evicted lookup table caches.");
+  }
+}
@@ -1,5 +1,8 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.document_type;
 
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.DOCUMENT_TYPES_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.SCHEMA_AWARE_KEY_GENERATOR;
+
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
@@ -10,6 +13,7 @@ import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -63,6 +67,7 @@ public class DocumentTypeService {
    * @return An {@link Optional} containing the found {@link DocumentType}, or empty if not found.
    */
   @Transactional(readOnly = true)
+  @Cacheable(cacheNames = DOCUMENT_TYPES_CACHE, keyGenerator = SCHEMA_AWARE_KEY_GENERATOR)
   public Optional<DocumentType> findDocumentTypeByAbbreviation(
     @Nonnull String abbreviation,
     @Nonnull DocumentCategory documentCategory
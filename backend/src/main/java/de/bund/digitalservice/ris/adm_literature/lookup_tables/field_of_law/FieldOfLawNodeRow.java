@@ -0,0 +1,15 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import java.util.UUID;
+
+/**
+ * Projection of a field of law without its associations, for loading the
+ * {@link FieldOfLawTree}.
+ *
+ * @param id         UUID of the field of law
+ * @param parentId   UUID of the parent field of law, {@code null} for a root
+ * @param identifier Identifier of the field of law
+ * @param text       Text
+ * @param notation   Either NEW or OLD
+ */
+record FieldOfLawNodeRow(UUID id, UUID parentId, String identifier, String text, String notation) {}
@@ -0,0 +1,12 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import java.util.UUID;
+
+/**
+ * Projection of a norm of a field of law, for loading the {@link FieldOfLawTree}.
+ *
+ * @param fieldOfLawId          UUID of the field of law
+ * @param abbreviation          Norm abbreviation, e.g. BGB
+ * @param singleNormDescription Single norm description, e.g. § 17
+ */
+record FieldOfLawNormRow(UUID fieldOfLawId, String abbreviation, String singleNormDescription) {}
@@ -1,14 +1,43 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
-interface FieldOfLawRepository
-  extends JpaRepository<FieldOfLawEntity, UUID>, JpaSpecificationExecutor<FieldOfLawEntity> {
-  Optional<FieldOfLawEntity> findByIdentifier(String identifier);
+interface FieldOfLawRepository extends JpaRepository<FieldOfLawEntity, UUID> {
+  @Query(
+    """
+    SELECT new de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawNodeRow(
+      f.id, p.id, f.identifier, f.text, f.notation
+    )
+    FROM FieldOfLawEntity f
+    LEFT JOIN f.parent p
+    """
+  )
+  List<FieldOfLawNodeRow> findAllNodes();
 
-  List<FieldOfLawEntity> findByParentIsNullAndNotationOrderByIdentifier(String notation);
+  @Query(
+    """
+    SELECT new de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawNormRow(
+      f.id, n.abbreviation, n.singleNormDescription
+    )
+    FROM FieldOfLawNormEntity n
+    JOIN n.fieldOfLaw f
+    ORDER BY n.abbreviation, n.singleNormDescription
+    """
+  )
+  List<FieldOfLawNormRow> findAllNorms();
+
+  @Query(
+    """
+    SELECT new de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawTextReferenceRow(
+      f.id, r.identifier
+    )
+    FROM FieldOfLawEntity f
+    JOIN f.fieldOfLawTextReferences r
+    ORDER BY r.identifier
+    """
+  )
+  List<FieldOfLawTextReferenceRow> findAllTextReferences();
 }
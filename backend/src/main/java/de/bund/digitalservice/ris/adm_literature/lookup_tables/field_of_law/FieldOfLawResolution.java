@@ -0,0 +1,34 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+/**
+ * Controls how deep and with which attributes a field of law is resolved by its identifier. The
+ * parent chain is always resolved, it is shared by all fields of law and costs nothing.
+ *
+ * @param childDepth The number of child levels to resolve, {@code 0} resolves no children
+ * @param withNorms  {@code true} to resolve the norms of the field of law and its children
+ */
+public record FieldOfLawResolution(int childDepth, boolean withNorms) {
+  /**
+   * Without children and norms, as needed for the fields of law selected in a documentation unit.
+   */
+  public static final FieldOfLawResolution SHALLOW = new FieldOfLawResolution(0, false);
+
+  /**
+   * With direct children and norms, as needed for a node of the field of law tree.
+   */
+  public static final FieldOfLawResolution WITH_CHILDREN_AND_NORMS = new FieldOfLawResolution(
+    1,
+    true
+  );
+
+  /**
+   * Validates the child depth.
+   *
+   * @throws IllegalArgumentException if the child depth is negative
+   */
+  public FieldOfLawResolution {
+    if (childDepth < 0) {
+      throw new IllegalArgumentException("Child depth must not be negative: " + childDepth);
+    }
+  }
+}
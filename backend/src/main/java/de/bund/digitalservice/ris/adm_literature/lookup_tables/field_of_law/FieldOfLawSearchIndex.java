@@ -0,0 +1,289 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory search on the fields of law in the new notation.
+ * <p>
+ * Texts and norms are lower cased and split into tokens once, when the index is created. A search
+ * finds the candidates in the inverted {@link TokenIndex}es, scores all candidates and sorts them
+ * by score before a page is taken, so the best matches are always on the first page.
+ * </p>
+ */
+final class FieldOfLawSearchIndex {
+
+  private static final String NEW_NOTATION = "NEW";
+  private static final Pattern TEXT_SEPARATOR = Pattern.compile("[\\s-]+");
+  private static final Pattern NORM_SEPARATOR = Pattern.compile("\\s+");
+
+  // Sorted by identifier
+  private final List<FieldOfLaw> fieldsOfLaw;
+  private final String[] identifiers;
+  private final String[] texts;
+  private final String[][] textTokens;
+  private final TokenIndex textIndex;
+  // The field of law of each norm, the norms are the documents of the norm index
+  private final int[] normFieldsOfLaw;
+  private final Norm[][] norms;
+  private final TokenIndex normIndex;
+
+  private FieldOfLawSearchIndex(
+    List<FieldOfLaw> fieldsOfLaw,
+    String[] texts,
+    String[][] textTokens,
+    TokenIndex textIndex,
+    int[] normFieldsOfLaw,
+    Norm[][] norms,
+    TokenIndex normIndex
+  ) {
+    this.fieldsOfLaw = fieldsOfLaw;
+    this.identifiers = fieldsOfLaw.stream().map(FieldOfLaw::identifier).toArray(String[]::new);
+    this.texts = texts;
+    this.textTokens = textTokens;
+    this.textIndex = textIndex;
+    this.normFieldsOfLaw = normFieldsOfLaw;
+    this.norms = norms;
+    this.normIndex = normIndex;
+  }
+
+  /**
+   * Creates the index of the fields of law in the new notation.
+   *
+   * @param fieldsOfLaw The fields of law with norms, sorted by identifier
+   * @return The index
+   */
+  static FieldOfLawSearchIndex of(@Nonnull List<FieldOfLaw> fieldsOfLaw) {
+    List<FieldOfLaw> newFieldsOfLaw = fieldsOfLaw
+      .stream()
+      .filter(fieldOfLaw -> NEW_NOTATION.equals(fieldOfLaw.notation()))
+      .toList();
+    int size = newFieldsOfLaw.size();
+    String[] texts = new String[size];
+    String[][] textTokens = new String[size][];
+    Norm[][] norms = new Norm[size][];
+    List<Integer> normFieldsOfLaw = new ArrayList<>();
+    List<String[]> normTokens = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      FieldOfLaw fieldOfLaw = newFieldsOfLaw.get(i);
+      texts[i] = Objects.requireNonNullElse(fieldOfLaw.text(), "").toLowerCase();
+      textTokens[i] = tokenize(texts[i], TEXT_SEPARATOR);
+      norms[i] = new Norm[fieldOfLaw.norms().size()];
+      for (int n = 0; n < norms[i].length; n++) {
+        FieldOfLawNorm fieldOfLawNorm = fieldOfLaw.norms().get(n);
+        String abbreviation = Objects.requireNonNullElse(
+          fieldOfLawNorm.abbreviation(),
+          ""
+        ).toLowerCase();
+        String description = Objects.requireNonNullElse(
+          fieldOfLawNorm.singleNormDescription(),
+          ""
+        ).toLowerCase();
+        norms[i][n] = new Norm(description, description + " " + abbreviation);
+        normFieldsOfLaw.add(i);
+        normTokens.add(
+          concat(tokenize(abbreviation, NORM_SEPARATOR), tokenize(description, NORM_SEPARATOR))
+        );
+      }
+    }
+    return new FieldOfLawSearchIndex(
+      newFieldsOfLaw,
+      texts,
+      textTokens,
+      TokenIndex.of(Arrays.asList(textTokens)),
+      normFieldsOfLaw.stream().mapToInt(Integer::intValue).toArray(),
+      norms,
+      TokenIndex.of(normTokens)
+    );
+  }
+
+  /**
+   * Searches fields of law in the new notation. All conditions must be met:
+   * <ul>
+   *   <li>the identifier starts with the given identifier (case-insensitive)</li>
+   *   <li>the text contains each text term (case-insensitive)</li>
+   *   <li>a norm contains each norm term in its abbreviation or description (case-insensitive)</li>
+   * </ul>
+   * The found fields of law are sorted by descending score, equal scores by the given order.
+   *
+   * @param identifier         Identifier prefix or {@code null}
+   * @param textTerms          Text terms, can be empty
+   * @param normTerms          Norm terms without paragraph sign, can be empty
+   * @param normWithParagraphs The norm as entered, for scoring, or {@code null}
+   * @param order              Order of fields of law with equal score
+   * @return All found fields of law, best match first
+   */
+  List<FieldOfLaw> search(
+    String identifier,
+    @Nonnull List<String> textTerms,
+    @Nonnull List<String> normTerms,
+    String normWithParagraphs,
+    @Nonnull Comparator<FieldOfLaw> order
+  ) {
+    List<String> lowerCaseTextTerms = textTerms.stream().map(String::toLowerCase).toList();
+    BitSet candidates = findCandidates(identifier, lowerCaseTextTerms, normTerms);
+    String lowerCaseNorm = normWithParagraphs != null ? normWithParagraphs.toLowerCase() : null;
+    Comparator<ScoredFieldOfLaw> byScore = Comparator.comparingInt(ScoredFieldOfLaw::score);
+    return candidates
+      .stream()
+      .mapToObj(index ->
+        new ScoredFieldOfLaw(
+          fieldsOfLaw.get(index),
+          score(index, lowerCaseTextTerms, lowerCaseNorm)
+        )
+      )
+      .sorted(byScore.reversed().thenComparing(ScoredFieldOfLaw::fieldOfLaw, order))
+      .map(ScoredFieldOfLaw::fieldOfLaw)
+      .toList();
+  }
+
+  private BitSet findCandidates(
+    String identifier,
+    List<String> lowerCaseTextTerms,
+    List<String> normTerms
+  ) {
+    BitSet candidates = identifier != null
+      ? findByIdentifierPrefix(identifier.toUpperCase())
+      : allFieldsOfLaw();
+    for (String textTerm : lowerCaseTextTerms) {
+      if (candidates.isEmpty()) {
+        return candidates;
+      }
+      candidates.and(findByTextTerm(textTerm));
+    }
+    if (!normTerms.isEmpty() && !candidates.isEmpty()) {
+      candidates.and(findByNormTerms(normTerms));
+    }
+    return candidates;
+  }
+
+  private BitSet allFieldsOfLaw() {
+    BitSet all = new BitSet(fieldsOfLaw.size());
+    all.set(0, fieldsOfLaw.size());
+    return all;
+  }
+
+  private BitSet findByIdentifierPrefix(String prefix) {
+    // The identifiers are sorted, so the identifiers with the prefix are a range
+    int from = insertionPoint(prefix);
+    int to = from;
+    while (
+      to < identifiers.length && identifiers[to] != null && identifiers[to].startsWith(prefix)
+    ) {
+      to++;
+    }
+    BitSet found = new BitSet(fieldsOfLaw.size());
+    found.set(from, to);
+    return found;
+  }
+
+  private int insertionPoint(String prefix) {
+    int low = 0;
+    int high = identifiers.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (identifiers[middle] != null && identifiers[middle].compareTo(prefix) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private BitSet findByTextTerm(String textTerm) {
+    String[] parts = tokenize(textTerm, TEXT_SEPARATOR);
+    BitSet found = allFieldsOfLaw();
+    for (String part : parts) {
+      found.and(textIndex.find(part));
+    }
+    if (parts.length != 1 || !parts[0].equals(textTerm)) {
+      // The term contains separators, the parts are found in the tokens but maybe not in sequence
+      int[] mismatches = found.stream().filter(index -> !texts[index].contains(textTerm)).toArray();
+      for (int index : mismatches) {
+        found.clear(index);
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Finds the fields of law with a norm, which contains all terms.
+   */
+  private BitSet findByNormTerms(List<String> normTerms) {
+    BitSet foundNorms = null;
+    for (String normTerm : normTerms) {
+      BitSet norms = normIndex.find(normTerm.toLowerCase());
+      if (foundNorms == null) {
+        foundNorms = norms;
+      } else {
+        foundNorms.and(norms);
+      }
+    }
+    BitSet found = new BitSet(fieldsOfLaw.size());
+    Objects.requireNonNull(foundNorms)
+      .stream()
+      .forEach(norm -> found.set(normFieldsOfLaw[norm]));
+    return found;
+  }
+
+  private int score(int index, List<String> lowerCaseTextTerms, String lowerCaseNorm) {
+    int score = 0;
+    for (String textTerm : lowerCaseTextTerms) {
+      score += scoreByTextTerm(index, textTerm);
+    }
+    if (lowerCaseNorm != null) {
+      score += scoreByNormWithParagraphs(index, lowerCaseNorm);
+    }
+    return score;
+  }
+
+  private int scoreByTextTerm(int index, String textTerm) {
+    int score = 0;
+    if (texts[index].startsWith(textTerm)) score += 5;
+    for (String textPart : textTokens[index]) {
+      if (textPart.equals(textTerm)) score += 4;
+      else if (textPart.startsWith(textTerm)) score += 3;
+      else if (textPart.contains(textTerm)) score += 1;
+    }
+    return score;
+  }
+
+  private int scoreByNormWithParagraphs(int index, String normWithParagraphs) {
+    int score = 0;
+    for (Norm norm : norms[index]) {
+      if (norm.description().equals(normWithParagraphs)) score += 8;
+      else if (norm.description().startsWith(normWithParagraphs)) score += 5;
+      else if (norm.text().contains(normWithParagraphs)) score += 5;
+    }
+    return score;
+  }
+
+  private static String[] tokenize(String text, Pattern separator) {
+    return Arrays.stream(separator.split(text))
+      .filter(token -> !token.isEmpty())
+      .toArray(String[]::new);
+  }
+
+  private static String[] concat(String[] first, String[] second) {
+    String[] all = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, all, first.length, second.length);
+    return all;
+  }
+
+  /**
+   * Lower case norm of a field of law.
+   *
+   * @param description Single norm description
+   * @param text        Single norm description and abbreviation
+   */
+  private record Norm(String description, String text) {}
+
+  private record ScoredFieldOfLaw(FieldOfLaw fieldOfLaw, int score) {}
+}
@@ -4,9 +4,10 @@ import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import jakarta.annotation.Nonnull;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,17 +19,20 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service for lookup table field of law (in German 'Sachgebiet').
+ * <p>
+ * The tree is navigated and searched on the in-memory {@link FieldOfLawTree} and its
+ * {@link FieldOfLawSearchIndex}, no request queries the database.
+ * </p>
  */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class FieldOfLawService {
 
-  private final FieldOfLawRepository fieldOfLawRepository;
+  private final FieldOfLawTreeCache fieldOfLawTreeCache;
 
   /**
    * Finds all direct children of a field of law by its identifier.
@@ -36,14 +40,8 @@ public class FieldOfLawService {
    * @param identifier The unique identifier of the parent field of law.
    * @return A list of child {@link FieldOfLaw}.
    */
-  @Transactional(readOnly = true)
   public List<FieldOfLaw> findFieldsOfLawChildren(@Nonnull String identifier) {
-    return fieldOfLawRepository
-      .findByIdentifier(identifier)
-      .map(fieldOfLawEntity -> FieldOfLawTransformer.transformToDomain(fieldOfLawEntity, true, true)
-      )
-      .map(FieldOfLaw::children)
-      .orElse(List.of());
+    return fieldOfLawTreeCache.get().findChildren(identifier);
   }
 
   /**
@@ -51,15 +49,8 @@ public class FieldOfLawService {
    *
    * @return A list of parent {@link FieldOfLaw}.
    */
-  @Transactional(readOnly = true)
   public List<FieldOfLaw> findFieldsOfLawParents() {
-    return fieldOfLawRepository
-      .findByParentIsNullAndNotationOrderByIdentifier("NEW")
-      .stream()
-      .map(fieldOfLawEntity ->
-        FieldOfLawTransformer.transformToDomain(fieldOfLawEntity, false, true)
-      )
-      .toList();
+    return fieldOfLawTreeCache.get().findRoots();
   }
 
   /**
@@ -68,23 +59,43 @@ public class FieldOfLawService {
    * @param identifier The unique identifier of the field of law.
    * @return An {@link Optional} containing the found {@link FieldOfLaw}, or empty if not found.
    */
-  @Transactional(readOnly = true)
   public Optional<FieldOfLaw> findFieldOfLaw(@Nonnull String identifier) {
-    return fieldOfLawRepository
-      .findByIdentifier(identifier)
-      .map(fieldOfLawEntity -> FieldOfLawTransformer.transformToDomain(fieldOfLawEntity, true, true)
-      );
+    return fieldOfLawTreeCache.get().find(identifier);
   }
 
   /**
-   * Finds a paginated list of fields of law based on a search query.
+   * Finds fields of law by their identifiers in one lookup. Only the requested child levels and
+   * attributes are resolved, e.g. {@link FieldOfLawResolution#SHALLOW} resolves neither children
+   * nor norms.
+   *
+   * @param identifiers The unique identifiers of the fields of law.
+   * @param resolution  The child depth and attributes to resolve.
+   * @return The found {@link FieldOfLaw}s by identifier, in the order of the given identifiers.
+   *         Identifiers without field of law are missing.
+   */
+  public Map<String, FieldOfLaw> findFieldsOfLawByIdentifiers(
+    @Nonnull Collection<String> identifiers,
+    @Nonnull FieldOfLawResolution resolution
+  ) {
+    if (identifiers.isEmpty()) {
+      return Map.of();
+    }
+    return fieldOfLawTreeCache.get().findAll(identifiers, resolution);
+  }
+
+  /**
+   * Finds a paginated list of fields of law based on a search query. All matching fields of law
+   * are ranked by how well their text and norms match the query, equal ranks are sorted by the
+   * requested property ({@code identifier} or {@code text}), then the page is taken.
    *
    * @param query The query containing search terms and pagination options.
    * @return A page of {@link FieldOfLaw}.
+   * @throws IllegalArgumentException if the sort property is neither {@code identifier} nor
+   *         {@code text}
    */
-  @Transactional(readOnly = true)
   public Page<FieldOfLaw> findFieldsOfLaw(@Nonnull FieldOfLawQuery query) {
     QueryOptions queryOptions = query.queryOptions();
+    Comparator<FieldOfLaw> sameRankOrder = sameRankOrder(queryOptions);
     Sort sort = Sort.by(queryOptions.sortDirection(), queryOptions.sortByProperty());
     Pageable pageable = queryOptions.usePagination()
       ? PageRequest.of(queryOptions.pageNumber(), queryOptions.pageSize(), sort)
@@ -94,109 +105,54 @@ public class FieldOfLawService {
     List<String> normTerms = splitSearchTerms(
       StringUtils.trimToNull(Strings.CS.replace(query.norm(), "§", ""))
     );
-    FieldOfLawSpecification fieldOfLawSpecification = new FieldOfLawSpecification(
-      query.identifier(),
-      textTerms,
-      normTerms
-    );
-    var searchResult = fieldOfLawRepository
-      .findAll(fieldOfLawSpecification, pageable)
-      .map(fieldOfLawEntity ->
-        FieldOfLawTransformer.transformToDomain(fieldOfLawEntity, false, true)
-      );
-
-    if (searchResult.isEmpty()) {
-      // If no results found, do not re-sort result
-      return PageTransformer.transform(searchResult);
-    }
-
     String normParagraphsWithSpace = RegExUtils.replaceAll(
       StringUtils.trim(query.norm()),
       "§(\\d+)",
       "§ $1"
     );
-    List<FieldOfLaw> orderedList = orderResults(textTerms, normParagraphsWithSpace, searchResult);
-    return PageTransformer.transform(
-      new PageImpl<>(orderedList, searchResult.getPageable(), searchResult.getTotalElements())
-    );
+    List<FieldOfLaw> rankedFieldsOfLaw = fieldOfLawTreeCache
+      .get()
+      .searchIndex()
+      .search(
+        query.identifier(),
+        textTerms,
+        normTerms,
+        normParagraphsWithSpace,
+        sameRankOrder
+      );
+
+    List<FieldOfLaw> content = rankedFieldsOfLaw;
+    if (pageable.isPaged()) {
+      int from = (int) Math.min(pageable.getOffset(), rankedFieldsOfLaw.size());
+      int to = Math.min(from + pageable.getPageSize(), rankedFieldsOfLaw.size());
+      content = rankedFieldsOfLaw.subList(from, to);
+    }
+    return PageTransformer.transform(new PageImpl<>(content, pageable, rankedFieldsOfLaw.size()));
   }
 
   private List<String> splitSearchTerms(String searchStr) {
     return searchStr != null ? List.of(searchStr.split("\\s+")) : List.of();
   }
 
-  private List<FieldOfLaw> orderResults(
-    List<String> textTerms,
-    String normParagraphsWithSpace,
-    org.springframework.data.domain.Page<FieldOfLaw> searchResult
-  ) {
-    // Calculate scores and sort the list based on the score and identifier
-    List<ScoredFieldOfLaw> scores = calculateScore(
-      textTerms,
-      normParagraphsWithSpace,
-      searchResult.getContent()
-    );
-    return scores
-      .stream()
-      .sorted(
-        Comparator.comparing(ScoredFieldOfLaw::score).thenComparing(scoredFieldOfLaw ->
-          scoredFieldOfLaw.fieldOfLaw().identifier()
-        )
-      )
-      .map(ScoredFieldOfLaw::fieldOfLaw)
-      .toList();
-  }
-
-  private List<ScoredFieldOfLaw> calculateScore(
-    List<String> textTerms,
-    String normParagraphsWithSpace,
-    List<FieldOfLaw> fieldsOfLaw
-  ) {
-    List<ScoredFieldOfLaw> scoredFieldsOfLaw = new ArrayList<>();
-    fieldsOfLaw.forEach(fieldOfLaw -> {
-      int score = 0;
-      for (String textTerm : textTerms) {
-        score += calculateScoreByTextTerm(fieldOfLaw, textTerm);
-      }
-      if (normParagraphsWithSpace != null) {
-        score += calculateScoreByNormWithParagraphs(fieldOfLaw, normParagraphsWithSpace);
-      }
-      scoredFieldsOfLaw.add(new ScoredFieldOfLaw(fieldOfLaw, score));
-    });
-    return scoredFieldsOfLaw;
-  }
-
-  private int calculateScoreByTextTerm(@Nonnull FieldOfLaw fieldOfLaw, @Nonnull String textTerm) {
-    int score = 0;
-    textTerm = textTerm.toLowerCase();
-    String text = fieldOfLaw.text().toLowerCase();
-    if (text.startsWith(textTerm)) score += 5;
-    // split by whitespace and hyphen to get words
-    for (String textPart : text.split("[\\s-]+")) {
-      if (textPart.equals(textTerm)) score += 4;
-      else if (textPart.startsWith(textTerm)) score += 3;
-      else if (textPart.contains(textTerm)) score += 1;
-    }
-    return score;
-  }
-
-  private int calculateScoreByNormWithParagraphs(
-    @Nonnull FieldOfLaw fieldOfLaw,
-    @Nonnull String normWithParagraphs
-  ) {
-    int score = 0;
-    var normWithParagraphsLowerCase = normWithParagraphs.toLowerCase();
-    for (FieldOfLawNorm norm : fieldOfLaw.norms()) {
-      String description = norm.singleNormDescription() == null
-        ? ""
-        : norm.singleNormDescription().toLowerCase();
-      String normText = description + " " + norm.abbreviation().toLowerCase();
-      if (description.equals(normWithParagraphsLowerCase)) score += 8;
-      else if (description.startsWith(normWithParagraphsLowerCase)) score += 5;
-      else if (normText.contains(normWithParagraphsLowerCase)) score += 5;
-    }
-    return score;
+  /**
+   * Orders fields of law of the same rank by the requested property. Missing values are sorted
+   * last in both directions, like the search index treats a missing text as empty.
+   *
+   * @throws IllegalArgumentException if the fields of law cannot be sorted by the property
+   */
+  private Comparator<FieldOfLaw> sameRankOrder(QueryOptions queryOptions) {
+    Comparator<String> direction = queryOptions.sortDirection().isDescending()
+      ? Comparator.reverseOrder()
+      : Comparator.naturalOrder();
+    return switch (queryOptions.sortByProperty()) {
+      case "identifier" -> Comparator.comparing(
+        FieldOfLaw::identifier,
+        Comparator.nullsLast(direction)
+      );
+      case "text" -> Comparator.comparing(FieldOfLaw::text, Comparator.nullsLast(direction));
+      case null, default -> throw new IllegalArgumentException(
+        "Fields of law cannot be sorted by " + queryOptions.sortByProperty()
+      );
+    };
   }
-
-  record ScoredFieldOfLaw(@Nonnull FieldOfLaw fieldOfLaw, @Nonnull Integer score) {}
 }
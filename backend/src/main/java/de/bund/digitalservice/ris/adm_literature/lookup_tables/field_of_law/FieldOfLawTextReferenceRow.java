@@ -0,0 +1,12 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import java.util.UUID;
+
+/**
+ * Projection of a field of law linked inside the text of another field of law, for loading the
+ * {@link FieldOfLawTree}.
+ *
+ * @param fieldOfLawId UUID of the field of law with the text
+ * @param identifier   Identifier of the linked field of law
+ */
+record FieldOfLawTextReferenceRow(UUID fieldOfLawId, String identifier) {}
@@ -0,0 +1,305 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable in-memory snapshot of the field of law tree of one schema.
+ * <p>
+ * All fields of law are transformed once when the snapshot is created. The transformed fields of
+ * law, their parent chains and the child lists are shared by all lookups, so a lookup neither
+ * queries the database nor transforms entities. Children and roots are ordered by identifier.
+ * </p>
+ */
+final class FieldOfLawTree {
+
+  private static final String ROOT_NOTATION = "NEW";
+
+  private final Map<String, Integer> indexByIdentifier;
+  // Fields of law with norms and parent chain, but without children
+  private final List<FieldOfLaw> fieldsOfLaw;
+  private final List<List<FieldOfLaw>> children;
+  private final int[][] childIndexes;
+  private final List<FieldOfLaw> roots;
+  private final FieldOfLawSearchIndex searchIndex;
+
+  private FieldOfLawTree(
+    Map<String, Integer> indexByIdentifier,
+    List<FieldOfLaw> fieldsOfLaw,
+    List<List<FieldOfLaw>> children,
+    int[][] childIndexes,
+    List<FieldOfLaw> roots
+  ) {
+    this.indexByIdentifier = indexByIdentifier;
+    this.fieldsOfLaw = fieldsOfLaw;
+    this.children = children;
+    this.childIndexes = childIndexes;
+    this.roots = roots;
+    this.searchIndex = FieldOfLawSearchIndex.of(fieldsOfLaw);
+  }
+
+  /**
+   * Creates the snapshot from the rows of the field of law views.
+   *
+   * @param nodes          All fields of law
+   * @param norms          The norms of all fields of law
+   * @param textReferences The fields of law linked inside the texts of all fields of law
+   * @return The snapshot
+   */
+  static FieldOfLawTree of(
+    @Nonnull List<FieldOfLawNodeRow> nodes,
+    @Nonnull List<FieldOfLawNormRow> norms,
+    @Nonnull List<FieldOfLawTextReferenceRow> textReferences
+  ) {
+    // Sorted by identifier, so the child lists and the roots are sorted as well
+    List<FieldOfLawNodeRow> sortedNodes = nodes
+      .stream()
+      .sorted(
+        Comparator.comparing(
+          FieldOfLawNodeRow::identifier,
+          Comparator.nullsLast(Comparator.naturalOrder())
+        )
+      )
+      .toList();
+    int size = sortedNodes.size();
+    Map<UUID, Integer> indexById = HashMap.newHashMap(size);
+    Map<String, Integer> indexByIdentifier = HashMap.newHashMap(size);
+    for (int i = 0; i < size; i++) {
+      indexById.put(sortedNodes.get(i).id(), i);
+      indexByIdentifier.putIfAbsent(sortedNodes.get(i).identifier(), i);
+    }
+    int[] parents = new int[size];
+    List<List<Integer>> childIndexes = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      childIndexes.add(new ArrayList<>());
+    }
+    for (int i = 0; i < size; i++) {
+      UUID parentId = sortedNodes.get(i).parentId();
+      parents[i] = parentId == null ? -1 : indexById.getOrDefault(parentId, -1);
+      if (parents[i] >= 0) {
+        childIndexes.get(parents[i]).add(i);
+      }
+    }
+    Map<UUID, List<FieldOfLawNorm>> normsById = norms
+      .stream()
+      .collect(
+        Collectors.groupingBy(
+          FieldOfLawNormRow::fieldOfLawId,
+          Collectors.mapping(
+            norm ->
+              FieldOfLawNorm.builder()
+                .abbreviation(norm.abbreviation())
+                .singleNormDescription(norm.singleNormDescription())
+                .build(),
+            Collectors.toUnmodifiableList()
+          )
+        )
+      );
+    Map<UUID, List<String>> linkedFieldsById = textReferences
+      .stream()
+      .collect(
+        Collectors.groupingBy(
+          FieldOfLawTextReferenceRow::fieldOfLawId,
+          Collectors.mapping(
+            FieldOfLawTextReferenceRow::identifier,
+            Collectors.toUnmodifiableList()
+          )
+        )
+      );
+
+    Builder builder = new Builder(sortedNodes, parents, childIndexes, linkedFieldsById);
+    List<FieldOfLaw> fieldsOfLaw = new ArrayList<>(size);
+    List<FieldOfLaw> roots = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      FieldOfLaw fieldOfLaw = builder
+        .base(i)
+        .norms(normsById.getOrDefault(sortedNodes.get(i).id(), List.of()))
+        .build();
+      fieldsOfLaw.add(fieldOfLaw);
+      if (sortedNodes.get(i).parentId() == null && ROOT_NOTATION.equals(fieldOfLaw.notation())) {
+        roots.add(fieldOfLaw);
+      }
+    }
+    List<List<FieldOfLaw>> children = childIndexes
+      .stream()
+      .map(indexes -> indexes.stream().map(fieldsOfLaw::get).toList())
+      .toList();
+    return new FieldOfLawTree(
+      Map.copyOf(indexByIdentifier),
+      List.copyOf(fieldsOfLaw),
+      children,
+      childIndexes
+        .stream()
+        .map(indexes -> indexes.stream().mapToInt(Integer::intValue).toArray())
+        .toArray(int[][]::new),
+      List.copyOf(roots)
+    );
+  }
+
+  /**
+   * Returns the field of law with the given identifier, including its children and norms.
+   *
+   * @param identifier The identifier
+   * @return The field of law, or empty if not found
+   */
+  Optional<FieldOfLaw> find(@Nonnull String identifier) {
+    return find(identifier, FieldOfLawResolution.WITH_CHILDREN_AND_NORMS);
+  }
+
+  /**
+   * Returns the field of law with the given identifier, resolved as requested.
+   *
+   * @param identifier The identifier
+   * @param resolution The child depth and attributes to resolve
+   * @return The field of law, or empty if not found
+   */
+  Optional<FieldOfLaw> find(
+    @Nonnull String identifier,
+    @Nonnull FieldOfLawResolution resolution
+  ) {
+    return Optional.ofNullable(indexByIdentifier.get(identifier)).map(index ->
+      resolve(index, resolution.childDepth(), resolution.withNorms())
+    );
+  }
+
+  /**
+   * Returns the fields of law with the given identifiers, resolved as requested.
+   *
+   * @param identifiers The identifiers
+   * @param resolution  The child depth and attributes to resolve
+   * @return The found fields of law by identifier, in the order of the given identifiers. Unknown
+   *         identifiers are missing.
+   */
+  Map<String, FieldOfLaw> findAll(
+    @Nonnull Collection<String> identifiers,
+    @Nonnull FieldOfLawResolution resolution
+  ) {
+    Map<String, FieldOfLaw> found = LinkedHashMap.newLinkedHashMap(identifiers.size());
+    for (String identifier : identifiers) {
+      if (!found.containsKey(identifier)) {
+        find(identifier, resolution).ifPresent(fieldOfLaw -> found.put(identifier, fieldOfLaw));
+      }
+    }
+    return found;
+  }
+
+  /**
+   * Returns the children of the field of law with the given identifier.
+   *
+   * @param identifier The identifier of the parent
+   * @return The children, or an empty list if the field of law has no children or is not found
+   */
+  List<FieldOfLaw> findChildren(@Nonnull String identifier) {
+    Integer index = indexByIdentifier.get(identifier);
+    return index != null ? children.get(index) : List.of();
+  }
+
+  /**
+   * Returns the fields of law without parent in the new notation.
+   *
+   * @return The roots
+   */
+  List<FieldOfLaw> findRoots() {
+    return roots;
+  }
+
+  /**
+   * Returns the search index on the fields of law of this tree.
+   *
+   * @return The search index
+   */
+  FieldOfLawSearchIndex searchIndex() {
+    return searchIndex;
+  }
+
+  /**
+   * Returns the number of fields of law.
+   *
+   * @return The size of the tree
+   */
+  int size() {
+    return fieldsOfLaw.size();
+  }
+
+  /**
+   * Resolves a field of law from the shared instances. A new instance is only created if children
+   * are resolved or norms are left out.
+   */
+  private FieldOfLaw resolve(int index, int childDepth, boolean withNorms) {
+    FieldOfLaw fieldOfLaw = fieldsOfLaw.get(index);
+    if (childDepth == 0) {
+      return withNorms || fieldOfLaw.norms().isEmpty()
+        ? fieldOfLaw
+        : fieldOfLaw.toBuilder().norms(List.of()).build();
+    }
+    List<FieldOfLaw> resolvedChildren = children.get(index);
+    if (childDepth > 1 || !withNorms) {
+      resolvedChildren = Arrays.stream(childIndexes[index])
+        .mapToObj(child -> resolve(child, childDepth - 1, withNorms))
+        .toList();
+    }
+    return fieldOfLaw
+      .toBuilder()
+      .hasChildren(true)
+      .norms(withNorms ? fieldOfLaw.norms() : List.of())
+      .children(resolvedChildren)
+      .build();
+  }
+
+  /**
+   * Creates the shared parent chains. The parents of a field of law are transformed without
+   * norms, each parent is transformed only once.
+   */
+  private static final class Builder {
+
+    private final List<FieldOfLawNodeRow> nodes;
+    private final int[] parents;
+    private final List<List<Integer>> childIndexes;
+    private final Map<UUID, List<String>> linkedFieldsById;
+    private final FieldOfLaw[] parentFieldsOfLaw;
+
+    private Builder(
+      List<FieldOfLawNodeRow> nodes,
+      int[] parents,
+      List<List<Integer>> childIndexes,
+      Map<UUID, List<String>> linkedFieldsById
+    ) {
+      this.nodes = nodes;
+      this.parents = parents;
+      this.childIndexes = childIndexes;
+      this.linkedFieldsById = linkedFieldsById;
+      this.parentFieldsOfLaw = new FieldOfLaw[nodes.size()];
+    }
+
+    private FieldOfLaw.FieldOfLawBuilder base(int index) {
+      FieldOfLawNodeRow node = nodes.get(index);
+      return FieldOfLaw.builder()
+        .id(node.id())
+        .identifier(node.identifier())
+        .text(node.text())
+        .notation(node.notation())
+        .hasChildren(!childIndexes.get(index).isEmpty())
+        .linkedFields(linkedFieldsById.getOrDefault(node.id(), List.of()))
+        .children(List.of())
+        .norms(List.of())
+        .parent(parents[index] >= 0 ? parent(parents[index]) : null);
+    }
+
+    private FieldOfLaw parent(int index) {
+      if (parentFieldsOfLaw[index] == null) {
+        parentFieldsOfLaw[index] = base(index).build();
+      }
+      return parentFieldsOfLaw[index];
+    }
+  }
+}
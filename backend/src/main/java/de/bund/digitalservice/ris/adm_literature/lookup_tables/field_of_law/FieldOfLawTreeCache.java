@@ -0,0 +1,70 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+/**
+ * Holds the {@link FieldOfLawTree} of each schema.
+ * <p>
+ * The tree of a schema is loaded with three queries on first access and kept until
+ * {@link #evictAll()} is called, e.g. by the {@code LookupTableCacheEvictionJob}. The fields of
+ * law are read-only views on the lookup tables, so the tree is not changed by the application
+ * itself. If no schema is set, the default schema 'adm' of the {@code SchemaRoutingDataSource} is
+ * used.
+ * </p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class FieldOfLawTreeCache {
+
+  private final FieldOfLawRepository fieldOfLawRepository;
+  private final Map<SchemaType, FieldOfLawTree> trees = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the tree of the current schema, loads it if it is not loaded yet. Concurrent callers
+   * wait for a running load instead of loading the tree again.
+   *
+   * @return The tree of the current schema
+   */
+  FieldOfLawTree get() {
+    SchemaType schemaType = Objects.requireNonNullElse(
+      SchemaContextHolder.getSchema(),
+      SchemaType.ADM
+    );
+    return trees.computeIfAbsent(schemaType, this::load);
+  }
+
+  /**
+   * Evicts the trees of all schemas, they are loaded again on next access.
+   */
+  public void evictAll() {
+    trees.clear();
+    log.info("Evicted field of law trees.");
+  }
+
+  private FieldOfLawTree load(SchemaType schemaType) {
+    StopWatch stopWatch = new StopWatch();
+    stopWatch.start();
+    FieldOfLawTree fieldOfLawTree = FieldOfLawTree.of(
+      fieldOfLawRepository.findAllNodes(),
+      fieldOfLawRepository.findAllNorms(),
+      fieldOfLawRepository.findAllTextReferences()
+    );
+    stopWatch.stop();
+    log.info(
+      "Loaded {} fields of law of schema {} in {} ms.",
+      fieldOfLawTree.size(),
+      schemaType,
+      stopWatch.getTotalTimeMillis()
+    );
+    return fieldOfLawTree;
+  }
+}
@@ -0,0 +1,139 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+/**
+ * Inverted index from (lower case) tokens to the documents containing them.
+ * <p>
+ * A search finds all documents with a token containing the search part, which is the same as a
+ * substring search on the documents as long as the part does not contain a token separator. The
+ * tokens containing a part of at least three characters are looked up by the trigrams of the part,
+ * shorter parts are compared with all distinct tokens.
+ * </p>
+ */
+final class TokenIndex {
+
+  private static final int GRAM_LENGTH = 3;
+
+  private final int documentCount;
+  private final String[] tokens;
+  // Document numbers per token, ascending
+  private final int[][] postings;
+  // Token numbers per trigram, ascending
+  private final Map<String, int[]> tokensByTrigram;
+
+  private TokenIndex(
+    int documentCount,
+    String[] tokens,
+    int[][] postings,
+    Map<String, int[]> tokensByTrigram
+  ) {
+    this.documentCount = documentCount;
+    this.tokens = tokens;
+    this.postings = postings;
+    this.tokensByTrigram = tokensByTrigram;
+  }
+
+  /**
+   * Creates the index.
+   *
+   * @param tokensByDocument The lower case tokens of each document, the document number is the
+   *                         position in the list
+   * @return The index
+   */
+  static TokenIndex of(@Nonnull List<String[]> tokensByDocument) {
+    TreeMap<String, List<Integer>> documentsByToken = new TreeMap<>();
+    for (int document = 0; document < tokensByDocument.size(); document++) {
+      for (String token : tokensByDocument.get(document)) {
+        List<Integer> documents = documentsByToken.computeIfAbsent(token, _ -> new ArrayList<>());
+        if (documents.isEmpty() || documents.getLast() != document) {
+          documents.add(document);
+        }
+      }
+    }
+    String[] tokens = documentsByToken.keySet().toArray(String[]::new);
+    int[][] postings = documentsByToken
+      .values()
+      .stream()
+      .map(documents -> documents.stream().mapToInt(Integer::intValue).toArray())
+      .toArray(int[][]::new);
+    Map<String, List<Integer>> tokenNumbersByTrigram = new HashMap<>();
+    for (int tokenNumber = 0; tokenNumber < tokens.length; tokenNumber++) {
+      for (String trigram : trigrams(tokens[tokenNumber])) {
+        tokenNumbersByTrigram.computeIfAbsent(trigram, _ -> new ArrayList<>()).add(tokenNumber);
+      }
+    }
+    Map<String, int[]> tokensByTrigram = HashMap.newHashMap(tokenNumbersByTrigram.size());
+    tokenNumbersByTrigram.forEach((trigram, tokenNumbers) ->
+      tokensByTrigram.put(trigram, tokenNumbers.stream().mapToInt(Integer::intValue).toArray())
+    );
+    return new TokenIndex(tokensByDocument.size(), tokens, postings, tokensByTrigram);
+  }
+
+  /**
+   * Finds the documents with a token containing the given part.
+   *
+   * @param part Lower case part without token separators
+   * @return The numbers of the found documents
+   */
+  BitSet find(@Nonnull String part) {
+    BitSet documents = new BitSet(documentCount);
+    for (int tokenNumber : findTokens(part)) {
+      for (int document : postings[tokenNumber]) {
+        documents.set(document);
+      }
+    }
+    return documents;
+  }
+
+  private int[] findTokens(String part) {
+    IntStream candidates = part.length() < GRAM_LENGTH
+      ? IntStream.range(0, tokens.length)
+      : trigramCandidates(part).stream();
+    // Trigrams may occur in a different order in the token, so the candidates are verified
+    return candidates.filter(tokenNumber -> tokens[tokenNumber].contains(part)).toArray();
+  }
+
+  /**
+   * Returns the tokens containing all trigrams of the part, intersected starting with the rarest
+   * trigram.
+   */
+  private BitSet trigramCandidates(String part) {
+    int[][] tokenNumbers = trigrams(part)
+      .stream()
+      .map(trigram -> tokensByTrigram.getOrDefault(trigram, new int[0]))
+      .sorted(Comparator.comparingInt(numbers -> numbers.length))
+      .toArray(int[][]::new);
+    BitSet candidates = toBitSet(tokenNumbers[0]);
+    for (int i = 1; i < tokenNumbers.length && !candidates.isEmpty(); i++) {
+      candidates.and(toBitSet(tokenNumbers[i]));
+    }
+    return candidates;
+  }
+
+  private BitSet toBitSet(int[] tokenNumbers) {
+    BitSet bitSet = new BitSet(tokens.length);
+    for (int tokenNumber : tokenNumbers) {
+      bitSet.set(tokenNumber);
+    }
+    return bitSet;
+  }
+
+  private static Set<String> trigrams(String token) {
+    Set<String> trigrams = new HashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= token.length(); i++) {
+      trigrams.add(token.substring(i, i + GRAM_LENGTH));
+    }
+    return trigrams;
+  }
+}
@@ -1,10 +1,13 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.institution;
 
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 interface InstitutionRepository extends JpaRepository<InstitutionEntity, UUID> {
@@ -13,4 +16,7 @@ interface InstitutionRepository extends JpaRepository<InstitutionEntity, UUID> {
     @Nonnull Pageable pageable
   );
   Optional<InstitutionEntity> findByNameAndType(@Nonnull String name, @Nonnull String type);
+
+  @EntityGraph(attributePaths = "regions")
+  List<InstitutionEntity> findByNameIn(@Nonnull Collection<String> names);
 }
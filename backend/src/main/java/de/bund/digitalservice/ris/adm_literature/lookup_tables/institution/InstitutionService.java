@@ -1,16 +1,27 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.institution;
 
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.INSTITUTIONS_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.SCHEMA_AWARE_KEY_GENERATOR;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.CachedLookups;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.Region;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.RegionEntity;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import jakarta.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class InstitutionService {
 
   private final InstitutionRepository institutionRepository;
+  private final CacheManager cacheManager;
 
   /**
    * Finds a paginated list of institutions based on a search query.
@@ -55,6 +67,7 @@ public class InstitutionService {
    * @return An {@link Optional} containing the found {@link Institution}, or empty if not found.
    */
   @Transactional(readOnly = true)
+  @Cacheable(cacheNames = INSTITUTIONS_CACHE, keyGenerator = SCHEMA_AWARE_KEY_GENERATOR)
   public Optional<Institution> findInstitutionByNameAndType(
     @Nonnull String name,
     @Nonnull InstitutionType institutionType
@@ -64,6 +77,51 @@ public class InstitutionService {
       .map(mapInstitutionEntity());
   }
 
+  /**
+   * Finds all institutions of any type with one of the given names, including their regions. The
+   * institutions are read from the cache of
+   * {@link #findInstitutionByNameAndType(String, InstitutionType)} for each type, the names
+   * missing in the cache are queried at once.
+   *
+   * @param names The exact names of the institutions.
+   * @return A list of matching {@link Institution}, in the order of the given names.
+   */
+  @Transactional(readOnly = true)
+  public List<Institution> findInstitutionsByNames(@Nonnull Collection<String> names) {
+    if (names.isEmpty()) {
+      return List.of();
+    }
+    List<NameAndType> keys = names
+      .stream()
+      .flatMap(name ->
+        Arrays.stream(InstitutionType.values()).map(type -> new NameAndType(name, type))
+      )
+      .toList();
+    return List.copyOf(
+      CachedLookups.getAll(
+        cacheManager,
+        INSTITUTIONS_CACHE,
+        keys,
+        key -> SchemaAwareKeyGenerator.key(key.name(), key.type()),
+        misses ->
+          institutionRepository
+            .findByNameIn(misses.stream().map(NameAndType::name).distinct().toList())
+            .stream()
+            .map(mapInstitutionEntity())
+            .collect(
+              Collectors.toMap(
+                institution -> new NameAndType(institution.name(), institution.type()),
+                Function.identity(),
+                (first, _) -> first
+              )
+            ),
+        null
+      ).values()
+    );
+  }
+
+  private record NameAndType(String name, InstitutionType type) {}
+
   private Function<InstitutionEntity, Institution> mapInstitutionEntity() {
     return institutionEntity ->
       new Institution(
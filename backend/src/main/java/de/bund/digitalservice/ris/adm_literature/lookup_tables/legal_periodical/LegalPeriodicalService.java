@@ -1,14 +1,23 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical;
 
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.LEGAL_PERIODICALS_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.SCHEMA_AWARE_KEY_GENERATOR;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.CachedLookups;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class LegalPeriodicalService {
 
   private final LegalPeriodicalsRepository legalPeriodicalsRepository;
+  private final CacheManager cacheManager;
 
   /**
    * Finds a paginated list of legal periodicals based on a search query.
@@ -70,6 +80,7 @@ public class LegalPeriodicalService {
    * @return A list of matching {@link LegalPeriodical}.
    */
   @Transactional(readOnly = true)
+  @Cacheable(cacheNames = LEGAL_PERIODICALS_CACHE, keyGenerator = SCHEMA_AWARE_KEY_GENERATOR)
   public List<LegalPeriodical> findLegalPeriodicalsByAbbreviation(@Nonnull String abbreviation) {
     LegalPeriodicalEntity probe = new LegalPeriodicalEntity();
     probe.setAbbreviation(abbreviation);
@@ -79,4 +90,40 @@ public class LegalPeriodicalService {
       .map(mapLegalPeriodicalEntity())
       .toList();
   }
+
+  /**
+   * Finds all legal periodicals matching one of the given abbreviations. The legal periodicals
+   * are read from the cache of {@link #findLegalPeriodicalsByAbbreviation(String)}, the
+   * abbreviations missing in the cache are queried at once.
+   *
+   * @param abbreviations The exact abbreviations to search for.
+   * @return A list of matching {@link LegalPeriodical}, in the order of the given abbreviations.
+   */
+  @Transactional(readOnly = true)
+  public List<LegalPeriodical> findLegalPeriodicalsByAbbreviations(
+    @Nonnull Collection<String> abbreviations
+  ) {
+    if (abbreviations.isEmpty()) {
+      return List.of();
+    }
+    return CachedLookups.getAll(
+      cacheManager,
+      LEGAL_PERIODICALS_CACHE,
+      abbreviations,
+      SchemaAwareKeyGenerator::key,
+      misses ->
+        legalPeriodicalsRepository
+          .findByAbbreviationIn(misses)
+          .stream()
+          .map(mapLegalPeriodicalEntity())
+          .collect(
+            Collectors.groupingBy(LegalPeriodical::abbreviation, Collectors.toUnmodifiableList())
+          ),
+      List.of()
+    )
+      .values()
+      .stream()
+      .flatMap(List::stream)
+      .toList();
+  }
 }
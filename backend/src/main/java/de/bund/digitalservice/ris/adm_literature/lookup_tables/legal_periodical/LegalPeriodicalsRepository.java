@@ -1,6 +1,8 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical;
 
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,4 +14,6 @@ interface LegalPeriodicalsRepository extends JpaRepository<LegalPeriodicalEntity
     @Nonnull String title,
     @Nonnull Pageable pageable
   );
+
+  List<LegalPeriodicalEntity> findByAbbreviationIn(@Nonnull Collection<String> abbreviations);
 }
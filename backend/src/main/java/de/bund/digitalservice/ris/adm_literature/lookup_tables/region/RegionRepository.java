@@ -1,6 +1,8 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.region;
 
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -14,4 +16,6 @@ interface RegionRepository extends JpaRepository<RegionEntity, UUID> {
   );
 
   Optional<RegionEntity> findByCode(@Nonnull String code);
+
+  List<RegionEntity> findByCodeIn(@Nonnull Collection<String> codes);
 }
@@ -1,14 +1,24 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.region;
 
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.REGIONS_CACHE;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.SCHEMA_AWARE_KEY_GENERATOR;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.CachedLookups;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -24,6 +34,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RegionService {
 
   private final RegionRepository regionRepository;
+  private final CacheManager cacheManager;
 
   /**
    * Finds a paginated list of regions based on a search query.
@@ -53,10 +64,40 @@ public class RegionService {
    * @return An {@link Optional} containing the found {@link Region}, or empty if not found.
    */
   @Transactional(readOnly = true)
+  @Cacheable(cacheNames = REGIONS_CACHE, keyGenerator = SCHEMA_AWARE_KEY_GENERATOR)
   public Optional<Region> findRegionByCode(@Nonnull String code) {
     return regionRepository.findByCode(code).map(mapRegionEntity());
   }
 
+  /**
+   * Finds all regions with one of the given codes. The regions are read from the cache of
+   * {@link #findRegionByCode(String)}, the codes missing in the cache are queried at once.
+   *
+   * @param codes The codes of the regions to find.
+   * @return A list of found {@link Region}, in the order of the given codes.
+   */
+  @Transactional(readOnly = true)
+  public List<Region> findRegionsByCodes(@Nonnull Collection<String> codes) {
+    if (codes.isEmpty()) {
+      return List.of();
+    }
+    return List.copyOf(
+      CachedLookups.getAll(
+        cacheManager,
+        REGIONS_CACHE,
+        codes,
+        SchemaAwareKeyGenerator::key,
+        misses ->
+          regionRepository
+            .findByCodeIn(misses)
+            .stream()
+            .map(mapRegionEntity())
+            .collect(Collectors.toMap(Region::code, Function.identity(), (first, _) -> first)),
+        null
+      ).values()
+    );
+  }
+
   private Function<RegionEntity, Region> mapRegionEntity() {
     return regionEntity ->
       new Region(regionEntity.getId(), regionEntity.getCode(), regionEntity.getLongText());
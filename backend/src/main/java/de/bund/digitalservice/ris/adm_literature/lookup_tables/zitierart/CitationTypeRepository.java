@@ -2,6 +2,8 @@ package de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,4 +18,9 @@ interface CitationTypeRepository extends JpaRepository<CitationTypeEntity, UUID>
     @Nonnull String label,
     @Nonnull Pageable pageable
   );
+
+  List<CitationTypeEntity> findByDocumentCategoryAndAbbreviationIn(
+    @Nonnull DocumentCategory documentCategory,
+    @Nonnull Collection<String> abbreviations
+  );
 }
@@ -1,15 +1,24 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart;
 
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.SCHEMA_AWARE_KEY_GENERATOR;
+import static de.bund.digitalservice.ris.adm_literature.config.CacheConfig.ZITIER_ARTEN_CACHE;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.CachedLookups;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.PageTransformer;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import jakarta.annotation.Nonnull;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ZitierArtService {
 
   private final CitationTypeRepository citationTypeRepository;
+  private final CacheManager cacheManager;
 
   /**
    * Finds a paginated list of citation types (ZitierArten) based on a search query.
@@ -63,6 +73,7 @@ public class ZitierArtService {
    * @return A list of matching {@link ZitierArt}.
    */
   @Transactional(readOnly = true)
+  @Cacheable(cacheNames = ZITIER_ARTEN_CACHE, keyGenerator = SCHEMA_AWARE_KEY_GENERATOR)
   public List<ZitierArt> findZitierArtenByAbbreviation(
     @Nonnull String abbreviation,
     @Nonnull DocumentCategory documentCategory
@@ -77,6 +88,42 @@ public class ZitierArtService {
       .toList();
   }
 
+  /**
+   * Finds all citation types (ZitierArten) matching one of the given abbreviations. The citation
+   * types are read from the cache of {@link #findZitierArtenByAbbreviation(String,
+   * DocumentCategory)}, the abbreviations missing in the cache are queried at once.
+   *
+   * @param abbreviations The exact abbreviations to search for
+   * @param documentCategory The document category to filter for
+   * @return A list of matching {@link ZitierArt}, in the order of the given abbreviations.
+   */
+  @Transactional(readOnly = true)
+  public List<ZitierArt> findZitierArtenByAbbreviations(
+    @Nonnull Collection<String> abbreviations,
+    @Nonnull DocumentCategory documentCategory
+  ) {
+    if (abbreviations.isEmpty()) {
+      return List.of();
+    }
+    return CachedLookups.getAll(
+      cacheManager,
+      ZITIER_ARTEN_CACHE,
+      abbreviations,
+      abbreviation -> SchemaAwareKeyGenerator.key(abbreviation, documentCategory),
+      misses ->
+        citationTypeRepository
+          .findByDocumentCategoryAndAbbreviationIn(documentCategory, misses)
+          .stream()
+          .map(mapCitationTypeEntity())
+          .collect(Collectors.groupingBy(ZitierArt::abbreviation, Collectors.toUnmodifiableList())),
+      List.of()
+    )
+      .values()
+      .stream()
+      .flatMap(List::stream)
+      .toList();
+  }
+
   private Function<CitationTypeEntity, ZitierArt> mapCitationTypeEntity() {
     return citationTypeEntity ->
       new ZitierArt(
@@ -2,6 +2,7 @@ package de.bund.digitalservice.ris.adm_literature.mvc;
 
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -52,6 +53,35 @@ public class CustomResponseEntityExceptionHandler extends ResponseEntityExceptio
     );
   }
 
+  /**
+   * Exception handler for concurrent updates of the same entity, detected by optimistic locking.
+   * @param exception The exception
+   * @param request The request object
+   * @return Response entity with HTTP 409 and problem detail body
+   */
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<Object> handleOptimisticLockingFailure(
+    OptimisticLockingFailureException exception,
+    WebRequest request
+  ) {
+    ProblemDetail problemDetail = createProblemDetail(
+      exception,
+      HttpStatus.CONFLICT,
+      "The resource has been changed concurrently.",
+      null,
+      null,
+      request
+    );
+    log.warn("Concurrent update on {}.", request.getDescription(false));
+    return handleExceptionInternal(
+      exception,
+      problemDetail,
+      HttpHeaders.EMPTY,
+      HttpStatus.CONFLICT,
+      request
+    );
+  }
+
   /**
    * Exception handler fallback for exceptions not explicitly handled by this class.
    * @param exception The exception
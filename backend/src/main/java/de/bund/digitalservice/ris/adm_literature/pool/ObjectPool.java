@@ -0,0 +1,102 @@
+package de.bund.digitalservice.ris.adm_literature.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nonnull;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe, bounded pool for objects which are expensive to create but not thread-safe,
+ * e.g. JAXB marshallers or schema validators.
+ * <p>
+ * Borrowing never blocks: if there is no idle object, a new one is created. At most
+ * {@code maxIdle} objects are kept for reuse, further released objects are dropped. An object
+ * must not be released if it is in an undefined state, e.g. after an unexpected exception.
+ * </p>
+ * <p>
+ * The pool publishes the following metrics, tagged with the pool name:
+ * <ul>
+ *   <li>{@code pool.idle}: number of idle objects</li>
+ *   <li>{@code pool.created}: number of created objects</li>
+ *   <li>{@code pool.borrow}: latency of borrowing an object</li>
+ * </ul>
+ * </p>
+ *
+ * @param <T> Type of the pooled objects
+ */
+public class ObjectPool<T> {
+
+  private final BlockingQueue<T> idleObjects;
+  private final Supplier<T> factory;
+  private final Counter createdCounter;
+  private final Timer borrowTimer;
+
+  /**
+   * Creates a new pool.
+   *
+   * @param name          Name of the pool, used as metrics tag
+   * @param maxIdle       Maximum number of idle objects kept for reuse
+   * @param factory       Factory for creating new objects
+   * @param meterRegistry Registry for the pool metrics
+   */
+  public ObjectPool(
+    @Nonnull String name,
+    int maxIdle,
+    @Nonnull Supplier<T> factory,
+    @Nonnull MeterRegistry meterRegistry
+  ) {
+    this.idleObjects = new ArrayBlockingQueue<>(maxIdle);
+    this.factory = factory;
+    Gauge.builder("pool.idle", idleObjects, BlockingQueue::size)
+      .description("Number of idle pooled objects")
+      .tag("name", name)
+      .register(meterRegistry);
+    this.createdCounter = Counter.builder("pool.created")
+      .description("Number of created pooled objects")
+      .tag("name", name)
+      .register(meterRegistry);
+    this.borrowTimer = Timer.builder("pool.borrow")
+      .description("Latency of borrowing a pooled object")
+      .tag("name", name)
+      .register(meterRegistry);
+  }
+
+  /**
+   * Borrows an object from the pool. If there is no idle object, a new one is created.
+   *
+   * @return An object which is exclusively used by the caller until it is released
+   */
+  @Nonnull
+  public T borrow() {
+    return borrowTimer.record(() -> {
+      T object = idleObjects.poll();
+      if (object == null) {
+        object = factory.get();
+        createdCounter.increment();
+      }
+      return object;
+    });
+  }
+
+  /**
+   * Returns a borrowed object to the pool. If the pool is full, the object is dropped.
+   *
+   * @param object The borrowed object
+   */
+  public void release(@Nonnull T object) {
+    idleObjects.offer(object);
+  }
+
+  /**
+   * Returns the number of idle objects.
+   *
+   * @return Number of idle objects
+   */
+  public int getIdleCount() {
+    return idleObjects.size();
+  }
+}
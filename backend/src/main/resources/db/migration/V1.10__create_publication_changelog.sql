@@ -0,0 +1,18 @@
+-- Durable buffer for the changelog files of the portal buckets.
+-- Each published document adds an entry, a background job writes one changelog file per bucket
+-- for all buffered entries and removes them afterward.
+CREATE TABLE IF NOT EXISTS
+    publication_changelog
+(
+    id              uuid NOT NULL
+        CONSTRAINT publication_changelog_pkey PRIMARY KEY,
+    publisher_name  VARCHAR(255) NOT NULL,
+    document_number VARCHAR(255) NOT NULL,
+    created_at      timestamp with time zone NOT NULL,
+    -- A document which is published multiple times within one changelog window is listed once
+    CONSTRAINT publication_changelog_publisher_name_document_number_key
+        UNIQUE (publisher_name, document_number)
+);
+
+CREATE INDEX IF NOT EXISTS publication_changelog_publisher_name_created_at_idx
+    ON publication_changelog (publisher_name, created_at);
@@ -0,0 +1,14 @@
+-- Persisted cache of the business model (json) of published documentation units, which only have
+-- xml (e.g. migrated documentation units). The entry is valid as long as the hash of the xml it has
+-- been converted from matches the current xml.
+CREATE TABLE IF NOT EXISTS
+    documentation_unit_converted_json
+(
+    documentation_unit_id uuid NOT NULL
+        CONSTRAINT documentation_unit_converted_json_pkey PRIMARY KEY
+        CONSTRAINT documentation_unit_converted_json_documentation_unit_id_fkey
+            REFERENCES documentation_unit (id) ON DELETE CASCADE,
+    xml_hash              VARCHAR(64) NOT NULL,
+    json                  text NOT NULL,
+    created_at            timestamp with time zone NOT NULL
+);
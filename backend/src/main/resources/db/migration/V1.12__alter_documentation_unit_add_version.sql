@@ -0,0 +1,3 @@
+-- Version of the documentation unit, incremented on each update. It is used for optimistic locking
+-- and exposed as ETag for conditional requests.
+ALTER TABLE documentation_unit ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,20 @@
+-- Index fields of literature (ULI and SLI). Administrative regulations use langueberschrift,
+-- fundstellen and zitierdaten instead, so these columns are null for them.
+ALTER TABLE documentation_unit_index
+    ADD COLUMN IF NOT EXISTS hauptsachtitel text,
+    ADD COLUMN IF NOT EXISTS dokumentarischer_titel text,
+    ADD COLUMN IF NOT EXISTS veroeffentlichungsjahr text,
+    ADD COLUMN IF NOT EXISTS dokumenttypen text;
+
+-- Trigram indexes for the literature overview search, see V1.6
+CREATE INDEX IF NOT EXISTS documentation_unit_index_hauptsachtitel_trgm_idx
+    ON documentation_unit_index USING gin (lower(hauptsachtitel) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_dokumentarischer_titel_trgm_idx
+    ON documentation_unit_index USING gin (lower(dokumentarischer_titel) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_veroeffentlichungsjahr_trgm_idx
+    ON documentation_unit_index USING gin (lower(veroeffentlichungsjahr) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_dokumenttypen_trgm_idx
+    ON documentation_unit_index USING gin (lower(dokumenttypen) public.gin_trgm_ops);
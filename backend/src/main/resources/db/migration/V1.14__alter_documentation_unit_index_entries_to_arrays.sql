@@ -0,0 +1,79 @@
+-- The list fields of the documentation unit index were stored as text joined with '$µµµµµ$'. They
+-- are stored as arrays now, so they are neither joined on indexing nor split on reading, and the
+-- zitierdaten are compared as dates.
+
+-- Lower-case search text of the entries of an array, each entry enclosed by line breaks, e.g.
+-- E'\nentry 1\nentry 2\n'. A single trigram index on it serves substring ('%term%'), prefix
+-- ('%\nterm%') and exact ('%\nterm\n%') matching of individual entries. array_to_string is only
+-- declared stable because of the output functions of arbitrary element types, it is immutable for
+-- text.
+CREATE OR REPLACE FUNCTION index_search_text(entries text[]) RETURNS text
+    LANGUAGE sql
+    IMMUTABLE
+    PARALLEL SAFE
+AS
+$$
+SELECT E'\n' || lower(array_to_string(entries, E'\n')) || E'\n'
+$$;
+
+-- Converts an iso date (yyyy-mm-dd) to a date, null if it is not a valid date (e.g. 2024-02-30)
+-- instead of failing the migration. It is a temporary function, as it is only used by this
+-- migration. pg_input_is_valid cannot be used, it requires PostgreSQL 16.
+CREATE OR REPLACE FUNCTION pg_temp.iso_date_or_null(entry text) RETURNS date
+    LANGUAGE plpgsql
+    STABLE
+AS
+$$
+BEGIN
+    IF entry !~ '^\d{4}-\d{2}-\d{2}$' THEN
+        RETURN NULL;
+    END IF;
+    RETURN entry::date;
+EXCEPTION
+    WHEN datetime_field_overflow OR invalid_datetime_format THEN
+        RETURN NULL;
+END;
+$$;
+
+DROP INDEX IF EXISTS documentation_unit_index_fundstellen_trgm_idx;
+DROP INDEX IF EXISTS documentation_unit_index_zitierdaten_trgm_idx;
+DROP INDEX IF EXISTS documentation_unit_index_dokumenttypen_trgm_idx;
+
+ALTER TABLE documentation_unit_index
+    ADD COLUMN fundstellen_entries text[],
+    ADD COLUMN zitierdaten_entries date[],
+    ADD COLUMN dokumenttypen_entries text[];
+
+UPDATE documentation_unit_index
+SET fundstellen_entries   = string_to_array(fundstellen, '$µµµµµ$'),
+    -- Entries which are not a valid iso date cannot have been sorted or searched reasonably before
+    zitierdaten_entries   = (SELECT coalesce(array_agg(entry_date ORDER BY ordinality), '{}')
+                             FROM unnest(string_to_array(zitierdaten, '$µµµµµ$'))
+                                 WITH ORDINALITY AS entries(entry, ordinality),
+                                 pg_temp.iso_date_or_null(entry) AS entry_date
+                             WHERE entry_date IS NOT NULL),
+    dokumenttypen_entries = string_to_array(dokumenttypen, '$µµµµµ$');
+
+-- The aggregation above returns an empty array also if the column was null before
+UPDATE documentation_unit_index
+SET zitierdaten_entries = NULL
+WHERE zitierdaten IS NULL;
+
+ALTER TABLE documentation_unit_index
+    DROP COLUMN fundstellen,
+    DROP COLUMN zitierdaten,
+    DROP COLUMN dokumenttypen;
+
+ALTER TABLE documentation_unit_index RENAME COLUMN fundstellen_entries TO fundstellen;
+ALTER TABLE documentation_unit_index RENAME COLUMN zitierdaten_entries TO zitierdaten;
+ALTER TABLE documentation_unit_index RENAME COLUMN dokumenttypen_entries TO dokumenttypen;
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_fundstellen_trgm_idx
+    ON documentation_unit_index USING gin (index_search_text(fundstellen) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_dokumenttypen_trgm_idx
+    ON documentation_unit_index USING gin (index_search_text(dokumenttypen) public.gin_trgm_ops);
+
+-- Zitierdaten are filtered by overlap (&&) with the days of a date, month or year
+CREATE INDEX IF NOT EXISTS documentation_unit_index_zitierdaten_idx
+    ON documentation_unit_index USING gin (zitierdaten);
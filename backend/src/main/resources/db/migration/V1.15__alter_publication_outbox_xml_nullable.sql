@@ -0,0 +1,6 @@
+-- The xml of a publication is only needed until it has been pushed to the portal. It is removed
+-- when the publication reaches a terminal state, so the outbox does not keep every published
+-- version of a documentation unit.
+ALTER TABLE publication_outbox ALTER COLUMN xml DROP NOT NULL;
+
+UPDATE publication_outbox SET xml = NULL WHERE status <> 'PENDING';
@@ -0,0 +1,4 @@
+-- Version of the conversion the json has been created with. An entry is only valid if it matches
+-- the current conversion version, existing entries are therefore converted again.
+ALTER TABLE documentation_unit_converted_json
+    ADD COLUMN IF NOT EXISTS conversion_version integer NOT NULL DEFAULT 0;
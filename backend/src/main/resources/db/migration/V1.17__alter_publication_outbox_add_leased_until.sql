@@ -0,0 +1,4 @@
+-- A publication is leased while it is being uploaded to the portal. Another publication of the
+-- same documentation unit is not claimed before the lease is released or expired, so an older
+-- upload still in flight never overwrites a newer one.
+ALTER TABLE publication_outbox ADD COLUMN IF NOT EXISTS leased_until timestamp with time zone;
@@ -0,0 +1,4 @@
+-- Fingerprint of the lookup tables the json has been converted with. An entry is only valid if it
+-- matches the current fingerprint, so entries are converted again once lookup table values change.
+ALTER TABLE documentation_unit_converted_json
+    ADD COLUMN IF NOT EXISTS lookup_generation VARCHAR(32) NOT NULL DEFAULT '';
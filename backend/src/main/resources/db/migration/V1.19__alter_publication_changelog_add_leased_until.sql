@@ -0,0 +1,4 @@
+-- Changelog entries are leased while their changelog file is being written to the portal bucket,
+-- so the file is written outside of a database transaction. Entries of an expired lease are
+-- written again, e.g. if the instance died while writing.
+ALTER TABLE publication_changelog ADD COLUMN IF NOT EXISTS leased_until timestamp with time zone;
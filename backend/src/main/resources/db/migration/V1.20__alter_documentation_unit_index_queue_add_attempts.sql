@@ -0,0 +1,3 @@
+-- Number of failed indexing attempts of a queued documentation unit. Entries whose indexing failed
+-- stay queued and are retried later, until the maximum number of attempts is reached.
+ALTER TABLE documentation_unit_index_queue ADD COLUMN IF NOT EXISTS attempts integer NOT NULL DEFAULT 0;
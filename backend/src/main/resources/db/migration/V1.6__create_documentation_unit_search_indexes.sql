@@ -0,0 +1,21 @@
+-- Trigram indexes for the documentation unit overview search.
+-- The overview search uses "lower(column) LIKE '%term%'", which cannot be served by a B-tree index.
+-- pg_trgm is a trusted extension, it is installed once per database into schema "public" so that it
+-- can be shared by all application schemas.
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS documentation_unit_document_number_trgm_idx
+    ON documentation_unit USING gin (lower(document_number) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_langueberschrift_trgm_idx
+    ON documentation_unit_index USING gin (lower(langueberschrift) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_fundstellen_trgm_idx
+    ON documentation_unit_index USING gin (lower(fundstellen) public.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_zitierdaten_trgm_idx
+    ON documentation_unit_index USING gin (lower(zitierdaten) public.gin_trgm_ops);
+
+-- The overview joins the index by the documentation unit id
+CREATE INDEX IF NOT EXISTS documentation_unit_index_documentation_unit_id_idx
+    ON documentation_unit_index (documentation_unit_id);
@@ -0,0 +1,29 @@
+-- Version of the indexing rules an index entry has been created with and hash of the indexed content.
+-- Existing entries have been created with the rules of version 1.
+ALTER TABLE documentation_unit_index
+    ADD COLUMN IF NOT EXISTS index_version integer NOT NULL DEFAULT 1;
+
+ALTER TABLE documentation_unit_index
+    ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- Backfill content hash, must match the hash calculated by the application (SHA-256 of json, or xml if there is no json)
+UPDATE documentation_unit_index dui
+SET content_hash = encode(sha256(convert_to(coalesce(du.json, du.xml, ''), 'UTF8')), 'hex')
+FROM documentation_unit du
+WHERE dui.documentation_unit_id = du.id
+  AND dui.content_hash IS NULL
+  AND (dui.langueberschrift IS NOT NULL OR dui.fundstellen IS NOT NULL OR dui.zitierdaten IS NOT NULL
+    OR (du.json IS NULL AND du.xml IS NULL));
+
+-- Documentation units which need to be (re-)indexed
+CREATE TABLE IF NOT EXISTS
+    documentation_unit_index_queue
+(
+    documentation_unit_id uuid NOT NULL
+        CONSTRAINT documentation_unit_index_queue_pkey PRIMARY KEY
+        CONSTRAINT documentation_unit_index_queue_fkey REFERENCES documentation_unit ON DELETE CASCADE,
+    enqueued_at timestamp with time zone NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS documentation_unit_index_queue_enqueued_at_idx
+    ON documentation_unit_index_queue (enqueued_at);
@@ -0,0 +1,9 @@
+-- Checkpoint of a batch indexing run, so that an interrupted run resumes where it stopped
+CREATE TABLE IF NOT EXISTS
+    documentation_unit_index_checkpoint
+(
+    name                 VARCHAR(255) NOT NULL
+        CONSTRAINT documentation_unit_index_checkpoint_pkey PRIMARY KEY,
+    last_document_number VARCHAR(255) NOT NULL,
+    updated_at           timestamp with time zone NOT NULL
+);
@@ -0,0 +1,27 @@
+-- Transactional outbox for publishing documentation units to the portal buckets.
+-- Entries are written in the same transaction as the published documentation unit and
+-- pushed to S3 by a background dispatcher.
+CREATE TABLE IF NOT EXISTS
+    publication_outbox
+(
+    id              uuid NOT NULL
+        CONSTRAINT publication_outbox_pkey PRIMARY KEY,
+    document_number VARCHAR(255) NOT NULL,
+    document_category VARCHAR(255) NOT NULL,
+    xml             text NOT NULL,
+    status          VARCHAR(32) NOT NULL,
+    attempts        integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamp with time zone NOT NULL,
+    last_error      text,
+    created_at      timestamp with time zone NOT NULL,
+    published_at    timestamp with time zone
+);
+
+-- The dispatcher selects due pending entries
+CREATE INDEX IF NOT EXISTS publication_outbox_pending_idx
+    ON publication_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
+
+-- The publish status is read by document number
+CREATE INDEX IF NOT EXISTS publication_outbox_document_number_idx
+    ON publication_outbox (document_number, created_at);
@@ -2,7 +2,9 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -10,12 +12,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import de.bund.digitalservice.ris.adm_literature.config.security.SecurityConfiguration;
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publication;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublicationStatus;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublishingFailedException;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import de.bund.digitalservice.ris.adm_literature.page.TestPage;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -29,10 +35,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.JsonNodeFactory;
 
 @WebMvcTest(controllers = AdmDocumentationUnitController.class)
 @WithMockUser(roles = "adm_user")
@@ -45,6 +55,9 @@ class AdmDocumentationUnitControllerTest {
   @MockitoBean
   private DocumentationUnitService documentationUnitService;
 
+  @MockitoBean
+  private BulkPublishService bulkPublishService;
+
   @Test
   @DisplayName("Request GET returns HTTP 200 and data from mocked documentation unit port")
   void find() throws Exception {
@@ -64,6 +77,68 @@ class AdmDocumentationUnitControllerTest {
       .andExpect(jsonPath("$.json.test").value("content"));
   }
 
+  @Test
+  @DisplayName("Request GET returns the version as ETag")
+  void find_eTag() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    given(documentationUnitService.findByDocumentNumber(documentNumber)).willReturn(
+      Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), "{}", null, 3L))
+    );
+
+    // when
+    mockMvc
+      .perform(get("/api/adm/documentation-units/{documentNumber}", documentNumber))
+      // then
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+  }
+
+  @Test
+  @DisplayName("Request GET returns the version and the conversion as ETag of a converted unit")
+  void find_eTagOfConvertedDocumentationUnit() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    DocumentationUnit documentationUnit = new DocumentationUnit(
+      documentNumber,
+      UUID.randomUUID(),
+      null,
+      "<akn:akomaNtoso/>",
+      3L
+    );
+    given(documentationUnitService.findByDocumentNumber(documentNumber)).willReturn(
+      Optional.of(new DocumentationUnit(documentationUnit, "{}", "1-abc"))
+    );
+
+    // when
+    mockMvc
+      .perform(get("/api/adm/documentation-units/{documentNumber}", documentNumber))
+      // then
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"3-1-abc\""));
+  }
+
+  @Test
+  @DisplayName("Request GET returns HTTP 304 without loading the content if the ETag matches")
+  void find_notModified() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    given(documentationUnitService.findETag(documentNumber)).willReturn(Optional.of("\"3\""));
+
+    // when
+    mockMvc
+      .perform(
+        get("/api/adm/documentation-units/{documentNumber}", documentNumber).header(
+          HttpHeaders.IF_NONE_MATCH,
+          "\"3\""
+        )
+      )
+      // then
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    verify(documentationUnitService, never()).findByDocumentNumber(documentNumber);
+  }
+
   @Test
   @DisplayName(
     "Request GET returns HTTP 404 because mocked documentation unit port returns empty optional"
@@ -82,6 +157,91 @@ class AdmDocumentationUnitControllerTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName("Request GET on publication returns HTTP 200 and the latest publication")
+  void findPublication() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    given(documentationUnitService.findPublication(documentNumber)).willReturn(
+      Optional.of(
+        new Publication(documentNumber, PublicationStatus.PENDING, 1, "Timeout", Instant.now(), null)
+      )
+    );
+
+    // when
+    mockMvc
+      .perform(get("/api/adm/documentation-units/{documentNumber}/publication", documentNumber))
+      // then
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.status").value("PENDING"))
+      .andExpect(jsonPath("$.attempts").value(1))
+      .andExpect(jsonPath("$.lastError").value("Timeout"));
+  }
+
+  @Test
+  @DisplayName("Request GET on publication returns HTTP 404 if never published")
+  void findPublication_notFound() throws Exception {
+    // given
+    String documentNumber = "KSNR000000001";
+    given(documentationUnitService.findPublication(documentNumber)).willReturn(Optional.empty());
+
+    // when
+    mockMvc
+      .perform(get("/api/adm/documentation-units/{documentNumber}/publication", documentNumber))
+      // then
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Request POST on bulk publish jobs returns HTTP 202 and the created job")
+  void startBulkPublish() throws Exception {
+    // given
+    UUID id = UUID.randomUUID();
+    given(
+      bulkPublishService.start(new BulkPublishRequest(List.of("KSNR000000001", "KSNR000000002")))
+    ).willReturn(
+      new BulkPublishJob(
+        id,
+        BulkPublishJob.State.QUEUED,
+        2,
+        0,
+        0,
+        List.of(),
+        Instant.now(),
+        null,
+        null,
+        0
+      )
+    );
+
+    // when
+    mockMvc
+      .perform(
+        post("/api/adm/bulk-publish-jobs")
+          .content("{\"documentNumbers\": [\"KSNR000000001\", \"KSNR000000002\"]}")
+          .contentType(MediaType.APPLICATION_JSON)
+      )
+      // then
+      .andExpect(status().isAccepted())
+      .andExpect(jsonPath("$.id").value(id.toString()))
+      .andExpect(jsonPath("$.state").value("QUEUED"))
+      .andExpect(jsonPath("$.total").value(2));
+  }
+
+  @Test
+  @DisplayName("Request GET on bulk publish job returns HTTP 404 for an unknown job")
+  void findBulkPublish_notFound() throws Exception {
+    // given
+    UUID id = UUID.randomUUID();
+    given(bulkPublishService.find(id)).willReturn(Optional.empty());
+
+    // when
+    mockMvc
+      .perform(get("/api/adm/bulk-publish-jobs/{id}", id))
+      // then
+      .andExpect(status().isNotFound());
+  }
+
   @Test
   @DisplayName("Request POST returns HTTP 201 and data from mocked documentation unit port")
   void create() throws Exception {
@@ -106,7 +266,7 @@ class AdmDocumentationUnitControllerTest {
     // given
     String documentNumber = "KSNR054920707";
     String json = "{\"test\":\"content\"}";
-    given(documentationUnitService.update(documentNumber, json)).willReturn(
+    given(documentationUnitService.update(documentNumber, json, null)).willReturn(
       Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), json))
     );
 
@@ -131,7 +291,7 @@ class AdmDocumentationUnitControllerTest {
     // given
     String documentNumber = "KSNR000000001";
     String json = "{\"test\":\"unsuccessful\"}";
-    given(documentationUnitService.update(documentNumber, json)).willReturn(Optional.empty());
+    given(documentationUnitService.update(documentNumber, json, null)).willReturn(Optional.empty());
 
     // when
     mockMvc
@@ -144,6 +304,152 @@ class AdmDocumentationUnitControllerTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName("Request PUT with the ETag of a converted unit as If-Match compares the version")
+  void update_ifMatchOfConvertedDocumentationUnit() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    String json = "{\"test\":\"content\"}";
+    given(documentationUnitService.update(documentNumber, json, 3L)).willReturn(
+      Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), json, null, 4L))
+    );
+
+    // when
+    mockMvc
+      .perform(
+        put("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content(json)
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(HttpHeaders.IF_MATCH, "\"3-1-abc\"")
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
+  @Test
+  @DisplayName("Request PUT with outdated If-Match returns HTTP 412")
+  void update_preconditionFailed() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    String json = "{\"test\":\"content\"}";
+    given(documentationUnitService.update(documentNumber, json, 2L)).willThrow(
+      new VersionConflictException(documentNumber, 3L)
+    );
+
+    // when
+    mockMvc
+      .perform(
+        put("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content(json)
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(HttpHeaders.IF_MATCH, "\"2\"")
+      )
+      // then
+      .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  @DisplayName("Request PATCH with a JSON Patch returns HTTP 200 and the patched documentation unit")
+  void jsonPatch() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    givenPatchApplied(documentNumber, null);
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content("[{\"op\":\"replace\",\"path\":\"/test\",\"value\":\"patched\"}]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.json.test").value("patched"))
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
+  @Test
+  @DisplayName("Request PATCH with a JSON Patch which cannot be applied returns HTTP 422")
+  void patch_invalidPatch() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    givenPatchApplied(documentNumber, null);
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content("[{\"op\":\"test\",\"path\":\"/test\",\"value\":\"other\"}]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+      )
+      // then
+      .andExpect(status().is(HttpStatus.UNPROCESSABLE_CONTENT.value()));
+  }
+
+  @Test
+  @DisplayName("Request PATCH with outdated If-Match returns HTTP 412")
+  void patch_preconditionFailed() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    given(documentationUnitService.patch(eq(documentNumber), any(), eq(2L))).willThrow(
+      new VersionConflictException(documentNumber, 3L)
+    );
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content("[]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+          .header(HttpHeaders.IF_MATCH, "\"2\"")
+      )
+      // then
+      .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  @DisplayName("Request PATCH returns HTTP 404 if the documentation unit does not exist")
+  void patch_notFound() throws Exception {
+    // given
+    String documentNumber = "KSNR000000001";
+    given(documentationUnitService.patch(eq(documentNumber), any(), eq(null))).willReturn(
+      Optional.empty()
+    );
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content("[]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+      )
+      // then
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Request PATCH with a JSON Merge Patch returns HTTP 200 and the patched unit")
+  void mergePatch() throws Exception {
+    // given
+    String documentNumber = "KSNR054920707";
+    givenPatchApplied(documentNumber, 3L);
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/adm/documentation-units/{documentNumber}", documentNumber)
+          .content("{\"test\":\"merged\",\"other\":null}")
+          .contentType(JsonPatches.MERGE_PATCH_MEDIA_TYPE)
+          .header(HttpHeaders.IF_MATCH, "\"3\"")
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.json.test").value("merged"))
+      .andExpect(jsonPath("$.json.other").doesNotExist())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
   @Nested
   class PaginatedListOfDocumentUnits {
 
@@ -358,7 +664,9 @@ class AdmDocumentationUnitControllerTest {
       given(
         documentationUnitService.publish(any(String.class), any(AdmDocumentationUnitContent.class))
       ).willReturn(
-        Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), validJsonRequest))
+        Optional.of(
+          new DocumentationUnit(documentNumber, UUID.randomUUID(), null, "<akn:akomaNtoso/>", 5L)
+        )
       );
 
       // when
@@ -370,7 +678,8 @@ class AdmDocumentationUnitControllerTest {
         )
         // then
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.documentNumber").value(documentNumber));
+        .andExpect(jsonPath("$.documentNumber").value(documentNumber))
+        .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
     }
 
     @ParameterizedTest(name = "returns HTTP 400 for invalid field: {0}")
@@ -523,4 +832,18 @@ class AdmDocumentationUnitControllerTest {
         .andExpect(status().isServiceUnavailable());
     }
   }
+
+  private void givenPatchApplied(String documentNumber, Long expectedVersion) {
+    given(
+      documentationUnitService.patch(eq(documentNumber), any(), eq(expectedVersion))
+    ).willAnswer(invocation -> {
+      UnaryOperator<JsonNode> patch = invocation.getArgument(1);
+      JsonNode json = patch.apply(
+        JsonNodeFactory.instance.objectNode().put("test", "content").put("other", "content")
+      );
+      return Optional.of(
+        new DocumentationUnit(documentNumber, UUID.randomUUID(), json.toString(), null, 4L)
+      );
+    });
+  }
 }
@@ -0,0 +1,60 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.test.TestFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.AutoConfigureTestEntityManager;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = { "indexing.autosave-mode=DEBOUNCED", "indexing.debounce=1h" })
+@Transactional
+@AutoConfigureTestEntityManager
+@ActiveProfiles("test")
+class AutosaveIndexerIntegrationTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private DocumentationUnitPersistenceService documentationUnitPersistenceService;
+
+  @Test
+  @DisplayName("Updates only enqueue the documentation unit, the index is refreshed after the debounce window")
+  void update_debounced() {
+    // given
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR333333331");
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitEntity = entityManager.persistFlushFind(documentationUnitEntity);
+    String json = TestFile.readFileToString("json-example.json");
+
+    // when
+    documentationUnitPersistenceService.update("KSNR333333331", json);
+    documentationUnitPersistenceService.update("KSNR333333331", json.replace("NeuRIS", "RIS"));
+    long processed = documentationUnitPersistenceService.processIndexQueue();
+
+    // then
+    assertThat(processed).isZero();
+    assertThat(
+      entityManager.find(DocumentationUnitIndexQueueEntity.class, documentationUnitEntity.getId())
+    ).isNotNull();
+    assertThat(
+      entityManager
+        .getEntityManager()
+        .createQuery(
+          "from DocumentationUnitIndexEntity where documentationUnit.id = :id",
+          DocumentationUnitIndexEntity.class
+        )
+        .setParameter("id", documentationUnitEntity.getId())
+        .getResultList()
+    ).isEmpty();
+  }
+}
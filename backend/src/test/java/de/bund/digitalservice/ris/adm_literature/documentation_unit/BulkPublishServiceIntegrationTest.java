@@ -0,0 +1,151 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.TestAdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publisher;
+import de.bund.digitalservice.ris.adm_literature.test.WithMockAdmUser;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@WithMockAdmUser
+class BulkPublishServiceIntegrationTest {
+
+  @Autowired
+  private BulkPublishService bulkPublishService;
+
+  @Autowired
+  private DocumentationUnitService documentationUnitService;
+
+  @MockitoBean
+  private Publisher publisher;
+
+  @Test
+  void start() throws InterruptedException {
+    // given
+    DocumentationUnit documentationUnit = documentationUnitService.create(
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+    String documentNumber = documentationUnit.documentNumber();
+    documentationUnitService.publish(
+      documentNumber,
+      TestAdmDocumentationUnitContent.create(documentNumber, "Lange Überschrift")
+    );
+
+    // when
+    BulkPublishJob bulkPublishJob = bulkPublishService.start(
+      new BulkPublishRequest(List.of(documentNumber, "KSNR000000000"))
+    );
+
+    // then
+    BulkPublishJob completedJob = awaitCompletion(bulkPublishJob);
+    assertThat(completedJob.total()).isEqualTo(2);
+    assertThat(completedJob.succeeded()).isEqualTo(1);
+    assertThat(completedJob.failed()).isEqualTo(1);
+    assertThat(completedJob.failures())
+      .extracting(BulkPublishJob.Failure::documentNumber)
+      .containsExactly("KSNR000000000");
+    assertThat(completedJob.finishedAt()).isNotNull();
+  }
+
+  @Test
+  void start_limitsFailures() throws InterruptedException {
+    // given
+    List<String> documentNumbers = IntStream.range(0, BulkPublishService.MAX_FAILURES + 10)
+      .mapToObj(i -> "KSNR99%07d".formatted(i))
+      .toList();
+
+    // when
+    BulkPublishJob bulkPublishJob = bulkPublishService.start(
+      new BulkPublishRequest(documentNumbers)
+    );
+
+    // then
+    BulkPublishJob completedJob = awaitCompletion(bulkPublishJob);
+    assertThat(completedJob.failed()).isEqualTo(BulkPublishService.MAX_FAILURES + 10);
+    assertThat(completedJob.failures()).hasSize(BulkPublishService.MAX_FAILURES);
+  }
+
+  @Test
+  void start_rejectsJobsBeyondQueueLimit() throws InterruptedException {
+    // given
+    DocumentationUnit documentationUnit = documentationUnitService.create(
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+    String documentNumber = documentationUnit.documentNumber();
+    documentationUnitService.publish(
+      documentNumber,
+      TestAdmDocumentationUnitContent.create(documentNumber, "Lange Überschrift")
+    );
+    CountDownLatch running = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    willAnswer(_ -> {
+      running.countDown();
+      release.await();
+      return null;
+    })
+      .given(publisher)
+      .validate(any());
+    BulkPublishJob runningJob = bulkPublishService.start(
+      new BulkPublishRequest(List.of(documentNumber))
+    );
+    assertThat(running.await(30, TimeUnit.SECONDS)).isTrue();
+    List<BulkPublishJob> queuedJobs = new ArrayList<>();
+    for (int i = 0; i < BulkPublishService.MAX_QUEUED_JOBS; i++) {
+      queuedJobs.add(bulkPublishService.start(new BulkPublishRequest(List.of("KSNR000000000"))));
+    }
+
+    // when
+    try {
+      assertThatThrownBy(() ->
+        bulkPublishService.start(new BulkPublishRequest(List.of("KSNR000000000")))
+      ).isInstanceOf(BulkPublishJobRejectedException.class);
+    } finally {
+      release.countDown();
+    }
+
+    // then
+    assertThat(awaitCompletion(runningJob).succeeded()).isEqualTo(1);
+    for (BulkPublishJob queuedJob : queuedJobs) {
+      assertThat(awaitCompletion(queuedJob).failed()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void find_notFound() {
+    // when
+    var bulkPublishJob = bulkPublishService.find(UUID.randomUUID());
+
+    // then
+    assertThat(bulkPublishJob).isEmpty();
+  }
+
+  private BulkPublishJob awaitCompletion(BulkPublishJob bulkPublishJob)
+    throws InterruptedException {
+    Instant timeout = Instant.now().plus(Duration.ofSeconds(30));
+    BulkPublishJob current = bulkPublishJob;
+    while (current.state() != BulkPublishJob.State.COMPLETED && Instant.now().isBefore(timeout)) {
+      Thread.sleep(100);
+      current = bulkPublishService.find(bulkPublishJob.id()).orElseThrow();
+    }
+    assertThat(current.state()).isEqualTo(BulkPublishJob.State.COMPLETED);
+    return current;
+  }
+}
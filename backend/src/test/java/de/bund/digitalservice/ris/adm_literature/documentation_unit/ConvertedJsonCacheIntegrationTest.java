@@ -0,0 +1,182 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.config.CacheConfig;
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.AutoConfigureTestEntityManager;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestEntityManager
+@ActiveProfiles("test")
+class ConvertedJsonCacheIntegrationTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private ConvertedJsonCache convertedJsonCache;
+
+  @Autowired
+  private ConvertedJsonRepository convertedJsonRepository;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Test
+  void get_convertsOnlyOnce() {
+    // given
+    DocumentationUnit documentationUnit = persist("KSNR999999981", "<akn:akomaNtoso/>");
+    AtomicInteger conversions = new AtomicInteger();
+
+    // when
+    String first = convertedJsonCache.get(documentationUnit, () ->
+      "{\"conversion\":" + conversions.incrementAndGet() + "}"
+    );
+    String second = convertedJsonCache.get(documentationUnit, () ->
+      "{\"conversion\":" + conversions.incrementAndGet() + "}"
+    );
+
+    // then
+    assertThat(first).isEqualTo("{\"conversion\":1}");
+    assertThat(second).isEqualTo(first);
+    assertThat(conversions).hasValue(1);
+    assertThat(convertedJsonRepository.findById(documentationUnit.id()))
+      .get()
+      .extracting(ConvertedJsonEntity::getJson)
+      .isEqualTo(first);
+  }
+
+  @Test
+  void get_convertsAgainIfXmlChanged() {
+    // given
+    DocumentationUnit documentationUnit = persist("KSNR999999982", "<akn:akomaNtoso/>");
+    convertedJsonCache.get(documentationUnit, () -> "{\"version\":1}");
+    DocumentationUnit changedDocumentationUnit = new DocumentationUnit(
+      documentationUnit.documentNumber(),
+      documentationUnit.id(),
+      null,
+      "<akn:akomaNtoso><akn:doc/></akn:akomaNtoso>"
+    );
+
+    // when
+    String json = convertedJsonCache.get(changedDocumentationUnit, () -> "{\"version\":2}");
+
+    // then
+    assertThat(json).isEqualTo("{\"version\":2}");
+    assertThat(convertedJsonRepository.findById(documentationUnit.id()))
+      .get()
+      .extracting(ConvertedJsonEntity::getXmlHash)
+      .isEqualTo(DocumentationUnitIndexer.sha256(changedDocumentationUnit.xml()));
+  }
+
+  @Test
+  void get_usesPersistedJsonAfterMemoryCacheIsCleared() {
+    // given
+    DocumentationUnit documentationUnit = persist("KSNR999999983", "<akn:akomaNtoso/>");
+    convertedJsonCache.get(documentationUnit, () -> "{\"persisted\":true}");
+    cacheManager.getCache(CacheConfig.CONVERTED_JSON_CACHE).clear();
+
+    // when
+    String json = convertedJsonCache.get(documentationUnit, () -> "{\"persisted\":false}");
+
+    // then
+    assertThat(json).isEqualTo("{\"persisted\":true}");
+  }
+
+  @Test
+  void get_convertsAgainIfConversionVersionChanged() {
+    // given
+    DocumentationUnit documentationUnit = persist("KSNR999999984", "<akn:akomaNtoso/>");
+    convertedJsonRepository.upsert(
+      documentationUnit.id(),
+      DocumentationUnitIndexer.sha256(documentationUnit.xml()),
+      ConvertedJsonCache.CONVERSION_VERSION - 1,
+      convertedJsonCache.lookupGeneration(),
+      "{\"outdated\":true}"
+    );
+
+    // when
+    String json = convertedJsonCache.get(documentationUnit, () -> "{\"outdated\":false}");
+
+    // then
+    assertThat(json).isEqualTo("{\"outdated\":false}");
+    entityManager.clear();
+    assertThat(convertedJsonRepository.findById(documentationUnit.id()))
+      .get()
+      .extracting(ConvertedJsonEntity::getConversionVersion)
+      .isEqualTo(ConvertedJsonCache.CONVERSION_VERSION);
+  }
+
+  @Test
+  void get_convertsAgainIfLookupGenerationChanged() {
+    // given
+    DocumentationUnit documentationUnit = persist("KSNR999999986", "<akn:akomaNtoso/>");
+    convertedJsonRepository.upsert(
+      documentationUnit.id(),
+      DocumentationUnitIndexer.sha256(documentationUnit.xml()),
+      ConvertedJsonCache.CONVERSION_VERSION,
+      "outdated lookup generation",
+      "{\"outdated\":true}"
+    );
+
+    // when
+    String json = convertedJsonCache.get(documentationUnit, () -> "{\"outdated\":false}");
+
+    // then
+    assertThat(json).isEqualTo("{\"outdated\":false}");
+    entityManager.clear();
+    assertThat(convertedJsonRepository.findById(documentationUnit.id()))
+      .get()
+      .extracting(ConvertedJsonEntity::getLookupGeneration)
+      .isEqualTo(convertedJsonCache.lookupGeneration());
+  }
+
+  @Test
+  void evictAll_keepsPersistedEntries() {
+    // given
+    DocumentationUnit documentationUnit = persist("KSNR999999985", "<akn:akomaNtoso/>");
+    convertedJsonCache.get(documentationUnit, () -> "{\"evicted\":false}");
+
+    // when
+    convertedJsonCache.evictAll();
+
+    // then
+    assertThat(convertedJsonRepository.findById(documentationUnit.id())).isPresent();
+    assertThat(convertedJsonCache.get(documentationUnit, () -> "{\"evicted\":true}")).isEqualTo(
+      "{\"evicted\":false}"
+    );
+  }
+
+  @Test
+  void lookupGeneration_isStableForUnchangedLookupTables() {
+    // given
+    String lookupGeneration = convertedJsonCache.lookupGeneration();
+
+    // when
+    convertedJsonCache.evictAll();
+
+    // then
+    assertThat(lookupGeneration).hasSize(32);
+    assertThat(convertedJsonCache.lookupGeneration()).isEqualTo(lookupGeneration);
+  }
+
+  private DocumentationUnit persist(String documentNumber, String xml) {
+    var documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber(documentNumber);
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitEntity.setXml(xml);
+    entityManager.persistAndFlush(documentationUnitEntity);
+    return new DocumentationUnit(documentNumber, documentationUnitEntity.getId(), null, xml);
+  }
+}
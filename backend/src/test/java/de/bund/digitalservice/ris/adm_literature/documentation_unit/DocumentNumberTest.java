@@ -40,7 +40,8 @@ class DocumentNumberTest {
       // prefix, year, latestDocumentNumber
       Arguments.of("KSNR", Year.of(2025), "KSNE2025000001"),
       Arguments.of("KSNR", Year.of(2025), "KSNR2024000001"),
-      Arguments.of("KSNR", Year.of(2025), "KSNR202500001")
+      Arguments.of("KSNR", Year.of(2025), "KSNR202500001"),
+      Arguments.of("KSNR", Year.of(2025), "KSNR2025999999")
     );
   }
 
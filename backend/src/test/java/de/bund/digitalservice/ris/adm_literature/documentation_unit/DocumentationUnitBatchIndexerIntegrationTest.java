@@ -0,0 +1,72 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.AutoConfigureTestEntityManager;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestEntityManager
+@ActiveProfiles("test")
+class DocumentationUnitBatchIndexerIntegrationTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private DocumentationUnitBatchIndexer documentationUnitBatchIndexer;
+
+  @Test
+  @DisplayName("Indexing resumes after the checkpoint and removes the checkpoint when finished")
+  void indexAll_resumeAfterCheckpoint() {
+    // given
+    DocumentationUnitEntity before = createDocumentationUnit("KSNR900000001");
+    DocumentationUnitEntity after = createDocumentationUnit("KSNR100000001");
+    DocumentationUnitIndexCheckpointEntity checkpoint = new DocumentationUnitIndexCheckpointEntity();
+    checkpoint.setName(DocumentationUnitBatchIndexer.CHECKPOINT_NAME);
+    checkpoint.setLastDocumentNumber("KSNR500000001");
+    checkpoint.setUpdatedAt(Instant.now());
+    entityManager.persistAndFlush(checkpoint);
+
+    // when
+    documentationUnitBatchIndexer.indexAll();
+
+    // then
+    assertThat(findIndex(before)).isZero();
+    assertThat(findIndex(after)).isOne();
+    assertThat(
+      entityManager.find(
+        DocumentationUnitIndexCheckpointEntity.class,
+        DocumentationUnitBatchIndexer.CHECKPOINT_NAME
+      )
+    ).isNull();
+  }
+
+  private DocumentationUnitEntity createDocumentationUnit(String documentNumber) {
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber(documentNumber);
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    return entityManager.persistFlushFind(documentationUnitEntity);
+  }
+
+  private long findIndex(DocumentationUnitEntity documentationUnitEntity) {
+    return entityManager
+      .getEntityManager()
+      .createQuery(
+        "select count(*) from DocumentationUnitIndexEntity where documentationUnit.id = :id",
+        Long.class
+      )
+      .setParameter("id", documentationUnitEntity.getId())
+      .getSingleResult();
+  }
+}
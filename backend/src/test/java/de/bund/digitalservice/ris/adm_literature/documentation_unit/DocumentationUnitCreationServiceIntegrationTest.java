@@ -0,0 +1,124 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DocumentationUnitCreationServiceIntegrationTest {
+
+  private static final int THREADS = 16;
+  private static final int CREATIONS_PER_THREAD = 20;
+  private static final String EXHAUSTED_PREFIX = "ZZNR";
+
+  @Autowired
+  private DocumentationUnitCreationService documentationUnitCreationService;
+
+  @Autowired
+  private DocumentationUnitRepository documentationUnitRepository;
+
+  @Autowired
+  private DocumentNumberRepository documentNumberRepository;
+
+  private final List<String> createdDocumentNumbers = new ArrayList<>();
+
+  @AfterEach
+  void afterEach() {
+    // The created documentation units are committed, remove them from the shared database
+    createdDocumentNumbers.forEach(documentNumber ->
+      documentationUnitRepository
+        .findByDocumentNumber(documentNumber)
+        .ifPresent(documentationUnitRepository::delete)
+    );
+    documentNumberRepository
+      .findAll()
+      .stream()
+      .filter(documentNumberEntity -> EXHAUSTED_PREFIX.equals(documentNumberEntity.getPrefix()))
+      .forEach(documentNumberRepository::delete);
+  }
+
+  @Test
+  void create_concurrently() {
+    // given
+    CountDownLatch start = new CountDownLatch(1);
+    List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+
+    // when
+    try (ExecutorService executorService = Executors.newFixedThreadPool(THREADS)) {
+      for (int i = 0; i < THREADS; i++) {
+        futures.add(
+          CompletableFuture.supplyAsync(
+            () -> {
+              awaitQuietly(start);
+              List<String> documentNumbers = new ArrayList<>();
+              for (int j = 0; j < CREATIONS_PER_THREAD; j++) {
+                documentNumbers.add(
+                  documentationUnitCreationService
+                    .create(DocumentationOffice.BVERWG, DocumentCategory.VERWALTUNGSVORSCHRIFTEN)
+                    .documentNumber()
+                );
+              }
+              return documentNumbers;
+            },
+            executorService
+          )
+        );
+      }
+      start.countDown();
+    }
+
+    // then: every creation succeeded at the first attempt and got its own document number
+    List<String> documentNumbers = futures
+      .stream()
+      .map(CompletableFuture::join)
+      .flatMap(List::stream)
+      .toList();
+    createdDocumentNumbers.addAll(documentNumbers);
+    assertThat(documentNumbers)
+      .hasSize(THREADS * CREATIONS_PER_THREAD)
+      .doesNotHaveDuplicates()
+      .allMatch(documentNumber -> documentNumber.startsWith("WBNR" + Year.now().getValue()));
+  }
+
+  @Test
+  void allocateNext_exhausted() {
+    // given
+    int year = Year.now().getValue();
+    documentNumberRepository.allocateNext(
+      EXHAUSTED_PREFIX,
+      year,
+      EXHAUSTED_PREFIX + year + "999999"
+    );
+
+    // when
+    String documentNumber = documentNumberRepository.allocateNext(
+      EXHAUSTED_PREFIX,
+      year,
+      EXHAUSTED_PREFIX + year + "000001"
+    );
+
+    // then
+    assertThat(documentNumber).isNull();
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException _) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
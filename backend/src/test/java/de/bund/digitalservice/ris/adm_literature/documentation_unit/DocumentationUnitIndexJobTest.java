@@ -0,0 +1,65 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentationUnitIndexJobTest {
+
+  @InjectMocks
+  private DocumentationUnitIndexJob documentationUnitIndexJob;
+
+  @Mock
+  private DocumentationUnitPersistenceService documentationUnitPersistenceService;
+
+  @Test
+  void indexAll_indexesAllSchemas() {
+    // given
+    List<SchemaType> schemaTypes = new ArrayList<>();
+    given(documentationUnitPersistenceService.indexAll()).willAnswer(_ -> {
+      schemaTypes.add(SchemaContextHolder.getSchema());
+      return 1L;
+    });
+
+    // when
+    documentationUnitIndexJob.indexAll();
+
+    // then
+    assertThat(schemaTypes).containsExactly(SchemaType.values());
+    verify(documentationUnitPersistenceService, times(SchemaType.values().length))
+      .enqueueOutdatedIndexes();
+    verify(documentationUnitPersistenceService, times(SchemaType.values().length))
+      .processIndexQueue();
+  }
+
+  @Test
+  void indexAll_continuesWithNextSchemaOnFailure() {
+    // given
+    List<SchemaType> schemaTypes = new ArrayList<>();
+    given(documentationUnitPersistenceService.indexAll()).willAnswer(_ -> {
+      schemaTypes.add(SchemaContextHolder.getSchema());
+      if (schemaTypes.size() == 1) {
+        throw new IllegalStateException("Database is down");
+      }
+      return 1L;
+    });
+
+    // when
+    documentationUnitIndexJob.indexAll();
+
+    // then
+    assertThat(schemaTypes).containsExactly(SchemaType.values());
+  }
+}
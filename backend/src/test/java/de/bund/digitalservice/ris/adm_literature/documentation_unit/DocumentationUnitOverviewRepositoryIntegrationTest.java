@@ -0,0 +1,96 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jpa.test.autoconfigure.AutoConfigureTestEntityManager;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+  properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentationUnitOverviewRepositoryIntegrationTest$CapturingStatementInspector"
+)
+@Transactional
+@AutoConfigureTestEntityManager
+@ActiveProfiles("test")
+class DocumentationUnitOverviewRepositoryIntegrationTest {
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private DocumentationUnitRepository documentationUnitRepository;
+
+  @BeforeEach
+  void setUp() {
+    CapturingStatementInspector.STATEMENTS.clear();
+  }
+
+  @Test
+  void findOverview_doesNotSelectContent() {
+    // given
+    var documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR999999991");
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    // A migrated LDML document of 500 KB
+    documentationUnitEntity.setXml("<akn:akomaNtoso>" + "x".repeat(500_000) + "</akn:akomaNtoso>");
+    entityManager.persist(documentationUnitEntity);
+    var documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
+    documentationUnitIndexEntity.setDocumentationUnit(documentationUnitEntity);
+    documentationUnitIndexEntity.setLangueberschrift("Überschrift");
+    documentationUnitIndexEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitIndexEntity.setDocumentationUnitType(
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+    entityManager.persistAndFlush(documentationUnitIndexEntity);
+    entityManager.clear();
+    CapturingStatementInspector.STATEMENTS.clear();
+
+    // when
+    Page<DocumentationUnitOverviewRow> page = documentationUnitRepository.findOverview(
+      new DocumentUnitSpecification("KSNR99999999", "berschrift", null, null),
+      PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "documentationUnitIndex.langueberschrift"))
+    );
+
+    // then
+    assertThat(page.getContent())
+      .singleElement()
+      .satisfies(row -> {
+        assertThat(row.documentNumber()).isEqualTo("KSNR999999991");
+        assertThat(row.langueberschrift()).isEqualTo("Überschrift");
+      });
+    assertThat(CapturingStatementInspector.STATEMENTS)
+      .isNotEmpty()
+      .allSatisfy(sql -> assertThat(sql).doesNotContain(".json").doesNotContain(".xml"))
+      // filter and sort use one join of the index
+      .anySatisfy(sql ->
+        assertThat(sql.split("join documentation_unit_index", -1)).hasSize(2)
+      );
+  }
+
+  /**
+   * Captures all SQL statements executed by Hibernate.
+   */
+  public static class CapturingStatementInspector implements StatementInspector {
+
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
@@ -1,7 +1,7 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
-import static de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentationUnitPersistenceService.ENTRY_SEPARATOR;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
@@ -9,6 +9,8 @@ import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import de.bund.digitalservice.ris.adm_literature.test.TestFile;
 import de.bund.digitalservice.ris.adm_literature.test.WithMockAdmUser;
 import jakarta.persistence.TypedQuery;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Optional;
@@ -52,8 +54,8 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
     index.setDocumentationUnit(unit);
     unit.setDocumentationUnitIndex(index);
     index.setLangueberschrift(langueberschrift);
-    index.setFundstellen(fundstellen);
-    index.setZitierdaten(zitierdaten);
+    index.setFundstellen(List.of(fundstellen));
+    index.setZitierdaten(List.of(LocalDate.parse(zitierdaten)));
     index.setDocumentationOffice(DocumentationOffice.BSG);
     index.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
     entityManager.persistAndFlush(index);
@@ -119,6 +121,55 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       .isEqualTo("{\"test\":\"content\"}");
   }
 
+  @Test
+  void update_incrementsVersion() {
+    // given
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR2025000002");
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    long version = entityManager.persistFlushFind(documentationUnitEntity).getVersion();
+
+    // when
+    DocumentationUnit documentationUnit = documentationUnitPersistenceService.update(
+      "KSNR2025000002",
+      "{\"test\":\"content\"}",
+      version
+    );
+
+    // then
+    assertThat(documentationUnit.version()).isEqualTo(version + 1);
+    assertThat(
+      documentationUnitPersistenceService.findVersionByDocumentNumber("KSNR2025000002")
+    ).contains(new DocumentationUnitVersion(version + 1, false));
+  }
+
+  @Test
+  void update_versionConflict() {
+    // given
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR2025000003");
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitEntity.setJson("{\"test\":\"old\"}");
+    long version = entityManager.persistFlushFind(documentationUnitEntity).getVersion();
+
+    // when
+    Exception exception = catchException(() ->
+      documentationUnitPersistenceService.update(
+        "KSNR2025000003",
+        "{\"test\":\"new\"}",
+        version + 1
+      )
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(VersionConflictException.class);
+    assertThat(entityManager.find(DocumentationUnitEntity.class, documentationUnitEntity.getId()))
+      .extracting(DocumentationUnitEntity::getJson)
+      .isEqualTo("{\"test\":\"old\"}");
+  }
+
   @Test
   void update_reindex() {
     // given
@@ -130,8 +181,8 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
     DocumentationUnitIndexEntity documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
     documentationUnitIndexEntity.setDocumentationUnit(documentationUnitEntity);
     documentationUnitIndexEntity.setLangueberschrift("Lang");
-    documentationUnitIndexEntity.setFundstellen("Fund");
-    documentationUnitIndexEntity.setZitierdaten("2012-12-12");
+    documentationUnitIndexEntity.setFundstellen(List.of("Fund"));
+    documentationUnitIndexEntity.setZitierdaten(List.of(LocalDate.of(2012, 12, 12)));
     documentationUnitIndexEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
     documentationUnitIndexEntity.setDocumentationOffice(DocumentationOffice.BSG);
     documentationUnitIndexEntity = entityManager.persistFlushFind(documentationUnitIndexEntity);
@@ -153,8 +204,8 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       )
       .containsExactly(
         "1. Bekanntmachung zum XML-Testen in NeuRIS VwV",
-        "Das Periodikum 2021, Seite 15",
-        "2025-05-05%s2025-06-01".formatted(ENTRY_SEPARATOR)
+        List.of("Das Periodikum 2021, Seite 15"),
+        List.of(LocalDate.of(2025, 5, 5), LocalDate.of(2025, 6, 1))
       );
   }
 
@@ -264,9 +315,9 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
 
     documentationUnitIndexEntity.setLangueberschrift("Sample Document Title 1");
     documentationUnitIndexEntity.setFundstellen(
-      "p.abbrev.1 zitatstelle 1%sp.abbrev.2 zitatstelle 2".formatted(ENTRY_SEPARATOR)
+      List.of("p.abbrev.1 zitatstelle 1", "p.abbrev.2 zitatstelle 2")
     );
-    documentationUnitIndexEntity.setZitierdaten("2011-11-11");
+    documentationUnitIndexEntity.setZitierdaten(List.of(LocalDate.of(2011, 11, 11)));
     documentationUnitIndexEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
     documentationUnitIndexEntity.setDocumentationOffice(DocumentationOffice.BSG);
     entityManager.persistAndFlush(documentationUnitIndexEntity);
@@ -324,7 +375,7 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
     DocumentationUnitIndexEntity documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
     documentationUnitIndexEntity.setDocumentationUnit(documentationUnitEntity);
     documentationUnitIndexEntity.setLangueberschrift("Sample Document Title 1");
-    documentationUnitIndexEntity.setZitierdaten("2011-11-11");
+    documentationUnitIndexEntity.setZitierdaten(List.of(LocalDate.of(2011, 11, 11)));
     documentationUnitIndexEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
     documentationUnitIndexEntity.setDocumentationOffice(DocumentationOffice.BSG);
     documentationUnitEntity.setDocumentationUnitIndex(documentationUnitIndexEntity);
@@ -454,6 +505,149 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       .isEqualTo(List.of("2025-01-07"));
   }
 
+  @Test
+  void findDocumentationUnitOverviewElements_byFundstellenPrefixAndExact() {
+    // given
+    createTestUnit("KSNR00009", "Title I", "Testperiodikum 2025, 12", "2025-01-09");
+    createTestUnit("KSNR00010", "Title J", "Das Testperiodikum 2025, 12", "2025-01-10");
+
+    // when
+    var prefixResult = documentationUnitPersistenceService.findDocumentationUnitOverviewElements(
+      new DocumentationUnitQuery(
+        null,
+        null,
+        "testperiodikum",
+        null,
+        EntryMatch.PREFIX,
+        new QueryOptions(0, 10, "id", Sort.Direction.ASC, true)
+      )
+    );
+    var exactResult = documentationUnitPersistenceService.findDocumentationUnitOverviewElements(
+      new DocumentationUnitQuery(
+        null,
+        null,
+        "Testperiodikum 2025, 1",
+        null,
+        EntryMatch.EXACT,
+        new QueryOptions(0, 10, "id", Sort.Direction.ASC, true)
+      )
+    );
+
+    // then
+    assertThat(prefixResult.content())
+      .singleElement()
+      .extracting(DocumentationUnitOverviewElement::documentNumber)
+      .isEqualTo("KSNR00009");
+    assertThat(exactResult.content()).isEmpty();
+  }
+
+  @Test
+  void findDocumentationUnitOverviewElements_byZitierdatenYear() {
+    // given
+    createTestUnit("KSNR00011", "Title K", "Fundstelle K", "1997-12-31");
+    createTestUnit("KSNR00012", "Title L", "Fundstelle L", "1998-03-01");
+
+    // when
+    var query = new DocumentationUnitQuery(
+      null,
+      null,
+      null,
+      "1998",
+      new QueryOptions(0, 10, "id", Sort.Direction.ASC, true)
+    );
+    var result = documentationUnitPersistenceService.findDocumentationUnitOverviewElements(query);
+
+    // then
+    assertThat(result.content())
+      .singleElement()
+      .extracting(DocumentationUnitOverviewElement::zitierdaten)
+      .isEqualTo(List.of("1998-03-01"));
+  }
+
+  @Test
+  @DisplayName("Literature is indexed and searched by its own index fields")
+  void findLiteratureDocumentationUnitOverviewElements_byTitel() {
+    // given
+    createLiteratureTestUnit(
+      "KSLU000000001",
+      """
+      {"hauptsachtitel": "Ein sehr spezieller Titel", "veroeffentlichungsjahr": "2024",
+       "dokumenttypen": [{"abbreviation": "Auf", "name": "Aufsatz"}]}
+      """
+    );
+    createLiteratureTestUnit(
+      "KSLU000000002",
+      """
+      {"dokumentarischerTitel": "Anderer Titel", "veroeffentlichungsjahr": "2025",
+       "dokumenttypen": [{"abbreviation": "Ebs", "name": "Entscheidungsbesprechung"}]}
+      """
+    );
+    documentationUnitPersistenceService.indexAll();
+
+    // when
+    var query = new LiteratureDocumentationUnitQuery(
+      null,
+      "spezieller",
+      null,
+      null,
+      new QueryOptions(0, 10, "id", Sort.Direction.ASC, true)
+    );
+    var result = documentationUnitPersistenceService.findLiteratureDocumentationUnitOverviewElements(
+      query
+    );
+
+    // then
+    assertThat(result.content())
+      .singleElement()
+      .extracting(
+        LiteratureDocumentationUnitOverviewElement::documentNumber,
+        LiteratureDocumentationUnitOverviewElement::hauptsachtitel,
+        LiteratureDocumentationUnitOverviewElement::veroeffentlichungsjahr,
+        LiteratureDocumentationUnitOverviewElement::dokumenttypen
+      )
+      .containsExactly("KSLU000000001", "Ein sehr spezieller Titel", "2024", List.of("Auf"));
+  }
+
+  @Test
+  void findLiteratureDocumentationUnitOverviewElements_byDokumentarischerTitel() {
+    // given
+    createLiteratureTestUnit(
+      "KSLU000000003",
+      """
+      {"dokumentarischerTitel": "Dokumentarischer Titel", "veroeffentlichungsjahr": "2025",
+       "dokumenttypen": [{"abbreviation": "Ebs", "name": "Entscheidungsbesprechung"}]}
+      """
+    );
+    documentationUnitPersistenceService.indexAll();
+
+    // when
+    var query = new LiteratureDocumentationUnitQuery(
+      null,
+      "dokumentarischer",
+      "2025",
+      "ebs",
+      new QueryOptions(0, 10, "id", Sort.Direction.ASC, true)
+    );
+    var result = documentationUnitPersistenceService.findLiteratureDocumentationUnitOverviewElements(
+      query
+    );
+
+    // then
+    assertThat(result.content())
+      .singleElement()
+      .extracting(LiteratureDocumentationUnitOverviewElement::dokumentarischerTitel)
+      .isEqualTo("Dokumentarischer Titel");
+  }
+
+  private void createLiteratureTestUnit(String documentNumber, String json) {
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber(documentNumber);
+    documentationUnitEntity.setJson(json);
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.LITERATUR_UNSELBSTAENDIG);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    entityManager.persistAndFlush(documentationUnitEntity);
+  }
+
   @Test
   void indexByDocumentationUnit_xml() {
     // given
@@ -479,8 +673,8 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       )
       .containsExactly(
         "1. Bekanntmachung zum XML-Testen in NeuRIS VwV",
-        "Das Periodikum 2021, Seite 15",
-        "2025-05-05%s2025-06-01".formatted(ENTRY_SEPARATOR)
+        List.of("Das Periodikum 2021, Seite 15"),
+        List.of(LocalDate.of(2025, 5, 5), LocalDate.of(2025, 6, 1))
       );
   }
 
@@ -509,8 +703,8 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       )
       .containsExactly(
         "1. Bekanntmachung zum XML-Testen in NeuRIS VwV",
-        "Das Periodikum 2021, Seite 15",
-        "2025-05-05%s2025-06-01".formatted(ENTRY_SEPARATOR)
+        List.of("Das Periodikum 2021, Seite 15"),
+        List.of(LocalDate.of(2025, 5, 5), LocalDate.of(2025, 6, 1))
       );
   }
 
@@ -574,8 +768,8 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       )
       .containsExactly(
         "1. Bekanntmachung zum XML-Testen in NeuRIS VwV",
-        "Das Periodikum 2021, Seite 15",
-        "2025-05-05%s2025-06-01".formatted(ENTRY_SEPARATOR)
+        List.of("Das Periodikum 2021, Seite 15"),
+        List.of(LocalDate.of(2025, 5, 5), LocalDate.of(2025, 6, 1))
       );
   }
 
@@ -603,6 +797,126 @@ class DocumentationUnitPersistenceServiceIntegrationTest {
       .containsExactly(null, null, null);
   }
 
+  @Test
+  @DisplayName("Documentation units with an outdated index are re-indexed by the index queue")
+  void processIndexQueue_outdatedIndex() {
+    // given
+    String json = TestFile.readFileToString("json-example.json");
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR222222222");
+    documentationUnitEntity.setJson(json);
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitEntity = entityManager.persistFlushFind(documentationUnitEntity);
+    DocumentationUnitIndexEntity documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
+    documentationUnitIndexEntity.setDocumentationUnit(documentationUnitEntity);
+    documentationUnitIndexEntity.setLangueberschrift("Lang");
+    documentationUnitIndexEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitIndexEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitIndexEntity.setIndexVersion(DocumentationUnitIndexer.INDEX_VERSION - 1);
+    documentationUnitIndexEntity.setContentHash(
+      DocumentationUnitIndexer.contentHash(documentationUnitEntity)
+    );
+    documentationUnitIndexEntity = entityManager.persistFlushFind(documentationUnitIndexEntity);
+    documentationUnitEntity.setDocumentationUnitIndex(documentationUnitIndexEntity);
+    documentationUnitEntity = entityManager.merge(documentationUnitEntity);
+
+    // when
+    documentationUnitPersistenceService.enqueueOutdatedIndexes();
+    documentationUnitPersistenceService.processIndexQueue();
+
+    // then
+    TypedQuery<DocumentationUnitIndexEntity> query = createTypedQuery(documentationUnitEntity);
+    assertThat(query.getResultList())
+      .singleElement()
+      .extracting(
+        DocumentationUnitIndexEntity::getLangueberschrift,
+        DocumentationUnitIndexEntity::getIndexVersion
+      )
+      .containsExactly(
+        "1. Bekanntmachung zum XML-Testen in NeuRIS VwV",
+        DocumentationUnitIndexer.INDEX_VERSION
+      );
+    assertThat(
+      entityManager.find(DocumentationUnitIndexQueueEntity.class, documentationUnitEntity.getId())
+    ).isNull();
+  }
+
+  @Test
+  @DisplayName("Documentation units with an up-to-date index are skipped by the index queue")
+  void processIndexQueue_upToDateIndex() {
+    // given
+    String json = TestFile.readFileToString("json-example.json");
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR444444444");
+    documentationUnitEntity.setJson(json);
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitEntity = entityManager.persistFlushFind(documentationUnitEntity);
+    DocumentationUnitIndexEntity documentationUnitIndexEntity = new DocumentationUnitIndexEntity();
+    documentationUnitIndexEntity.setDocumentationUnit(documentationUnitEntity);
+    documentationUnitIndexEntity.setLangueberschrift("Lang");
+    documentationUnitIndexEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitIndexEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitIndexEntity.setIndexVersion(DocumentationUnitIndexer.INDEX_VERSION);
+    documentationUnitIndexEntity.setContentHash(
+      DocumentationUnitIndexer.contentHash(documentationUnitEntity)
+    );
+    documentationUnitIndexEntity = entityManager.persistFlushFind(documentationUnitIndexEntity);
+    documentationUnitEntity.setDocumentationUnitIndex(documentationUnitIndexEntity);
+    documentationUnitEntity = entityManager.merge(documentationUnitEntity);
+    DocumentationUnitIndexQueueEntity documentationUnitIndexQueueEntity =
+      new DocumentationUnitIndexQueueEntity();
+    documentationUnitIndexQueueEntity.setDocumentationUnitId(documentationUnitEntity.getId());
+    documentationUnitIndexQueueEntity.setEnqueuedAt(Instant.now());
+    entityManager.persistAndFlush(documentationUnitIndexQueueEntity);
+
+    // when
+    long processed = documentationUnitPersistenceService.processIndexQueue();
+
+    // then
+    assertThat(processed).isEqualTo(1);
+    TypedQuery<DocumentationUnitIndexEntity> query = createTypedQuery(documentationUnitEntity);
+    assertThat(query.getResultList())
+      .singleElement()
+      .extracting(DocumentationUnitIndexEntity::getLangueberschrift)
+      .isEqualTo("Lang");
+  }
+
+  @Test
+  @DisplayName("Documentation units whose indexing failed stay in the index queue for a retry")
+  void processIndexQueue_failedIndex() {
+    // given
+    DocumentationUnitEntity documentationUnitEntity = new DocumentationUnitEntity();
+    documentationUnitEntity.setDocumentNumber("KSNR666666666");
+    documentationUnitEntity.setJson("{\"test\":\"content\"");
+    documentationUnitEntity.setDocumentationUnitType(DocumentCategory.VERWALTUNGSVORSCHRIFTEN);
+    documentationUnitEntity.setDocumentationOffice(DocumentationOffice.BSG);
+    documentationUnitEntity = entityManager.persistFlushFind(documentationUnitEntity);
+    DocumentationUnitIndexQueueEntity documentationUnitIndexQueueEntity =
+      new DocumentationUnitIndexQueueEntity();
+    documentationUnitIndexQueueEntity.setDocumentationUnitId(documentationUnitEntity.getId());
+    documentationUnitIndexQueueEntity.setEnqueuedAt(Instant.now());
+    entityManager.persistAndFlush(documentationUnitIndexQueueEntity);
+
+    // when
+    long processed = documentationUnitPersistenceService.processIndexQueue();
+
+    // then
+    assertThat(processed).isEqualTo(1);
+    assertThat(createTypedQuery(documentationUnitEntity).getResultList())
+      .singleElement()
+      .extracting(DocumentationUnitIndexEntity::getContentHash)
+      .isNull();
+    DocumentationUnitIndexQueueEntity retry = entityManager.find(
+      DocumentationUnitIndexQueueEntity.class,
+      documentationUnitEntity.getId()
+    );
+    assertThat(retry).isNotNull();
+    assertThat(retry.getAttempts()).isEqualTo(1);
+    assertThat(retry.getEnqueuedAt()).isAfter(Instant.now());
+  }
+
   private TypedQuery<DocumentationUnitIndexEntity> createTypedQuery(
     DocumentationUnitEntity documentationUnitEntity
   ) {
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -67,27 +68,31 @@ class DocumentationUnitPersistenceServiceTest {
   @Test
   void findDocumentationUnitOverviewElements() {
     // given
-    DocumentationUnitEntity entityWithIndex = new DocumentationUnitEntity();
-    entityWithIndex.setId(UUID.randomUUID());
-    entityWithIndex.setDocumentNumber("DOC-001");
-    DocumentationUnitIndexEntity index = new DocumentationUnitIndexEntity();
-    index.setLangueberschrift("Title 1");
-    index.setZitierdaten("2023-01-01");
-    index.setFundstellen("Citation 1");
-    entityWithIndex.setDocumentationUnitIndex(index);
-
-    DocumentationUnitEntity entityWithoutIndex = new DocumentationUnitEntity();
-    entityWithoutIndex.setId(UUID.randomUUID());
-    entityWithoutIndex.setDocumentNumber("DOC-002");
-    entityWithoutIndex.setDocumentationUnitIndex(null);
-
-    Page<DocumentationUnitEntity> pageOfEntities = new PageImpl<>(
-      List.of(entityWithIndex, entityWithoutIndex)
+    DocumentationUnitOverviewRow rowWithIndex = new DocumentationUnitOverviewRow(
+      UUID.randomUUID(),
+      "DOC-001",
+      List.of(LocalDate.of(2023, 1, 1)),
+      "Title 1",
+      List.of("Citation 1")
+    );
+    DocumentationUnitOverviewRow rowWithoutIndex = new DocumentationUnitOverviewRow(
+      UUID.randomUUID(),
+      "DOC-002",
+      null,
+      null,
+      null
+    );
+
+    Page<DocumentationUnitOverviewRow> pageOfRows = new PageImpl<>(
+      List.of(rowWithIndex, rowWithoutIndex)
     );
 
     given(
-      documentationUnitRepository.findAll(any(DocumentUnitSpecification.class), any(Pageable.class))
-    ).willReturn(pageOfEntities);
+      documentationUnitRepository.findOverview(
+        any(DocumentUnitSpecification.class),
+        any(Pageable.class)
+      )
+    ).willReturn(pageOfRows);
 
     // when
     de.bund.digitalservice.ris.adm_literature.page.Page<DocumentationUnitOverviewElement> result =
@@ -115,17 +120,17 @@ class DocumentationUnitPersistenceServiceTest {
         Tuple.tuple("DOC-002", null, emptyList(), emptyList())
       );
 
-    // Assert transformation for the entity WITH an index
+    // Assert transformation for the row WITH an index
     DocumentationUnitOverviewElement elementWithIndex = result.content().getFirst();
-    assertThat(elementWithIndex.id()).isEqualTo(entityWithIndex.getId());
+    assertThat(elementWithIndex.id()).isEqualTo(rowWithIndex.id());
     assertThat(elementWithIndex.documentNumber()).isEqualTo("DOC-001");
     assertThat(elementWithIndex.langueberschrift()).isEqualTo("Title 1");
     assertThat(elementWithIndex.zitierdaten()).containsExactly("2023-01-01");
     assertThat(elementWithIndex.fundstellen()).containsExactly("Citation 1");
 
-    // Assert transformation for the entity WITHOUT an index
+    // Assert transformation for the row WITHOUT an index
     DocumentationUnitOverviewElement elementWithoutIndex = result.content().get(1);
-    assertThat(elementWithoutIndex.id()).isEqualTo(entityWithoutIndex.getId());
+    assertThat(elementWithoutIndex.id()).isEqualTo(rowWithoutIndex.id());
     assertThat(elementWithoutIndex.documentNumber()).isEqualTo("DOC-002");
     assertThat(elementWithoutIndex.langueberschrift()).isNull();
     assertThat(elementWithoutIndex.zitierdaten()).isEmpty();
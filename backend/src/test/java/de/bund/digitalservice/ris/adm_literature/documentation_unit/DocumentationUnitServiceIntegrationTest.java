@@ -7,8 +7,9 @@ import static org.mockito.Mockito.doThrow;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.TestAdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublicationStatus;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publisher;
-import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublishingFailedException;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.ValidationFailedException;
 import de.bund.digitalservice.ris.adm_literature.test.WithMockAdmUser;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -117,6 +118,11 @@ class DocumentationUnitServiceIntegrationTest {
           "\"documentNumber\":\"" + documentationUnit.documentNumber() + "\""
         )
       );
+    assertThat(documentationUnitService.findPublication(documentationUnit.documentNumber()))
+      .isPresent()
+      .hasValueSatisfying(publication ->
+        assertThat(publication.status()).isEqualTo(PublicationStatus.PENDING)
+      );
   }
 
   @Test
@@ -135,7 +141,7 @@ class DocumentationUnitServiceIntegrationTest {
   }
 
   @Test
-  void publish_shouldRollbackTransaction_whenExternalPublishingFails() {
+  void publish_shouldRollbackTransaction_whenValidationFails() {
     // given
     DocumentationUnit documentationUnit = documentationUnitService.create(
       DocumentCategory.VERWALTUNGSVORSCHRIFTEN
@@ -143,10 +149,10 @@ class DocumentationUnitServiceIntegrationTest {
     String documentNumber = documentationUnit.documentNumber();
     assertThat(documentationUnit.json()).isNull();
 
-    // Publishing to bucket fails
-    doThrow(new PublishingFailedException("External system is down", null))
+    // Validation of the LDML fails
+    doThrow(new ValidationFailedException("Invalid LDML", null))
       .when(publisher)
-      .publish(any(Publisher.PublicationDetails.class));
+      .validate(any(Publisher.PublicationDetails.class));
 
     // when: Attempt to publish, and it fails
     Throwable thrown = catchThrowable(() ->
@@ -157,12 +163,13 @@ class DocumentationUnitServiceIntegrationTest {
     );
 
     // then: The correct exception was thrown
-    assertThat(thrown).isInstanceOf(PublishingFailedException.class);
+    assertThat(thrown).isInstanceOf(ValidationFailedException.class);
 
     // The transaction was rolled back
     Optional<DocumentationUnit> actual = documentationUnitService.findByDocumentNumber(
       documentNumber
     );
     assertThat(actual).isPresent().hasValueSatisfying(dun -> assertThat(dun.json()).isNull());
+    assertThat(documentationUnitService.findPublication(documentNumber)).isEmpty();
   }
 }
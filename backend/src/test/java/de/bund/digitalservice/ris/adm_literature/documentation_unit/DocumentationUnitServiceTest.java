@@ -11,12 +11,15 @@ import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCateg
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.LdmlConverterService;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.LdmlPublishConverterService;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.*;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublicationOutboxService;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.Publisher;
-import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublishingFailedException;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.ValidationFailedException;
 import de.bund.digitalservice.ris.adm_literature.test.WithMockAdmUser;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
@@ -34,6 +37,9 @@ class DocumentationUnitServiceTest {
   @Mock
   private Publisher publisher;
 
+  @Mock
+  private PublicationOutboxService publicationOutboxService;
+
   @Mock
   private DocumentationUnitPersistenceService documentationUnitPersistenceService;
 
@@ -43,6 +49,9 @@ class DocumentationUnitServiceTest {
   @Mock
   private LdmlPublishConverterService ldmlPublishConverterService;
 
+  @Mock
+  private ConvertedJsonCache convertedJsonCache;
+
   @Spy
   private ObjectMapper objectMapper;
 
@@ -53,6 +62,14 @@ class DocumentationUnitServiceTest {
   private static final String TEST_NEW_XML = "<xml>new content</xml>";
   private static final String TEST_JSON = "{\"key\":\"value\"}";
 
+  @BeforeEach
+  void setUp() {
+    // No cached json, always convert
+    lenient()
+      .when(convertedJsonCache.get(any(), any()))
+      .thenAnswer(invocation -> invocation.<Supplier<String>>getArgument(1).get());
+  }
+
   @Test
   void findByDocumentNumber() {
     // given
@@ -101,6 +118,35 @@ class DocumentationUnitServiceTest {
       );
   }
 
+  @Test
+  void findETag() {
+    // given
+    given(
+      documentationUnitPersistenceService.findVersionByDocumentNumber("KSNR2025000001")
+    ).willReturn(Optional.of(new DocumentationUnitVersion(3L, false)));
+
+    // when
+    Optional<String> eTag = documentationUnitService.findETag("KSNR2025000001");
+
+    // then
+    assertThat(eTag).contains("\"3\"");
+  }
+
+  @Test
+  void findETag_converted() {
+    // given
+    given(
+      documentationUnitPersistenceService.findVersionByDocumentNumber("KSNR2025000001")
+    ).willReturn(Optional.of(new DocumentationUnitVersion(3L, true)));
+    given(convertedJsonCache.conversion()).willReturn("1-abc");
+
+    // when
+    Optional<String> eTag = documentationUnitService.findETag("KSNR2025000001");
+
+    // then
+    assertThat(eTag).contains("\"3-1-abc\"");
+  }
+
   @Test
   void findByDocumentNumber_notValidXml() throws JacksonException {
     // given
@@ -128,6 +174,83 @@ class DocumentationUnitServiceTest {
     assertThat(exception).isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void patch_unchanged_skipsWrite() {
+    // given
+    DocumentationUnit documentationUnit = new DocumentationUnit(
+      "KSNR2025000001",
+      UUID.randomUUID(),
+      TEST_JSON,
+      null,
+      1L
+    );
+    given(documentationUnitPersistenceService.findByDocumentNumber("KSNR2025000001")).willReturn(
+      Optional.of(documentationUnit)
+    );
+
+    // when
+    Optional<DocumentationUnit> actual = documentationUnitService.patch(
+      "KSNR2025000001",
+      json -> JsonPatches.applyMergePatch(json, objectMapper.readTree(TEST_JSON)),
+      null
+    );
+
+    // then
+    assertThat(actual).contains(documentationUnit);
+    verify(documentationUnitPersistenceService, never()).update(
+      anyString(),
+      anyString(),
+      any(),
+      anyBoolean()
+    );
+  }
+
+  @Test
+  void patch_notIndexed_skipsReindex() {
+    // given
+    DocumentationUnit documentationUnit = new DocumentationUnit(
+      "KSNR2025000001",
+      UUID.randomUUID(),
+      TEST_JSON,
+      null,
+      1L
+    );
+    given(documentationUnitPersistenceService.findByDocumentNumber("KSNR2025000001")).willReturn(
+      Optional.of(documentationUnit)
+    );
+
+    // when
+    documentationUnitService.patch(
+      "KSNR2025000001",
+      json -> JsonPatches.applyMergePatch(json, objectMapper.readTree("{\"key\":\"new\"}")),
+      1L
+    );
+
+    // then
+    verify(documentationUnitPersistenceService).update(
+      "KSNR2025000001",
+      "{\"key\":\"new\"}",
+      1L,
+      false
+    );
+  }
+
+  @Test
+  void patch_versionConflict() {
+    // given
+    given(documentationUnitPersistenceService.findByDocumentNumber("KSNR2025000001")).willReturn(
+      Optional.of(new DocumentationUnit("KSNR2025000001", UUID.randomUUID(), TEST_JSON, null, 2L))
+    );
+
+    // when
+    Exception exception = catchException(() ->
+      documentationUnitService.patch("KSNR2025000001", json -> json, 1L)
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(VersionConflictException.class);
+  }
+
   @Test
   void findByDocumentNumber_doesNotExist() {
     // given
@@ -162,12 +285,14 @@ class DocumentationUnitServiceTest {
 
     documentationUnitService.publish(docNumber, content);
 
+    verify(publisher).validate(any(Publisher.PublicationDetails.class));
     verify(documentationUnitPersistenceService).publish(eq(docNumber), anyString(), eq(fakeXml));
-    verify(publisher).publish(any(Publisher.PublicationDetails.class));
+    verify(publicationOutboxService).enqueue(any(Publisher.PublicationDetails.class));
+    verify(publisher, never()).publish(any(Publisher.PublicationDetails.class));
   }
 
   @Test
-  void publish_shouldThrowExceptionAndRollback_whenExternalPublishingFails() {
+  void publish_shouldThrowExceptionAndRollback_whenValidationFails() {
     // given
     DocumentationUnit sampleDocUnit = new DocumentationUnit(
       "KSNR123456789",
@@ -190,9 +315,9 @@ class DocumentationUnitServiceTest {
     String documentNumber = documentationUnit.documentNumber();
     assertThat(documentationUnit.json()).isNull();
 
-    doThrow(new PublishingFailedException("External system is down", null))
+    doThrow(new ValidationFailedException("Invalid LDML", null))
       .when(publisher)
-      .publish(any(Publisher.PublicationDetails.class));
+      .validate(any(Publisher.PublicationDetails.class));
 
     // then
     assertThatThrownBy(() ->
@@ -200,7 +325,8 @@ class DocumentationUnitServiceTest {
         documentNumber,
         TestAdmDocumentationUnitContent.create(documentNumber, "Some Content")
       )
-    ).isInstanceOf(PublishingFailedException.class);
+    ).isInstanceOf(ValidationFailedException.class);
+    verifyNoInteractions(publicationOutboxService);
 
     Optional<DocumentationUnit> actual = documentationUnitService.findByDocumentNumber(
       documentNumber
@@ -247,7 +373,7 @@ class DocumentationUnitServiceTest {
 
     // then
     assertThat(result).isPresent();
-    verify(publisher).publish(publicationDetailsCaptor.capture());
+    verify(publicationOutboxService).enqueue(publicationDetailsCaptor.capture());
     assertThat(publicationDetailsCaptor.getValue().category().getPublisherName()).isEqualTo(
       "publicBsgPublisher"
     );
@@ -281,7 +407,7 @@ class DocumentationUnitServiceTest {
 
     // then
     assertThat(result).isPresent();
-    verify(publisher).publish(publicationDetailsCaptor.capture());
+    verify(publicationOutboxService).enqueue(publicationDetailsCaptor.capture());
     assertThat(publicationDetailsCaptor.getValue().category().getPublisherName()).isEqualTo(
       "publicLiteraturePublisher"
     );
@@ -315,7 +441,7 @@ class DocumentationUnitServiceTest {
 
     // then
     assertThat(result).isPresent();
-    verify(publisher).publish(publicationDetailsCaptor.capture());
+    verify(publicationOutboxService).enqueue(publicationDetailsCaptor.capture());
     assertThat(publicationDetailsCaptor.getValue().category().getPublisherName()).isEqualTo(
       "publicLiteraturePublisher"
     );
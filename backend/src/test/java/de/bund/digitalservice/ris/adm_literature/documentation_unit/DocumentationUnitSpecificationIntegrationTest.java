@@ -199,4 +199,23 @@ class DocumentationUnitSpecificationIntegrationTest {
       .contains("and lower(dui1_0.zitierdaten) like ?")
       .doesNotContain("d1_0.document_number");
   }
+
+  @Test
+  @DisplayName("toPredicate should escape wildcards so that they are searched literally")
+  void toPredicate_withWildcards() {
+    // given
+    DocumentUnitSpecification spec = new DocumentUnitSpecification("12%3_", null, null, null);
+    CriteriaBuilder cb = entityManager.getEntityManager().getCriteriaBuilder();
+    CriteriaQuery<DocumentationUnitEntity> query = cb.createQuery(DocumentationUnitEntity.class);
+    Root<DocumentationUnitEntity> root = query.from(DocumentationUnitEntity.class);
+
+    // when
+    Predicate predicate = spec.toPredicate(root, query, cb);
+    String sql = SQLExtractor.from(
+      entityManager.getEntityManager().createQuery(query.where(predicate))
+    );
+
+    // then
+    assertThat(sql).contains("where lower(due1_0.document_number) like ? escape");
+  }
 }
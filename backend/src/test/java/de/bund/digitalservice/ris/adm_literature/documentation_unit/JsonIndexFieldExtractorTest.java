@@ -0,0 +1,93 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.test.TestFile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class JsonIndexFieldExtractorTest {
+
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+    .build();
+
+  private final JsonIndexFieldExtractor jsonIndexFieldExtractor = new JsonIndexFieldExtractor(
+    objectMapper
+  );
+
+  @Test
+  void extract_sameAsBinding() {
+    // given
+    String json = TestFile.readFileToString("json-example.json");
+
+    // when
+    DocumentationUnitIndexFields actual = jsonIndexFieldExtractor.extract(json);
+
+    // then
+    assertThat(actual)
+      .isEqualTo(
+        DocumentationUnitIndexFields.of(
+          objectMapper.readValue(json, AdmDocumentationUnitContent.class)
+        )
+      )
+      .extracting(DocumentationUnitIndexFields::langueberschrift)
+      .isEqualTo("1. Bekanntmachung zum XML-Testen in NeuRIS VwV");
+  }
+
+  @Test
+  void extract_ambiguousPeriodikumAndSkippedSubtrees() {
+    // given
+    String json =
+      """
+      {
+        "fieldsOfLaw": [{"identifier": "PR-05", "children": [{"langueberschrift": "nicht indexiert"}]}],
+        "fundstellen": [
+          {"zitatstelle": "2021, 15", "periodikum": {"abbreviation": "DP", "title": "Das Periodikum"}},
+          {"zitatstelle": "S. 3", "ambiguousPeriodikum": "XY"}
+        ],
+        "zitierdaten": ["2025-05-05", "2025-06-01"],
+        "langueberschrift": "Überschrift"
+      }""";
+
+    // when
+    DocumentationUnitIndexFields actual = jsonIndexFieldExtractor.extract(json);
+
+    // then
+    assertThat(actual).isEqualTo(
+      new DocumentationUnitIndexFields(
+        "Überschrift",
+        List.of("DP 2021, 15", "XY S. 3"),
+        List.of("2025-05-05", "2025-06-01")
+      )
+    );
+  }
+
+  @Test
+  void extract_emptyJson() {
+    // when
+    DocumentationUnitIndexFields actual = jsonIndexFieldExtractor.extract("{}");
+
+    // then
+    assertThat(actual).isEqualTo(new DocumentationUnitIndexFields(null, null, null));
+  }
+
+  @Test
+  void extract_fundstelleWithoutPeriodikum() {
+    // when
+    Exception exception = catchException(() ->
+      jsonIndexFieldExtractor.extract(
+        """
+        {"fundstellen": [{"zitatstelle": "S. 3"}]}"""
+      )
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(IllegalStateException.class);
+  }
+}
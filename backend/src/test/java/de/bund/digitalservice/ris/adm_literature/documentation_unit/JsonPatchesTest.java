@@ -0,0 +1,169 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+class JsonPatchesTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final String TARGET =
+    """
+    {"langueberschrift":"Titel","zitierdaten":["2025-01-01"],"notiz":{"text":"alt"}}""";
+
+  private static Stream<Arguments> jsonPatches() {
+    return Stream.of(
+      Arguments.of(
+        """
+        [{"op":"replace","path":"/notiz/text","value":"neu"}]""",
+        """
+        {"langueberschrift":"Titel","zitierdaten":["2025-01-01"],"notiz":{"text":"neu"}}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"add","path":"/zitierdaten/-","value":"2025-02-02"}]""",
+        """
+        {"langueberschrift":"Titel","zitierdaten":["2025-01-01","2025-02-02"],"notiz":{"text":"alt"}}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"add","path":"/zitierdaten/0","value":"2024-12-31"}]""",
+        """
+        {"langueberschrift":"Titel","zitierdaten":["2024-12-31","2025-01-01"],"notiz":{"text":"alt"}}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"remove","path":"/notiz"}]""",
+        """
+        {"langueberschrift":"Titel","zitierdaten":["2025-01-01"]}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"move","from":"/notiz","path":"/hinweis"}]""",
+        """
+        {"langueberschrift":"Titel","zitierdaten":["2025-01-01"],"hinweis":{"text":"alt"}}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"test","path":"/langueberschrift","value":"Titel"},
+         {"op":"copy","from":"/langueberschrift","path":"/kurzueberschrift"}]""",
+        """
+        {"langueberschrift":"Titel","zitierdaten":["2025-01-01"],"notiz":{"text":"alt"},"kurzueberschrift":"Titel"}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"replace","path":"","value":{"langueberschrift":"Neu"}}]""",
+        """
+        {"langueberschrift":"Neu"}"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"move","from":"/notiz","path":"/notiz"}]""",
+        TARGET
+      )
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("jsonPatches")
+  void applyJsonPatch(String patch, String expected) {
+    // given
+    JsonNode target = OBJECT_MAPPER.readTree(TARGET);
+
+    // when
+    JsonNode actual = JsonPatches.applyJsonPatch(target, OBJECT_MAPPER.readTree(patch));
+
+    // then
+    assertThat(actual).isEqualTo(OBJECT_MAPPER.readTree(expected));
+    assertThat(target).isEqualTo(OBJECT_MAPPER.readTree(TARGET));
+  }
+
+  private static Stream<Arguments> invalidJsonPatches() {
+    return Stream.of(
+      Arguments.of("{}"),
+      Arguments.of(
+        """
+        [{"op":"unknown","path":"/notiz"}]"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"remove","path":"/gibtsnicht"}]"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"add","path":"/zitierdaten/5","value":"2025-02-02"}]"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"test","path":"/langueberschrift","value":"Anderer Titel"}]"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"move","from":"/notiz","path":"/notiz/text/kopie"}]"""
+      ),
+      Arguments.of(
+        """
+        [{"op":"move","from":"","path":"/notiz"}]"""
+      )
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("invalidJsonPatches")
+  void applyJsonPatch_invalid(String patch) {
+    // given
+    JsonNode target = OBJECT_MAPPER.readTree(TARGET);
+
+    // when
+    Exception exception = catchException(() ->
+      JsonPatches.applyJsonPatch(target, OBJECT_MAPPER.readTree(patch))
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(InvalidPatchException.class);
+  }
+
+  @Test
+  void applyMergePatch() {
+    // given
+    JsonNode target = OBJECT_MAPPER.readTree(TARGET);
+    JsonNode patch = OBJECT_MAPPER.readTree(
+      """
+      {"notiz":{"text":"neu"},"zitierdaten":null,"kurzueberschrift":"Kurz"}"""
+    );
+
+    // when
+    JsonNode actual = JsonPatches.applyMergePatch(target, patch);
+
+    // then
+    assertThat(actual).isEqualTo(
+      OBJECT_MAPPER.readTree(
+        """
+        {"langueberschrift":"Titel","notiz":{"text":"neu"},"kurzueberschrift":"Kurz"}"""
+      )
+    );
+    assertThat(target).isEqualTo(OBJECT_MAPPER.readTree(TARGET));
+  }
+
+  @Test
+  void applyMergePatch_notAnObject() {
+    // given
+    JsonNode target = OBJECT_MAPPER.readTree(TARGET);
+
+    // when
+    Exception exception = catchException(() ->
+      JsonPatches.applyMergePatch(target, OBJECT_MAPPER.readTree("[\"kein Objekt\"]"))
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(InvalidPatchException.class);
+  }
+}
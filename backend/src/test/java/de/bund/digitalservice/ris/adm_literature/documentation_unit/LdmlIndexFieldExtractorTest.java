@@ -0,0 +1,69 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import de.bund.digitalservice.ris.adm_literature.test.TestFile;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LdmlIndexFieldExtractorTest {
+
+  private final LdmlIndexFieldExtractor ldmlIndexFieldExtractor = new LdmlIndexFieldExtractor();
+
+  @Test
+  void extract() {
+    // given
+    String xml = TestFile.readFileToString("ldml-example.akn.xml");
+
+    // when
+    DocumentationUnitIndexFields actual = ldmlIndexFieldExtractor.extract(xml);
+
+    // then
+    assertThat(actual).isEqualTo(
+      new DocumentationUnitIndexFields(
+        "1. Bekanntmachung zum XML-Testen in NeuRIS VwV",
+        // Norm and caselaw references are no fundstellen
+        List.of("Das Periodikum 2021, Seite 15"),
+        List.of("2025-05-05", "2025-06-01")
+      )
+    );
+  }
+
+  @Test
+  void extract_withoutPrefaceAndAnalysis() {
+    // given
+    String xml =
+      """
+      <?xml version="1.0" encoding="UTF-8"?>
+      <akn:akomaNtoso
+        xmlns:akn="http://docs.oasis-open.org/legaldocml/ns/akn/3.0"
+        xmlns:ris="http://ldml.neuris.de/meta/">
+        <akn:doc name="offene-struktur">
+          <akn:meta>
+            <akn:proprietary>
+              <ris:meta>
+                <ris:documentType category="VV" longTitle="Verwaltungsvorschrift">VV Verwaltungsvorschrift</ris:documentType>
+              </ris:meta>
+            </akn:proprietary>
+          </akn:meta>
+        </akn:doc>
+      </akn:akomaNtoso>""";
+
+    // when
+    DocumentationUnitIndexFields actual = ldmlIndexFieldExtractor.extract(xml);
+
+    // then
+    assertThat(actual).isEqualTo(new DocumentationUnitIndexFields(null, List.of(), List.of()));
+  }
+
+  @Test
+  void extract_invalidXml() {
+    // when
+    Exception exception = catchException(() -> ldmlIndexFieldExtractor.extract("<akn:akomaNtoso>")
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(IllegalStateException.class);
+  }
+}
@@ -1,8 +1,12 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -11,18 +15,27 @@ import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCateg
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.SliDocumentationUnitContent;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.UliDocumentationUnitContent;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing.PublishingFailedException;
+import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
+import de.bund.digitalservice.ris.adm_literature.page.TestPage;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.JsonNodeFactory;
 
 @WebMvcTest(controllers = LiteratureDocumentationUnitController.class)
 @WithMockUser(roles = "literature_user")
@@ -54,6 +67,67 @@ class LiteratureDocumentationUnitControllerTest {
       .andExpect(jsonPath("$.json.test").value("content"));
   }
 
+  @Test
+  @DisplayName("Request GET returns the version as ETag")
+  void find_eTag() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    given(documentationUnitService.findByDocumentNumber(documentNumber)).willReturn(
+      Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), "{}", null, 3L))
+    );
+
+    // when
+    mockMvc
+      .perform(get("/api/literature/documentation-units/{documentNumber}", documentNumber))
+      // then
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+  }
+
+  @Test
+  @DisplayName("Request GET returns HTTP 304 without loading the content if the ETag matches")
+  void find_notModified() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    given(documentationUnitService.findETag(documentNumber)).willReturn(Optional.of("\"3\""));
+
+    // when
+    mockMvc
+      .perform(
+        get("/api/literature/documentation-units/{documentNumber}", documentNumber).header(
+          HttpHeaders.IF_NONE_MATCH,
+          "\"3\""
+        )
+      )
+      // then
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    verify(documentationUnitService, never()).findByDocumentNumber(documentNumber);
+  }
+
+  @Test
+  @DisplayName("Request GET returns HTTP 200 with the new ETag if the ETag does not match")
+  void find_modified() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    given(documentationUnitService.findETag(documentNumber)).willReturn(Optional.of("\"4\""));
+    given(documentationUnitService.findByDocumentNumber(documentNumber)).willReturn(
+      Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), "{}", null, 4L))
+    );
+
+    // when
+    mockMvc
+      .perform(
+        get("/api/literature/documentation-units/{documentNumber}", documentNumber).header(
+          HttpHeaders.IF_NONE_MATCH,
+          "\"3\""
+        )
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
   @Test
   @DisplayName(
     "Request GET returns HTTP 404 because mocked documentation unit port returns empty optional"
@@ -72,6 +146,54 @@ class LiteratureDocumentationUnitControllerTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName("Request GET returns HTTP 200 and the literature overview for the search parameters")
+  void findOverview() throws Exception {
+    // given
+    LiteratureDocumentationUnitQuery expectedQuery = new LiteratureDocumentationUnitQuery(
+      "KSLU",
+      "Titel",
+      "2024",
+      "Auf",
+      new QueryOptions(0, 10, "documentationUnitIndex.hauptsachtitel", Sort.Direction.ASC, true)
+    );
+    given(
+      documentationUnitService.findLiteratureDocumentationUnitOverviewElements(expectedQuery)
+    ).willReturn(
+      TestPage.create(
+        List.of(
+          new LiteratureDocumentationUnitOverviewElement(
+            UUID.fromString("11111111-1657-4085-ae2a-993a04c27f6b"),
+            "KSLU054920710",
+            "2024",
+            List.of("Auf"),
+            "Ein Titel",
+            null
+          )
+        )
+      )
+    );
+
+    // when
+    mockMvc
+      .perform(
+        get("/api/literature/documentation-units")
+          .param("documentNumber", "KSLU")
+          .param("titel", " Titel ")
+          .param("veroeffentlichungsjahr", "2024")
+          .param("dokumenttypen", "Auf")
+          .param("sortByProperty", "hauptsachtitel")
+          .param("sortDirection", "ASC")
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.documentationUnitsOverview[0].documentNumber").value("KSLU054920710"))
+      .andExpect(jsonPath("$.documentationUnitsOverview[0].veroeffentlichungsjahr").value("2024"))
+      .andExpect(jsonPath("$.documentationUnitsOverview[0].dokumenttypen[0]").value("Auf"))
+      .andExpect(jsonPath("$.documentationUnitsOverview[0].hauptsachtitel").value("Ein Titel"))
+      .andExpect(jsonPath("$.page.size").value(1));
+  }
+
   @Test
   @DisplayName("Request POST returns HTTP 201 and data from mocked ULI documentation unit")
   void createUli() throws Exception {
@@ -114,7 +236,7 @@ class LiteratureDocumentationUnitControllerTest {
     // given
     String documentNumber = "KSLU054920710";
     String json = "{\"test\":\"content\"}";
-    given(documentationUnitService.update(documentNumber, json)).willReturn(
+    given(documentationUnitService.update(documentNumber, json, null)).willReturn(
       Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), json))
     );
 
@@ -139,7 +261,7 @@ class LiteratureDocumentationUnitControllerTest {
     // given
     String documentNumber = "KSNR000000001";
     String json = "{\"test\":\"unsuccessful\"}";
-    given(documentationUnitService.update(documentNumber, json)).willReturn(Optional.empty());
+    given(documentationUnitService.update(documentNumber, json, null)).willReturn(Optional.empty());
 
     // when
     mockMvc
@@ -152,6 +274,152 @@ class LiteratureDocumentationUnitControllerTest {
       .andExpect(status().isNotFound());
   }
 
+  @Test
+  @DisplayName("Request PUT with matching If-Match returns HTTP 200 and the new version as ETag")
+  void update_ifMatch() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    String json = "{\"test\":\"content\"}";
+    given(documentationUnitService.update(documentNumber, json, 3L)).willReturn(
+      Optional.of(new DocumentationUnit(documentNumber, UUID.randomUUID(), json, null, 4L))
+    );
+
+    // when
+    mockMvc
+      .perform(
+        put("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content(json)
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(HttpHeaders.IF_MATCH, "\"3\"")
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
+  @Test
+  @DisplayName("Request PUT with outdated If-Match returns HTTP 412")
+  void update_preconditionFailed() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    String json = "{\"test\":\"content\"}";
+    given(documentationUnitService.update(documentNumber, json, 2L)).willThrow(
+      new VersionConflictException(documentNumber, 3L)
+    );
+
+    // when
+    mockMvc
+      .perform(
+        put("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content(json)
+          .contentType(MediaType.APPLICATION_JSON)
+          .header(HttpHeaders.IF_MATCH, "\"2\"")
+      )
+      // then
+      .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  @DisplayName("Request PATCH with a JSON Patch returns HTTP 200 and the patched documentation unit")
+  void jsonPatch() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    givenPatchApplied(documentNumber, null);
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content("[{\"op\":\"replace\",\"path\":\"/test\",\"value\":\"patched\"}]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.json.test").value("patched"))
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
+  @Test
+  @DisplayName("Request PATCH with a JSON Patch which cannot be applied returns HTTP 422")
+  void patch_invalidPatch() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    givenPatchApplied(documentNumber, null);
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content("[{\"op\":\"test\",\"path\":\"/test\",\"value\":\"other\"}]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+      )
+      // then
+      .andExpect(status().is(HttpStatus.UNPROCESSABLE_CONTENT.value()));
+  }
+
+  @Test
+  @DisplayName("Request PATCH with outdated If-Match returns HTTP 412")
+  void patch_preconditionFailed() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    given(documentationUnitService.patch(eq(documentNumber), any(), eq(2L))).willThrow(
+      new VersionConflictException(documentNumber, 3L)
+    );
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content("[]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+          .header(HttpHeaders.IF_MATCH, "\"2\"")
+      )
+      // then
+      .andExpect(status().isPreconditionFailed());
+  }
+
+  @Test
+  @DisplayName("Request PATCH returns HTTP 404 if the documentation unit does not exist")
+  void patch_notFound() throws Exception {
+    // given
+    String documentNumber = "KSNR000000001";
+    given(documentationUnitService.patch(eq(documentNumber), any(), eq(null))).willReturn(
+      Optional.empty()
+    );
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content("[]")
+          .contentType(JsonPatches.JSON_PATCH_MEDIA_TYPE)
+      )
+      // then
+      .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("Request PATCH with a JSON Merge Patch returns HTTP 200 and the patched unit")
+  void mergePatch() throws Exception {
+    // given
+    String documentNumber = "KSLU054920710";
+    givenPatchApplied(documentNumber, 3L);
+
+    // when
+    mockMvc
+      .perform(
+        patch("/api/literature/documentation-units/{documentNumber}", documentNumber)
+          .content("{\"test\":\"merged\",\"other\":null}")
+          .contentType(JsonPatches.MERGE_PATCH_MEDIA_TYPE)
+          .header(HttpHeaders.IF_MATCH, "\"3\"")
+      )
+      // then
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.json.test").value("merged"))
+      .andExpect(jsonPath("$.json.other").doesNotExist())
+      .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+  }
+
   @Nested
   @DisplayName("ULI Publish Endpoint")
   class UliPublishEndpointTests {
@@ -399,4 +667,18 @@ class LiteratureDocumentationUnitControllerTest {
         .andExpect(status().isBadRequest());
     }
   }
+
+  private void givenPatchApplied(String documentNumber, Long expectedVersion) {
+    given(
+      documentationUnitService.patch(eq(documentNumber), any(), eq(expectedVersion))
+    ).willAnswer(invocation -> {
+      UnaryOperator<JsonNode> patch = invocation.getArgument(1);
+      JsonNode json = patch.apply(
+        JsonNodeFactory.instance.objectNode().put("test", "content").put("other", "content")
+      );
+      return Optional.of(
+        new DocumentationUnit(documentNumber, UUID.randomUUID(), json.toString(), null, 4L)
+      );
+    });
+  }
 }
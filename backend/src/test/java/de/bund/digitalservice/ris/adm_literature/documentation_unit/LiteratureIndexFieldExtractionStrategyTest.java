@@ -0,0 +1,161 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.LiteratureLdmlConverterStrategy;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.SliDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.TestDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.UliDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.document_type.DocumentType;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class LiteratureIndexFieldExtractionStrategyTest {
+
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+    .build();
+
+  private final LiteratureIndexFieldExtractionStrategy strategy =
+    new LiteratureIndexFieldExtractionStrategy(
+      new JsonLiteratureIndexFieldExtractor(objectMapper),
+      new LdmlLiteratureIndexFieldExtractor()
+    );
+
+  private final UliDocumentationUnitContent uliDocumentationUnitContent =
+    new UliDocumentationUnitContent(
+      null,
+      "KSLU054920710",
+      "2024",
+      List.of(
+        new DocumentType("Auf", "Aufsatz"),
+        new DocumentType("Ebs", "Entscheidungsbesprechung")
+      ),
+      "Hauptsachtitel",
+      "Zusatz",
+      "Dokumentarischer Titel",
+      "Notiz"
+    );
+
+  @Test
+  void supports() {
+    assertThat(strategy.supports(DocumentCategory.LITERATUR_SELBSTAENDIG)).isTrue();
+    assertThat(strategy.supports(DocumentCategory.LITERATUR_UNSELBSTAENDIG)).isTrue();
+    assertThat(strategy.supports(DocumentCategory.VERWALTUNGSVORSCHRIFTEN)).isFalse();
+  }
+
+  @Test
+  void extractFromJson_sameAsBinding() {
+    // given
+    String json = objectMapper.writeValueAsString(uliDocumentationUnitContent);
+
+    // when
+    DocumentationUnitIndexFields actual = strategy.extractFromJson(json);
+
+    // then
+    assertThat(actual)
+      .isEqualTo(
+        DocumentationUnitIndexFields.of(
+          objectMapper.readValue(json, UliDocumentationUnitContent.class)
+        )
+      )
+      .extracting(
+        DocumentationUnitIndexFields::hauptsachtitel,
+        DocumentationUnitIndexFields::dokumentarischerTitel,
+        DocumentationUnitIndexFields::veroeffentlichungsjahr,
+        DocumentationUnitIndexFields::dokumenttypen
+      )
+      .containsExactly(
+        "Hauptsachtitel",
+        "Dokumentarischer Titel",
+        "2024",
+        List.of("Auf", "Ebs")
+      );
+  }
+
+  @Test
+  void extractFromJson_sli() {
+    // given
+    SliDocumentationUnitContent sliDocumentationUnitContent =
+      TestDocumentationUnitContent.createSli("KSLS054920710", "2025");
+    String json = objectMapper.writeValueAsString(sliDocumentationUnitContent);
+
+    // when
+    DocumentationUnitIndexFields actual = strategy.extractFromJson(json);
+
+    // then
+    assertThat(actual).isEqualTo(DocumentationUnitIndexFields.of(sliDocumentationUnitContent));
+  }
+
+  @Test
+  void extractFromJson_new() {
+    // when
+    DocumentationUnitIndexFields actual = strategy.extractFromJson(
+      "{\"documentNumber\":\"KSLU054920710\",\"dokumenttypen\":null}"
+    );
+
+    // then
+    assertThat(actual).isEqualTo(DocumentationUnitIndexFields.EMPTY);
+  }
+
+  @Test
+  void extractFromJson_notAnObject() {
+    // when
+    Exception exception = catchException(() -> strategy.extractFromJson("[]"));
+
+    // then
+    assertThat(exception).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void extractFromLdml() {
+    // given
+    String xml = new LiteratureLdmlConverterStrategy().convertToLdml(
+      uliDocumentationUnitContent,
+      null
+    );
+
+    // when
+    DocumentationUnitIndexFields actual = strategy.extractFromLdml(xml);
+
+    // then
+    assertThat(actual).isEqualTo(DocumentationUnitIndexFields.of(uliDocumentationUnitContent));
+  }
+
+  @Test
+  void extractFromLdml_sli() {
+    // given
+    SliDocumentationUnitContent sliDocumentationUnitContent =
+      TestDocumentationUnitContent.createSli("KSLS054920710", "2025");
+    String xml = new LiteratureLdmlConverterStrategy().convertToLdml(
+      sliDocumentationUnitContent,
+      null
+    );
+
+    // when
+    DocumentationUnitIndexFields actual = strategy.extractFromLdml(xml);
+
+    // then
+    assertThat(actual)
+      .extracting(
+        DocumentationUnitIndexFields::hauptsachtitel,
+        DocumentationUnitIndexFields::veroeffentlichungsjahr,
+        DocumentationUnitIndexFields::dokumenttypen
+      )
+      .containsExactly(null, "2025", List.of("Auf"));
+  }
+
+  @Test
+  void extractFromLdml_notWellFormed() {
+    // when
+    Exception exception = catchException(() -> strategy.extractFromLdml("<akn:akomaNtoso>"));
+
+    // then
+    assertThat(exception).isInstanceOf(IllegalStateException.class);
+  }
+}
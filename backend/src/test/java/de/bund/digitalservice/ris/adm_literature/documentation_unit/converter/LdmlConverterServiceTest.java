@@ -0,0 +1,237 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.DocumentationUnit;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.AdmDocumentationUnitContent;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.AkomaNtoso;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.JaxbHtml;
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform.*;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.document_type.DocumentType;
+import de.bund.digitalservice.ris.adm_literature.test.TestFile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LdmlConverterServiceTest {
+
+  @Mock
+  private LookupResolver lookupResolver;
+
+  @Mock
+  private FundstellenTransformer fundstellenTransformer;
+
+  @Mock
+  private DocumentTypeTransformer documentTypeTransformer;
+
+  @Mock
+  private NormgeberTransformer normgeberTransformer;
+
+  @Mock
+  private FieldsOfLawTransformer fieldsOfLawTransformer;
+
+  @Mock
+  private KurzreferatTransformer kurzreferatTransformer;
+
+  @Mock
+  private ActiveCitationsTransformer activeCitationsTransformer;
+
+  @Mock
+  private ActiveReferencesTransformer activeReferencesTransformer;
+
+  private XmlReader xmlReader;
+  private LdmlConverterService ldmlConverterService;
+
+  private final DocumentationUnit documentationUnit = new DocumentationUnit(
+    "KSNR20250000001",
+    UUID.randomUUID(),
+    null,
+    TestFile.readFileToString("ldml-example.akn.xml")
+  );
+
+  @BeforeEach
+  void beforeEach() throws JAXBException {
+    xmlReader = new XmlReader(
+      JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class),
+      new SimpleMeterRegistry()
+    );
+  }
+
+  @AfterEach
+  void afterEach() {
+    if (ldmlConverterService != null) {
+      ldmlConverterService.shutdown();
+    }
+  }
+
+  @Test
+  void convertToBusinessModel_parallelEqualsSequential() {
+    // given
+    DocumentType documentType = new DocumentType("VR", "Verwaltungsregelung");
+    given(documentTypeTransformer.transform(any())).willReturn(documentType);
+    given(kurzreferatTransformer.transform(any())).willReturn("<p>Kurzreferat</p>");
+    LdmlConverterService sequentialConverterService = createLdmlConverterService(
+      LdmlConverterService.Mode.SEQUENTIAL,
+      Duration.ofSeconds(10)
+    );
+    ldmlConverterService = createLdmlConverterService(
+      LdmlConverterService.Mode.PARALLEL,
+      Duration.ofSeconds(10)
+    );
+
+    // when
+    AdmDocumentationUnitContent sequential = sequentialConverterService.convertToBusinessModel(
+      documentationUnit
+    );
+    AdmDocumentationUnitContent parallel = ldmlConverterService.convertToBusinessModel(
+      documentationUnit
+    );
+
+    // then
+    assertThat(parallel).isEqualTo(sequential);
+    assertThat(parallel.dokumenttyp()).isEqualTo(documentType);
+    assertThat(parallel.kurzreferat()).isEqualTo("<p>Kurzreferat</p>");
+    sequentialConverterService.shutdown();
+  }
+
+  @Test
+  void convertToBusinessModel_parallelQueriesOnCallingThread() {
+    // given
+    Thread callingThread = Thread.currentThread();
+    AtomicReference<Thread> lookupThread = new AtomicReference<>();
+    AtomicReference<Thread> documentTypeThread = new AtomicReference<>();
+    AtomicReference<Thread> activeReferencesThread = new AtomicReference<>();
+    given(lookupResolver.resolve(any())).willAnswer(_ -> {
+      lookupThread.set(Thread.currentThread());
+      return ResolvedLookups.EMPTY;
+    });
+    given(documentTypeTransformer.transform(any())).willAnswer(_ -> {
+      documentTypeThread.set(Thread.currentThread());
+      return null;
+    });
+    given(activeReferencesTransformer.transform(any())).willAnswer(_ -> {
+      activeReferencesThread.set(Thread.currentThread());
+      return null;
+    });
+    ldmlConverterService = createLdmlConverterService(
+      LdmlConverterService.Mode.PARALLEL,
+      Duration.ofSeconds(10)
+    );
+
+    // when
+    ldmlConverterService.convertToBusinessModel(documentationUnit);
+
+    // then: the transaction and connection of the caller are used for all queries
+    assertThat(lookupThread).hasValue(callingThread);
+    assertThat(documentTypeThread).hasValue(callingThread);
+    assertThat(activeReferencesThread).hasValue(callingThread);
+  }
+
+  @Test
+  void convertToBusinessModel_parallelExceedsTimeout() {
+    // given
+    given(kurzreferatTransformer.transform(any())).willAnswer(_ -> {
+      Thread.sleep(Duration.ofSeconds(1));
+      return null;
+    });
+    ldmlConverterService = createLdmlConverterService(
+      LdmlConverterService.Mode.PARALLEL,
+      Duration.ofMillis(50)
+    );
+
+    // when
+    Exception exception = catchException(() ->
+      ldmlConverterService.convertToBusinessModel(documentationUnit)
+    );
+
+    // then
+    assertThat(exception)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("KSNR20250000001");
+  }
+
+  @Test
+  void convertToBusinessModel_parallelInterruptsForksAfterTimeout() throws InterruptedException {
+    // given
+    CountDownLatch interrupted = new CountDownLatch(1);
+    given(kurzreferatTransformer.transform(any())).willAnswer(_ -> {
+      try {
+        Thread.sleep(Duration.ofSeconds(10));
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+        throw e;
+      }
+      return null;
+    });
+    ldmlConverterService = createLdmlConverterService(
+      LdmlConverterService.Mode.PARALLEL,
+      Duration.ofMillis(50)
+    );
+
+    // when
+    Exception exception = catchException(() ->
+      ldmlConverterService.convertToBusinessModel(documentationUnit)
+    );
+
+    // then
+    assertThat(exception).isInstanceOf(IllegalStateException.class);
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void convertToBusinessModel_parallelRethrowsFailureOfTransformer() {
+    // given
+    given(normgeberTransformer.transform(any(), any())).willThrow(
+      new IllegalArgumentException("Unknown Normgeber")
+    );
+    ldmlConverterService = createLdmlConverterService(
+      LdmlConverterService.Mode.PARALLEL,
+      Duration.ofSeconds(10)
+    );
+
+    // when
+    Exception exception = catchException(() ->
+      ldmlConverterService.convertToBusinessModel(documentationUnit)
+    );
+
+    // then
+    assertThat(exception)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("Unknown Normgeber");
+  }
+
+  private LdmlConverterService createLdmlConverterService(
+    LdmlConverterService.Mode mode,
+    Duration timeout
+  ) {
+    return new LdmlConverterService(
+      xmlReader,
+      lookupResolver,
+      fundstellenTransformer,
+      documentTypeTransformer,
+      normgeberTransformer,
+      fieldsOfLawTransformer,
+      kurzreferatTransformer,
+      activeCitationsTransformer,
+      activeReferencesTransformer,
+      mode,
+      timeout,
+      2
+    );
+  }
+}
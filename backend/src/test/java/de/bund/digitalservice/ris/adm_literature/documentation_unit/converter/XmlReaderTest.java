@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.catchException;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.AkomaNtoso;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.JaxbHtml;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -20,7 +21,10 @@ class XmlReaderTest {
 
   @BeforeEach
   void beforeEach() throws JAXBException {
-    xmlReader = new XmlReader(JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class));
+    xmlReader = new XmlReader(
+      JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class),
+      new SimpleMeterRegistry()
+    );
   }
 
   @Test
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchException;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import java.util.List;
@@ -19,7 +20,10 @@ class XmlWriterTest {
 
   @BeforeEach
   void beforeEach() throws JAXBException {
-    xmlWriter = new XmlWriter(JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class));
+    xmlWriter = new XmlWriter(
+      JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class),
+      new SimpleMeterRegistry()
+    );
   }
 
   @Test
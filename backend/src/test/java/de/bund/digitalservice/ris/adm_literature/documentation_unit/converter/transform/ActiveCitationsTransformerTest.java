@@ -2,31 +2,19 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.t
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
 
-import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.ActiveCitation;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArt;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArtService;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 class ActiveCitationsTransformerTest {
 
-  @InjectMocks
-  private ActiveCitationsTransformer activeCitationsTransformer;
-
-  @Mock
-  private ZitierArtService zitierArtService;
+  private final ActiveCitationsTransformer activeCitationsTransformer =
+    new ActiveCitationsTransformer();
 
   @Test
   void transform() {
@@ -41,15 +29,12 @@ class ActiveCitationsTransformerTest {
     analysis.setOtherReferences(
       List.of(createOtherReference("Änderung", "XY-01"), createOtherReference("Übernahme", "ZZ-02"))
     );
-    //noinspection unchecked
-    given(
-      zitierArtService.findZitierArtenByAbbreviation(
-        anyString(),
-        eq(DocumentCategory.VERWALTUNGSVORSCHRIFTEN)
-      )
-    ).willReturn(
-      List.of(new ZitierArt(UUID.randomUUID(), "Änderung", "Änderung")),
-      List.of(new ZitierArt(UUID.randomUUID(), "Übernahme", "Übernahme"))
+    ResolvedLookups lookups = new ResolvedLookups(
+      Map.of(),
+      List.of(),
+      Map.of(),
+      Map.of(),
+      Map.of("Änderung", List.of(new ZitierArt(UUID.randomUUID(), "Änderung", "Änderung")))
     );
     // <akn:akomaNtoso>
     //   <akn:doc name="offene-struktur">
@@ -73,13 +58,21 @@ class ActiveCitationsTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<ActiveCitation> activeCitations = activeCitationsTransformer.transform(akomaNtoso);
+    List<ActiveCitation> activeCitations = activeCitationsTransformer.transform(
+      akomaNtoso,
+      lookups
+    );
 
     // then
+    // The unknown citation type 'Übernahme' is transformed without id
     assertThat(activeCitations)
       .hasSize(2)
-      .extracting(ac -> ac.zitierArt().abbreviation(), ActiveCitation::fileNumber)
-      .containsExactly(tuple("Änderung", "XY-01"), tuple("Übernahme", "ZZ-02"));
+      .extracting(
+        ac -> ac.zitierArt().abbreviation(),
+        ac -> ac.zitierArt().id() != null,
+        ActiveCitation::fileNumber
+      )
+      .containsExactly(tuple("Änderung", true, "XY-01"), tuple("Übernahme", false, "ZZ-02"));
   }
 
   @Test
@@ -98,7 +91,10 @@ class ActiveCitationsTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<ActiveCitation> activeCitations = activeCitationsTransformer.transform(akomaNtoso);
+    List<ActiveCitation> activeCitations = activeCitationsTransformer.transform(
+      akomaNtoso,
+      ResolvedLookups.EMPTY
+    );
 
     // then
     assertThat(activeCitations).isEmpty();
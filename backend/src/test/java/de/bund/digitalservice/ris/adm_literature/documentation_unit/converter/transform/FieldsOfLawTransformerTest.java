@@ -1,29 +1,19 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.BDDMockito.given;
+import static org.assertj.core.api.Assertions.tuple;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLaw;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawService;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 class FieldsOfLawTransformerTest {
 
-  @InjectMocks
-  private FieldsOfLawTransformer fieldsOfLawTransformer;
-
-  @Mock
-  private FieldOfLawService fieldOfLawService;
+  private final FieldsOfLawTransformer fieldsOfLawTransformer = new FieldsOfLawTransformer();
 
   @Test
   @DisplayName("Transforms two fields of law")
@@ -39,19 +29,17 @@ class FieldsOfLawTransformerTest {
     RisMeta risMeta = new RisMeta();
     proprietary.setMeta(risMeta);
     risMeta.setFieldsOfLaw(List.of(createRisFieldOfLaw("PR-05-01")));
-    given(fieldOfLawService.findFieldOfLaw("PR-05-01")).willReturn(
-      Optional.of(
-        new FieldOfLaw(
-          UUID.randomUUID(),
-          false,
-          "PR-05-01",
-          "Phantasierecht",
-          "NEW",
-          List.of(),
-          List.of(),
-          List.of(),
-          null
-        )
+    ResolvedLookups lookups = createLookups(
+      new FieldOfLaw(
+        UUID.randomUUID(),
+        false,
+        "PR-05-01",
+        "Phantasierecht",
+        "NEW",
+        List.of(),
+        List.of(),
+        List.of(),
+        null
       )
     );
     // <akn:akomaNtoso>
@@ -69,7 +57,7 @@ class FieldsOfLawTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso);
+    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(fieldsOfLaw)
@@ -94,21 +82,7 @@ class FieldsOfLawTransformerTest {
     RisMeta risMeta = new RisMeta();
     proprietary.setMeta(risMeta);
     risMeta.setFieldsOfLaw(List.of(createRisFieldOfLaw("RR-00-11")));
-    given(fieldOfLawService.findFieldOfLaw("RR-00-11")).willReturn(
-      Optional.of(
-        new FieldOfLaw(
-          UUID.randomUUID(),
-          false,
-          "RR-00-11",
-          "RR-00-11",
-          "NEW",
-          List.of(),
-          List.of(),
-          List.of(),
-          null
-        )
-      )
-    );
+    ResolvedLookups lookups = ResolvedLookups.EMPTY;
     // <akn:akomaNtoso>
     //   <akn:doc name="offene-struktur">
     //     <akn:meta>
@@ -124,7 +98,7 @@ class FieldsOfLawTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso);
+    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(fieldsOfLaw)
@@ -133,6 +107,35 @@ class FieldsOfLawTransformerTest {
       .containsOnly("RR-00-11");
   }
 
+  @Test
+  @DisplayName("Transforms found and not found fields of law in their order")
+  void transform_multipleFieldsOfLaw() {
+    // given
+    AkomaNtoso akomaNtoso = new AkomaNtoso();
+    Doc doc = new Doc();
+    akomaNtoso.setDoc(doc);
+    Meta meta = new Meta();
+    doc.setMeta(meta);
+    Proprietary proprietary = new Proprietary();
+    meta.setProprietary(proprietary);
+    RisMeta risMeta = new RisMeta();
+    proprietary.setMeta(risMeta);
+    risMeta.setFieldsOfLaw(
+      List.of(createRisFieldOfLaw("PR-05-01"), createRisFieldOfLaw("RR-00-11"))
+    );
+    ResolvedLookups lookups = createLookups(
+      FieldOfLaw.builder().identifier("PR-05-01").text("Phantasierecht").build()
+    );
+
+    // when
+    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso, lookups);
+
+    // then
+    assertThat(fieldsOfLaw)
+      .extracting(FieldOfLaw::identifier, FieldOfLaw::text)
+      .containsExactly(tuple("PR-05-01", "Phantasierecht"), tuple("RR-00-11", "RR-00-11"));
+  }
+
   @Test
   @DisplayName("Missing proprietary element is transformed to an empty list")
   void transform_noProprietaryElement() {
@@ -150,7 +153,10 @@ class FieldsOfLawTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso);
+    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(
+      akomaNtoso,
+      ResolvedLookups.EMPTY
+    );
 
     // then
     assertThat(fieldsOfLaw).isEmpty();
@@ -179,12 +185,25 @@ class FieldsOfLawTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(akomaNtoso);
+    List<FieldOfLaw> fieldsOfLaw = fieldsOfLawTransformer.transform(
+      akomaNtoso,
+      ResolvedLookups.EMPTY
+    );
 
     // then
     assertThat(fieldsOfLaw).isEmpty();
   }
 
+  private ResolvedLookups createLookups(FieldOfLaw fieldOfLaw) {
+    return new ResolvedLookups(
+      Map.of(),
+      List.of(),
+      Map.of(),
+      Map.of(fieldOfLaw.identifier(), fieldOfLaw),
+      Map.of()
+    );
+  }
+
   private RisFieldOfLaw createRisFieldOfLaw(String identifier) {
     RisFieldOfLaw risFieldOfLaw = new RisFieldOfLaw();
     risFieldOfLaw.setNotation("NEW");
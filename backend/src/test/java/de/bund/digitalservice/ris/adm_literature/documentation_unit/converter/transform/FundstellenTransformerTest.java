@@ -2,29 +2,21 @@ package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.t
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
-import static org.mockito.BDDMockito.given;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.Fundstelle;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodical;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodicalService;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 class FundstellenTransformerTest {
 
-  @InjectMocks
-  private FundstellenTransformer fundstellenTransformer;
-
-  @Mock
-  private LegalPeriodicalService legalPeriodicalService;
+  private final FundstellenTransformer fundstellenTransformer = new FundstellenTransformer();
 
   @Test
   @DisplayName("Transforms two Fundstellen with their legal periodicals")
@@ -40,24 +32,20 @@ class FundstellenTransformerTest {
     analysis.setOtherReferences(
       List.of(createOtherReference("BAnz", "BAnz Seite 5"), createOtherReference("DOK", "DOK 2021"))
     );
-    given(legalPeriodicalService.findLegalPeriodicalsByAbbreviation("BAnz")).willReturn(
-      List.of(
-        new LegalPeriodical(
-          UUID.randomUUID(),
-          "BAnz",
-          "banz",
-          "Bundesanzeiger",
-          null,
-          "2025, Seite 2"
-        )
-      )
-    );
-    given(legalPeriodicalService.findLegalPeriodicalsByAbbreviation("DOK")).willReturn(
-      List.of(new LegalPeriodical(UUID.randomUUID(), "DOK", "dok", "Dokument", null, "2020"))
+    ResolvedLookups lookups = createLookups(
+      new LegalPeriodical(
+        UUID.randomUUID(),
+        "BAnz",
+        "banz",
+        "Bundesanzeiger",
+        null,
+        "2025, Seite 2"
+      ),
+      new LegalPeriodical(UUID.randomUUID(), "DOK", "dok", "Dokument", null, "2020")
     );
 
     // when
-    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso);
+    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(fundstellen)
@@ -84,7 +72,10 @@ class FundstellenTransformerTest {
     doc.setMeta(meta);
 
     // when
-    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso);
+    List<Fundstelle> fundstellen = fundstellenTransformer.transform(
+      akomaNtoso,
+      ResolvedLookups.EMPTY
+    );
 
     // then
     assertThat(fundstellen).isEmpty();
@@ -104,29 +95,27 @@ class FundstellenTransformerTest {
     Analysis analysis = new Analysis();
     meta.setAnalysis(analysis);
     analysis.setOtherReferences(List.of(createOtherReference("BRD", "BRD Seite 5")));
-    given(legalPeriodicalService.findLegalPeriodicalsByAbbreviation("BRD")).willReturn(
-      List.of(
-        new LegalPeriodical(
-          UUID.randomUUID(),
-          "BRD",
-          "brd",
-          "Bericht aus Deutschland",
-          null,
-          "2025, Seite 2"
-        ),
-        new LegalPeriodical(
-          UUID.randomUUID(),
-          "BRD",
-          "brd-2",
-          "Bericht aus Deutschland alt",
-          null,
-          "1998, Seite 2"
-        )
+    ResolvedLookups lookups = createLookups(
+      new LegalPeriodical(
+        UUID.randomUUID(),
+        "BRD",
+        "brd",
+        "Bericht aus Deutschland",
+        null,
+        "2025, Seite 2"
+      ),
+      new LegalPeriodical(
+        UUID.randomUUID(),
+        "BRD",
+        "brd-2",
+        "Bericht aus Deutschland alt",
+        null,
+        "1998, Seite 2"
       )
     );
 
     // when
-    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso);
+    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(fundstellen)
@@ -151,29 +140,27 @@ class FundstellenTransformerTest {
     analysis.setOtherReferences(
       List.of(createOtherReferenceWithFundstelle("BRD", "brd-2", "BRD Seite 5"))
     );
-    given(legalPeriodicalService.findLegalPeriodicalsByAbbreviation("BRD")).willReturn(
-      List.of(
-        new LegalPeriodical(
-          UUID.randomUUID(),
-          "BRD",
-          "brd",
-          "Bericht aus Deutschland",
-          null,
-          "2025, Seite 2"
-        ),
-        new LegalPeriodical(
-          UUID.randomUUID(),
-          "BRD",
-          "brd-2",
-          "Bericht aus Deutschland alt",
-          null,
-          "1998, Seite 2"
-        )
+    ResolvedLookups lookups = createLookups(
+      new LegalPeriodical(
+        UUID.randomUUID(),
+        "BRD",
+        "brd",
+        "Bericht aus Deutschland",
+        null,
+        "2025, Seite 2"
+      ),
+      new LegalPeriodical(
+        UUID.randomUUID(),
+        "BRD",
+        "brd-2",
+        "Bericht aus Deutschland alt",
+        null,
+        "1998, Seite 2"
       )
     );
 
     // when
-    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso);
+    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(fundstellen)
@@ -202,15 +189,13 @@ class FundstellenTransformerTest {
     analysis.setOtherReferences(
       List.of(createOtherReferenceWithFundstelle("DB", "db-3", "DB Seite 7"))
     );
-    given(legalPeriodicalService.findLegalPeriodicalsByAbbreviation("DB")).willReturn(
-      List.of(
-        new LegalPeriodical(UUID.randomUUID(), "DB", "db", "Datenbank", null, "2025, Seite 2"),
-        new LegalPeriodical(UUID.randomUUID(), "DB", "db-2", "Datenbank alt", null, "1998, Seite 2")
-      )
+    ResolvedLookups lookups = createLookups(
+      new LegalPeriodical(UUID.randomUUID(), "DB", "db", "Datenbank", null, "2025, Seite 2"),
+      new LegalPeriodical(UUID.randomUUID(), "DB", "db-2", "Datenbank alt", null, "1998, Seite 2")
     );
 
     // when
-    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso);
+    List<Fundstelle> fundstellen = fundstellenTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(fundstellen)
@@ -219,6 +204,16 @@ class FundstellenTransformerTest {
       .containsExactly("DB", "Seite 7", null);
   }
 
+  private ResolvedLookups createLookups(LegalPeriodical... legalPeriodicals) {
+    return new ResolvedLookups(
+      Stream.of(legalPeriodicals).collect(Collectors.groupingBy(LegalPeriodical::abbreviation)),
+      List.of(),
+      Map.of(),
+      Map.of(),
+      Map.of()
+    );
+  }
+
   private OtherReferences createOtherReference(String abbreviation, String citation) {
     OtherReferences otherReferences = new OtherReferences();
     ImplicitReference implicitReference = new ImplicitReference();
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.XmlWriter;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
@@ -23,7 +24,10 @@ class KurzreferatTransformerTest {
   @BeforeEach
   void beforeEach() throws JAXBException {
     kurzreferatTransformer = new KurzreferatTransformer(
-      new XmlWriter(JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class))
+      new XmlWriter(
+        JAXBContext.newInstance(AkomaNtoso.class, JaxbHtml.class),
+        new SimpleMeterRegistry()
+      )
     );
   }
 
@@ -0,0 +1,111 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LookupKeysTest {
+
+  @Test
+  @DisplayName("Collects the keys of all lookup tables without duplicates")
+  void collect() {
+    // given
+    AkomaNtoso akomaNtoso = new AkomaNtoso();
+    Doc doc = new Doc();
+    akomaNtoso.setDoc(doc);
+    Meta meta = new Meta();
+    doc.setMeta(meta);
+    Analysis analysis = new Analysis();
+    meta.setAnalysis(analysis);
+    analysis.setOtherReferences(
+      List.of(
+        createOtherReference(createFundstelle("BAnz")),
+        createOtherReference(createFundstelle("BAnz")),
+        createOtherReference(createActiveCitation("Änderung")),
+        createOtherReference(createActiveReference())
+      )
+    );
+    Proprietary proprietary = new Proprietary();
+    meta.setProprietary(proprietary);
+    RisMeta risMeta = new RisMeta();
+    proprietary.setMeta(risMeta);
+    risMeta.setNormgeber(
+      List.of(
+        createRisNormgeber("DS", null),
+        createRisNormgeber("BRD", "Ministerium für Digitales")
+      )
+    );
+    RisFieldOfLaw risFieldOfLaw = new RisFieldOfLaw();
+    risFieldOfLaw.setNotation("NEW");
+    risFieldOfLaw.setValue("PR-05-01");
+    risMeta.setFieldsOfLaw(List.of(risFieldOfLaw));
+
+    // when
+    LookupKeys keys = LookupKeys.collect(akomaNtoso);
+
+    // then
+    assertThat(keys.legalPeriodicalAbbreviations()).containsExactly("BAnz");
+    assertThat(keys.institutionNames()).containsExactly("DS", "Ministerium für Digitales");
+    assertThat(keys.regionCodes()).containsExactly("BRD");
+    assertThat(keys.fieldOfLawIdentifiers()).containsExactly("PR-05-01");
+    assertThat(keys.zitierArtAbbreviations()).containsExactly("Änderung");
+  }
+
+  @Test
+  @DisplayName("Missing analysis and proprietary elements result in no keys")
+  void collect_noAnalysisAndProprietaryElements() {
+    // given
+    AkomaNtoso akomaNtoso = new AkomaNtoso();
+    Doc doc = new Doc();
+    akomaNtoso.setDoc(doc);
+    doc.setMeta(new Meta());
+
+    // when
+    LookupKeys keys = LookupKeys.collect(akomaNtoso);
+
+    // then
+    assertThat(keys.legalPeriodicalAbbreviations()).isEmpty();
+    assertThat(keys.institutionNames()).isEmpty();
+    assertThat(keys.regionCodes()).isEmpty();
+    assertThat(keys.fieldOfLawIdentifiers()).isEmpty();
+    assertThat(keys.zitierArtAbbreviations()).isEmpty();
+  }
+
+  private OtherReferences createOtherReference(ImplicitReference implicitReference) {
+    OtherReferences otherReferences = new OtherReferences();
+    otherReferences.setImplicitReferences(List.of(implicitReference));
+    return otherReferences;
+  }
+
+  private ImplicitReference createFundstelle(String abbreviation) {
+    ImplicitReference implicitReference = new ImplicitReference();
+    implicitReference.setShortForm(abbreviation);
+    implicitReference.setShowAs(abbreviation + " Seite 5");
+    return implicitReference;
+  }
+
+  private ImplicitReference createActiveCitation(String citationType) {
+    ImplicitReference implicitReference = new ImplicitReference();
+    RisCaselawReference risCaselawReference = new RisCaselawReference();
+    risCaselawReference.setAbbreviation(citationType);
+    implicitReference.setCaselawReference(risCaselawReference);
+    return implicitReference;
+  }
+
+  private ImplicitReference createActiveReference() {
+    ImplicitReference implicitReference = new ImplicitReference();
+    implicitReference.setShortForm("PhanGB");
+    implicitReference.setNormReference(new RisNormReference());
+    return implicitReference;
+  }
+
+  private RisNormgeber createRisNormgeber(String staat, String organ) {
+    RisNormgeber risNormgeber = new RisNormgeber();
+    risNormgeber.setStaat(staat);
+    risNormgeber.setOrgan(organ);
+    return risNormgeber;
+  }
+}
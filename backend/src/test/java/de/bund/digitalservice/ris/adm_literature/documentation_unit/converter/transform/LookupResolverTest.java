@@ -0,0 +1,106 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLaw;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawResolution;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law.FieldOfLawService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.Institution;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.InstitutionService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.InstitutionType;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodical;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical.LegalPeriodicalService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.Region;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.RegionService;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArt;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.zitierart.ZitierArtService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LookupResolverTest {
+
+  @InjectMocks
+  private LookupResolver lookupResolver;
+
+  @Mock
+  private LegalPeriodicalService legalPeriodicalService;
+
+  @Mock
+  private InstitutionService institutionService;
+
+  @Mock
+  private RegionService regionService;
+
+  @Mock
+  private FieldOfLawService fieldOfLawService;
+
+  @Mock
+  private ZitierArtService zitierArtService;
+
+  @Test
+  void resolve() {
+    // given
+    LookupKeys keys = new LookupKeys(
+      Set.of("BRD"),
+      Set.of("Ministerium für Digitales"),
+      Set.of("BY"),
+      Set.of("PR-05-01"),
+      Set.of("Änderung")
+    );
+    LegalPeriodical brd = new LegalPeriodical(UUID.randomUUID(), "BRD", "brd", null, null, null);
+    LegalPeriodical brd2 = new LegalPeriodical(UUID.randomUUID(), "BRD", "brd-2", null, null, null);
+    given(legalPeriodicalService.findLegalPeriodicalsByAbbreviations(Set.of("BRD"))).willReturn(
+      List.of(brd, brd2)
+    );
+    Institution institution = new Institution(
+      UUID.randomUUID(),
+      "Ministerium für Digitales",
+      null,
+      InstitutionType.INSTITUTION,
+      List.of()
+    );
+    given(
+      institutionService.findInstitutionsByNames(Set.of("Ministerium für Digitales"))
+    ).willReturn(List.of(institution));
+    Region region = new Region(UUID.randomUUID(), "BY", "Bayern");
+    given(regionService.findRegionsByCodes(Set.of("BY"))).willReturn(List.of(region));
+    FieldOfLaw fieldOfLaw = FieldOfLaw.builder().identifier("PR-05-01").build();
+    given(
+      fieldOfLawService.findFieldsOfLawByIdentifiers(
+        Set.of("PR-05-01"),
+        FieldOfLawResolution.SHALLOW
+      )
+    ).willReturn(Map.of("PR-05-01", fieldOfLaw));
+    ZitierArt zitierArt = new ZitierArt(UUID.randomUUID(), "Änderung", "Änderung");
+    given(
+      zitierArtService.findZitierArtenByAbbreviations(
+        Set.of("Änderung"),
+        DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+      )
+    ).willReturn(List.of(zitierArt));
+
+    // when
+    ResolvedLookups lookups = lookupResolver.resolve(keys);
+
+    // then
+    assertThat(lookups.findLegalPeriodicals("BRD")).containsExactly(brd, brd2);
+    assertThat(lookups.findInstitution("Ministerium für Digitales", InstitutionType.INSTITUTION))
+      .contains(institution);
+    assertThat(lookups.findInstitution("Ministerium für Digitales", InstitutionType.LEGAL_ENTITY))
+      .isEmpty();
+    assertThat(lookups.findRegion("BY")).contains(region);
+    assertThat(lookups.findFieldOfLaw("PR-05-01")).contains(fieldOfLaw);
+    assertThat(lookups.findZitierArten("Änderung")).containsExactly(zitierArt);
+    assertThat(lookups.findZitierArten("Übernahme")).isEmpty();
+  }
+}
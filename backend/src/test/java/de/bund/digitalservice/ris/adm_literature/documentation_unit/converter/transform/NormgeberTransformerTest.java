@@ -1,36 +1,21 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.transform;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.BDDMockito.given;
 
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.business.Normgeber;
 import de.bund.digitalservice.ris.adm_literature.documentation_unit.converter.ldml.*;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.Institution;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.InstitutionService;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.institution.InstitutionType;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.Region;
-import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.RegionService;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-@ExtendWith(MockitoExtension.class)
 class NormgeberTransformerTest {
 
-  @InjectMocks
-  private NormgeberTransformer normgeberTransformer;
-
-  @Mock
-  private InstitutionService institutionService;
-
-  @Mock
-  private RegionService regionService;
+  private final NormgeberTransformer normgeberTransformer = new NormgeberTransformer();
 
   @Test
   @DisplayName("Transforms two normgeber, one legal entity and one institution with region")
@@ -51,16 +36,18 @@ class NormgeberTransformerTest {
         createRisNormgeber("BRD", "Ministerium für Digitales")
       )
     );
-    given(
-      institutionService.findInstitutionByNameAndType("DS", InstitutionType.LEGAL_ENTITY)
-    ).willReturn(createInstitution("DS", InstitutionType.LEGAL_ENTITY));
-    given(
-      institutionService.findInstitutionByNameAndType(
-        "Ministerium für Digitales",
-        InstitutionType.INSTITUTION
-      )
-    ).willReturn(createInstitution("Ministerium für Digitales", InstitutionType.INSTITUTION));
-    given(regionService.findRegionByCode("BRD")).willReturn(createRegion());
+    ResolvedLookups lookups = new ResolvedLookups(
+      Map.of(),
+      List.of(
+        createInstitution("DS", InstitutionType.LEGAL_ENTITY),
+        // Same name, but other type
+        createInstitution("DS", InstitutionType.INSTITUTION),
+        createInstitution("Ministerium für Digitales", InstitutionType.INSTITUTION)
+      ),
+      Map.of("BRD", new Region(UUID.randomUUID(), "BRD", "Bundesrepublik Deutschland")),
+      Map.of(),
+      Map.of()
+    );
 
     // <akn:akomaNtoso>
     //   <akn:doc name="offene-struktur">
@@ -76,7 +63,7 @@ class NormgeberTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<Normgeber> normgeberList = normgeberTransformer.transform(akomaNtoso);
+    List<Normgeber> normgeberList = normgeberTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(normgeberList)
@@ -108,13 +95,13 @@ class NormgeberTransformerTest {
     RisMeta risMeta = new RisMeta();
     proprietary.setMeta(risMeta);
     risMeta.setNormgeber(List.of(createRisNormgeber("EU", "Europäische Kommission")));
-    given(
-      institutionService.findInstitutionByNameAndType(
-        "Europäische Kommission",
-        InstitutionType.INSTITUTION
-      )
-    ).willReturn(createInstitution("Europäische Kommission", InstitutionType.INSTITUTION));
-    given(regionService.findRegionByCode("EU")).willReturn(Optional.empty());
+    ResolvedLookups lookups = new ResolvedLookups(
+      Map.of(),
+      List.of(createInstitution("Europäische Kommission", InstitutionType.INSTITUTION)),
+      Map.of(),
+      Map.of(),
+      Map.of()
+    );
 
     // <akn:akomaNtoso>
     //   <akn:doc name="offene-struktur">
@@ -129,7 +116,7 @@ class NormgeberTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<Normgeber> normgeberList = normgeberTransformer.transform(akomaNtoso);
+    List<Normgeber> normgeberList = normgeberTransformer.transform(akomaNtoso, lookups);
 
     // then
     assertThat(normgeberList)
@@ -171,7 +158,9 @@ class NormgeberTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    Exception exception = catchException(() -> normgeberTransformer.transform(akomaNtoso));
+    Exception exception = catchException(() ->
+      normgeberTransformer.transform(akomaNtoso, ResolvedLookups.EMPTY)
+    );
 
     // then
     assertThat(exception).isInstanceOf(IllegalArgumentException.class);
@@ -194,7 +183,10 @@ class NormgeberTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<Normgeber> normgeberList = normgeberTransformer.transform(akomaNtoso);
+    List<Normgeber> normgeberList = normgeberTransformer.transform(
+      akomaNtoso,
+      ResolvedLookups.EMPTY
+    );
 
     // then
     assertThat(normgeberList).isEmpty();
@@ -223,18 +215,17 @@ class NormgeberTransformerTest {
     // </akn:akomaNtoso>
 
     // when
-    List<Normgeber> normgeberList = normgeberTransformer.transform(akomaNtoso);
+    List<Normgeber> normgeberList = normgeberTransformer.transform(
+      akomaNtoso,
+      ResolvedLookups.EMPTY
+    );
 
     // then
     assertThat(normgeberList).isEmpty();
   }
 
-  private Optional<Region> createRegion() {
-    return Optional.of(new Region(UUID.randomUUID(), "BRD", "Bundesrepublik Deutschland"));
-  }
-
-  private Optional<Institution> createInstitution(String name, InstitutionType institutionType) {
-    return Optional.of(new Institution(UUID.randomUUID(), name, name, institutionType, List.of()));
+  private Institution createInstitution(String name, InstitutionType institutionType) {
+    return new Institution(UUID.randomUUID(), name, name, institutionType, List.of());
   }
 
   private RisNormgeber createRisNormgeber(String staat, String organ) {
@@ -0,0 +1,124 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "publishing.changelog.max-size=2")
+@ActiveProfiles("test")
+@Transactional
+class PublicationChangelogServiceIntegrationTest {
+
+  @Autowired
+  private PublicationChangelogService publicationChangelogService;
+
+  @MockitoBean
+  private Publisher publisher;
+
+  @Test
+  void flush_bufferIsFull() {
+    // given
+    String publisherName = "publisher-" + UUID.randomUUID();
+    publicationChangelogService.add(publisherName, "KSNR000000001");
+    publicationChangelogService.add(publisherName, "KSNR000000002");
+    // Published twice, listed once
+    publicationChangelogService.add(publisherName, "KSNR000000002");
+
+    // when
+    int flushed = publicationChangelogService.flush(publisherName);
+
+    // then
+    assertThat(flushed).isEqualTo(2);
+    ArgumentCaptor<Publisher.ChangelogDetails> captor = ArgumentCaptor.forClass(
+      Publisher.ChangelogDetails.class
+    );
+    verify(publisher).publishChangelog(captor.capture());
+    assertThat(captor.getValue().publisherName()).isEqualTo(publisherName);
+    assertThat(captor.getValue().documentNumbers()).containsExactlyInAnyOrder(
+      "KSNR000000001",
+      "KSNR000000002"
+    );
+    assertThat(publicationChangelogService.findPublisherNames()).doesNotContain(publisherName);
+  }
+
+  @Test
+  void flush_keepsEntriesIfWritingFails() {
+    // given
+    String publisherName = "publisher-" + UUID.randomUUID();
+    publicationChangelogService.add(publisherName, "KSNR000000001");
+    publicationChangelogService.add(publisherName, "KSNR000000002");
+    willThrow(new PublishingFailedException("Bucket not available", null))
+      .given(publisher)
+      .publishChangelog(any());
+
+    // when
+    assertThatThrownBy(() -> publicationChangelogService.flush(publisherName)).isInstanceOf(
+      PublishingFailedException.class
+    );
+
+    // then
+    assertThat(publicationChangelogService.findPublisherNames()).contains(publisherName);
+    willDoNothing().given(publisher).publishChangelog(any());
+    assertThat(publicationChangelogService.flush(publisherName)).isEqualTo(2);
+  }
+
+  @Test
+  void flush_keepsEntriesPublishedAgainWhileWriting() {
+    // given
+    String publisherName = "publisher-" + UUID.randomUUID();
+    publicationChangelogService.add(publisherName, "KSNR000000001");
+    publicationChangelogService.add(publisherName, "KSNR000000002");
+    willAnswer(_ -> {
+      publicationChangelogService.add(publisherName, "KSNR000000002");
+      return null;
+    })
+      .given(publisher)
+      .publishChangelog(any());
+
+    // when
+    int flushed = publicationChangelogService.flush(publisherName);
+
+    // then
+    assertThat(flushed).isEqualTo(2);
+    assertThat(publicationChangelogService.findPublisherNames()).contains(publisherName);
+  }
+
+  @Test
+  void flush_bufferIsNotDue() {
+    // given
+    String publisherName = "publisher-" + UUID.randomUUID();
+    publicationChangelogService.add(publisherName, "KSNR000000001");
+
+    // when
+    int flushed = publicationChangelogService.flush(publisherName);
+
+    // then
+    assertThat(flushed).isZero();
+    verify(publisher, never()).publishChangelog(any());
+    assertThat(publicationChangelogService.findPublisherNames()).contains(publisherName);
+  }
+
+  @Test
+  void flush_emptyBuffer() {
+    // when
+    int flushed = publicationChangelogService.flush("publisher-" + UUID.randomUUID());
+
+    // then
+    assertThat(flushed).isZero();
+    verify(publisher, never()).publishChangelog(any());
+  }
+}
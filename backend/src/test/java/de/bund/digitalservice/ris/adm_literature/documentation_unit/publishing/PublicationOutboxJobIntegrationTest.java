@@ -0,0 +1,212 @@
+package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PublicationOutboxJobIntegrationTest {
+
+  @Autowired
+  private PublicationOutboxJob publicationOutboxJob;
+
+  @Autowired
+  private PublicationOutboxService publicationOutboxService;
+
+  @Autowired
+  private PublicationChangelogService publicationChangelogService;
+
+  @Autowired
+  private PublicationOutboxRepository publicationOutboxRepository;
+
+  @MockitoBean
+  private Publisher publisher;
+
+  @Test
+  void publishDue() {
+    // given
+    Publisher.PublicationDetails publicationDetails = createPublicationDetails();
+    publicationOutboxService.enqueue(publicationDetails);
+
+    // when
+    publicationOutboxJob.publishDue();
+
+    // then
+    verify(publisher).publish(publicationDetails);
+    assertThat(publicationOutboxService.findLatest(publicationDetails.documentNumber()))
+      .isPresent()
+      .hasValueSatisfying(publication -> {
+        assertThat(publication.status()).isEqualTo(PublicationStatus.PUBLISHED);
+        assertThat(publication.publishedAt()).isNotNull();
+      });
+    assertThat(publicationChangelogService.findPublisherNames()).contains(
+      publicationDetails.category().getPublisherName()
+    );
+    assertThat(
+      publicationOutboxRepository.findFirstByDocumentNumberOrderByCreatedAtDesc(
+        publicationDetails.documentNumber()
+      )
+    ).hasValueSatisfying(entity -> assertThat(entity.getXml()).isNull());
+  }
+
+  @Test
+  void publishDue_supersededWhileUploading() {
+    // given
+    Publisher.PublicationDetails publicationDetails = createPublicationDetails();
+    publicationOutboxService.enqueue(publicationDetails);
+    Publisher.PublicationDetails newPublicationDetails = new Publisher.PublicationDetails(
+      publicationDetails.documentNumber(),
+      "<akn:akomaNtoso>new</akn:akomaNtoso>",
+      publicationDetails.category()
+    );
+    doAnswer(_ -> {
+      publicationOutboxService.enqueue(newPublicationDetails);
+      return null;
+    })
+      .when(publisher)
+      .publish(publicationDetails);
+    PublicationOutboxEntity superseded = publicationOutboxRepository
+      .findFirstByDocumentNumberOrderByCreatedAtDesc(publicationDetails.documentNumber())
+      .orElseThrow();
+
+    // when
+    publicationOutboxJob.publishDue();
+
+    // then: the superseded publication is not marked as published, the new one is still pending
+    assertThat(publicationOutboxRepository.findById(superseded.getId())).hasValueSatisfying(
+      entity -> {
+        assertThat(entity.getStatus()).isEqualTo(PublicationStatus.SUPERSEDED);
+        assertThat(entity.getPublishedAt()).isNull();
+        assertThat(entity.getXml()).isNull();
+      }
+    );
+    assertThat(publicationOutboxService.findLatest(publicationDetails.documentNumber()))
+      .isPresent()
+      .hasValueSatisfying(publication ->
+        assertThat(publication.status()).isEqualTo(PublicationStatus.PENDING)
+      );
+  }
+
+  @Test
+  void publishDue_newerPublicationNotClaimedWhileOlderIsUploading() {
+    // given
+    Publisher.PublicationDetails publicationDetails = createPublicationDetails();
+    publicationOutboxService.enqueue(publicationDetails);
+    Publisher.PublicationDetails newPublicationDetails = new Publisher.PublicationDetails(
+      publicationDetails.documentNumber(),
+      "<akn:akomaNtoso>new</akn:akomaNtoso>",
+      publicationDetails.category()
+    );
+    List<PublicationOutboxService.ClaimedPublication> claimedWhileUploading = new ArrayList<>();
+    doAnswer(_ -> {
+      publicationOutboxService.enqueue(newPublicationDetails);
+      claimedWhileUploading.addAll(publicationOutboxService.claimDue(20));
+      return null;
+    })
+      .when(publisher)
+      .publish(publicationDetails);
+
+    // when
+    publicationOutboxJob.publishDue();
+    publicationOutboxJob.publishDue();
+
+    // then: the newer publication is only claimed after the upload of the older one has finished
+    assertThat(claimedWhileUploading)
+      .extracting(claimed -> claimed.publicationDetails().documentNumber())
+      .doesNotContain(publicationDetails.documentNumber());
+    InOrder inOrder = inOrder(publisher);
+    inOrder.verify(publisher).publish(publicationDetails);
+    inOrder.verify(publisher).publish(newPublicationDetails);
+    assertThat(publicationOutboxService.findLatest(publicationDetails.documentNumber()))
+      .isPresent()
+      .hasValueSatisfying(publication ->
+        assertThat(publication.status()).isEqualTo(PublicationStatus.PUBLISHED)
+      );
+  }
+
+  @Test
+  void publishDue_publishingFailed() {
+    // given
+    Publisher.PublicationDetails publicationDetails = createPublicationDetails();
+    publicationOutboxService.enqueue(publicationDetails);
+    doThrow(new PublishingFailedException("External system is down", null))
+      .when(publisher)
+      .publish(any(Publisher.PublicationDetails.class));
+
+    // when
+    publicationOutboxJob.publishDue();
+
+    // then: the publication is retried later
+    assertThat(publicationOutboxService.findLatest(publicationDetails.documentNumber()))
+      .isPresent()
+      .hasValueSatisfying(publication -> {
+        assertThat(publication.status()).isEqualTo(PublicationStatus.PENDING);
+        assertThat(publication.attempts()).isEqualTo(1);
+        assertThat(publication.lastError()).isEqualTo("External system is down");
+      });
+  }
+
+  @Test
+  void publishDue_validationFailed() {
+    // given
+    Publisher.PublicationDetails publicationDetails = createPublicationDetails();
+    publicationOutboxService.enqueue(publicationDetails);
+    doThrow(new ValidationFailedException("Invalid LDML", null))
+      .when(publisher)
+      .publish(any(Publisher.PublicationDetails.class));
+
+    // when
+    publicationOutboxJob.publishDue();
+
+    // then: the publication is not retried
+    assertThat(publicationOutboxService.findLatest(publicationDetails.documentNumber()))
+      .isPresent()
+      .hasValueSatisfying(publication ->
+        assertThat(publication.status()).isEqualTo(PublicationStatus.FAILED)
+      );
+  }
+
+  @Test
+  void enqueue_supersedesPendingPublication() {
+    // given
+    Publisher.PublicationDetails publicationDetails = createPublicationDetails();
+    publicationOutboxService.enqueue(publicationDetails);
+    Publisher.PublicationDetails newPublicationDetails = new Publisher.PublicationDetails(
+      publicationDetails.documentNumber(),
+      "<akn:akomaNtoso>new</akn:akomaNtoso>",
+      publicationDetails.category()
+    );
+
+    // when
+    publicationOutboxService.enqueue(newPublicationDetails);
+    publicationOutboxJob.publishDue();
+
+    // then: only the latest content is published
+    verify(publisher).publish(newPublicationDetails);
+    verify(publisher, never()).publish(publicationDetails);
+  }
+
+  private static Publisher.PublicationDetails createPublicationDetails() {
+    return new Publisher.PublicationDetails(
+      "KSNR" + UUID.randomUUID().toString().substring(0, 9),
+      "<akn:akomaNtoso/>",
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+  }
+}
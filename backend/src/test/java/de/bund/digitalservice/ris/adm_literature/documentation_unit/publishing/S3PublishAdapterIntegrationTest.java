@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import java.io.IOException;
@@ -207,20 +209,8 @@ class S3PublishAdapterIntegrationTest {
       S3Exception.class
     );
 
-    // Verify the changelog file exists in the FIRST bucket
-    List<S3Object> firstBucketChangelogs = listObjectsInDirectory(FIRST_BUCKET_NAME, CHANGELOG_DIR);
-    assertThat(firstBucketChangelogs).hasSize(1);
-    S3Object changelog = firstBucketChangelogs.getFirst();
-    assertThat(getObjectContent(FIRST_BUCKET_NAME, changelog.key())).isEqualTo(
-      "{\"changed\":[\"KSNR456.akn.xml\"]}"
-    );
-
-    // Verify the changelog file does NOT exist in the SECOND bucket
-    List<S3Object> secondBucketChangelogs = listObjectsInDirectory(
-      SECOND_BUCKET_NAME,
-      CHANGELOG_DIR
-    );
-    assertThat(secondBucketChangelogs).isEmpty();
+    // Verify no changelog file is written, changelogs are written in batches
+    assertThat(listObjectsInDirectory(FIRST_BUCKET_NAME, CHANGELOG_DIR)).isEmpty();
   }
 
   @Test
@@ -256,6 +246,42 @@ class S3PublishAdapterIntegrationTest {
       S3Exception.class
     );
 
+    // Verify no changelog file is written, changelogs are written in batches
+    assertThat(listObjectsInDirectory(SECOND_BUCKET_NAME, CHANGELOG_DIR)).isEmpty();
+  }
+
+  @Test
+  void publish_shouldNotValidateAgain() throws Exception {
+    // given
+    String docNumber = "doc-not-validated-123";
+    String xmlContent = "<test>validated before enqueuing</test>";
+
+    var options = new Publisher.PublicationDetails(
+      docNumber,
+      xmlContent,
+      CATEGORY_FOR_FIRST_PUBLISHER
+    );
+
+    // when
+    publisher.publish(options);
+
+    // then
+    verify(xmlValidator, never()).validate(xmlContent);
+    assertThat(getObjectContent(FIRST_BUCKET_NAME, docNumber + ".akn.xml")).isEqualTo(xmlContent);
+  }
+
+  @Test
+  void publishChangelog_shouldWriteOneChangelogForAllDocuments() {
+    // given
+    var changelogDetails = new Publisher.ChangelogDetails(
+      SECOND_PUBLISHER_NAME,
+      List.of("doc-1", "doc-2", "doc-3")
+    );
+
+    // when
+    publisher.publishChangelog(changelogDetails);
+
+    // then
     // Verify the changelog file exists in the SECOND bucket
     List<S3Object> secondBucketChangelogs = listObjectsInDirectory(
       SECOND_BUCKET_NAME,
@@ -264,7 +290,7 @@ class S3PublishAdapterIntegrationTest {
     assertThat(secondBucketChangelogs).hasSize(1);
     S3Object changelog = secondBucketChangelogs.getFirst();
     assertThat(getObjectContent(SECOND_BUCKET_NAME, changelog.key())).isEqualTo(
-      "{\"changed\":[\"doc-xyz-789.akn.xml\"]}"
+      "{\"changed\":[\"doc-1.akn.xml\",\"doc-2.akn.xml\",\"doc-3.akn.xml\"]}"
     );
     // Verify the changelog file does NOT exist in the FIRST bucket
     List<S3Object> firstBucketChangelogs = listObjectsInDirectory(FIRST_BUCKET_NAME, CHANGELOG_DIR);
@@ -272,7 +298,7 @@ class S3PublishAdapterIntegrationTest {
   }
 
   @Test
-  void publish_shouldThrowValidationFailedException_whenXmlIsInvalid() throws Exception {
+  void validate_shouldThrowValidationFailedException_whenXmlIsInvalid() throws Exception {
     // given
     String docNumber = "doc-invalid-123";
     String invalidXmlContent = "<invalid>";
@@ -288,17 +314,11 @@ class S3PublishAdapterIntegrationTest {
       .validate(invalidXmlContent);
 
     // when / then
-    assertThatThrownBy(() -> publisher.publish(options))
+    assertThatThrownBy(() -> publisher.validate(options))
       .isInstanceOf(ValidationFailedException.class)
       .hasMessageContaining(
         "XML validation failed for document doc-invalid-123 at line 1, column 10"
       );
-
-    GetObjectRequest request = GetObjectRequest.builder()
-      .bucket(FIRST_BUCKET_NAME)
-      .key(String.format("%s.akn.xml", docNumber))
-      .build();
-    assertThatThrownBy(() -> s3Client.getObject(request)).isInstanceOf(S3Exception.class);
   }
 
   @Test
@@ -325,7 +345,7 @@ class S3PublishAdapterIntegrationTest {
   }
 
   @Test
-  void publish_shouldThrowValidationFailedException_forGenericSAXException() throws Exception {
+  void validate_shouldThrowValidationFailedException_forGenericSAXException() throws Exception {
     // given
     String docNumber = "doc-sax-fail-456";
     String xmlContent = "<test>sax error</test>";
@@ -339,22 +359,16 @@ class S3PublishAdapterIntegrationTest {
     doThrow(new SAXException("Generic SAX error")).when(xmlValidator).validate(xmlContent);
 
     // when / then
-    assertThatThrownBy(() -> publisher.publish(options))
+    assertThatThrownBy(() -> publisher.validate(options))
       .isInstanceOf(ValidationFailedException.class)
       .hasMessageContaining(
         "Failed to publish document doc-sax-fail-456. Validation error: Generic SAX error"
       )
       .hasCauseInstanceOf(SAXException.class);
-
-    GetObjectRequest request = GetObjectRequest.builder()
-      .bucket(FIRST_BUCKET_NAME)
-      .key(String.format("%s.akn.xml", docNumber))
-      .build();
-    assertThatThrownBy(() -> s3Client.getObject(request)).isInstanceOf(S3Exception.class);
   }
 
   @Test
-  void publish_shouldThrowValidationFailedException_forIOException() throws Exception {
+  void validate_shouldThrowValidationFailedException_forIOException() throws Exception {
     // given
     String docNumber = "doc-io-fail-789";
     String xmlContent = "<test>io error</test>";
@@ -368,18 +382,12 @@ class S3PublishAdapterIntegrationTest {
     doThrow(new IOException("Generic IO error")).when(xmlValidator).validate(xmlContent);
 
     // when / then
-    assertThatThrownBy(() -> publisher.publish(options))
+    assertThatThrownBy(() -> publisher.validate(options))
       .isInstanceOf(ValidationFailedException.class)
       .hasMessageContaining(
         "Failed to publish document doc-io-fail-789. Validation error: Generic IO error"
       )
       .hasCauseInstanceOf(IOException.class);
-
-    GetObjectRequest request = GetObjectRequest.builder()
-      .bucket(FIRST_BUCKET_NAME)
-      .key(String.format("%s.akn.xml", docNumber))
-      .build();
-    assertThatThrownBy(() -> s3Client.getObject(request)).isInstanceOf(S3Exception.class);
   }
 
   private List<S3Object> listObjectsInDirectory(String bucketName, String directoryPrefix) {
@@ -1,8 +1,11 @@
 package de.bund.digitalservice.ris.adm_literature.documentation_unit.publishing;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -54,4 +57,29 @@ class XmlValidatorTest {
     XmlValidator validator = new XmlValidator(List.of("/schemas/test-schema.xsd"));
     assertThatThrownBy(() -> validator.validate(invalidXml)).isInstanceOf(SAXException.class);
   }
+
+  @Test
+  void validate_shouldSucceed_forValidXmlBytes() {
+    XmlValidator validator = new XmlValidator(List.of("/schemas/test-schema.xsd"));
+    byte[] xmlContent = validXml.getBytes(StandardCharsets.UTF_8);
+    assertThatCode(() -> validator.validate(xmlContent)).doesNotThrowAnyException();
+  }
+
+  @Test
+  void validate_shouldReuseValidator_afterInvalidXml() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    XmlValidator validator = new XmlValidator(
+      "test",
+      List.of("/schemas/test-schema.xsd"),
+      meterRegistry
+    );
+    assertThatThrownBy(() -> validator.validate(invalidXml)).isInstanceOf(SAXException.class);
+    assertThatCode(() -> validator.validate(validXml)).doesNotThrowAnyException();
+    assertThat(
+      meterRegistry.get("pool.created").tag("name", "xml.validator.test").counter().count()
+    ).isOne();
+    assertThat(
+      meterRegistry.get("xml.validation").tag("name", "test").timer().count()
+    ).isEqualTo(2);
+  }
 }
@@ -0,0 +1,102 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaAwareKeyGenerator;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class CachedLookupsTest {
+
+  private final CacheManager cacheManager = new ConcurrentMapCacheManager("values");
+  private final List<List<String>> queries = new ArrayList<>();
+
+  @AfterEach
+  void afterEach() {
+    SchemaContextHolder.clear();
+  }
+
+  @Test
+  void getAll_loadsMissesAtOnce() {
+    // given
+
+    // when
+    Map<String, String> values = getAll(List.of("a", "b", "unknown"));
+
+    // then
+    assertThat(values).containsExactly(entry("a", "A"), entry("b", "B"));
+    assertThat(queries).containsExactly(List.of("a", "b", "unknown"));
+  }
+
+  @Test
+  void getAll_onlyLoadsMisses() {
+    // given
+    getAll(List.of("a", "unknown"));
+
+    // when
+    Map<String, String> values = getAll(List.of("b", "unknown", "a"));
+
+    // then
+    assertThat(values).containsExactly(entry("b", "B"), entry("a", "A"));
+    assertThat(queries).containsExactly(List.of("a", "unknown"), List.of("b"));
+  }
+
+  @Test
+  void getAll_allCached() {
+    // given
+    getAll(List.of("a", "unknown"));
+
+    // when
+    Map<String, String> values = getAll(List.of("unknown", "a"));
+
+    // then
+    assertThat(values).containsExactly(entry("a", "A"));
+    assertThat(queries).hasSize(1);
+  }
+
+  @Test
+  void getAll_sharesEntriesWithCacheable() {
+    // given
+    SchemaContextHolder.setSchema(SchemaType.LIT);
+    cacheManager.getCache("values").put(SchemaAwareKeyGenerator.key("a"), "cached A");
+
+    // when
+    Map<String, String> values = getAll(List.of("a", "b"));
+
+    // then
+    assertThat(values).containsExactly(entry("a", "cached A"), entry("b", "B"));
+    assertThat(cacheManager.getCache("values").get(SchemaAwareKeyGenerator.key("b")))
+      .extracting(Cache.ValueWrapper::get)
+      .isEqualTo("B");
+    SchemaContextHolder.setSchema(SchemaType.ADM);
+    assertThat(cacheManager.getCache("values").get(SchemaAwareKeyGenerator.key("b"))).isNull();
+  }
+
+  private Map<String, String> getAll(List<String> keys) {
+    return CachedLookups.getAll(
+      cacheManager,
+      "values",
+      keys,
+      SchemaAwareKeyGenerator::key,
+      misses -> {
+        queries.add(List.copyOf(misses));
+        return misses
+          .stream()
+          .filter(key -> !key.equals("unknown"))
+          .collect(Collectors.toMap(Function.identity(), String::toUpperCase));
+      },
+      null
+    );
+  }
+}
@@ -1,21 +1,20 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,20 +24,15 @@ class FieldOfLawServiceTest {
   private FieldOfLawService fieldOfLawService;
 
   @Mock
-  private FieldOfLawRepository fieldOfLawRepository;
+  private FieldOfLawTreeCache fieldOfLawTreeCache;
 
   @Test
   void findFieldsOfLawChildren() {
     // given
-    FieldOfLawEntity childFieldOfLawEntity = createFieldOfLaw("PR-01", "Phantasierecht allgemein");
-    FieldOfLawEntity parentFieldOfLawEntity = createFieldOfLaw("AR", "Phantasierecht");
-    parentFieldOfLawEntity.setChildren(Set.of(childFieldOfLawEntity));
-    given(fieldOfLawRepository.findByIdentifier("AR")).willReturn(
-      Optional.of(parentFieldOfLawEntity)
-    );
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
 
     // when
-    List<FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawChildren("AR");
+    List<FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawChildren("PR");
 
     // then
     assertThat(fieldsOfLaw)
@@ -50,16 +44,10 @@ class FieldOfLawServiceTest {
   @Test
   void findFieldsOfLawChildren_noChildren() {
     // given
-    FieldOfLawEntity parentFieldOfLawEntity = createFieldOfLaw(
-      "PR-01-05",
-      "Phantasierecht speziell"
-    );
-    given(fieldOfLawRepository.findByIdentifier("PR-01-05")).willReturn(
-      Optional.of(parentFieldOfLawEntity)
-    );
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
 
     // when
-    List<FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawChildren("PR-01-05");
+    List<FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawChildren("PR-01");
 
     // then
     assertThat(fieldsOfLaw).isEmpty();
@@ -68,7 +56,7 @@ class FieldOfLawServiceTest {
   @Test
   void findFieldsOfLawChildren_identifierNotFound() {
     // given
-    given(fieldOfLawRepository.findByIdentifier("BR")).willReturn(Optional.empty());
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
 
     // when
     List<FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawChildren("BR");
@@ -80,10 +68,7 @@ class FieldOfLawServiceTest {
   @Test
   void findFieldsOfLawParents() {
     // given
-    FieldOfLawEntity parentFieldOfLawEntity = createFieldOfLaw("AR", "Phantasierecht");
-    given(fieldOfLawRepository.findByParentIsNullAndNotationOrderByIdentifier("NEW")).willReturn(
-      List.of(parentFieldOfLawEntity)
-    );
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
 
     // when
     List<FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawParents();
@@ -95,11 +80,10 @@ class FieldOfLawServiceTest {
   @Test
   void findFieldOfLaw() {
     // given
-    FieldOfLawEntity fieldOfLawEntity = createFieldOfLaw("AR", "Phantasierecht");
-    given(fieldOfLawRepository.findByIdentifier("AR")).willReturn(Optional.of(fieldOfLawEntity));
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
 
     // when
-    Optional<FieldOfLaw> actualFieldOfLaw = fieldOfLawService.findFieldOfLaw("AR");
+    Optional<FieldOfLaw> actualFieldOfLaw = fieldOfLawService.findFieldOfLaw("PR");
 
     // then
     assertThat(actualFieldOfLaw)
@@ -110,7 +94,7 @@ class FieldOfLawServiceTest {
   @Test
   void findFieldOfLaw_notFound() {
     // given
-    given(fieldOfLawRepository.findByIdentifier("BR")).willReturn(Optional.empty());
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
 
     // when
     Optional<FieldOfLaw> actualFieldOfLaw = fieldOfLawService.findFieldOfLaw("BR");
@@ -119,59 +103,118 @@ class FieldOfLawServiceTest {
     assertThat(actualFieldOfLaw).isEmpty();
   }
 
+  @Test
+  void findFieldsOfLawByIdentifiers() {
+    // given
+    given(fieldOfLawTreeCache.get()).willReturn(createTree());
+
+    // when
+    Map<String, FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawByIdentifiers(
+      List.of("PR", "PR-01", "BR"),
+      FieldOfLawResolution.SHALLOW
+    );
+
+    // then
+    assertThat(fieldsOfLaw).containsOnlyKeys("PR", "PR-01");
+    assertThat(fieldsOfLaw.get("PR").children()).isEmpty();
+  }
+
+  @Test
+  void findFieldsOfLawByIdentifiers_noIdentifiers() {
+    // given
+
+    // when
+    Map<String, FieldOfLaw> fieldsOfLaw = fieldOfLawService.findFieldsOfLawByIdentifiers(
+      List.of(),
+      FieldOfLawResolution.SHALLOW
+    );
+
+    // then
+    assertThat(fieldsOfLaw).isEmpty();
+    verifyNoInteractions(fieldOfLawTreeCache);
+  }
+
   @Test
   void findFieldsOfLaw() {
     // given
     FieldOfLawQuery query = new FieldOfLawQuery(
-      "PR-05",
-      "arbeit",
-      "PStG",
+      "pr",
+      "phantasie",
+      null,
       new QueryOptions(0, 10, "identifier", Sort.Direction.ASC, true)
     );
-    given(
-      fieldOfLawRepository.findAll(any(FieldOfLawSpecification.class), any(Pageable.class))
-    ).willReturn(
-      new PageImpl<>(
-        List.of(
-          createFieldOfLaw("PR-05", "Beendigung der Phantasieverhältnisse"),
-          createFieldOfLaw("BR-05", "Bericht")
-        )
-      )
+    given(fieldOfLawTreeCache.get()).willReturn(createSearchTree());
+
+    // when
+    var result = fieldOfLawService.findFieldsOfLaw(query);
+
+    // then
+    assertThat(result.content())
+      .extracting(FieldOfLaw::identifier)
+      // Best match first, equal matches by identifier
+      .containsExactly("PR", "PR-01", "PR-06", "PR-05");
+  }
+
+  @Test
+  void findFieldsOfLaw_rankedBeforePaging() {
+    // given
+    FieldOfLawQuery query = new FieldOfLawQuery(
+      null,
+      "phantasie",
+      null,
+      new QueryOptions(1, 2, "identifier", Sort.Direction.ASC, true)
     );
+    given(fieldOfLawTreeCache.get()).willReturn(createSearchTree());
 
     // when
     var result = fieldOfLawService.findFieldsOfLaw(query);
 
     // then
     assertThat(result.content())
-      .hasSize(2)
-      .extracting(FieldOfLaw::text)
-      .containsOnly("Beendigung der Phantasieverhältnisse", "Bericht");
+      .extracting(FieldOfLaw::identifier)
+      .containsExactly("PR-06", "PR-05");
+    assertThat(result.totalElements()).isEqualTo(4);
   }
 
   @Test
-  void findFieldsOfLaw_byNormOnly() {
+  void findFieldsOfLaw_onlyNewNotation() {
     // given
     FieldOfLawQuery query = new FieldOfLawQuery(
       null,
+      "arbeit",
       null,
-      "PStG",
       new QueryOptions(0, 10, "identifier", Sort.Direction.ASC, true)
     );
-    given(
-      fieldOfLawRepository.findAll(any(FieldOfLawSpecification.class), any(Pageable.class))
-    ).willReturn(
-      new PageImpl<>(List.of(createFieldOfLaw("PR-05", "Beendigung der Phantasieverhältnisse")))
+    given(fieldOfLawTreeCache.get()).willReturn(createSearchTree());
+
+    // when
+    var result = fieldOfLawService.findFieldsOfLaw(query);
+
+    // then
+    assertThat(result.content())
+      .extracting(FieldOfLaw::identifier)
+      .containsExactly("PR-06", "BR-05");
+  }
+
+  @Test
+  void findFieldsOfLaw_byNormOnly() {
+    // given
+    FieldOfLawQuery query = new FieldOfLawQuery(
+      null,
+      null,
+      "§99 PStG",
+      new QueryOptions(0, 10, "identifier", Sort.Direction.ASC, true)
     );
+    given(fieldOfLawTreeCache.get()).willReturn(createSearchTree());
 
     // when
     var result = fieldOfLawService.findFieldsOfLaw(query);
 
     // then
     assertThat(result.content())
-      .hasSize(1)
+      .singleElement()
       .extracting(FieldOfLaw::text)
-      .containsOnly("Beendigung der Phantasieverhältnisse");
+      .isEqualTo("Beendigung der Phantasieverhältnisse");
   }
 
   @Test
@@ -183,9 +226,7 @@ class FieldOfLawServiceTest {
       null,
       new QueryOptions(0, 10, "identifier", Sort.Direction.ASC, true)
     );
-    given(
-      fieldOfLawRepository.findAll(any(FieldOfLawSpecification.class), any(Pageable.class))
-    ).willReturn(new PageImpl<>(List.of()));
+    given(fieldOfLawTreeCache.get()).willReturn(createSearchTree());
 
     // when
     var result = fieldOfLawService.findFieldsOfLaw(query);
@@ -194,17 +235,123 @@ class FieldOfLawServiceTest {
     assertThat(result.content()).isEmpty();
   }
 
-  private FieldOfLawEntity createFieldOfLaw(String identifier, String text) {
-    FieldOfLawEntity fieldOfLawEntity = new FieldOfLawEntity();
-    fieldOfLawEntity.setId(UUID.randomUUID());
-    fieldOfLawEntity.setIdentifier(identifier);
-    fieldOfLawEntity.setText(text);
-    fieldOfLawEntity.setNotation("NEW");
-    FieldOfLawNormEntity normEntity = new FieldOfLawNormEntity();
-    normEntity.setId(UUID.randomUUID());
-    normEntity.setAbbreviation("PStG");
-    normEntity.setSingleNormDescription("§ 99");
-    fieldOfLawEntity.getNorms().add(normEntity);
-    return fieldOfLawEntity;
+  @Test
+  void findFieldsOfLaw_sortedByTextDescending() {
+    // given
+    FieldOfLawQuery query = new FieldOfLawQuery(
+      "PR",
+      null,
+      null,
+      new QueryOptions(0, 10, "text", Sort.Direction.DESC, true)
+    );
+    given(fieldOfLawTreeCache.get()).willReturn(createSearchTree());
+
+    // when
+    var result = fieldOfLawService.findFieldsOfLaw(query);
+
+    // then
+    assertThat(result.content())
+      .extracting(FieldOfLaw::text)
+      // Without text terms all matches have the same rank
+      .containsExactly(
+        "Phantasierecht allgemein",
+        "Phantasierecht",
+        "Beendigung der Phantasieverhältnisse",
+        "Arbeit und Phantasie"
+      );
+  }
+
+  @Test
+  void findFieldsOfLaw_missingTextSortedLast() {
+    // given
+    UUID parentId = UUID.randomUUID();
+    FieldOfLawTree fieldOfLawTree = FieldOfLawTree.of(
+      List.of(
+        new FieldOfLawNodeRow(parentId, null, "PR", null, "NEW"),
+        new FieldOfLawNodeRow(UUID.randomUUID(), parentId, "PR-01", "Phantasierecht", "NEW")
+      ),
+      List.of(),
+      List.of()
+    );
+    FieldOfLawQuery query = new FieldOfLawQuery(
+      "PR",
+      null,
+      null,
+      new QueryOptions(0, 10, "text", Sort.Direction.ASC, true)
+    );
+    given(fieldOfLawTreeCache.get()).willReturn(fieldOfLawTree);
+
+    // when
+    var result = fieldOfLawService.findFieldsOfLaw(query);
+
+    // then
+    assertThat(result.content())
+      .extracting(FieldOfLaw::identifier)
+      .containsExactly("PR-01", "PR");
+  }
+
+  @Test
+  void findFieldsOfLaw_unknownSortProperty() {
+    // given
+    FieldOfLawQuery query = new FieldOfLawQuery(
+      null,
+      "phantasie",
+      null,
+      new QueryOptions(0, 10, "notation", Sort.Direction.ASC, true)
+    );
+
+    // when
+    Exception exception = catchException(() -> fieldOfLawService.findFieldsOfLaw(query));
+
+    // then
+    assertThat(exception)
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("notation");
+    verifyNoInteractions(fieldOfLawTreeCache);
+  }
+
+  private FieldOfLawTree createTree() {
+    UUID parentId = UUID.randomUUID();
+    return FieldOfLawTree.of(
+      List.of(
+        new FieldOfLawNodeRow(parentId, null, "PR", "Phantasierecht", "NEW"),
+        new FieldOfLawNodeRow(
+          UUID.randomUUID(),
+          parentId,
+          "PR-01",
+          "Phantasierecht allgemein",
+          "NEW"
+        )
+      ),
+      List.of(),
+      List.of()
+    );
+  }
+
+  private FieldOfLawTree createSearchTree() {
+    UUID prId = UUID.randomUUID();
+    UUID pr05Id = UUID.randomUUID();
+    UUID pr06Id = UUID.randomUUID();
+    return FieldOfLawTree.of(
+      List.of(
+        new FieldOfLawNodeRow(prId, null, "PR", "Phantasierecht", "NEW"),
+        new FieldOfLawNodeRow(UUID.randomUUID(), prId, "PR-01", "Phantasierecht allgemein", "NEW"),
+        new FieldOfLawNodeRow(
+          pr05Id,
+          prId,
+          "PR-05",
+          "Beendigung der Phantasieverhältnisse",
+          "NEW"
+        ),
+        new FieldOfLawNodeRow(pr06Id, prId, "PR-06", "Arbeit und Phantasie", "NEW"),
+        new FieldOfLawNodeRow(UUID.randomUUID(), null, "BR-05", "Bericht über Arbeit", "NEW"),
+        new FieldOfLawNodeRow(UUID.randomUUID(), null, "AR-01", "Arbeitsrecht", "OLD")
+      ),
+      List.of(
+        new FieldOfLawNormRow(pr05Id, "PStG", "§ 99"),
+        new FieldOfLawNormRow(pr06Id, "PStG", "§ 9")
+      ),
+      List.of()
+    );
   }
 }
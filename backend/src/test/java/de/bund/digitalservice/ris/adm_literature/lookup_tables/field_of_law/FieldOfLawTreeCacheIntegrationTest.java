@@ -0,0 +1,92 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FieldOfLawTreeCacheIntegrationTest {
+
+  @Autowired
+  private FieldOfLawTreeCache fieldOfLawTreeCache;
+
+  private FieldOfLawTree fieldOfLawTree;
+
+  @BeforeEach
+  void beforeEach() {
+    SchemaContextHolder.setSchema(SchemaType.ADM);
+    fieldOfLawTreeCache.evictAll();
+    fieldOfLawTree = fieldOfLawTreeCache.get();
+  }
+
+  @AfterEach
+  void afterEach() {
+    fieldOfLawTreeCache.evictAll();
+    SchemaContextHolder.clear();
+  }
+
+  @Test
+  @DisplayName("Loads the nodes of the test schema with their text and notation")
+  void get_nodes() {
+    // when
+    FieldOfLaw fieldOfLaw = fieldOfLawTree.find("PR-05-01").orElseThrow();
+
+    // then
+    assertThat(fieldOfLawTree.size()).isPositive();
+    assertThat(fieldOfLaw.id()).hasToString("9c06a4e1-02a0-4a73-b721-45ea0d98429b");
+    assertThat(fieldOfLaw.text()).isEqualTo("Phantasie besonderer Art, Ansprüche anderer Art");
+    assertThat(fieldOfLaw.notation()).isEqualTo("NEW");
+    assertThat(fieldOfLaw.hasChildren()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Links each field of law to its parent and children")
+  void get_parentLinks() {
+    // when
+    FieldOfLaw fieldOfLaw = fieldOfLawTree.find("PR-05-01").orElseThrow();
+    FieldOfLaw parent = fieldOfLawTree.find("PR-05").orElseThrow();
+
+    // then
+    assertThat(fieldOfLaw.parent()).isNotNull();
+    assertThat(fieldOfLaw.parent().identifier()).isEqualTo("PR-05");
+    assertThat(fieldOfLaw.parent().parent()).isNotNull();
+    assertThat(fieldOfLaw.parent().parent().identifier()).isEqualTo("PR");
+    assertThat(fieldOfLaw.parent().parent().parent()).isNull();
+    assertThat(parent.hasChildren()).isTrue();
+    assertThat(parent.children()).extracting(FieldOfLaw::identifier).containsExactly("PR-05-01");
+    assertThat(fieldOfLawTree.findRoots()).extracting(FieldOfLaw::identifier).contains("PR");
+  }
+
+  @Test
+  @DisplayName("Assigns the norms to their field of law")
+  void get_norms() {
+    // when
+    FieldOfLaw fieldOfLaw = fieldOfLawTree.find("PR-05").orElseThrow();
+
+    // then
+    assertThat(fieldOfLaw.norms()).containsExactly(new FieldOfLawNorm("PStG", "§ 99"));
+    assertThat(fieldOfLawTree.find("PR-05-01").orElseThrow().norms()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Resolves the text references to the identifiers of the linked fields of law")
+  void get_linkedFields() {
+    // when
+    FieldOfLaw newNotation = fieldOfLawTree.find("XX-03").orElseThrow();
+    FieldOfLaw oldNotation = fieldOfLawTree.find("01-01-01-01").orElseThrow();
+
+    // then
+    assertThat(newNotation.linkedFields()).containsExactly("XX-04-02");
+    assertThat(oldNotation.linkedFields()).containsExactly("09-09-09");
+    assertThat(fieldOfLawTree.find("XX-04-02").orElseThrow().linkedFields()).isEmpty();
+  }
+}
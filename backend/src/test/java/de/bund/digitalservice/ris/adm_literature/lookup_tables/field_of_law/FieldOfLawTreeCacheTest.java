@@ -0,0 +1,79 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FieldOfLawTreeCacheTest {
+
+  @InjectMocks
+  private FieldOfLawTreeCache fieldOfLawTreeCache;
+
+  @Mock
+  private FieldOfLawRepository fieldOfLawRepository;
+
+  @AfterEach
+  void tearDown() {
+    SchemaContextHolder.clear();
+  }
+
+  @Test
+  void get_loadsOncePerSchema() {
+    // given
+    given(fieldOfLawRepository.findAllNodes()).willReturn(
+      List.of(new FieldOfLawNodeRow(UUID.randomUUID(), null, "PR", "Phantasierecht", "NEW"))
+    );
+
+    // when
+    SchemaContextHolder.setSchema(SchemaType.ADM);
+    FieldOfLawTree admTree = fieldOfLawTreeCache.get();
+    FieldOfLawTree admTreeAgain = fieldOfLawTreeCache.get();
+    SchemaContextHolder.setSchema(SchemaType.LIT);
+    FieldOfLawTree litTree = fieldOfLawTreeCache.get();
+
+    // then
+    assertThat(admTree).isSameAs(admTreeAgain).isNotSameAs(litTree);
+    assertThat(litTree.findRoots()).extracting(FieldOfLaw::identifier).containsExactly("PR");
+    verify(fieldOfLawRepository, times(2)).findAllNodes();
+  }
+
+  @Test
+  void get_withoutSchemaUsesAdm() {
+    // given
+    SchemaContextHolder.setSchema(SchemaType.ADM);
+    FieldOfLawTree admTree = fieldOfLawTreeCache.get();
+    SchemaContextHolder.clear();
+
+    // when
+    FieldOfLawTree defaultTree = fieldOfLawTreeCache.get();
+
+    // then
+    assertThat(defaultTree).isSameAs(admTree);
+  }
+
+  @Test
+  void evictAll() {
+    // given
+    FieldOfLawTree fieldOfLawTree = fieldOfLawTreeCache.get();
+
+    // when
+    fieldOfLawTreeCache.evictAll();
+
+    // then
+    assertThat(fieldOfLawTreeCache.get()).isNotSameAs(fieldOfLawTree);
+    verify(fieldOfLawRepository, times(2)).findAllNodes();
+  }
+}
@@ -0,0 +1,155 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class FieldOfLawTreeTest {
+
+  private static final UUID PR_ID = UUID.randomUUID();
+  private static final UUID PR_01_ID = UUID.randomUUID();
+  private static final UUID PR_02_ID = UUID.randomUUID();
+  private static final UUID PR_01_05_ID = UUID.randomUUID();
+
+  private final FieldOfLawTree fieldOfLawTree = FieldOfLawTree.of(
+    List.of(
+      new FieldOfLawNodeRow(PR_02_ID, PR_ID, "PR-02", "Phantasierecht besonders", "NEW"),
+      new FieldOfLawNodeRow(PR_01_05_ID, PR_01_ID, "PR-01-05", "Phantasierecht speziell", "NEW"),
+      new FieldOfLawNodeRow(PR_ID, null, "PR", "Phantasierecht", "NEW"),
+      new FieldOfLawNodeRow(PR_01_ID, PR_ID, "PR-01", "Phantasierecht allgemein", "NEW"),
+      new FieldOfLawNodeRow(UUID.randomUUID(), null, "AR", "Altrecht", "OLD")
+    ),
+    List.of(
+      new FieldOfLawNormRow(PR_01_ID, "PStG", "§ 99"),
+      new FieldOfLawNormRow(PR_ID, "BGB", "§ 1")
+    ),
+    List.of(new FieldOfLawTextReferenceRow(PR_01_ID, "PR-02"))
+  );
+
+  @Test
+  void find() {
+    // given
+
+    // when
+    var fieldOfLaw = fieldOfLawTree.find("PR-01");
+
+    // then
+    assertThat(fieldOfLaw).hasValueSatisfying(actual -> {
+      assertThat(actual.id()).isEqualTo(PR_01_ID);
+      assertThat(actual.hasChildren()).isTrue();
+      assertThat(actual.norms()).containsExactly(new FieldOfLawNorm("PStG", "§ 99"));
+      assertThat(actual.linkedFields()).containsExactly("PR-02");
+      assertThat(actual.children()).extracting(FieldOfLaw::identifier).containsExactly("PR-01-05");
+      assertThat(actual.parent()).extracting(FieldOfLaw::identifier).isEqualTo("PR");
+      // Parents are transformed without norms
+      assertThat(actual.parent().norms()).isEmpty();
+    });
+  }
+
+  @Test
+  void find_notFound() {
+    // given
+
+    // when
+    var fieldOfLaw = fieldOfLawTree.find("BR");
+
+    // then
+    assertThat(fieldOfLaw).isEmpty();
+  }
+
+  @Test
+  void find_shallow() {
+    // given
+
+    // when
+    var fieldOfLaw = fieldOfLawTree.find("PR", FieldOfLawResolution.SHALLOW);
+
+    // then
+    assertThat(fieldOfLaw).hasValueSatisfying(actual -> {
+      assertThat(actual.hasChildren()).isTrue();
+      assertThat(actual.children()).isEmpty();
+      assertThat(actual.norms()).isEmpty();
+    });
+  }
+
+  @Test
+  void find_twoChildLevelsWithoutNorms() {
+    // given
+
+    // when
+    var fieldOfLaw = fieldOfLawTree.find("PR", new FieldOfLawResolution(2, false));
+
+    // then
+    assertThat(fieldOfLaw).hasValueSatisfying(actual -> {
+      assertThat(actual.norms()).isEmpty();
+      assertThat(actual.children())
+        .extracting(FieldOfLaw::identifier, FieldOfLaw::norms)
+        .containsExactly(tuple("PR-01", List.of()), tuple("PR-02", List.of()));
+      assertThat(actual.children().getFirst().children())
+        .extracting(FieldOfLaw::identifier)
+        .containsExactly("PR-01-05");
+    });
+  }
+
+  @Test
+  void findAll() {
+    // given
+
+    // when
+    var fieldsOfLaw = fieldOfLawTree.findAll(
+      List.of("PR-02", "BR", "PR-01", "PR-02"),
+      FieldOfLawResolution.SHALLOW
+    );
+
+    // then
+    assertThat(fieldsOfLaw.keySet()).containsExactly("PR-02", "PR-01");
+    assertThat(fieldsOfLaw.get("PR-01").parent())
+      .isSameAs(fieldOfLawTree.findChildren("PR").getFirst().parent());
+  }
+
+  @Test
+  void findChildren() {
+    // given
+
+    // when
+    List<FieldOfLaw> children = fieldOfLawTree.findChildren("PR");
+
+    // then
+    assertThat(children)
+      .extracting(FieldOfLaw::identifier, FieldOfLaw::hasChildren)
+      .containsExactly(tuple("PR-01", true), tuple("PR-02", false));
+    assertThat(children.getFirst().children()).isEmpty();
+  }
+
+  @Test
+  void findChildren_sharesParentChain() {
+    // given
+
+    // when
+    FieldOfLaw child = fieldOfLawTree.findChildren("PR-01").getFirst();
+
+    // then
+    assertThat(child.parent()).extracting(FieldOfLaw::identifier).isEqualTo("PR-01");
+    assertThat(child.parent().parent())
+      .isSameAs(fieldOfLawTree.findChildren("PR").getFirst().parent())
+      .extracting(FieldOfLaw::identifier, FieldOfLaw::parent)
+      .containsExactly("PR", null);
+  }
+
+  @Test
+  void findRoots() {
+    // given
+
+    // when
+    List<FieldOfLaw> roots = fieldOfLawTree.findRoots();
+
+    // then
+    assertThat(roots)
+      .singleElement()
+      .extracting(FieldOfLaw::identifier, FieldOfLaw::norms)
+      .containsExactly("PR", List.of(new FieldOfLawNorm("BGB", "§ 1")));
+  }
+}
@@ -0,0 +1,52 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.field_of_law;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TokenIndexTest {
+
+  private final TokenIndex tokenIndex = TokenIndex.of(
+    List.of(
+      new String[] { "arbeitsrecht", "allgemein" },
+      new String[] { "recht", "der", "arbeit" },
+      new String[] { "phantasierecht" },
+      new String[] { "nennen" }
+    )
+  );
+
+  @Test
+  void find_byTrigrams() {
+    // given
+
+    // when
+    var documents = tokenIndex.find("recht");
+
+    // then
+    assertThat(documents.stream()).containsExactly(0, 1, 2);
+  }
+
+  @Test
+  void find_trigramsInOtherOrder() {
+    // given
+
+    // when
+    // "nne", "nen" and "enn" are trigrams of "nennen", but "nnenn" is not contained
+    var documents = tokenIndex.find("nnenn");
+
+    // then
+    assertThat(documents.isEmpty()).isTrue();
+  }
+
+  @Test
+  void find_shortPart() {
+    // given
+
+    // when
+    var documents = tokenIndex.find("de");
+
+    // then
+    assertThat(documents.stream()).containsExactly(1);
+  }
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.Region;
 import de.bund.digitalservice.ris.adm_literature.lookup_tables.region.RegionEntity;
@@ -15,7 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,6 +34,9 @@ class InstitutionServiceTest {
   @Mock
   private InstitutionRepository institutionRepository;
 
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
   @Test
   void findInstitutions_all() {
     // given
@@ -84,4 +92,53 @@ class InstitutionServiceTest {
       new Institution(uuid, "Organ", null, InstitutionType.INSTITUTION, List.of())
     );
   }
+
+  @Test
+  void findInstitutionsByNames() {
+    // given
+    UUID uuid = UUID.randomUUID();
+    InstitutionEntity institutionEntity = new InstitutionEntity();
+    institutionEntity.setName("Organ");
+    institutionEntity.setType("organ");
+    institutionEntity.setId(uuid);
+    given(institutionRepository.findByNameIn(List.of("Organ", "Unbekannt"))).willReturn(
+      List.of(institutionEntity)
+    );
+
+    // when
+    var institutions = institutionService.findInstitutionsByNames(List.of("Organ", "Unbekannt"));
+
+    // then
+    assertThat(institutions).containsExactly(
+      new Institution(uuid, "Organ", null, InstitutionType.INSTITUTION, List.of())
+    );
+  }
+
+  @Test
+  void findInstitutionsByNames_onlyQueriesNamesMissingInCache() {
+    // given
+    UUID uuid = UUID.randomUUID();
+    InstitutionEntity institutionEntity = new InstitutionEntity();
+    institutionEntity.setName("Organ");
+    institutionEntity.setType("organ");
+    institutionEntity.setId(uuid);
+    given(institutionRepository.findByNameIn(List.of("Organ", "Unbekannt"))).willReturn(
+      List.of(institutionEntity)
+    );
+    given(institutionRepository.findByNameIn(List.of("Neu"))).willReturn(List.of());
+    institutionService.findInstitutionsByNames(List.of("Organ", "Unbekannt"));
+
+    // when
+    var institutions = institutionService.findInstitutionsByNames(
+      List.of("Unbekannt", "Organ", "Neu")
+    );
+
+    // then
+    assertThat(institutions).containsExactly(
+      new Institution(uuid, "Organ", null, InstitutionType.INSTITUTION, List.of())
+    );
+    verify(institutionRepository).findByNameIn(List.of("Organ", "Unbekannt"));
+    verify(institutionRepository).findByNameIn(List.of("Neu"));
+    verifyNoMoreInteractions(institutionRepository);
+  }
 }
@@ -1,6 +1,7 @@
 package de.bund.digitalservice.ris.adm_literature.lookup_tables.legal_periodical;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -11,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +30,9 @@ class LegalPeriodicalServiceTest {
   @Mock
   private LegalPeriodicalsRepository legalPeriodicalsRepository;
 
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
   @Test
   void findLegalPeriodicals_all() {
     // given
@@ -135,4 +142,31 @@ class LegalPeriodicalServiceTest {
       )
       .containsExactly(lpAbbreviation, lpTitle, lpSubtitle, lpCitationStyle);
   }
+
+  @Test
+  void findLegalPeriodicalsByAbbreviations() {
+    // given
+    LegalPeriodicalEntity bkk = new LegalPeriodicalEntity();
+    bkk.setAbbreviation("BKK");
+    bkk.setTitle("Die Betriebskrankenkasse");
+    LegalPeriodicalEntity banz = new LegalPeriodicalEntity();
+    banz.setAbbreviation("BAnz");
+    banz.setTitle("Bundesanzeiger");
+    given(legalPeriodicalsRepository.findByAbbreviationIn(List.of("BKK", "BAnz"))).willReturn(
+      List.of(bkk, banz)
+    );
+
+    // when
+    var legalPeriodicals = legalPeriodicalService.findLegalPeriodicalsByAbbreviations(
+      List.of("BKK", "BAnz")
+    );
+
+    // then
+    assertThat(legalPeriodicals)
+      .extracting(LegalPeriodical::abbreviation, LegalPeriodical::title)
+      .containsExactly(
+        tuple("BKK", "Die Betriebskrankenkasse"),
+        tuple("BAnz", "Bundesanzeiger")
+      );
+  }
 }
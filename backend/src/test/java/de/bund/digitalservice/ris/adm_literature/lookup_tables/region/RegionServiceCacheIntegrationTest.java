@@ -0,0 +1,91 @@
+package de.bund.digitalservice.ris.adm_literature.lookup_tables.region;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaContextHolder;
+import de.bund.digitalservice.ris.adm_literature.config.multischema.SchemaType;
+import de.bund.digitalservice.ris.adm_literature.lookup_tables.LookupTableCacheEvictionJob;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RegionServiceCacheIntegrationTest {
+
+  @Autowired
+  private RegionService regionService;
+
+  @Autowired
+  private LookupTableCacheEvictionJob lookupTableCacheEvictionJob;
+
+  @MockitoBean
+  private RegionRepository regionRepository;
+
+  @BeforeEach
+  void setUp() {
+    lookupTableCacheEvictionJob.evictAll();
+    RegionEntity regionEntity = new RegionEntity();
+    regionEntity.setId(UUID.randomUUID());
+    regionEntity.setCode("BY");
+    regionEntity.setLongText("Bayern");
+    given(regionRepository.findByCode("BY")).willReturn(Optional.of(regionEntity));
+    given(regionRepository.findByCodeIn(any())).willReturn(List.of(regionEntity));
+  }
+
+  @AfterEach
+  void tearDown() {
+    SchemaContextHolder.clear();
+    lookupTableCacheEvictionJob.evictAll();
+  }
+
+  @Test
+  @DisplayName("Region is read once per schema and read again after eviction")
+  void findRegionByCode_cached() {
+    // given
+    SchemaContextHolder.setSchema(SchemaType.ADM);
+
+    // when
+    regionService.findRegionByCode("BY");
+    Optional<Region> region = regionService.findRegionByCode("BY");
+    SchemaContextHolder.setSchema(SchemaType.LIT);
+    regionService.findRegionByCode("BY");
+    lookupTableCacheEvictionJob.evictAll();
+    regionService.findRegionByCode("BY");
+
+    // then
+    assertThat(region).map(Region::longText).hasValue("Bayern");
+    verify(regionRepository, times(3)).findByCode("BY");
+  }
+
+  @Test
+  @DisplayName("Regions found by codes share the cache entries with the region found by code")
+  void findRegionsByCodes_cached() {
+    // given
+    SchemaContextHolder.setSchema(SchemaType.ADM);
+
+    // when
+    regionService.findRegionsByCodes(List.of("BY", "XY"));
+    List<Region> regions = regionService.findRegionsByCodes(List.of("XY", "BY"));
+    Optional<Region> region = regionService.findRegionByCode("BY");
+
+    // then
+    assertThat(regions).extracting(Region::longText).containsExactly("Bayern");
+    assertThat(region).map(Region::longText).hasValue("Bayern");
+    verify(regionRepository, times(1)).findByCodeIn(any());
+    verify(regionRepository, never()).findByCode(any());
+  }
+}
@@ -12,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,6 +29,9 @@ class RegionServiceTest {
   @Mock
   private RegionRepository regionRepository;
 
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
   @Test
   void findRegions_all() {
     // given
@@ -65,4 +71,20 @@ class RegionServiceTest {
     // then
     assertThat(regions.content()).contains(new Region(uuid, "AA", null));
   }
+
+  @Test
+  void findRegionsByCodes() {
+    // given
+    UUID uuid = UUID.randomUUID();
+    RegionEntity regionEntity = new RegionEntity();
+    regionEntity.setCode("AA");
+    regionEntity.setId(uuid);
+    given(regionRepository.findByCodeIn(List.of("AA", "BB"))).willReturn(List.of(regionEntity));
+
+    // when
+    var regions = regionService.findRegionsByCodes(List.of("AA", "BB"));
+
+    // then
+    assertThat(regions).containsExactly(new Region(uuid, "AA", null));
+  }
 }
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.page.Page;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -60,4 +61,21 @@ class ZitierArtServiceIntegrationTest {
       .extracting(ZitierArt::abbreviation)
       .containsExactly("XX");
   }
+
+  @Test
+  @DisplayName("Find Zitierarten by abbreviations of document category 'Verwaltungvorschriften'")
+  void findZitierArtenByAbbreviations() {
+    // given
+
+    // when
+    List<ZitierArt> zitierArten = zitierArtService.findZitierArtenByAbbreviations(
+      List.of("Änderung", "Übernahme", "Unbekannt"),
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+
+    // then
+    assertThat(zitierArten)
+      .extracting(ZitierArt::abbreviation)
+      .containsExactlyInAnyOrder("Änderung", "Übernahme");
+  }
 }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import de.bund.digitalservice.ris.adm_literature.document_category.DocumentCategory;
 import de.bund.digitalservice.ris.adm_literature.page.QueryOptions;
@@ -13,7 +14,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +32,9 @@ class ZitierArtServiceTest {
   @Mock
   private CitationTypeRepository citationTypeRepository;
 
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager();
+
   @Test
   void findZitierArten_all() {
     // given
@@ -111,4 +118,47 @@ class ZitierArtServiceTest {
       .extracting(ZitierArt::id, ZitierArt::abbreviation, ZitierArt::label)
       .containsExactly(uuid, "Änderung", "Änderung");
   }
+
+  @Test
+  void findZitierArtenByAbbreviations() {
+    // given
+    CitationTypeEntity citationTypeEntity = new CitationTypeEntity();
+    UUID uuid = UUID.randomUUID();
+    citationTypeEntity.setId(uuid);
+    citationTypeEntity.setAbbreviation("Änderung");
+    citationTypeEntity.setLabel("Änderung");
+    given(
+      citationTypeRepository.findByDocumentCategoryAndAbbreviationIn(
+        DocumentCategory.VERWALTUNGSVORSCHRIFTEN,
+        List.of("Änderung", "Unbekannt")
+      )
+    ).willReturn(List.of(citationTypeEntity));
+
+    // when
+    var zitierArten = zitierArtService.findZitierArtenByAbbreviations(
+      List.of("Änderung", "Unbekannt"),
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+
+    // then
+    assertThat(zitierArten)
+      .singleElement()
+      .extracting(ZitierArt::id, ZitierArt::abbreviation, ZitierArt::label)
+      .containsExactly(uuid, "Änderung", "Änderung");
+  }
+
+  @Test
+  void findZitierArtenByAbbreviations_noAbbreviations() {
+    // given
+
+    // when
+    var zitierArten = zitierArtService.findZitierArtenByAbbreviations(
+      List.of(),
+      DocumentCategory.VERWALTUNGSVORSCHRIFTEN
+    );
+
+    // then
+    assertThat(zitierArten).isEmpty();
+    verifyNoInteractions(citationTypeRepository);
+  }
 }
@@ -0,0 +1,64 @@
+package de.bund.digitalservice.ris.adm_literature.pool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ObjectPoolTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void borrow_reusesReleasedObject() {
+    // given
+    ObjectPool<Object> objectPool = new ObjectPool<>("test", 2, Object::new, meterRegistry);
+    Object object = objectPool.borrow();
+    objectPool.release(object);
+
+    // when
+    Object borrowed = objectPool.borrow();
+
+    // then
+    assertThat(borrowed).isSameAs(object);
+    assertThat(meterRegistry.get("pool.created").tag("name", "test").counter().count()).isOne();
+    assertThat(meterRegistry.get("pool.borrow").tag("name", "test").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void borrow_createsNewObjectIfPoolIsEmpty() {
+    // given
+    AtomicInteger counter = new AtomicInteger();
+    ObjectPool<Integer> objectPool = new ObjectPool<>(
+      "test",
+      2,
+      counter::incrementAndGet,
+      meterRegistry
+    );
+
+    // when
+    Integer first = objectPool.borrow();
+    Integer second = objectPool.borrow();
+
+    // then
+    assertThat(first).isOne();
+    assertThat(second).isEqualTo(2);
+  }
+
+  @Test
+  void release_dropsObjectsIfPoolIsFull() {
+    // given
+    ObjectPool<Object> objectPool = new ObjectPool<>("test", 1, Object::new, meterRegistry);
+    Object first = objectPool.borrow();
+    Object second = objectPool.borrow();
+
+    // when
+    objectPool.release(first);
+    objectPool.release(second);
+
+    // then
+    assertThat(objectPool.getIdleCount()).isOne();
+    assertThat(meterRegistry.get("pool.idle").tag("name", "test").gauge().value()).isOne();
+  }
+}